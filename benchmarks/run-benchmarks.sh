@@ -0,0 +1,14 @@
+#!/bin/sh
+# Keith Pottratz
+# CS320
+# Benchmark Runner
+# October 2026
+#
+# Builds the service, then runs the JMH suites and writes JSON results to
+# benchmarks/target/jmh-results.json. Extra arguments are passed to JMH, e.g.
+#   benchmarks/run-benchmarks.sh RepositoryBenchmark -p size=1000 -f 1
+set -e
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+mvn -B -q -f "$ROOT/pom.xml" install -DskipTests
+mvn -B -q -f "$ROOT/benchmarks/pom.xml" verify -Prun "-Djmh.args=$*"
+echo "Results: $ROOT/benchmarks/target/jmh-results.json"
@@ -0,0 +1,75 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Audit Setup
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.example.contact.audit.AsyncAuditPipeline;
+import com.example.contact.audit.AuditSink;
+import com.example.contact.audit.Slf4jAuditSink;
+import com.example.contact.audit.TextAuditRecordWriter;
+
+/**
+ * The audit sink used by a benchmark run, selected by name:
+ * "off" discards events, "sync" writes through the AUDIT logger and "async" uses an
+ * AsyncAuditPipeline writing to a temporary file that is deleted on close.
+ */
+final class AuditSetup implements AutoCloseable {
+
+    private final AuditSink sink;
+    private final AsyncAuditPipeline pipeline;
+    private final Path file;
+
+    private AuditSetup(AuditSink sink, AsyncAuditPipeline pipeline, Path file) {
+        this.sink = sink;
+        this.pipeline = pipeline;
+        this.file = file;
+    }
+
+    /**
+     * Creates the audit sink for a mode.
+     * @param mode off, sync or async
+     * @return the audit setup; the caller must close it
+     * @throws IOException if the async audit file cannot be created
+     */
+    static AuditSetup open(String mode) throws IOException {
+        switch (mode) {
+            case "off":
+                return new AuditSetup(BenchmarkFixtures.NO_AUDIT, null, null);
+            case "sync":
+                return new AuditSetup(Slf4jAuditSink.INSTANCE, null, null);
+            case "async":
+                Path file = Files.createTempFile("contact-bench-audit", ".log");
+                AsyncAuditPipeline pipeline = new AsyncAuditPipeline(new TextAuditRecordWriter(file));
+                return new AuditSetup(pipeline, pipeline, file);
+            default:
+                throw new IllegalArgumentException("Unknown audit mode: " + mode);
+        }
+    }
+
+    /**
+     * Returns the sink to pass to the repository and service.
+     * @return the audit sink
+     */
+    AuditSink sink() {
+        return sink;
+    }
+
+    /**
+     * Stops the async pipeline, if any, and deletes its file.
+     * @throws IOException if the audit file cannot be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        if (pipeline != null) {
+            pipeline.close();
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Benchmark Fixtures
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import com.example.contact.Contact;
+import com.example.contact.audit.AuditSink;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.repository.InMemoryContactRepository;
+
+/**
+ * Shared data and collaborators for the benchmark suites.
+ * Contacts are generated deterministically from an index so every run of a suite
+ * sees the same IDs and field lengths.
+ */
+final class BenchmarkFixtures {
+
+    /** Audit sink that discards every event, for measuring code paths without audit I/O */
+    static final AuditSink NO_AUDIT = (type, contactId, detail1, detail2) -> { };
+
+    /** Number of precomputed keys each benchmark thread cycles through; a power of two */
+    static final int KEY_COUNT = 4096;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Returns the contact ID for an index.
+     * @param index the contact index
+     * @return the contact ID
+     */
+    static String contactId(int index) {
+        return "C" + index;
+    }
+
+    /**
+     * Returns the contact for an index.
+     * @param index the contact index
+     * @return a valid contact
+     */
+    static Contact contact(int index) {
+        return new Contact(contactId(index), "John", "Doe", "1234567890", index + " Main St");
+    }
+
+    /**
+     * Creates a repository holding contacts 0 to size - 1.
+     * The contact limit is raised so the largest sizes fit.
+     * @param size the number of contacts to load
+     * @param auditSink the sink receiving the repository's audit events
+     * @return the populated repository
+     */
+    static InMemoryContactRepository repository(int size, AuditSink auditSink) {
+        InMemoryContactRepository repository = new InMemoryContactRepository(new ChangeFeed(), auditSink,
+                Math.max(InMemoryContactRepository.MAX_CONTACTS, size * 2));
+        for (int i = 0; i < size; i++) {
+            repository.save(contact(i));
+        }
+        return repository;
+    }
+
+    /**
+     * Returns the string repeated until it reaches the given length.
+     * @param unit the text to repeat
+     * @param length the length of the result
+     * @return the repeated text
+     */
+    static String repeat(String unit, int length) {
+        StringBuilder builder = new StringBuilder(length + unit.length());
+        while (builder.length() < length) {
+            builder.append(unit);
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Key Distribution
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * Chooses which contact a load generator operation targets.
+ * Implementations are immutable and shared between threads; each thread passes its
+ * own random source.
+ */
+interface KeyDistribution {
+
+    /**
+     * Returns the next key index.
+     * @param random the calling thread's random source
+     * @return an index between 0 and the key count, exclusive
+     */
+    int next(SplittableRandom random);
+
+    /**
+     * Parses a distribution spec: "uniform", "zipfian" or "zipfian:THETA".
+     * @param spec the distribution spec
+     * @param keyCount the number of keys
+     * @return the distribution
+     */
+    static KeyDistribution parse(String spec, int keyCount) {
+        if (keyCount < 1) {
+            throw new IllegalArgumentException("Key count must be positive: " + keyCount);
+        }
+        if ("uniform".equals(spec)) {
+            return random -> random.nextInt(keyCount);
+        }
+        if ("zipfian".equals(spec)) {
+            return new ZipfianKeyDistribution(keyCount, ZipfianKeyDistribution.DEFAULT_THETA);
+        }
+        if (spec.startsWith("zipfian:")) {
+            return new ZipfianKeyDistribution(keyCount, Double.parseDouble(spec.substring("zipfian:".length())));
+        }
+        throw new IllegalArgumentException("Unknown key distribution: " + spec);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Load Config
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for one load generator run, parsed from --name=value arguments.
+ * Unspecified settings take the defaults listed in {@link #usage()}.
+ */
+final class LoadConfig {
+
+    final int threads;
+    final long rate;
+    final int warmupSeconds;
+    final int durationSeconds;
+    final int keys;
+    final String distribution;
+    final String mix;
+    final String repository;
+    final String audit;
+    final long seed;
+    final Path report;
+
+    private LoadConfig(Map<String, String> values) {
+        this.threads = Integer.parseInt(values.remove("threads"));
+        this.rate = Long.parseLong(values.remove("rate"));
+        this.warmupSeconds = Integer.parseInt(values.remove("warmup"));
+        this.durationSeconds = Integer.parseInt(values.remove("duration"));
+        this.keys = Integer.parseInt(values.remove("keys"));
+        this.distribution = values.remove("distribution");
+        this.mix = values.remove("mix");
+        this.repository = values.remove("repository");
+        this.audit = values.remove("audit");
+        this.seed = Long.parseLong(values.remove("seed"));
+        this.report = Paths.get(values.remove("report"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (threads < 1 || rate < 0 || warmupSeconds < 0 || durationSeconds < 1 || keys < 1) {
+            throw new IllegalArgumentException("Invalid load configuration: " + this);
+        }
+    }
+
+    /**
+     * Returns the default settings.
+     * @return option name to default value, in usage order
+     */
+    static Map<String, String> defaults() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("threads", "4");
+        values.put("rate", "0");
+        values.put("warmup", "5");
+        values.put("duration", "30");
+        values.put("keys", "10000");
+        values.put("distribution", "uniform");
+        values.put("mix", "read:90,update:10");
+        values.put("repository", "memory");
+        values.put("audit", "off");
+        values.put("seed", "42");
+        values.put("report", "target/load-report.txt");
+        return values;
+    }
+
+    /**
+     * Parses --name=value arguments over the defaults.
+     * @param args the command line arguments
+     * @return the configuration
+     */
+    static LoadConfig parse(String... args) {
+        return new LoadConfig(parseOptions(defaults(), args));
+    }
+
+    /**
+     * Applies --name=value arguments over a map of defaults.
+     * Names are not checked here; callers reject the ones they do not recognise.
+     * @param defaults option name to default value; modified in place
+     * @param args the command line arguments
+     * @return the defaults map with the arguments applied
+     */
+    static Map<String, String> parseOptions(Map<String, String> defaults, String... args) {
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (!arg.startsWith("--") || split < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            defaults.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return defaults;
+    }
+
+    /**
+     * Returns a copy of this configuration with some settings replaced.
+     * @param overrides option name to new value
+     * @return the new configuration
+     */
+    LoadConfig with(Map<String, String> overrides) {
+        Map<String, String> values = toMap();
+        values.putAll(overrides);
+        return new LoadConfig(values);
+    }
+
+    /**
+     * Returns the command line usage text.
+     * @return the usage text
+     */
+    static String usage() {
+        StringBuilder builder = new StringBuilder("Options (default):\n");
+        for (Map.Entry<String, String> entry : defaults().entrySet()) {
+            builder.append("  --").append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        builder.append("  rate is total operations per second; 0 runs closed-loop as fast as possible\n");
+        builder.append("  distribution is uniform, zipfian or zipfian:THETA\n");
+        builder.append("  mix weights read, update, create, delete and list\n");
+        builder.append("  repository is memory, sharded, sharded-isolated, writebehind or metered; audit is off, sync or async\n");
+        return builder.toString();
+    }
+
+    /**
+     * Returns the settings as option name to value.
+     * @return the settings, in usage order
+     */
+    Map<String, String> toMap() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("threads", String.valueOf(threads));
+        values.put("rate", String.valueOf(rate));
+        values.put("warmup", String.valueOf(warmupSeconds));
+        values.put("duration", String.valueOf(durationSeconds));
+        values.put("keys", String.valueOf(keys));
+        values.put("distribution", distribution);
+        values.put("mix", mix);
+        values.put("repository", repository);
+        values.put("audit", audit);
+        values.put("seed", String.valueOf(seed));
+        values.put("report", report.toString());
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, String> entry : toMap().entrySet()) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Load Generator
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.example.contact.Contact;
+import com.example.contact.audit.AuditSink;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.concurrent.ContactExecutors;
+import com.example.contact.concurrent.StripedLockManager;
+import com.example.contact.metrics.ContactMetrics;
+import com.example.contact.repository.IContactRepository;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.repository.MeteredContactRepository;
+import com.example.contact.repository.ShardedContactRepository;
+import com.example.contact.repository.WriteBehindContactRepository;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.service.IContactService;
+import com.example.contact.validation.ContactValidator;
+
+/**
+ * Drives a ContactServiceImpl with a concurrent mixed workload and reports latency percentiles.
+ *
+ * Each worker thread issues operations on a fixed schedule: with a target rate R and
+ * T threads, worker i's k-th operation is intended to start at
+ * {@code start + (k + i / T) * T / R}. Latency is measured from that intended start,
+ * so when the service stalls, the operations queued behind the stall are charged
+ * for their wait, as a real client at that arrival rate would see them. With a rate
+ * of 0 the workers run closed-loop as fast as the service allows.
+ *
+ * Run with {@code java -cp benchmarks/target/benchmarks.jar
+ * com.example.contact.benchmark.LoadGenerator --rate=50000 --threads=8}; see
+ * {@link LoadConfig#usage()} for all options.
+ */
+public final class LoadGenerator {
+
+    /** Operations closer than this to their intended start spin instead of parking */
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final LoadConfig config;
+    private final KeyDistribution keys;
+    private final OperationMix mix;
+    private final String[] ids;
+    private final Contact[] contacts;
+
+    /**
+     * Constructs a generator and precomputes the contacts for every key.
+     * @param config the run configuration
+     */
+    LoadGenerator(LoadConfig config) {
+        this.config = config;
+        this.keys = KeyDistribution.parse(config.distribution, config.keys);
+        this.mix = OperationMix.parse(config.mix);
+        this.ids = new String[config.keys];
+        this.contacts = new Contact[config.keys];
+        for (int i = 0; i < config.keys; i++) {
+            contacts[i] = BenchmarkFixtures.contact(i);
+            ids[i] = contacts[i].getContactId();
+        }
+    }
+
+    /**
+     * Runs the load generator and writes the report.
+     * @param args --name=value options
+     * @throws Exception if the run fails
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && ("--help".equals(args[0]) || "-h".equals(args[0]))) {
+            System.out.print(LoadConfig.usage());
+            return;
+        }
+        LoadConfig config = LoadConfig.parse(args);
+        LoadResult result = new LoadGenerator(config).run();
+        result.writeReport(config.report);
+        System.out.print(result.toReport());
+        System.out.println("Report written to " + config.report.toAbsolutePath());
+    }
+
+    /**
+     * Builds a fresh service, loads every key, and runs the warmup and measured phases.
+     * @return the measured result
+     * @throws IOException if the audit sink cannot be set up
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    LoadResult run() throws IOException, InterruptedException {
+        try (AuditSetup audit = AuditSetup.open(config.audit)) {
+            IContactRepository repository = createRepository(audit.sink());
+            try {
+                IContactService service = new ContactServiceImpl(repository, new ContactValidator(),
+                        new StripedLockManager(), audit.sink());
+                return drive(service);
+            } finally {
+                if (repository instanceof AutoCloseable) {
+                    closeQuietly((AutoCloseable) repository);
+                }
+            }
+        }
+    }
+
+    private IContactRepository createRepository(AuditSink auditSink) {
+        int maxContacts = Math.max(InMemoryContactRepository.MAX_CONTACTS, config.keys * 2);
+        if ("sharded".equals(config.repository)) {
+            return load(new ShardedContactRepository(ShardedContactRepository.defaultShardCount(),
+                    new ChangeFeed(), auditSink, maxContacts));
+        }
+        if ("sharded-isolated".equals(config.repository)) {
+            // One feed per shard: no shared sequence counter, and no delta sync
+            int shardCount = ShardedContactRepository.defaultShardCount();
+            List<IContactRepository> shards = new ArrayList<>(shardCount);
+            for (int i = 0; i < shardCount; i++) {
+                shards.add(new InMemoryContactRepository(new ChangeFeed(), auditSink,
+                        (maxContacts + shardCount - 1) / shardCount));
+            }
+            return load(new ShardedContactRepository(shards));
+        }
+        InMemoryContactRepository store = load(new InMemoryContactRepository(new ChangeFeed(), auditSink, maxContacts));
+        switch (config.repository) {
+            case "memory":
+                return store;
+            case "writebehind":
+                return new WriteBehindContactRepository(store);
+            case "metered":
+                return new MeteredContactRepository(store, new ContactMetrics());
+            default:
+                throw new IllegalArgumentException("Unknown repository: " + config.repository);
+        }
+    }
+
+    private <R extends IContactRepository> R load(R repository) {
+        for (Contact contact : contacts) {
+            repository.save(contact);
+        }
+        return repository;
+    }
+
+    private LoadResult drive(IContactService service) throws InterruptedException {
+        LoadResult result = new LoadResult(config);
+        long warmupNanos = TimeUnit.SECONDS.toNanos(config.warmupSeconds);
+        long durationNanos = TimeUnit.SECONDS.toNanos(config.durationSeconds);
+        // Leave the threads time to start before the first scheduled operation
+        long startNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureStart = startNanos + warmupNanos;
+        long end = measureStart + durationNanos;
+
+        CountDownLatch done = new CountDownLatch(config.threads);
+        ThreadFactory threads = ContactExecutors.daemonThreads("contact-load");
+        for (int i = 0; i < config.threads; i++) {
+            int worker = i;
+            threads.newThread(() -> {
+                try {
+                    runWorker(service, result, worker, startNanos, measureStart, end);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        done.await();
+        result.setMeasuredNanos(Math.max(0, System.nanoTime() - measureStart));
+        return result;
+    }
+
+    private void runWorker(IContactService service, LoadResult result, int worker,
+                           long startNanos, long measureStart, long end) {
+        SplittableRandom random = new SplittableRandom(config.seed * 31 + worker);
+        double intervalNanos = config.rate == 0 ? 0 : config.threads * 1e9 / config.rate;
+        double offset = intervalNanos * worker / config.threads;
+        boolean flip = false;
+        for (long k = 0; ; k++) {
+            long intended;
+            if (intervalNanos == 0) {
+                intended = System.nanoTime();
+            } else {
+                intended = startNanos + (long) (offset + k * intervalNanos);
+                awaitNanos(intended);
+            }
+            if (intended >= end) {
+                return;
+            }
+
+            LoadOperation operation = mix.next(random);
+            int key = keys.next(random);
+            flip = !flip;
+            long issued = System.nanoTime();
+            ContactOutcome outcome;
+            try {
+                outcome = execute(service, operation, key, flip);
+            } catch (RuntimeException e) {
+                outcome = null;
+            }
+            long completed = System.nanoTime();
+            if (intended >= measureStart) {
+                result.record(operation, outcome, completed - intended, completed - issued);
+            }
+        }
+    }
+
+    private ContactOutcome execute(IContactService service, LoadOperation operation, int key, boolean flip) {
+        switch (operation) {
+            case READ:
+                return service.getContact(ids[key]) != null ? ContactOutcome.SUCCESS : ContactOutcome.NOT_FOUND;
+            case UPDATE:
+                return service.tryUpdateContact(ids[key], flip ? "Jane" : "John", null, null, null);
+            case CREATE:
+                return service.tryAddContact(contacts[key]);
+            case DELETE:
+                return service.tryDeleteContact(ids[key]);
+            case LIST:
+                service.getAllContacts();
+                return ContactOutcome.SUCCESS;
+            default:
+                throw new IllegalStateException("Unhandled operation: " + operation);
+        }
+    }
+
+    private static void awaitNanos(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        while (remaining > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            System.err.println("Failed to close " + closeable + ": " + e);
+        }
+    }
+}
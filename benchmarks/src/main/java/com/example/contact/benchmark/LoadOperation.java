@@ -0,0 +1,23 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Load Operation
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+/**
+ * Kinds of operation the load generator issues against the service.
+ */
+enum LoadOperation {
+    /** getContact on a chosen key */
+    READ,
+    /** tryUpdateContact changing the first name of a chosen key */
+    UPDATE,
+    /** tryAddContact for a chosen key, which may already exist */
+    CREATE,
+    /** tryDeleteContact for a chosen key, which may already be gone */
+    DELETE,
+    /** getAllContacts */
+    LIST
+}
@@ -0,0 +1,233 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Load Result
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.contact.metrics.LatencyHistogram;
+import com.example.contact.metrics.LatencySnapshot;
+import com.example.contact.service.ContactOutcome;
+
+/**
+ * Latencies and outcomes of one load generator run.
+ *
+ * Two latencies are kept per operation. Response time runs from the operation's
+ * intended start on the fixed-rate schedule, so time an operation spent waiting
+ * behind a slow predecessor is counted and coordinated omission does not hide
+ * stalls. Service time runs from when the operation was actually issued. In
+ * closed-loop runs, with no target rate, the two are the same.
+ */
+final class LoadResult {
+
+    /** Percentiles printed in the report */
+    static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private static final ContactOutcome[] OUTCOMES = ContactOutcome.values();
+    private static final int ERROR = OUTCOMES.length;
+
+    /**
+     * Recorded values for one operation kind.
+     */
+    private static final class Stats {
+        private final LatencyHistogram responseTime = new LatencyHistogram();
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+        private final LongAdder[] outcomes = new LongAdder[OUTCOMES.length + 1];
+
+        Stats() {
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomes[i] = new LongAdder();
+            }
+        }
+    }
+
+    private final LoadConfig config;
+    private final Map<LoadOperation, Stats> stats = new EnumMap<>(LoadOperation.class);
+    private final LatencyHistogram allResponseTimes = new LatencyHistogram();
+    private volatile long measuredNanos;
+
+    /**
+     * Constructs an empty result.
+     * @param config the run's configuration
+     */
+    LoadResult(LoadConfig config) {
+        this.config = config;
+        for (LoadOperation operation : LoadOperation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    /**
+     * Records one completed operation.
+     * @param operation the operation kind
+     * @param outcome the outcome, or null if it threw
+     * @param responseNanos time from the intended start to completion
+     * @param serviceNanos time from the actual start to completion
+     */
+    void record(LoadOperation operation, ContactOutcome outcome, long responseNanos, long serviceNanos) {
+        Stats s = stats.get(operation);
+        s.responseTime.record(responseNanos);
+        s.serviceTime.record(serviceNanos);
+        s.outcomes[outcome == null ? ERROR : outcome.ordinal()].increment();
+        allResponseTimes.record(responseNanos);
+    }
+
+    /**
+     * Sets the length of the measured interval.
+     * @param nanos the measured time in nanoseconds
+     */
+    void setMeasuredNanos(long nanos) {
+        this.measuredNanos = nanos;
+    }
+
+    /**
+     * Returns the configuration the run used.
+     * @return the configuration
+     */
+    LoadConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the number of operations completed in the measured interval.
+     * @return the operation count
+     */
+    long getCompletedCount() {
+        return allResponseTimes.snapshot().getCount();
+    }
+
+    /**
+     * Returns the achieved throughput over the measured interval.
+     * @return operations per second
+     */
+    double getThroughput() {
+        return measuredNanos == 0 ? 0 : getCompletedCount() * 1e9 / measuredNanos;
+    }
+
+    /**
+     * Returns the response time distribution over all operations.
+     * @return the snapshot
+     */
+    LatencySnapshot getResponseTimes() {
+        return allResponseTimes.snapshot();
+    }
+
+    /**
+     * Returns the number of operations that threw instead of returning an outcome.
+     * @return the error count
+     */
+    long getErrorCount() {
+        long errors = 0;
+        for (Stats s : stats.values()) {
+            errors += s.outcomes[ERROR].sum();
+        }
+        return errors;
+    }
+
+    /**
+     * Writes the human-readable report, creating parent directories as needed.
+     * @param file the report file
+     * @throws IOException if the report cannot be written
+     */
+    void writeReport(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(toReport());
+        }
+    }
+
+    /**
+     * Formats the report.
+     * @return the report text
+     */
+    String toReport() {
+        StringBuilder out = new StringBuilder();
+        out.append("Contact service load report\n");
+        out.append("generated: ").append(Instant.now()).append('\n');
+        out.append("config: ").append(config).append('\n');
+        out.append(String.format(Locale.ROOT, "measured: %.2f s, completed: %d, throughput: %.0f ops/s, target: %s%n",
+                measuredNanos / 1e9, getCompletedCount(), getThroughput(),
+                config.rate == 0 ? "unthrottled" : config.rate + " ops/s"));
+        out.append('\n');
+        appendLatencyTable(out, "Response time from intended start (us)", true);
+        out.append('\n');
+        appendLatencyTable(out, "Service time from actual start (us)", false);
+        out.append('\n');
+        appendOutcomeTable(out);
+        return out.toString();
+    }
+
+    private void appendLatencyTable(StringBuilder out, String title, boolean response) {
+        out.append(title).append('\n');
+        out.append(String.format(Locale.ROOT, "%-8s %10s %10s", "op", "count", "mean"));
+        for (double percentile : PERCENTILES) {
+            out.append(String.format(Locale.ROOT, " %10s", "p" + formatPercentile(percentile)));
+        }
+        out.append(String.format(Locale.ROOT, " %10s%n", "max"));
+        for (Map.Entry<LoadOperation, Stats> entry : stats.entrySet()) {
+            LatencySnapshot snapshot = response
+                    ? entry.getValue().responseTime.snapshot()
+                    : entry.getValue().serviceTime.snapshot();
+            if (snapshot.getCount() > 0) {
+                appendLatencyRow(out, entry.getKey().name().toLowerCase(), snapshot);
+            }
+        }
+        if (response) {
+            appendLatencyRow(out, "all", allResponseTimes.snapshot());
+        }
+    }
+
+    private static void appendLatencyRow(StringBuilder out, String name, LatencySnapshot snapshot) {
+        out.append(String.format(Locale.ROOT, "%-8s %10d %10.1f", name, snapshot.getCount(),
+                snapshot.getMeanNanos() / 1000));
+        for (double percentile : PERCENTILES) {
+            out.append(String.format(Locale.ROOT, " %10.1f", snapshot.getValueAtPercentile(percentile) / 1000.0));
+        }
+        out.append(String.format(Locale.ROOT, " %10.1f%n", snapshot.getMaxNanos() / 1000.0));
+    }
+
+    private void appendOutcomeTable(StringBuilder out) {
+        out.append("Outcomes\n");
+        out.append(String.format(Locale.ROOT, "%-8s", "op"));
+        for (ContactOutcome outcome : OUTCOMES) {
+            out.append(String.format(Locale.ROOT, " %14s", outcome.name()));
+        }
+        out.append(String.format(Locale.ROOT, " %14s%n", "ERROR"));
+        for (Map.Entry<LoadOperation, Stats> entry : stats.entrySet()) {
+            LongAdder[] outcomes = entry.getValue().outcomes;
+            long total = 0;
+            for (LongAdder outcome : outcomes) {
+                total += outcome.sum();
+            }
+            if (total == 0) {
+                continue;
+            }
+            out.append(String.format(Locale.ROOT, "%-8s", entry.getKey().name().toLowerCase()));
+            for (LongAdder outcome : outcomes) {
+                out.append(String.format(Locale.ROOT, " %14d", outcome.sum()));
+            }
+            out.append('\n');
+        }
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile);
+    }
+}
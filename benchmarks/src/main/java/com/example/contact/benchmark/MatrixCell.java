@@ -0,0 +1,100 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Matrix Cell
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.util.Locale;
+
+/**
+ * Result of one scalability matrix run: a workload against one repository
+ * implementation at one dataset size and thread count.
+ */
+final class MatrixCell {
+
+    /** Header line of the results CSV */
+    static final String CSV_HEADER = "workload,repository,size,threads,throughput,p50_us,p99_us,efficiency";
+
+    final String workload;
+    final String repository;
+    final int size;
+    final int threads;
+    final double throughput;
+    final double p50Micros;
+    final double p99Micros;
+    final double efficiency;
+
+    /**
+     * Constructs a cell.
+     * @param workload the workload preset name
+     * @param repository the repository implementation name
+     * @param size the number of contacts loaded
+     * @param threads the number of worker threads
+     * @param throughput the achieved operations per second
+     * @param p50Micros the median response time in microseconds
+     * @param p99Micros the 99th percentile response time in microseconds
+     * @param efficiency the scaling efficiency relative to the fewest threads on the same curve
+     */
+    MatrixCell(String workload, String repository, int size, int threads,
+               double throughput, double p50Micros, double p99Micros, double efficiency) {
+        this.workload = workload;
+        this.repository = repository;
+        this.size = size;
+        this.threads = threads;
+        this.throughput = throughput;
+        this.p50Micros = p50Micros;
+        this.p99Micros = p99Micros;
+        this.efficiency = efficiency;
+    }
+
+    /**
+     * Returns a copy with the scaling efficiency set.
+     * @param value the efficiency, 1.0 for perfect linear scaling
+     * @return the updated cell
+     */
+    MatrixCell withEfficiency(double value) {
+        return new MatrixCell(workload, repository, size, threads, throughput, p50Micros, p99Micros, value);
+    }
+
+    /**
+     * Returns the key identifying this cell's position in the matrix, used to match baseline cells.
+     * @return workload/repository/size/threads
+     */
+    String key() {
+        return workload + "/" + repository + "/" + size + "/" + threads;
+    }
+
+    /**
+     * Returns the key of the curve this cell belongs to, which varies only in thread count.
+     * @return workload/repository/size
+     */
+    String curveKey() {
+        return workload + "/" + repository + "/" + size;
+    }
+
+    /**
+     * Formats the cell as a CSV line matching {@link #CSV_HEADER}.
+     * @return the CSV line
+     */
+    String toCsv() {
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.2f,%.2f,%.3f",
+                workload, repository, size, threads, throughput, p50Micros, p99Micros, efficiency);
+    }
+
+    /**
+     * Parses a CSV line written by {@link #toCsv()}.
+     * @param line the CSV line
+     * @return the cell
+     */
+    static MatrixCell parseCsv(String line) {
+        String[] fields = line.split(",");
+        if (fields.length != 8) {
+            throw new IllegalArgumentException("Expected 8 fields in results line: " + line);
+        }
+        return new MatrixCell(fields[0], fields[1], Integer.parseInt(fields[2]), Integer.parseInt(fields[3]),
+                Double.parseDouble(fields[4]), Double.parseDouble(fields[5]), Double.parseDouble(fields[6]),
+                Double.parseDouble(fields[7]));
+    }
+}
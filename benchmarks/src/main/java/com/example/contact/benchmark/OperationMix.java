@@ -0,0 +1,88 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Operation Mix
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted choice of load operations, parsed from a spec such as "read:90,update:10".
+ * Weights are relative and need not sum to 100.
+ */
+final class OperationMix {
+
+    private final Map<LoadOperation, Integer> weights;
+    private final LoadOperation[] choices;
+    private final int[] cumulative;
+    private final int total;
+
+    private OperationMix(Map<LoadOperation, Integer> weights) {
+        this.weights = weights;
+        this.choices = weights.keySet().toArray(new LoadOperation[0]);
+        this.cumulative = new int[choices.length];
+        int sum = 0;
+        for (int i = 0; i < choices.length; i++) {
+            sum += weights.get(choices[i]);
+            cumulative[i] = sum;
+        }
+        this.total = sum;
+    }
+
+    /**
+     * Parses a mix spec.
+     * @param spec comma-separated operation:weight pairs
+     * @return the mix
+     */
+    static OperationMix parse(String spec) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in mix entry: " + part);
+            }
+            if (weight > 0) {
+                weights.merge(LoadOperation.valueOf(pair[0].trim().toUpperCase()), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no operations: " + spec);
+        }
+        return new OperationMix(weights);
+    }
+
+    /**
+     * Returns the next operation.
+     * @param random the calling thread's random source
+     * @return the chosen operation
+     */
+    LoadOperation next(SplittableRandom random) {
+        int pick = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (pick < cumulative[i]) {
+                return choices[i];
+            }
+        }
+        return choices[choices.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<LoadOperation, Integer> entry : weights.entrySet()) {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(entry.getKey().name().toLowerCase()).append(':').append(entry.getValue());
+        }
+        return builder.toString();
+    }
+}
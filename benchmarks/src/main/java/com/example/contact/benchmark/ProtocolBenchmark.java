@@ -0,0 +1,142 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Protocol Benchmark
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.contact.Contact;
+import com.example.contact.protocol.ContactProtocolClient;
+import com.example.contact.protocol.ContactProtocolServer;
+import com.example.contact.server.ContactHttpServer;
+import com.example.contact.service.ContactServiceImpl;
+
+/**
+ * Benchmarks a contact lookup over loopback: the binary protocol one request at a
+ * time, the binary protocol with {@link #PIPELINE_DEPTH} requests outstanding, and
+ * JSON over HTTP/1.1 keep-alive for comparison. All three front the same in-memory
+ * service, so the differences are transport and encoding cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProtocolBenchmark {
+
+    /** Requests kept outstanding by the pipelined benchmark */
+    public static final int PIPELINE_DEPTH = 64;
+
+    private static final int SIZE = 1000;
+
+    private ContactProtocolServer protocolServer;
+    private ContactHttpServer httpServer;
+    private ContactProtocolClient protocolClient;
+    private HttpClient httpClient;
+    private String[] hitIds;
+    private URI[] hitUris;
+
+    /**
+     * Per-thread position in the key sequence.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next() {
+            return next++ & (BenchmarkFixtures.KEY_COUNT - 1);
+        }
+    }
+
+    /**
+     * Starts both servers on ephemeral loopback ports and connects the clients.
+     * @throws IOException if a server cannot bind
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ContactServiceImpl service = new ContactServiceImpl(
+                BenchmarkFixtures.repository(SIZE, BenchmarkFixtures.NO_AUDIT));
+        protocolServer = new ContactProtocolServer(service, 0);
+        protocolServer.start();
+        httpServer = new ContactHttpServer(service, 0);
+        httpServer.start();
+        protocolClient = new ContactProtocolClient("localhost", protocolServer.getPort());
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        hitIds = new String[BenchmarkFixtures.KEY_COUNT];
+        hitUris = new URI[BenchmarkFixtures.KEY_COUNT];
+        for (int i = 0; i < hitIds.length; i++) {
+            hitIds[i] = BenchmarkFixtures.contactId(i % SIZE);
+            hitUris[i] = URI.create("http://localhost:" + httpServer.getPort() + "/contacts/" + hitIds[i]);
+        }
+    }
+
+    /**
+     * Closes the clients and servers.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        protocolClient.close();
+        protocolServer.close();
+        httpServer.close();
+    }
+
+    /**
+     * Looks up one contact over the binary protocol and waits for it.
+     */
+    @Benchmark
+    public Contact binaryGet(Cursor cursor) {
+        return protocolClient.getContact(hitIds[cursor.next()]).join();
+    }
+
+    /**
+     * Issues a window of lookups on one connection before waiting for any; the score is per lookup.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE_DEPTH)
+    public Contact binaryGetPipelined(Cursor cursor) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Contact>[] window = new CompletableFuture[PIPELINE_DEPTH];
+        for (int i = 0; i < PIPELINE_DEPTH; i++) {
+            window[i] = protocolClient.getContact(hitIds[cursor.next()]);
+        }
+        Contact last = null;
+        for (CompletableFuture<Contact> future : window) {
+            last = future.join();
+        }
+        return last;
+    }
+
+    /**
+     * Looks up one contact as JSON over HTTP.
+     * @throws Exception if the request fails
+     */
+    @Benchmark
+    public String httpGet(Cursor cursor) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(hitUris[cursor.next()]).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
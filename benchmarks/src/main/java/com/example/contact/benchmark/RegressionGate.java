@@ -0,0 +1,84 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Regression Gate
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares matrix results against a baseline run cell by cell.
+ * A cell regresses when its throughput falls more than the threshold below the
+ * baseline cell with the same workload, repository, size and thread count. Cells
+ * with no baseline counterpart are reported but never fail the gate.
+ */
+final class RegressionGate {
+
+    private final Map<String, MatrixCell> baseline;
+    private final double thresholdPercent;
+    private final List<String> regressions = new ArrayList<>();
+    private final StringBuilder report = new StringBuilder();
+
+    /**
+     * Constructs a gate.
+     * @param baseline baseline cells by {@link MatrixCell#key()}
+     * @param thresholdPercent the largest allowed throughput drop, in percent
+     */
+    RegressionGate(Map<String, MatrixCell> baseline, double thresholdPercent) {
+        if (thresholdPercent < 0) {
+            throw new IllegalArgumentException("Threshold cannot be negative: " + thresholdPercent);
+        }
+        this.baseline = baseline;
+        this.thresholdPercent = thresholdPercent;
+    }
+
+    /**
+     * Compares the current cells and builds the comparison report.
+     * @param cells the cells of the current run
+     * @return true if no cell regressed
+     */
+    boolean check(List<MatrixCell> cells) {
+        report.append(String.format(Locale.ROOT, "Baseline comparison (fail below -%.1f%%)%n", thresholdPercent));
+        report.append(String.format(Locale.ROOT, "%-40s %14s %14s %9s%n", "cell", "baseline", "current", "change"));
+        for (MatrixCell cell : cells) {
+            MatrixCell base = baseline.get(cell.key());
+            if (base == null) {
+                report.append(String.format(Locale.ROOT, "%-40s %14s %14.0f %9s%n",
+                        cell.key(), "-", cell.throughput, "new"));
+                continue;
+            }
+            double change = base.throughput == 0 ? 0 : (cell.throughput - base.throughput) / base.throughput * 100;
+            boolean regressed = change < -thresholdPercent;
+            report.append(String.format(Locale.ROOT, "%-40s %14.0f %14.0f %+8.1f%%%s%n",
+                    cell.key(), base.throughput, cell.throughput, change, regressed ? "  REGRESSION" : ""));
+            if (regressed) {
+                regressions.add(cell.key());
+            }
+        }
+        report.append(regressions.isEmpty()
+                ? "No regressions\n"
+                : regressions.size() + " regressed cell(s): " + regressions + "\n");
+        return regressions.isEmpty();
+    }
+
+    /**
+     * Returns the keys of the regressed cells.
+     * @return the regressed cell keys
+     */
+    List<String> getRegressions() {
+        return regressions;
+    }
+
+    /**
+     * Returns the comparison report built by {@link #check(List)}.
+     * @return the report text
+     */
+    String getReport() {
+        return report.toString();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Repository Benchmark
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.contact.Contact;
+import com.example.contact.repository.InMemoryContactRepository;
+
+/**
+ * Benchmarks InMemoryContactRepository operations at repository sizes from 1k to 1M entries.
+ * Keys are drawn from precomputed arrays so the measurement excludes ID construction.
+ * The repository audits to a discarding sink; audit cost is covered by ServiceBenchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private InMemoryContactRepository repository;
+    private String[] hitIds;
+    private String[] missIds;
+    private Contact[] updates;
+
+    /**
+     * Per-thread position in the key arrays.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next() {
+            return next++ & (BenchmarkFixtures.KEY_COUNT - 1);
+        }
+    }
+
+    /**
+     * Loads the repository and picks random existing and missing keys.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = BenchmarkFixtures.repository(size, BenchmarkFixtures.NO_AUDIT);
+        SplittableRandom random = new SplittableRandom(42);
+        hitIds = new String[BenchmarkFixtures.KEY_COUNT];
+        missIds = new String[BenchmarkFixtures.KEY_COUNT];
+        updates = new Contact[BenchmarkFixtures.KEY_COUNT];
+        for (int i = 0; i < BenchmarkFixtures.KEY_COUNT; i++) {
+            int index = random.nextInt(size);
+            hitIds[i] = BenchmarkFixtures.contactId(index);
+            missIds[i] = BenchmarkFixtures.contactId(size + random.nextInt(size));
+            updates[i] = BenchmarkFixtures.contact(index);
+        }
+    }
+
+    /**
+     * Replaces an existing contact, so the repository size stays fixed.
+     */
+    @Benchmark
+    public void save(Cursor cursor) {
+        repository.save(updates[cursor.next()]);
+    }
+
+    /**
+     * Looks up an ID that is present.
+     */
+    @Benchmark
+    public Optional<Contact> findByIdHit(Cursor cursor) {
+        return repository.findById(hitIds[cursor.next()]);
+    }
+
+    /**
+     * Looks up an ID that is absent.
+     */
+    @Benchmark
+    public Optional<Contact> findByIdMiss(Cursor cursor) {
+        return repository.findById(missIds[cursor.next()]);
+    }
+
+    /**
+     * Checks an ID that is present.
+     */
+    @Benchmark
+    public boolean existsById(Cursor cursor) {
+        return repository.existsById(hitIds[cursor.next()]);
+    }
+
+    /**
+     * Copies every contact into a list.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Contact> findAll() {
+        return repository.findAll();
+    }
+}
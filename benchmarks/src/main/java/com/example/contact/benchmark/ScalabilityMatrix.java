@@ -0,0 +1,287 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Scalability Matrix
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Runs the load generator closed-loop across a matrix of workloads, repository
+ * implementations, dataset sizes and thread counts, and reports throughput and
+ * scaling efficiency for each curve of thread counts.
+ *
+ * Given a baseline results file, every cell is compared against the baseline cell
+ * at the same position, and the process exits with status 1 when any cell's
+ * throughput drops by more than the threshold. Baselines are only meaningful on the
+ * machine and JVM they were recorded on.
+ *
+ * Outputs, under the output directory: results.csv (one line per cell),
+ * scaling.txt (throughput and efficiency curves), comparison.txt when a baseline
+ * is given, and the load report of every cell under cells/.
+ */
+public final class ScalabilityMatrix {
+
+    /** Exit status when a cell regresses against the baseline */
+    static final int EXIT_REGRESSION = 1;
+
+    private static final int BAR_WIDTH = 40;
+
+    private static final Map<String, String> WORKLOADS = new LinkedHashMap<>();
+
+    static {
+        WORKLOADS.put("read", "read:100");
+        WORKLOADS.put("update", "update:100");
+        WORKLOADS.put("write", "create:50,delete:50");
+        WORKLOADS.put("mixed", "read:90,update:10");
+    }
+
+    private final Map<String, String> options;
+    private final Path output;
+
+    /**
+     * Constructs a matrix run from parsed options.
+     * @param options option name to value, as returned by {@link #defaults()} with arguments applied
+     */
+    ScalabilityMatrix(Map<String, String> options) {
+        this.options = new HashMap<>(options);
+        this.output = Paths.get(options.get("output"));
+        for (String name : options.keySet()) {
+            if (!defaults().containsKey(name)) {
+                throw new IllegalArgumentException("Unknown option: " + name);
+            }
+        }
+    }
+
+    /**
+     * Returns the default options.
+     * @return option name to default value
+     */
+    static Map<String, String> defaults() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("threads", defaultThreadCounts());
+        values.put("sizes", "10000,100000,1000000");
+        values.put("repositories", "memory,sharded,sharded-isolated,writebehind,metered");
+        values.put("workloads", "read,update,mixed");
+        values.put("warmup", "2");
+        values.put("duration", "5");
+        values.put("distribution", "uniform");
+        values.put("audit", "off");
+        values.put("output", "target/scalability");
+        values.put("baseline", "");
+        values.put("save-baseline", "");
+        values.put("threshold", "10");
+        return values;
+    }
+
+    /**
+     * Runs the matrix, writes the outputs, and exits with status 1 on a regression.
+     * @param args --name=value options
+     * @throws Exception if a run fails
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && ("--help".equals(args[0]) || "-h".equals(args[0]))) {
+            System.out.print(usage());
+            return;
+        }
+        ScalabilityMatrix matrix = new ScalabilityMatrix(LoadConfig.parseOptions(defaults(), args));
+        if (!matrix.run()) {
+            System.exit(EXIT_REGRESSION);
+        }
+    }
+
+    /**
+     * Runs every cell, writes the results and compares them against the baseline if one is given.
+     * @return false if the baseline comparison found a regression
+     * @throws IOException if an output cannot be written or the baseline cannot be read
+     * @throws InterruptedException if interrupted while a cell is running
+     */
+    boolean run() throws IOException, InterruptedException {
+        List<MatrixCell> cells = computeEfficiency(runCells());
+        Files.createDirectories(output);
+
+        List<String> lines = new ArrayList<>();
+        lines.add(MatrixCell.CSV_HEADER);
+        for (MatrixCell cell : cells) {
+            lines.add(cell.toCsv());
+        }
+        Files.write(output.resolve("results.csv"), lines, StandardCharsets.UTF_8);
+        String saveBaseline = options.get("save-baseline");
+        if (!saveBaseline.isEmpty()) {
+            Path path = Paths.get(saveBaseline);
+            if (path.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+            }
+            Files.write(path, lines, StandardCharsets.UTF_8);
+        }
+
+        String curves = formatCurves(cells);
+        Files.write(output.resolve("scaling.txt"), curves.getBytes(StandardCharsets.UTF_8));
+        System.out.print(curves);
+
+        String baseline = options.get("baseline");
+        if (baseline.isEmpty()) {
+            return true;
+        }
+        RegressionGate gate = new RegressionGate(readResults(Paths.get(baseline)),
+                Double.parseDouble(options.get("threshold")));
+        boolean passed = gate.check(cells);
+        Files.write(output.resolve("comparison.txt"), gate.getReport().getBytes(StandardCharsets.UTF_8));
+        System.out.print(gate.getReport());
+        return passed;
+    }
+
+    private List<MatrixCell> runCells() throws IOException, InterruptedException {
+        List<MatrixCell> cells = new ArrayList<>();
+        for (String workload : split("workloads")) {
+            String mix = WORKLOADS.get(workload);
+            if (mix == null) {
+                throw new IllegalArgumentException("Unknown workload " + workload + ", expected one of "
+                        + WORKLOADS.keySet());
+            }
+            for (String repository : split("repositories")) {
+                for (String size : split("sizes")) {
+                    for (String threads : split("threads")) {
+                        cells.add(runCell(workload, mix, repository, Integer.parseInt(size),
+                                Integer.parseInt(threads)));
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+
+    private MatrixCell runCell(String workload, String mix, String repository, int size, int threads)
+            throws IOException, InterruptedException {
+        Map<String, String> overrides = new HashMap<>();
+        overrides.put("threads", String.valueOf(threads));
+        overrides.put("rate", "0");
+        overrides.put("warmup", options.get("warmup"));
+        overrides.put("duration", options.get("duration"));
+        overrides.put("keys", String.valueOf(size));
+        overrides.put("distribution", options.get("distribution"));
+        overrides.put("mix", mix);
+        overrides.put("repository", repository);
+        overrides.put("audit", options.get("audit"));
+        overrides.put("report", output.resolve("cells")
+                .resolve(workload + "-" + repository + "-" + size + "-" + threads + ".txt").toString());
+        LoadConfig config = LoadConfig.parse().with(overrides);
+
+        System.out.printf(Locale.ROOT, "Running %s/%s/%d/%d...%n", workload, repository, size, threads);
+        LoadResult result = new LoadGenerator(config).run();
+        result.writeReport(config.report);
+        return new MatrixCell(workload, repository, size, threads, result.getThroughput(),
+                result.getResponseTimes().getValueAtPercentile(50) / 1000.0,
+                result.getResponseTimes().getValueAtPercentile(99) / 1000.0, 0);
+    }
+
+    /**
+     * Sets each cell's efficiency relative to the cell with the fewest threads on its curve:
+     * the speedup over that cell divided by the increase in threads.
+     * @param cells the cells, efficiency unset
+     * @return the cells with efficiency set, in the same order
+     */
+    static List<MatrixCell> computeEfficiency(List<MatrixCell> cells) {
+        Map<String, MatrixCell> smallest = new HashMap<>();
+        for (MatrixCell cell : cells) {
+            smallest.merge(cell.curveKey(), cell, (a, b) -> b.threads < a.threads ? b : a);
+        }
+        List<MatrixCell> result = new ArrayList<>(cells.size());
+        for (MatrixCell cell : cells) {
+            MatrixCell base = smallest.get(cell.curveKey());
+            double speedup = base.throughput == 0 ? 0 : cell.throughput / base.throughput;
+            result.add(cell.withEfficiency(speedup * base.threads / cell.threads));
+        }
+        return result;
+    }
+
+    /**
+     * Formats one block per curve with throughput, speedup, efficiency and a throughput bar.
+     * @param cells the cells with efficiency set
+     * @return the curves text
+     */
+    static String formatCurves(List<MatrixCell> cells) {
+        Map<String, List<MatrixCell>> curves = new LinkedHashMap<>();
+        for (MatrixCell cell : cells) {
+            curves.computeIfAbsent(cell.curveKey(), key -> new ArrayList<>()).add(cell);
+        }
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<String, List<MatrixCell>> curve : curves.entrySet()) {
+            double max = 0;
+            double first = curve.getValue().get(0).throughput;
+            for (MatrixCell cell : curve.getValue()) {
+                max = Math.max(max, cell.throughput);
+            }
+            out.append(curve.getKey()).append('\n');
+            out.append(String.format(Locale.ROOT, "%8s %14s %8s %10s%n", "threads", "ops/s", "speedup", "efficiency"));
+            for (MatrixCell cell : curve.getValue()) {
+                int bar = max == 0 ? 0 : (int) Math.round(cell.throughput / max * BAR_WIDTH);
+                out.append(String.format(Locale.ROOT, "%8d %14.0f %7.2fx %9.0f%%  %s%n", cell.threads,
+                        cell.throughput, first == 0 ? 0 : cell.throughput / first, cell.efficiency * 100,
+                        "#".repeat(bar)));
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Reads a results CSV into cells keyed by {@link MatrixCell#key()}.
+     * @param file the results file
+     * @return the cells
+     * @throws IOException if the file cannot be read
+     */
+    static Map<String, MatrixCell> readResults(Path file) throws IOException {
+        Map<String, MatrixCell> cells = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.equals(MatrixCell.CSV_HEADER)) {
+                continue;
+            }
+            MatrixCell cell = MatrixCell.parseCsv(line);
+            cells.put(cell.key(), cell);
+        }
+        return cells;
+    }
+
+    private List<String> split(String option) {
+        List<String> values = new ArrayList<>();
+        for (String value : options.get(option).split(",")) {
+            if (!value.isBlank()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+
+    private static String defaultThreadCounts() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        StringBuilder counts = new StringBuilder();
+        for (int threads = 1; threads < cores; threads <<= 1) {
+            counts.append(threads).append(',');
+        }
+        return counts.append(cores).toString();
+    }
+
+    private static String usage() {
+        StringBuilder builder = new StringBuilder("Options (default):\n");
+        for (Map.Entry<String, String> entry : defaults().entrySet()) {
+            builder.append("  --").append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        builder.append("  workloads are ").append(WORKLOADS.keySet()).append('\n');
+        builder.append("  threshold is the largest allowed throughput drop against --baseline, in percent\n");
+        builder.append("  sizes above 1000000 need a larger heap, e.g. -Xmx8g for 10000000\n");
+        return builder.toString();
+    }
+}
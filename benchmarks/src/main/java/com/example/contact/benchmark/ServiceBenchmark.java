@@ -0,0 +1,180 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Service Benchmark
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.contact.Contact;
+import com.example.contact.concurrent.StripedLockManager;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.validation.ContactValidator;
+
+/**
+ * Benchmarks ContactServiceImpl operations end to end: validation, locking,
+ * repository access, change feed and audit.
+ * The audit parameter selects no audit, the synchronous AUDIT logger, or an
+ * AsyncAuditPipeline writing to a temporary file. The stripes parameter compares
+ * the default lock striping with a single global lock; contendedUpdate runs four
+ * threads over a shared key set, where the difference shows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    @Param({"off", "sync", "async"})
+    public String audit;
+
+    @Param({"1000"})
+    public int size;
+
+    /** Lock stripes: "default" sizes them by CPU count, "1" is one global lock */
+    @Param({"default", "1"})
+    public String stripes;
+
+    /** Keys shared by the threads of the contended benchmark */
+    private static final int SHARED_KEYS = 64;
+
+    private final AtomicInteger threadIds = new AtomicInteger();
+    private ContactServiceImpl service;
+    private AuditSetup auditSetup;
+    private String[] hitIds;
+
+    /**
+     * Per-thread keys, including a private ID for add/delete cycles so threads never collide.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+        private boolean flip;
+        private Contact ownContact;
+
+        /**
+         * Assigns this thread its own contact.
+         * @param benchmark the shared benchmark state
+         */
+        @Setup(Level.Trial)
+        public void setUp(ServiceBenchmark benchmark) {
+            int index = benchmark.threadIds.getAndIncrement();
+            ownContact = BenchmarkFixtures.contact(benchmark.size + index);
+            // Start threads on different keys so they meet by stripe, not in lockstep on one key
+            next = index * 13;
+        }
+
+        int next() {
+            return next++ & (BenchmarkFixtures.KEY_COUNT - 1);
+        }
+
+        String nextFirstName() {
+            flip = !flip;
+            return flip ? "Jane" : "John";
+        }
+    }
+
+    /**
+     * Builds the service with the selected audit sink and loads the contacts.
+     * @throws IOException if the audit file cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        auditSetup = AuditSetup.open(audit);
+        InMemoryContactRepository repository = BenchmarkFixtures.repository(size, auditSetup.sink());
+        StripedLockManager locks = "default".equals(stripes) ? new StripedLockManager()
+                : new StripedLockManager(Integer.parseInt(stripes));
+        service = new ContactServiceImpl(repository, new ContactValidator(), locks, auditSetup.sink());
+        hitIds = new String[BenchmarkFixtures.KEY_COUNT];
+        for (int i = 0; i < hitIds.length; i++) {
+            hitIds[i] = BenchmarkFixtures.contactId(i % size);
+        }
+    }
+
+    /**
+     * Stops the audit pipeline and removes its file.
+     * @throws IOException if the audit file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        auditSetup.close();
+    }
+
+    /**
+     * Looks up an existing contact.
+     */
+    @Benchmark
+    public Contact getContact(Cursor cursor) {
+        return service.getContact(hitIds[cursor.next()]);
+    }
+
+    /**
+     * Changes the first name of an existing contact.
+     */
+    @Benchmark
+    public ContactOutcome updateContact(Cursor cursor) {
+        return service.tryUpdateContact(hitIds[cursor.next()], cursor.nextFirstName(), null, null, null);
+    }
+
+    /**
+     * Four threads change the first names of a small shared key set.
+     */
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ContactOutcome contendedUpdate(Cursor cursor) {
+        return service.tryUpdateContact(hitIds[cursor.next() & (SHARED_KEYS - 1)], cursor.nextFirstName(),
+                null, null, null);
+    }
+
+    /**
+     * Adds the thread's own contact and deletes it again.
+     */
+    @Benchmark
+    public ContactOutcome addThenDelete(Cursor cursor) {
+        service.tryAddContact(cursor.ownContact);
+        return service.tryDeleteContact(cursor.ownContact.getContactId());
+    }
+
+    /**
+     * Submits an update the validator rejects.
+     */
+    @Benchmark
+    public ContactOutcome rejectedUpdate(Cursor cursor) {
+        return service.tryUpdateContact(hitIds[cursor.next()], "<script>", null, null, null);
+    }
+
+    /**
+     * Lists every contact.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Contact> getAllContacts() {
+        return service.getAllContacts();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Validator Benchmark
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.contact.Contact;
+import com.example.contact.exception.ContactValidationException;
+import com.example.contact.validation.ContactValidator;
+
+/**
+ * Benchmarks each ContactValidator method against three input classes:
+ * benign values typical of real contacts, adversarial values that pass but force
+ * the patterns to scan long near-miss text, and malicious values that are rejected.
+ * Each benchmark returns whether the input passed so rejections are measured with
+ * their exception and audit cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    /** Length of the adversarial free-text inputs */
+    private static final int ADVERSARIAL_LENGTH = 4096;
+
+    @Param({"benign", "adversarial", "malicious"})
+    public String input;
+
+    private final ContactValidator validator = new ContactValidator();
+    private String contactId;
+    private String name;
+    private String phone;
+    private String address;
+    private Contact contact;
+
+    /**
+     * Builds the inputs for the selected class.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (input) {
+            case "benign":
+                contactId = "1234567890";
+                name = "John";
+                phone = "1234567890";
+                address = "123 Main St";
+                contact = new Contact(contactId, name, "Doe", phone, address);
+                break;
+            case "adversarial":
+                contactId = BenchmarkFixtures.repeat("<scrip-", ADVERSARIAL_LENGTH);
+                name = BenchmarkFixtures.repeat("O' or Van-", ADVERSARIAL_LENGTH);
+                phone = BenchmarkFixtures.repeat("1234567890", ADVERSARIAL_LENGTH);
+                address = BenchmarkFixtures.repeat("onclic <ifram union selec - ", ADVERSARIAL_LENGTH);
+                contact = new Contact("<scrip- -", "O' or Van", "Van-Der an", "1234567890",
+                        "onclic <ifram union selec - -");
+                break;
+            case "malicious":
+                contactId = "<script>";
+                name = "<iframe>";
+                phone = "12345abcde";
+                address = "1 St; -- drop";
+                contact = new Contact("1", "John", "Doe", "1234567890", "<script>alert(1)</script>");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown input class: " + input);
+        }
+    }
+
+    /**
+     * Validates a contact ID.
+     */
+    @Benchmark
+    public boolean validateContactId() {
+        try {
+            validator.validateContactId(contactId);
+            return true;
+        } catch (ContactValidationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Validates a name.
+     */
+    @Benchmark
+    public boolean validateName() {
+        try {
+            validator.validateName(name, "firstName");
+            return true;
+        } catch (ContactValidationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Validates a phone number.
+     */
+    @Benchmark
+    public boolean validatePhone() {
+        try {
+            validator.validatePhone(phone);
+            return true;
+        } catch (ContactValidationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Validates an address.
+     */
+    @Benchmark
+    public boolean validateAddress() {
+        try {
+            validator.validateAddress(address);
+            return true;
+        } catch (ContactValidationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Validates every field of a contact.
+     */
+    @Benchmark
+    public boolean validate() {
+        try {
+            validator.validate(contact);
+            return true;
+        } catch (ContactValidationException e) {
+            return false;
+        }
+    }
+}
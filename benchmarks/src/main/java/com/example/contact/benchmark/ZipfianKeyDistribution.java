@@ -0,0 +1,79 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Zipfian Key Distribution
+ * October 2026
+ */
+package com.example.contact.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zipfian key distribution using the rejection-free method of Gray et al.
+ * ("Quickly Generating Billion-Record Synthetic Databases"), as in YCSB.
+ * Rank r is drawn with probability proportional to 1 / r^theta, and ranks are mapped
+ * to keys through a fixed shuffle so the hot keys are spread over the key space
+ * rather than clustered at its start.
+ */
+final class ZipfianKeyDistribution implements KeyDistribution {
+
+    /** Default skew; the YCSB default, where about 20% of keys draw about 80% of operations */
+    static final double DEFAULT_THETA = 0.99;
+
+    private final int keyCount;
+    private final double zetaN;
+    private final double alpha;
+    private final double eta;
+    private final double halfPowTheta;
+    private final int[] keys;
+
+    /**
+     * Constructs the distribution; setup is linear in the key count.
+     * @param keyCount the number of keys
+     * @param theta the skew, between 0 and 1 exclusive
+     */
+    ZipfianKeyDistribution(int keyCount, double theta) {
+        if (keyCount < 1 || !(theta > 0 && theta < 1)) {
+            throw new IllegalArgumentException("Invalid zipfian parameters: keys=" + keyCount + ", theta=" + theta);
+        }
+        this.keyCount = keyCount;
+        this.zetaN = zeta(keyCount, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1 - Math.pow(2.0 / keyCount, 1 - theta)) / (1 - zeta(2, theta) / zetaN);
+        this.halfPowTheta = 1 + Math.pow(0.5, theta);
+        this.keys = new int[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = i;
+        }
+        SplittableRandom shuffle = new SplittableRandom(keyCount);
+        for (int i = keyCount - 1; i > 0; i--) {
+            int j = shuffle.nextInt(i + 1);
+            int swap = keys[i];
+            keys[i] = keys[j];
+            keys[j] = swap;
+        }
+    }
+
+    @Override
+    public int next(SplittableRandom random) {
+        double u = random.nextDouble();
+        double uz = u * zetaN;
+        int rank;
+        if (uz < 1) {
+            rank = 0;
+        } else if (uz < halfPowTheta) {
+            rank = 1;
+        } else {
+            rank = (int) (keyCount * Math.pow(eta * u - eta + 1, alpha));
+        }
+        return keys[Math.min(rank, keyCount - 1)];
+    }
+
+    private static double zeta(int n, double theta) {
+        double sum = 0;
+        for (int i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
@@ -111,6 +111,7 @@ public class ContactBuilder {
      * @throws ContactValidationException if any field fails validation
      */
     public Contact build() {
+        isValid();
         return new Contact(contactId, firstName, lastName, phone, address);
     }
 
@@ -120,26 +121,45 @@ public class ContactBuilder {
      * @throws ContactValidationException if any field is invalid
      */
     public boolean isValid() {
+        ContactValidationException failure = check(false);
+        if (failure != null) {
+            throw failure;
+        }
+        return true;
+    }
+
+    /**
+     * Checks the current builder state without throwing.
+     * @param stackless true to create the failure without a stack trace
+     * @return null if all fields are valid, otherwise the first invalid field's failure
+     */
+    public ContactValidationException check(boolean stackless) {
         // Validate contactId
         if (contactId == null || contactId.length() > 10) {
-            throw new ContactValidationException("contactId", "Invalid contact ID: must be non-null and max 10 characters");
+            return failure("contactId", "Invalid contact ID: must be non-null and max 10 characters", stackless);
         }
         // Validate firstName
         if (firstName == null || firstName.length() > 10) {
-            throw new ContactValidationException("firstName", "Invalid first name: must be non-null and max 10 characters");
+            return failure("firstName", "Invalid first name: must be non-null and max 10 characters", stackless);
         }
         // Validate lastName
         if (lastName == null || lastName.length() > 10) {
-            throw new ContactValidationException("lastName", "Invalid last name: must be non-null and max 10 characters");
+            return failure("lastName", "Invalid last name: must be non-null and max 10 characters", stackless);
         }
         // Validate phone
         if (phone == null || phone.length() != 10 || !phone.matches("\\d+")) {
-            throw new ContactValidationException("phone", "Invalid phone number: must be exactly 10 digits");
+            return failure("phone", "Invalid phone number: must be exactly 10 digits", stackless);
         }
         // Validate address
         if (address == null || address.length() > 30) {
-            throw new ContactValidationException("address", "Invalid address: must be non-null and max 30 characters");
+            return failure("address", "Invalid address: must be non-null and max 30 characters", stackless);
         }
-        return true;
+        return null;
+    }
+
+    private static ContactValidationException failure(String fieldName, String message, boolean stackless) {
+        return stackless
+                ? ContactValidationException.stackless(fieldName, message)
+                : new ContactValidationException(fieldName, message);
     }
 }
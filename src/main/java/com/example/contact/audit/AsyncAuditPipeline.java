@@ -0,0 +1,275 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Async Audit Pipeline
+ * October 2026
+ */
+package com.example.contact.audit;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AuditSink that takes audit I/O off the caller's thread.
+ * Callers copy the event fields into a preallocated slot of a bounded lock-free
+ * ring and return; no objects are allocated per event. A single background thread
+ * drains the ring in batches into an {@link AuditRecordWriter} and flushes it after
+ * each batch, so an event reaches the writer's storage within roughly one flush
+ * interval of being recorded.
+ *
+ * The ring uses per-slot sequence numbers: a producer claims a position with one
+ * CAS, fills the slot, then publishes it by advancing the slot's sequence, and the
+ * writer releases the slot for the next lap once it has been written.
+ *
+ * When the ring is full the {@link OverflowPolicy} decides: BLOCK makes the caller
+ * wait for space, so no event is lost; DROP discards the event and counts it.
+ */
+public class AsyncAuditPipeline implements AuditSink, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncAuditPipeline.class);
+
+    /** Default number of ring slots */
+    public static final int DEFAULT_CAPACITY = 8192;
+    /** Default maximum number of records written between flushes */
+    public static final int DEFAULT_BATCH_SIZE = 512;
+    /** Default maximum time between a record being written and flushed */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 50;
+
+    private static final long BLOCK_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * What a caller does when the ring is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait for the writer to free a slot */
+        BLOCK,
+        /** Discard the event and count it as dropped */
+        DROP
+    }
+
+    private final AuditRecord[] records;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private volatile long flushedPosition;
+
+    private final AuditRecordWriter writer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Constructs a pipeline with default capacity, batch size and flush interval that blocks when full.
+     * @param writer the output stage
+     */
+    public AsyncAuditPipeline(AuditRecordWriter writer) {
+        this(writer, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Constructs a pipeline.
+     * @param writer the output stage
+     * @param capacity the minimum number of ring slots, rounded up to a power of two
+     * @param batchSize the maximum number of records written between flushes
+     * @param flushIntervalMillis the maximum time a written record waits to be flushed
+     * @param overflowPolicy what callers do when the ring is full
+     */
+    public AsyncAuditPipeline(AuditRecordWriter writer, int capacity, int batchSize,
+                              long flushIntervalMillis, OverflowPolicy overflowPolicy) {
+        if (writer == null || overflowPolicy == null) {
+            throw new IllegalArgumentException("Writer and overflow policy cannot be null");
+        }
+        if (capacity < 2 || capacity > (1 << 30) || batchSize < 1 || flushIntervalMillis < 1) {
+            throw new IllegalArgumentException("Invalid audit pipeline configuration");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.records = new AuditRecord[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            records[i] = new AuditRecord();
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.overflowPolicy = overflowPolicy;
+        this.writerThread = new Thread(this::runWriter, "contact-audit-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        logger.info("AsyncAuditPipeline started: capacity={}, batchSize={}, policy={}", size, batchSize, overflowPolicy);
+    }
+
+    @Override
+    public void record(AuditEventType type, String contactId, String detail1, String detail2) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) (position & mask);
+            long available = sequences.get(index) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (available < 0) {
+                // The writer has not released this slot from the previous lap: the ring is full
+                if (overflowPolicy == OverflowPolicy.DROP || !running) {
+                    dropped.increment();
+                    return;
+                }
+                blocked.increment();
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(this, BLOCK_WAIT_NANOS);
+            }
+        }
+
+        records[index].set(System.currentTimeMillis(), type, Thread.currentThread().getName(),
+                contactId, detail1, detail2);
+        sequences.set(index, position + 1);
+
+        // Wake the writer early when the ring is filling up faster than the flush interval drains it
+        if (position - head.get() == (mask >> 1)) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Blocks until every event recorded before this call has been written and flushed.
+     */
+    public void flush() {
+        long target = tail.get();
+        while (flushedPosition < target && writerThread.isAlive()) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(BLOCK_WAIT_NANOS);
+        }
+    }
+
+    /**
+     * Writes all queued events, stops the writer thread and closes the writer.
+     * Events recorded after this call are dropped.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("AsyncAuditPipeline stopped: written={}, dropped={}, failed={}",
+                head.get(), dropped.sum(), failed.sum());
+    }
+
+    /**
+     * Returns the number of events recorded but not yet written.
+     * @return the pending count
+     */
+    public long getPendingCount() {
+        return Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * Returns the number of events handed to the writer.
+     * @return the written count
+     */
+    public long getWrittenCount() {
+        return head.get();
+    }
+
+    /**
+     * Returns the number of events discarded because the ring was full or closed.
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns how many times a caller had to wait for space under the BLOCK policy.
+     * @return the blocked wait count
+     */
+    public long getBlockedCount() {
+        return blocked.sum();
+    }
+
+    /**
+     * Returns the number of write or flush calls that failed.
+     * @return the failure count
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    private void runWriter() {
+        long position = head.get();
+        int sinceFlush = 0;
+        long lastFlush = System.nanoTime();
+        while (true) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) == position + 1) {
+                AuditRecord record = records[index];
+                try {
+                    writer.write(record);
+                } catch (IOException | RuntimeException e) {
+                    failed.increment();
+                    logger.error("Audit write failed for {} event", record.getType(), e);
+                }
+                record.clear();
+                sequences.set(index, position + mask + 1);
+                head.set(++position);
+                if (++sinceFlush >= batchSize || System.nanoTime() - lastFlush >= flushIntervalNanos) {
+                    flushWriter(position);
+                    sinceFlush = 0;
+                    lastFlush = System.nanoTime();
+                }
+                continue;
+            }
+
+            if (sinceFlush > 0 || flushedPosition < position) {
+                flushWriter(position);
+                sinceFlush = 0;
+                lastFlush = System.nanoTime();
+            }
+            // A claimed but unpublished slot keeps the writer alive until its producer finishes
+            if (!running && tail.get() == position) {
+                break;
+            }
+            LockSupport.parkNanos(this, running ? flushIntervalNanos : BLOCK_WAIT_NANOS);
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            failed.increment();
+            logger.error("Audit writer close failed", e);
+        }
+    }
+
+    private void flushWriter(long position) {
+        try {
+            writer.flush();
+        } catch (IOException | RuntimeException e) {
+            failed.increment();
+            logger.error("Audit flush failed", e);
+        }
+        flushedPosition = position;
+    }
+}
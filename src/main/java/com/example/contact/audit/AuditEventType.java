@@ -0,0 +1,79 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Audit Event Type
+ * October 2026
+ */
+package com.example.contact.audit;
+
+/**
+ * Kinds of audit events recorded by the repository and service layers.
+ * Each type carries its severity and a message template in which {@code {0}} is
+ * the contact ID and {@code {1}} and {@code {2}} are the two detail values, so a
+ * record can be rendered into the same text the AUDIT logger has always produced.
+ */
+public enum AuditEventType {
+
+    CONTACT_CREATED(false, "Contact created: ID={0}, Name={1} {2}"),
+    CONTACT_UPDATED(false, "Contact updated: ID={0}, Name={1} {2}"),
+    CONTACT_DELETED(false, "Contact deleted: ID={0}, Name={1} {2}"),
+    REPOSITORY_CLEARED(false, "Repository cleared: {1} contacts removed"),
+    LIMIT_REACHED(true, "Security: Maximum contact limit ({1}) reached - save rejected for ID: {0}"),
+    NULL_CONTACT(true, "Security: Attempted to add null contact"),
+    VALIDATION_FAILED(true, "Security: Contact validation failed for ID {0}: {1}"),
+    DUPLICATE_ID(true, "Duplicate contact ID attempted: {0}"),
+    BLANK_DELETE_ID(true, "Security: Attempted to delete contact with null/blank ID"),
+    DELETE_NOT_FOUND(true, "Delete attempted for non-existent contact: {0}"),
+    BLANK_UPDATE_ID(true, "Security: Attempted to update contact with null/blank ID"),
+    UPDATE_NOT_FOUND(true, "Update attempted for non-existent contact: {0}");
+
+    private final boolean warning;
+    private final String template;
+
+    AuditEventType(boolean warning, String template) {
+        this.warning = warning;
+        this.template = template;
+    }
+
+    /**
+     * Returns whether events of this type are logged at WARN rather than INFO.
+     * @return true for warnings
+     */
+    public boolean isWarning() {
+        return warning;
+    }
+
+    /**
+     * Appends the message for an event of this type.
+     * @param out the builder to append to
+     * @param contactId the contact ID, may be null
+     * @param detail1 the first detail value, may be null
+     * @param detail2 the second detail value, may be null
+     */
+    public void appendMessage(StringBuilder out, String contactId, String detail1, String detail2) {
+        int length = template.length();
+        for (int i = 0; i < length; i++) {
+            char c = template.charAt(i);
+            if (c == '{' && i + 2 < length && template.charAt(i + 2) == '}') {
+                char slot = template.charAt(i + 1);
+                out.append(slot == '0' ? contactId : slot == '1' ? detail1 : detail2);
+                i += 2;
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    /**
+     * Returns the message for an event of this type.
+     * @param contactId the contact ID, may be null
+     * @param detail1 the first detail value, may be null
+     * @param detail2 the second detail value, may be null
+     * @return the rendered message
+     */
+    public String formatMessage(String contactId, String detail1, String detail2) {
+        StringBuilder out = new StringBuilder(template.length() + 32);
+        appendMessage(out, contactId, detail1, detail2);
+        return out.toString();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Audit Journal Entry
+ * October 2026
+ */
+package com.example.contact.audit;
+
+/**
+ * An audit event read back from the binary journal.
+ */
+public final class AuditJournalEntry {
+
+    private final long timestampMillis;
+    private final AuditEventType type;
+    private final String threadName;
+    private final String contactId;
+    private final String detail1;
+    private final String detail2;
+
+    AuditJournalEntry(long timestampMillis, AuditEventType type, String threadName,
+                      String contactId, String detail1, String detail2) {
+        this.timestampMillis = timestampMillis;
+        this.type = type;
+        this.threadName = threadName;
+        this.contactId = contactId;
+        this.detail1 = detail1;
+        this.detail2 = detail2;
+    }
+
+    /**
+     * Returns when the event was recorded.
+     * @return the epoch timestamp in milliseconds
+     */
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * Returns the kind of event.
+     * @return the event type
+     */
+    public AuditEventType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the name of the thread that recorded the event.
+     * @return the thread name, may be null
+     */
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * Returns the contact ID.
+     * @return the contact ID, may be null
+     */
+    public String getContactId() {
+        return contactId;
+    }
+
+    /**
+     * Returns the first detail value.
+     * @return the first detail, may be null
+     */
+    public String getDetail1() {
+        return detail1;
+    }
+
+    /**
+     * Returns the second detail value.
+     * @return the second detail, may be null
+     */
+    public String getDetail2() {
+        return detail2;
+    }
+
+    /**
+     * Returns the event message as the AUDIT logger would have written it.
+     * @return the message text
+     */
+    public String getMessage() {
+        return type.formatMessage(contactId, detail1, detail2);
+    }
+
+    /**
+     * Returns the event as a line in the text audit log layout.
+     * @return the formatted line
+     */
+    @Override
+    public String toString() {
+        StringBuilder line = new StringBuilder(128);
+        TextAuditRecordWriter.appendLine(line, timestampMillis, type, threadName, contactId, detail1, detail2);
+        return line.toString();
+    }
+}
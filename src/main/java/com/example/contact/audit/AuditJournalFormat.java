@@ -0,0 +1,144 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Audit Journal Format
+ * October 2026
+ */
+package com.example.contact.audit;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * On-disk layout shared by the audit journal writer and reader.
+ *
+ * A journal is a directory of segment files named
+ * {@code audit-<startMillis>-<endMillis>-<n>.seg}, each holding only records from its
+ * time slice [start, end), so a query skips segments outside its range by name
+ * alone. Segments written before the end was part of the name,
+ * {@code audit-<startMillis>-<n>.seg}, are never skipped. A segment starts with {@link #SEGMENT_MAGIC} and the
+ * format version, followed by records:
+ * <pre>
+ *   int   length of the rest of the record
+ *   long  timestamp (epoch millis)
+ *   byte  AuditEventType ordinal
+ *   str   contactId, threadName, detail1, detail2
+ * </pre>
+ * where each {@code str} is a presence byte followed by modified UTF-8 when present.
+ *
+ * Records are grouped into blocks of a fixed record count. When a segment is sealed
+ * a sidecar {@code .idx} file is written with a header giving the block count and
+ * Bloom filter size, then one entry per block: its file offset, record count,
+ * minimum and maximum timestamp, and a Bloom filter of the contact IDs in the block.
+ * The filter is sized at {@link #BLOOM_BITS_PER_RECORD} bits per record with
+ * {@link #BLOOM_HASHES} hash functions, under 1% false positives. This sparse index lets a query skip whole segments and blocks by time
+ * and by contact without reading them. A segment without an index (the active one, or
+ * one left behind by a crash) or with an index of an older version is read
+ * sequentially.
+ */
+final class AuditJournalFormat {
+
+    static final int SEGMENT_MAGIC = 0x41554A53;    // "AUJS"
+    static final int INDEX_MAGIC = 0x41554A49;      // "AUJI"
+    static final int VERSION = 1;
+    static final int INDEX_VERSION = 2;
+    static final int SEGMENT_HEADER_BYTES = 8;
+
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String INDEX_SUFFIX = ".idx";
+    static final String SEGMENT_PREFIX = "audit-";
+
+    /** Bloom filter bits per record of a block */
+    static final int BLOOM_BITS_PER_RECORD = 10;
+    /** Bit positions set per contact ID; optimal for 10 bits per record */
+    static final int BLOOM_HASHES = 7;
+
+    /** Longest string stored; longer values are truncated */
+    static final int MAX_STRING_CHARS = 8192;
+
+    private static final AuditEventType[] TYPES = AuditEventType.values();
+
+    private AuditJournalFormat() {
+    }
+
+    static Path indexFor(Path segment) {
+        String name = segment.getFileName().toString();
+        return segment.resolveSibling(name.substring(0, name.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX);
+    }
+
+    /**
+     * Returns the time slice [start, end) a segment file name declares, or the
+     * unbounded range for a name without one.
+     */
+    static long[] segmentRange(Path segment) {
+        String name = segment.getFileName().toString();
+        String[] parts = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()).split("-");
+        try {
+            if (parts.length == 3) {
+                return new long[] {Long.parseLong(parts[0]), Long.parseLong(parts[1])};
+            }
+        } catch (NumberFormatException e) {
+            // Not written by this journal; fall through and always read it
+        }
+        return new long[] {Long.MIN_VALUE, Long.MAX_VALUE};
+    }
+
+    static int bloomWords(int blockRecords) {
+        return (int) ((blockRecords * (long) BLOOM_BITS_PER_RECORD + 63) / 64);
+    }
+
+    static AuditEventType typeOf(int ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= TYPES.length) {
+            throw new IOException("Unknown audit event type: " + ordinal);
+        }
+        return TYPES[ordinal];
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeByte(0);
+            return;
+        }
+        out.writeByte(1);
+        out.writeUTF(value.length() > MAX_STRING_CHARS ? value.substring(0, MAX_STRING_CHARS) : value);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        return in.readByte() == 0 ? null : in.readUTF();
+    }
+
+    // Bit positions come from double hashing: h1 + i * h2 for i below BLOOM_HASHES
+
+    static void bloomAdd(long[] bloom, String contactId) {
+        int h1 = mix(contactId.hashCode());
+        int h2 = mix(h1) | 1;
+        long bits = bloom.length * 64L;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int bit = (int) Math.floorMod(h1 + (long) i * h2, bits);
+            bloom[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    static boolean bloomMightContain(long[] bloom, String contactId) {
+        int h1 = mix(contactId.hashCode());
+        int h2 = mix(h1) | 1;
+        long bits = bloom.length * 64L;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int bit = (int) Math.floorMod(h1 + (long) i * h2, bits);
+            if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Audit Journal Reader
+ * October 2026
+ */
+package com.example.contact.audit;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Queries a binary audit journal written by {@link AuditJournalWriter}.
+ * Segments whose time slice, taken from the file name, misses the query range are
+ * skipped without being opened. The rest are filtered through their block index if
+ * sealed: a block is read only if
+ * its time range overlaps the query and, for contact queries, its Bloom filter may
+ * contain the contact. Unsealed segments are scanned. Block indexes are cached,
+ * since sealed segments never change.
+ *
+ * Also usable from the command line:
+ * <pre>
+ *   java com.example.contact.audit.AuditJournalReader &lt;journal-dir&gt;
+ *        [--contact ID] [--from TIME] [--to TIME] [--last 7d]
+ * </pre>
+ * where TIME is an ISO instant, a local date-time or a local date, and the
+ * {@code --last} amount takes an m, h or d suffix.
+ */
+public class AuditJournalReader {
+
+    /**
+     * Cached index entry for one block of a sealed segment.
+     */
+    private static final class BlockIndex {
+        private final long offset;
+        private final int length;
+        private final long minTimestamp;
+        private final long maxTimestamp;
+        private final long[] bloom;
+
+        BlockIndex(long offset, int length, long minTimestamp, long maxTimestamp, long[] bloom) {
+            this.offset = offset;
+            this.length = length;
+            this.minTimestamp = minTimestamp;
+            this.maxTimestamp = maxTimestamp;
+            this.bloom = bloom;
+        }
+    }
+
+    private final Path directory;
+    private final Map<Path, List<BlockIndex>> indexCache = new ConcurrentHashMap<>();
+    private final LongAdder blocksRead = new LongAdder();
+    private final LongAdder blocksSkipped = new LongAdder();
+    private final LongAdder segmentsSkipped = new LongAdder();
+
+    /**
+     * Constructs a reader for a journal directory.
+     * @param directory the journal directory
+     */
+    public AuditJournalReader(Path directory) {
+        if (directory == null) {
+            throw new IllegalArgumentException("Journal directory cannot be null");
+        }
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the events in a time range, optionally for one contact, ordered by time.
+     * @param contactId the contact to select, or null for all events
+     * @param fromMillis the start of the range, inclusive
+     * @param toMillis the end of the range, exclusive
+     * @return the matching events
+     * @throws IOException if the journal cannot be read
+     */
+    public List<AuditJournalEntry> query(String contactId, long fromMillis, long toMillis) throws IOException {
+        List<AuditJournalEntry> results = new ArrayList<>();
+        query(contactId, fromMillis, toMillis, results::add);
+        results.sort(Comparator.comparingLong(AuditJournalEntry::getTimestampMillis));
+        return results;
+    }
+
+    /**
+     * Passes the events in a time range, optionally for one contact, to a consumer in journal order.
+     * @param contactId the contact to select, or null for all events
+     * @param fromMillis the start of the range, inclusive
+     * @param toMillis the end of the range, exclusive
+     * @param consumer receives the matching events
+     * @throws IOException if the journal cannot be read
+     */
+    public void query(String contactId, long fromMillis, long toMillis, Consumer<AuditJournalEntry> consumer)
+            throws IOException {
+        for (Path segment : listSegments()) {
+            long[] range = AuditJournalFormat.segmentRange(segment);
+            if (range[1] <= fromMillis || range[0] >= toMillis) {
+                segmentsSkipped.increment();
+                continue;
+            }
+            List<BlockIndex> blocks = loadIndex(segment);
+            if (blocks == null) {
+                scanSegment(segment, contactId, fromMillis, toMillis, consumer);
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(segment)) {
+                for (BlockIndex block : blocks) {
+                    if (block.maxTimestamp < fromMillis || block.minTimestamp >= toMillis
+                            || (contactId != null && !AuditJournalFormat.bloomMightContain(block.bloom, contactId))) {
+                        blocksSkipped.increment();
+                        continue;
+                    }
+                    blocksRead.increment();
+                    ByteBuffer buffer = ByteBuffer.allocate(block.length);
+                    while (buffer.hasRemaining()) {
+                        if (channel.read(buffer, block.offset + buffer.position()) < 0) {
+                            throw new EOFException("Audit journal block truncated in " + segment);
+                        }
+                    }
+                    readRecords(new DataInputStream(new ByteArrayInputStream(buffer.array())),
+                            contactId, fromMillis, toMillis, consumer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of index blocks read by queries so far.
+     * @return the blocks read
+     */
+    public long getBlocksRead() {
+        return blocksRead.sum();
+    }
+
+    /**
+     * Returns the number of index blocks queries skipped without reading.
+     * @return the blocks skipped
+     */
+    public long getBlocksSkipped() {
+        return blocksSkipped.sum();
+    }
+
+    /**
+     * Returns the number of segments queries skipped by their name without opening them.
+     * @return the segments skipped
+     */
+    public long getSegmentsSkipped() {
+        return segmentsSkipped.sum();
+    }
+
+    private List<Path> listSegments() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(AuditJournalFormat.SEGMENT_PREFIX) && name.endsWith(AuditJournalFormat.SEGMENT_SUFFIX);
+            }).sorted(Comparator.comparingLong((Path path) -> AuditJournalFormat.segmentRange(path)[0])
+                    .thenComparing(Comparator.naturalOrder())).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the block index of a sealed segment, or null if the segment is unsealed
+     * or its index predates the current index version.
+     */
+    private List<BlockIndex> loadIndex(Path segment) throws IOException {
+        List<BlockIndex> cached = indexCache.get(segment);
+        if (cached != null) {
+            return cached;
+        }
+        Path indexFile = AuditJournalFormat.indexFor(segment);
+        List<BlockIndex> blocks = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != AuditJournalFormat.INDEX_MAGIC) {
+                throw new IOException("Not an audit journal index: " + indexFile);
+            }
+            if (in.readInt() != AuditJournalFormat.INDEX_VERSION) {
+                return null;
+            }
+            int count = in.readInt();
+            int bloomWords = in.readInt();
+            long[] offsets = new long[count + 1];
+            long[][] ranges = new long[count][2];
+            long[][] blooms = new long[count][bloomWords];
+            for (int i = 0; i < count; i++) {
+                offsets[i] = in.readLong();
+                in.readInt();
+                ranges[i][0] = in.readLong();
+                ranges[i][1] = in.readLong();
+                for (int w = 0; w < bloomWords; w++) {
+                    blooms[i][w] = in.readLong();
+                }
+            }
+            // Each block runs to the next block's offset, the last one to the end of the segment
+            offsets[count] = Files.size(segment);
+            for (int i = 0; i < count; i++) {
+                blocks.add(new BlockIndex(offsets[i], (int) (offsets[i + 1] - offsets[i]),
+                        ranges[i][0], ranges[i][1], blooms[i]));
+            }
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        indexCache.put(segment, blocks);
+        return blocks;
+    }
+
+    private void scanSegment(Path segment, String contactId, long fromMillis, long toMillis,
+                             Consumer<AuditJournalEntry> consumer) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment), 64 * 1024))) {
+            if (in.readInt() != AuditJournalFormat.SEGMENT_MAGIC || in.readInt() != AuditJournalFormat.VERSION) {
+                throw new IOException("Not an audit journal segment: " + segment);
+            }
+            readRecords(in, contactId, fromMillis, toMillis, consumer);
+        } catch (EOFException e) {
+            // Empty segment whose header is not flushed yet
+        }
+    }
+
+    private static void readRecords(DataInputStream in, String contactId, long fromMillis, long toMillis,
+                                    Consumer<AuditJournalEntry> consumer) throws IOException {
+        while (true) {
+            int length;
+            byte[] record;
+            try {
+                length = in.readInt();
+                record = new byte[length];
+                in.readFully(record);
+            } catch (EOFException e) {
+                // End of block, or a record of an active segment that is only partly flushed
+                return;
+            }
+            DataInputStream fields = new DataInputStream(new ByteArrayInputStream(record));
+            long timestamp = fields.readLong();
+            if (timestamp < fromMillis || timestamp >= toMillis) {
+                continue;
+            }
+            AuditEventType type = AuditJournalFormat.typeOf(fields.readByte());
+            String id = AuditJournalFormat.readString(fields);
+            if (contactId != null && !contactId.equals(id)) {
+                continue;
+            }
+            String thread = AuditJournalFormat.readString(fields);
+            String detail1 = AuditJournalFormat.readString(fields);
+            String detail2 = AuditJournalFormat.readString(fields);
+            consumer.accept(new AuditJournalEntry(timestamp, type, thread, id, detail1, detail2));
+        }
+    }
+
+    /**
+     * Command-line entry point; prints matching events in the text audit log layout.
+     * @param args the journal directory followed by options
+     */
+    public static void main(String[] args) {
+        int status = run(args, System.out, System.err);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Runs the command-line reader.
+     * @param args the journal directory followed by options
+     * @param out receives the matching events
+     * @param err receives usage and error messages
+     * @return the process exit status
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        if (args.length == 0) {
+            err.println("Usage: AuditJournalReader <journal-dir> [--contact ID] [--from TIME] [--to TIME] [--last 7d]");
+            return 2;
+        }
+        String contactId = null;
+        long from = Long.MIN_VALUE;
+        long to = Long.MAX_VALUE;
+        try {
+            for (int i = 1; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--contact":
+                        contactId = value;
+                        break;
+                    case "--from":
+                        from = parseTime(value);
+                        break;
+                    case "--to":
+                        to = parseTime(value);
+                        break;
+                    case "--last":
+                        from = System.currentTimeMillis() - parseAmount(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            err.println(e.getMessage());
+            return 2;
+        }
+
+        AuditJournalReader reader = new AuditJournalReader(Paths.get(args[0]));
+        long start = System.nanoTime();
+        try {
+            List<AuditJournalEntry> entries = reader.query(contactId, from, to);
+            for (AuditJournalEntry entry : entries) {
+                out.println(entry);
+            }
+            err.printf("%d events in %d ms (%d segments skipped, %d blocks read, %d skipped)%n", entries.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), reader.getSegmentsSkipped(),
+                    reader.getBlocksRead(), reader.getBlocksSkipped());
+            return 0;
+        } catch (IOException e) {
+            err.println("Cannot read audit journal: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static long parseTime(String value) {
+        try {
+            return Instant.parse(value).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            ZoneId zone = ZoneId.systemDefault();
+            if (value.indexOf('T') > 0) {
+                return LocalDateTime.parse(value).atZone(zone).toInstant().toEpochMilli();
+            }
+            return LocalDate.parse(value).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+    }
+
+    private static long parseAmount(String value) {
+        if (value.length() < 2) {
+            throw new IllegalArgumentException("Invalid amount: " + value);
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        switch (value.charAt(value.length() - 1)) {
+            case 'm':
+                return TimeUnit.MINUTES.toMillis(amount);
+            case 'h':
+                return TimeUnit.HOURS.toMillis(amount);
+            case 'd':
+                return TimeUnit.DAYS.toMillis(amount);
+            default:
+                throw new IllegalArgumentException("Amount needs an m, h or d suffix: " + value);
+        }
+    }
+}
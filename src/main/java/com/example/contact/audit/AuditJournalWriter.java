@@ -0,0 +1,220 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Audit Journal Writer
+ * October 2026
+ */
+package com.example.contact.audit;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AuditRecordWriter appending to a time-segmented binary journal.
+ * Run it behind an {@link AsyncAuditPipeline} (alone or through a
+ * {@link TeeAuditRecordWriter} next to the text log) and query the directory with
+ * an {@link AuditJournalReader}. See {@link AuditJournalFormat} for the layout.
+ *
+ * A new segment is started when a record falls outside the current segment's time
+ * slice or the segment reaches its size limit; the finished segment is then sealed
+ * by writing its block index. Not thread-safe: the pipeline's writer thread is the
+ * only caller.
+ */
+public class AuditJournalWriter implements AuditRecordWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditJournalWriter.class);
+
+    /** Default time slice covered by one segment */
+    public static final long DEFAULT_SEGMENT_MILLIS = TimeUnit.HOURS.toMillis(1);
+    /** Default size at which a segment is sealed early */
+    public static final int DEFAULT_MAX_SEGMENT_BYTES = 64 * 1024 * 1024;
+    /** Default number of records per index block */
+    public static final int DEFAULT_BLOCK_RECORDS = 256;
+
+    /**
+     * Index entry for one block of the active segment.
+     */
+    private static final class Block {
+        private final long offset;
+        private int records;
+        private long minTimestamp = Long.MAX_VALUE;
+        private long maxTimestamp = Long.MIN_VALUE;
+        private final long[] bloom;
+
+        Block(long offset, int bloomWords) {
+            this.offset = offset;
+            this.bloom = new long[bloomWords];
+        }
+    }
+
+    private final Path directory;
+    private final long segmentMillis;
+    private final int maxSegmentBytes;
+    private final int blockRecords;
+    private final int bloomWords;
+
+    private final ByteArrayOutputStream scratchBytes = new ByteArrayOutputStream(256);
+    private final DataOutputStream scratch = new DataOutputStream(scratchBytes);
+    private final List<Block> blocks = new ArrayList<>();
+    private Path segment;
+    private DataOutputStream out;
+    private long segmentStart;
+    private Block block;
+
+    /**
+     * Constructs a journal writer with default segment and block sizes.
+     * @param directory the journal directory, created if missing
+     * @throws IOException if the directory cannot be created
+     */
+    public AuditJournalWriter(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_MILLIS, DEFAULT_MAX_SEGMENT_BYTES, DEFAULT_BLOCK_RECORDS);
+    }
+
+    /**
+     * Constructs a journal writer.
+     * @param directory the journal directory, created if missing
+     * @param segmentMillis the time slice covered by one segment
+     * @param maxSegmentBytes the size at which a segment is sealed early
+     * @param blockRecords the number of records per index block
+     * @throws IOException if the directory cannot be created
+     */
+    public AuditJournalWriter(Path directory, long segmentMillis, int maxSegmentBytes, int blockRecords)
+            throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Journal directory cannot be null");
+        }
+        if (segmentMillis < 1 || maxSegmentBytes < 1024 || blockRecords < 1) {
+            throw new IllegalArgumentException("Invalid audit journal configuration");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentMillis = segmentMillis;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.blockRecords = blockRecords;
+        this.bloomWords = AuditJournalFormat.bloomWords(blockRecords);
+    }
+
+    @Override
+    public void write(AuditRecord record) throws IOException {
+        append(record.getTimestampMillis(), record.getType(), record.getThreadName(),
+                record.getContactId(), record.getDetail1(), record.getDetail2());
+    }
+
+    /**
+     * Appends one event to the journal.
+     * @param timestampMillis when the event happened
+     * @param type the kind of event
+     * @param threadName the recording thread, may be null
+     * @param contactId the contact ID, may be null
+     * @param detail1 the first detail value, may be null
+     * @param detail2 the second detail value, may be null
+     * @throws IOException if the journal cannot be written
+     */
+    public void append(long timestampMillis, AuditEventType type, String threadName,
+                       String contactId, String detail1, String detail2) throws IOException {
+        if (type == null) {
+            throw new IllegalArgumentException("Event type cannot be null");
+        }
+        // A record from before the slice (the clock stepped back) also starts a new segment,
+        // so every segment holds only the range its name declares
+        if (out == null || timestampMillis < segmentStart || timestampMillis >= segmentStart + segmentMillis
+                || out.size() >= maxSegmentBytes) {
+            roll(timestampMillis);
+        }
+
+        scratchBytes.reset();
+        scratch.writeLong(timestampMillis);
+        scratch.writeByte(type.ordinal());
+        AuditJournalFormat.writeString(scratch, contactId);
+        AuditJournalFormat.writeString(scratch, threadName);
+        AuditJournalFormat.writeString(scratch, detail1);
+        AuditJournalFormat.writeString(scratch, detail2);
+
+        if (block == null || block.records == blockRecords) {
+            block = new Block(out.size(), bloomWords);
+            blocks.add(block);
+        }
+        out.writeInt(scratchBytes.size());
+        scratchBytes.writeTo(out);
+
+        block.records++;
+        block.minTimestamp = Math.min(block.minTimestamp, timestampMillis);
+        block.maxTimestamp = Math.max(block.maxTimestamp, timestampMillis);
+        if (contactId != null) {
+            AuditJournalFormat.bloomAdd(block.bloom, contactId);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Seals the active segment.
+     * @throws IOException if the segment or its index cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        seal();
+    }
+
+    private void roll(long timestampMillis) throws IOException {
+        seal();
+        segmentStart = timestampMillis - Math.floorMod(timestampMillis, segmentMillis);
+        int attempt = 0;
+        do {
+            segment = directory.resolve(AuditJournalFormat.SEGMENT_PREFIX + segmentStart + "-"
+                    + (segmentStart + segmentMillis) + "-" + attempt++ + AuditJournalFormat.SEGMENT_SUFFIX);
+        } while (Files.exists(segment));
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(segment,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), 64 * 1024));
+        out.writeInt(AuditJournalFormat.SEGMENT_MAGIC);
+        out.writeInt(AuditJournalFormat.VERSION);
+        logger.debug("Started audit journal segment {}", segment.getFileName());
+    }
+
+    private void seal() throws IOException {
+        if (out == null) {
+            return;
+        }
+        out.close();
+        out = null;
+
+        Path index = AuditJournalFormat.indexFor(segment);
+        Path partial = index.resolveSibling(index.getFileName() + ".tmp");
+        try (DataOutputStream idx = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(partial)))) {
+            idx.writeInt(AuditJournalFormat.INDEX_MAGIC);
+            idx.writeInt(AuditJournalFormat.INDEX_VERSION);
+            idx.writeInt(blocks.size());
+            idx.writeInt(bloomWords);
+            for (Block b : blocks) {
+                idx.writeLong(b.offset);
+                idx.writeInt(b.records);
+                idx.writeLong(b.minTimestamp);
+                idx.writeLong(b.maxTimestamp);
+                for (long word : b.bloom) {
+                    idx.writeLong(word);
+                }
+            }
+        }
+        // Readers treat a segment without an index as unsealed, so publish it atomically
+        Files.move(partial, index, StandardCopyOption.ATOMIC_MOVE);
+        logger.debug("Sealed audit journal segment {} with {} blocks", segment.getFileName(), blocks.size());
+        blocks.clear();
+        block = null;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Audit Record
+ * October 2026
+ */
+package com.example.contact.audit;
+
+/**
+ * One slot of the audit ring buffer.
+ * Records are allocated once with the ring and reused: producers fill the fields
+ * in place and the writer thread reads them. An {@link AuditRecordWriter} sees a
+ * record only for the duration of its {@code write} call and must copy anything it
+ * wants to keep.
+ */
+public final class AuditRecord {
+
+    private long timestampMillis;
+    private AuditEventType type;
+    private String threadName;
+    private String contactId;
+    private String detail1;
+    private String detail2;
+
+    AuditRecord() {
+    }
+
+    void set(long timestampMillis, AuditEventType type, String threadName,
+             String contactId, String detail1, String detail2) {
+        this.timestampMillis = timestampMillis;
+        this.type = type;
+        this.threadName = threadName;
+        this.contactId = contactId;
+        this.detail1 = detail1;
+        this.detail2 = detail2;
+    }
+
+    void clear() {
+        set(0, null, null, null, null, null);
+    }
+
+    /**
+     * Returns when the event was recorded.
+     * @return the epoch timestamp in milliseconds
+     */
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * Returns the kind of event.
+     * @return the event type
+     */
+    public AuditEventType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the name of the thread that recorded the event.
+     * @return the thread name
+     */
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * Returns the contact ID.
+     * @return the contact ID, may be null
+     */
+    public String getContactId() {
+        return contactId;
+    }
+
+    /**
+     * Returns the first detail value.
+     * @return the first detail, may be null
+     */
+    public String getDetail1() {
+        return detail1;
+    }
+
+    /**
+     * Returns the second detail value.
+     * @return the second detail, may be null
+     */
+    public String getDetail2() {
+        return detail2;
+    }
+}
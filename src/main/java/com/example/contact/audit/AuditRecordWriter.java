@@ -0,0 +1,31 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Audit Record Writer
+ * October 2026
+ */
+package com.example.contact.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Output stage of the {@link AsyncAuditPipeline}.
+ * Called only from the pipeline's writer thread: {@code write} for each record of
+ * a batch, then {@code flush} once the batch is done or the flush interval elapses.
+ */
+public interface AuditRecordWriter extends Closeable {
+
+    /**
+     * Writes one record; implementations usually buffer it.
+     * @param record the record, valid only for the duration of the call
+     * @throws IOException if the record cannot be written
+     */
+    void write(AuditRecord record) throws IOException;
+
+    /**
+     * Pushes buffered records to durable storage.
+     * @throws IOException if flushing fails
+     */
+    void flush() throws IOException;
+}
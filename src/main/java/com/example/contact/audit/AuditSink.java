@@ -0,0 +1,25 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Audit Sink
+ * October 2026
+ */
+package com.example.contact.audit;
+
+/**
+ * Destination for structured audit events.
+ * Callers pass the event fields directly instead of a formatted message so that
+ * sinks can defer or skip formatting; implementations must not retain the caller's
+ * thread for I/O longer than their documented policy allows.
+ */
+public interface AuditSink {
+
+    /**
+     * Records an audit event.
+     * @param type the kind of event
+     * @param contactId the contact ID, may be null
+     * @param detail1 the first detail value, may be null
+     * @param detail2 the second detail value, may be null
+     */
+    void record(AuditEventType type, String contactId, String detail1, String detail2);
+}
@@ -0,0 +1,32 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Slf4j Audit Record Writer
+ * October 2026
+ */
+package com.example.contact.audit;
+
+/**
+ * AuditRecordWriter that passes each record to the AUDIT logger through
+ * {@link Slf4jAuditSink}, so an {@link AsyncAuditPipeline} can take the logging
+ * off the caller's thread while producing the same messages. The logged thread is
+ * the pipeline's writer thread; flushing is left to the logging configuration.
+ */
+public class Slf4jAuditRecordWriter implements AuditRecordWriter {
+
+    @Override
+    public void write(AuditRecord record) {
+        Slf4jAuditSink.INSTANCE.record(record.getType(), record.getContactId(),
+                record.getDetail1(), record.getDetail2());
+    }
+
+    @Override
+    public void flush() {
+        // The logging framework owns buffering
+    }
+
+    @Override
+    public void close() {
+        // The AUDIT logger outlives any one pipeline
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * SLF4J Audit Sink
+ * October 2026
+ */
+package com.example.contact.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AuditSink that writes each event synchronously to the AUDIT logger.
+ * This is the default sink and produces the same output as before the audit
+ * pipeline existed; the write happens on the caller's thread.
+ */
+public class Slf4jAuditSink implements AuditSink {
+
+    private static final Logger auditLogger = LoggerFactory.getLogger("AUDIT");
+
+    /** Shared instance; the sink holds no state of its own */
+    public static final Slf4jAuditSink INSTANCE = new Slf4jAuditSink();
+
+    @Override
+    public void record(AuditEventType type, String contactId, String detail1, String detail2) {
+        if (type.isWarning()) {
+            if (auditLogger.isWarnEnabled()) {
+                auditLogger.warn(type.formatMessage(contactId, detail1, detail2));
+            }
+        } else if (auditLogger.isInfoEnabled()) {
+            auditLogger.info(type.formatMessage(contactId, detail1, detail2));
+        }
+    }
+}
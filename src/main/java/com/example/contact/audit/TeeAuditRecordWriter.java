@@ -0,0 +1,75 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Tee Audit Record Writer
+ * October 2026
+ */
+package com.example.contact.audit;
+
+import java.io.IOException;
+
+/**
+ * AuditRecordWriter passing every record to several writers, for example the
+ * text audit log and the binary journal behind a single pipeline.
+ * A failure in one writer does not stop the others; the first failure is rethrown.
+ */
+public class TeeAuditRecordWriter implements AuditRecordWriter {
+
+    private final AuditRecordWriter[] writers;
+
+    /**
+     * Constructs a writer fanning out to the given writers in order.
+     * @param writers the writers to pass records to
+     */
+    public TeeAuditRecordWriter(AuditRecordWriter... writers) {
+        if (writers == null || writers.length == 0) {
+            throw new IllegalArgumentException("At least one writer is required");
+        }
+        this.writers = writers.clone();
+    }
+
+    @Override
+    public void write(AuditRecord record) throws IOException {
+        IOException failure = null;
+        for (AuditRecordWriter writer : writers) {
+            try {
+                writer.write(record);
+            } catch (IOException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        IOException failure = null;
+        for (AuditRecordWriter writer : writers) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (AuditRecordWriter writer : writers) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Text Audit Record Writer
+ * October 2026
+ */
+package com.example.contact.audit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * AuditRecordWriter producing lines in the layout of the logback AUDIT appender:
+ * {@code yyyy-MM-dd HH:mm:ss.SSS [thread] LEVEL AUDIT - message}.
+ * A single StringBuilder is reused for every line.
+ */
+public class TextAuditRecordWriter implements AuditRecordWriter {
+
+    private static final DateTimeFormatter TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final Writer out;
+    private final StringBuilder line = new StringBuilder(256);
+
+    /**
+     * Constructs a writer appending to a file, creating it if needed.
+     * @param file the audit file
+     * @throws IOException if the file cannot be opened
+     */
+    public TextAuditRecordWriter(Path file) throws IOException {
+        this(new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE),
+                StandardCharsets.UTF_8), 64 * 1024));
+    }
+
+    /**
+     * Constructs a writer on an existing character stream.
+     * @param out the stream to write lines to
+     */
+    public TextAuditRecordWriter(Writer out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Writer cannot be null");
+        }
+        this.out = out;
+    }
+
+    @Override
+    public void write(AuditRecord record) throws IOException {
+        line.setLength(0);
+        appendLine(line, record.getTimestampMillis(), record.getType(), record.getThreadName(),
+                record.getContactId(), record.getDetail1(), record.getDetail2());
+        line.append(System.lineSeparator());
+        out.append(line);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Appends one audit line, without a line terminator, in the logback AUDIT layout.
+     */
+    static void appendLine(StringBuilder line, long timestampMillis, AuditEventType type, String threadName,
+                           String contactId, String detail1, String detail2) {
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(timestampMillis), line);
+        line.append(" [").append(threadName).append("] ")
+                .append(type.isWarning() ? "WARN " : "INFO ")
+                .append(" AUDIT - ");
+        type.appendMessage(line, contactId, detail1, detail2);
+    }
+}
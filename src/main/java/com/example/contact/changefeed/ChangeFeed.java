@@ -0,0 +1,141 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Change Feed
+ * October 2026
+ */
+package com.example.contact.changefeed;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.example.contact.Contact;
+
+/**
+ * Bounded, lock-free ring buffer of repository change events.
+ * Producers claim a sequence number with a single atomic increment and store the
+ * event in slot {@code sequence % capacity}. Readers never block producers: each
+ * reader owns a {@link ChangeFeedCursor} and consumes at its own pace, and a reader
+ * that falls more than {@code capacity} events behind is told so with a
+ * ChangeFeedOverrunException rather than slowing writers down.
+ *
+ * Sequence numbers start at 1. Each feed also has a random epoch so that positions
+ * saved by readers can be recognized as belonging to a different feed instance
+ * (for example after a restart).
+ */
+public class ChangeFeed {
+
+    /** Default number of events retained */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final AtomicReferenceArray<ContactChangeEvent> slots;
+    private final int mask;
+    private final AtomicLong lastClaimed = new AtomicLong();
+    private final long epoch = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+
+    /**
+     * Constructs a feed retaining the default number of events.
+     */
+    public ChangeFeed() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a feed retaining at least the given number of events.
+     * The capacity is rounded up to the next power of two.
+     * @param capacity the minimum number of events retained
+     */
+    public ChangeFeed(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Publishes a change event. Called by repositories once the mutation is visible to readers.
+     * @param type the kind of mutation
+     * @param contactId the affected contact ID
+     * @param contact the contact state to record; ignored for deletes
+     * @return the published event
+     */
+    public ContactChangeEvent publish(ContactChangeEvent.Type type, String contactId, Contact contact) {
+        ContactChangeEvent event = new ContactChangeEvent(lastClaimed.incrementAndGet(), type, contactId, contact);
+        int index = (int) (event.getSequence() & mask);
+        // A producer that lapped this one may already have stored a newer event here
+        while (true) {
+            ContactChangeEvent current = slots.get(index);
+            if (current != null && current.getSequence() > event.getSequence()) {
+                return event;
+            }
+            if (slots.compareAndSet(index, current, event)) {
+                return event;
+            }
+        }
+    }
+
+    /**
+     * Returns a cursor positioned after the most recent event.
+     * @return a cursor that will read only future events
+     */
+    public ChangeFeedCursor subscribe() {
+        return new ChangeFeedCursor(this, lastClaimed.get() + 1);
+    }
+
+    /**
+     * Returns a cursor positioned at the given sequence.
+     * @param sequence the first sequence to read
+     * @return the cursor
+     */
+    public ChangeFeedCursor subscribeFrom(long sequence) {
+        if (sequence < 1) {
+            throw new IllegalArgumentException("Sequence must be at least 1: " + sequence);
+        }
+        return new ChangeFeedCursor(this, sequence);
+    }
+
+    /**
+     * Returns the highest sequence number handed out so far.
+     * @return the last claimed sequence, 0 if nothing was published
+     */
+    public long getLastSequence() {
+        return lastClaimed.get();
+    }
+
+    /**
+     * Returns the oldest sequence number that may still be read.
+     * @return the oldest retained sequence
+     */
+    public long getOldestSequence() {
+        return Math.max(1, lastClaimed.get() - mask);
+    }
+
+    /**
+     * Returns the number of events retained by the ring.
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the random identifier of this feed instance.
+     * @return the epoch
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Returns the event stored in the slot for a sequence, which may be older or newer.
+     */
+    ContactChangeEvent slotFor(long sequence) {
+        return slots.get((int) (sequence & mask));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Change Feed Cursor
+ * October 2026
+ */
+package com.example.contact.changefeed;
+
+import java.util.function.Consumer;
+
+import com.example.contact.exception.ChangeFeedOverrunException;
+
+/**
+ * One reader's position in a {@link ChangeFeed}.
+ * A cursor is meant to be used by a single thread; any number of cursors may read
+ * the same feed concurrently without coordinating with each other or with producers.
+ */
+public class ChangeFeedCursor {
+
+    private final ChangeFeed feed;
+    private long next;
+
+    ChangeFeedCursor(ChangeFeed feed, long next) {
+        this.feed = feed;
+        this.next = next;
+    }
+
+    /**
+     * Returns the next event if it has been published.
+     * @return the next event, or null if the reader is caught up
+     * @throws ChangeFeedOverrunException if the next event was overwritten before it was read
+     */
+    public ContactChangeEvent poll() {
+        ContactChangeEvent event = feed.slotFor(next);
+        if (event == null || event.getSequence() < next) {
+            if (next <= feed.getLastSequence() - feed.getCapacity()) {
+                throw overrun();
+            }
+            return null;
+        }
+        if (event.getSequence() > next) {
+            throw overrun();
+        }
+        next++;
+        return event;
+    }
+
+    /**
+     * Passes up to {@code max} available events to the consumer.
+     * @param consumer receives the events in sequence order
+     * @param max the maximum number of events to read
+     * @return the number of events read
+     * @throws ChangeFeedOverrunException if the reader fell behind the ring
+     */
+    public int drainTo(Consumer<? super ContactChangeEvent> consumer, int max) {
+        int count = 0;
+        ContactChangeEvent event;
+        while (count < max && (event = poll()) != null) {
+            consumer.accept(event);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sequence of the next event this cursor will read.
+     * @return the cursor position
+     */
+    public long getPosition() {
+        return next;
+    }
+
+    /**
+     * Moves the cursor, typically to resume after an overrun.
+     * @param sequence the next sequence to read
+     */
+    public void seek(long sequence) {
+        if (sequence < 1) {
+            throw new IllegalArgumentException("Sequence must be at least 1: " + sequence);
+        }
+        this.next = sequence;
+    }
+
+    /**
+     * Returns how many published events this cursor has not read yet.
+     * @return the lag in events
+     */
+    public long getLag() {
+        return Math.max(0, feed.getLastSequence() - next + 1);
+    }
+
+    private ChangeFeedOverrunException overrun() {
+        return new ChangeFeedOverrunException(next, feed.getOldestSequence());
+    }
+}
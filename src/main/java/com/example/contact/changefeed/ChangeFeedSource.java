@@ -0,0 +1,21 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Change Feed Source
+ * October 2026
+ */
+package com.example.contact.changefeed;
+
+/**
+ * Implemented by repositories that publish their mutations to a {@link ChangeFeed}.
+ * Decorators implement it to pass their delegate's feed through and return null
+ * when the delegate publishes none.
+ */
+public interface ChangeFeedSource {
+
+    /**
+     * Returns the feed this repository publishes to.
+     * @return the change feed, or null if none is published
+     */
+    ChangeFeed getChangeFeed();
+}
@@ -0,0 +1,100 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Change Event
+ * October 2026
+ */
+package com.example.contact.changefeed;
+
+import com.example.contact.Contact;
+
+/**
+ * Immutable record of one repository mutation, numbered by the change feed.
+ * Field values are copied at publish time, since Contact objects are mutable.
+ * Delete events carry only the contact ID; clear events carry no contact at all.
+ */
+public final class ContactChangeEvent {
+
+    /**
+     * Kind of mutation.
+     */
+    public enum Type {
+        /** A contact was saved under a new ID */
+        CREATED,
+        /** An existing contact was saved again */
+        UPDATED,
+        /** A contact was deleted */
+        DELETED,
+        /** Every contact was removed at once */
+        CLEARED
+    }
+
+    private final long sequence;
+    private final long timestampMillis;
+    private final Type type;
+    private final String contactId;
+    private final String firstName;
+    private final String lastName;
+    private final String phone;
+    private final String address;
+
+    ContactChangeEvent(long sequence, Type type, String contactId, Contact contact) {
+        this.sequence = sequence;
+        this.timestampMillis = System.currentTimeMillis();
+        this.type = type;
+        this.contactId = contactId;
+        boolean withFields = contact != null && type != Type.DELETED;
+        this.firstName = withFields ? contact.getFirstName() : null;
+        this.lastName = withFields ? contact.getLastName() : null;
+        this.phone = withFields ? contact.getPhone() : null;
+        this.address = withFields ? contact.getAddress() : null;
+    }
+
+    /**
+     * Returns the feed sequence number; strictly increasing across all events of a feed.
+     * @return the sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the wall-clock time the event was published.
+     * @return milliseconds since the epoch
+     */
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * Returns the kind of mutation.
+     * @return the event type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the ID of the affected contact.
+     * @return the contact ID, or null for CLEARED
+     */
+    public String getContactId() {
+        return contactId;
+    }
+
+    /**
+     * Rebuilds the contact as it was when the event was published.
+     * @return a new Contact, or null for DELETED and CLEARED events
+     */
+    public Contact toContact() {
+        if (type == Type.DELETED || type == Type.CLEARED) {
+            return null;
+        }
+        return new Contact(contactId, firstName, lastName, phone, address);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactChangeEvent{sequence=" + sequence + ", type=" + type + ", contactId=" + contactId + "}";
+    }
+}
@@ -0,0 +1,547 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Cluster Contact Service
+ * October 2026
+ */
+package com.example.contact.cluster;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.Contact;
+import com.example.contact.concurrent.ContactExecutors;
+import com.example.contact.concurrent.StripedLockManager;
+import com.example.contact.exception.ContactException;
+import com.example.contact.exception.ResourceLimitException;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.IContactService;
+
+/**
+ * IContactService that partitions contacts across several node services with a
+ * {@link ConsistentHashRing} and routes each call to the node owning the ID. Nodes
+ * may be local services or remote ones reached through
+ * {@link com.example.contact.protocol.ProtocolContactService}; each keeps its own
+ * contact limit, so capacity grows with the number of nodes.
+ *
+ * Nodes join and leave while traffic continues. A membership change switches to the
+ * new ring at once and then moves the contacts whose owner changed on a background
+ * thread. Until the move finishes both the previous and the new owner are consulted:
+ * lookups try the new owner then the previous one, adds are rejected as duplicates
+ * if the previous owner still holds the ID, updates fall back to the previous owner
+ * and deletes remove the ID from both. Mutations and the move of a contact hold the
+ * same per-ID stripe lock, and after switching rings the mover sweeps every stripe
+ * so no mutation that routed by the old ring is still running when moves start.
+ * Each node streams only the contacts leaving it, selected by a
+ * {@link RingOwnershipFilter} that a remote node evaluates on its own side, in
+ * batches of {@link #MOVE_BATCH}, so no node is ever listed into the router's memory.
+ *
+ * Migration is coordinated by this router, so all traffic for the cluster must go
+ * through one instance; nodes do not talk to each other. Membership changes are
+ * serialized. If a new owner rejects a contact (for example at its limit) the contact
+ * stays on its previous owner, the change completes exceptionally and the cluster
+ * keeps consulting both rings until {@link #rebalance()} succeeds. The throwing
+ * methods raise the exception matching the node's outcome without its detail message.
+ */
+public class ClusterContactService implements IContactService, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterContactService.class);
+
+    /** Contacts requested from a node at a time while moving them */
+    public static final int MOVE_BATCH = 256;
+
+    private final Map<String, IContactService> nodes = new ConcurrentHashMap<>();
+    private final StripedLockManager locks = new StripedLockManager();
+    private final ExecutorService rebalancer =
+            Executors.newSingleThreadExecutor(ContactExecutors.daemonThreads("contact-cluster-rebalance"));
+    private final LongAdder moved = new LongAdder();
+    private volatile ConsistentHashRing ring;
+    private volatile ConsistentHashRing previousRing;
+
+    /**
+     * Constructs a cluster over the given nodes with the default virtual node count.
+     * @param nodes the node services keyed by node ID
+     */
+    public ClusterContactService(Map<String, ? extends IContactService> nodes) {
+        this(nodes, ConsistentHashRing.DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * Constructs a cluster over the given nodes. The nodes should start empty, or
+     * already hold only the contacts the ring assigns them.
+     * @param nodes the node services keyed by node ID
+     * @param virtualNodes the number of ring points per node
+     */
+    public ClusterContactService(Map<String, ? extends IContactService> nodes, int virtualNodes) {
+        if (nodes == null || nodes.isEmpty()) {
+            throw new IllegalArgumentException("Cluster needs at least one node");
+        }
+        for (Map.Entry<String, ? extends IContactService> entry : nodes.entrySet()) {
+            if (entry.getValue() == null) {
+                throw new IllegalArgumentException("Node service cannot be null: " + entry.getKey());
+            }
+        }
+        this.ring = new ConsistentHashRing(nodes.keySet(), virtualNodes);
+        this.nodes.putAll(nodes);
+        logger.info("ClusterContactService initialized with nodes {}", ring.getNodes());
+    }
+
+    @Override
+    public void addContact(Contact contact) {
+        throwIfFailed(tryAddContact(contact), contact == null ? null : contact.getContactId());
+    }
+
+    @Override
+    public void deleteContact(String contactId) {
+        throwIfFailed(tryDeleteContact(contactId), contactId);
+    }
+
+    @Override
+    public void updateContact(String contactId, String firstName, String lastName, String phone, String address) {
+        throwIfFailed(tryUpdateContact(contactId, firstName, lastName, phone, address), contactId);
+    }
+
+    /**
+     * Retrieves a contact from its owning node without locking. While a rebalance
+     * is moving it, the previous owner is checked as well.
+     * @param contactId the ID of the contact to retrieve
+     * @return the contact, or null if not found
+     */
+    @Override
+    public Contact getContact(String contactId) {
+        while (true) {
+            // Read the ring before the previous ring: a rebalance publishes them in the opposite order
+            ConsistentHashRing current = ring;
+            ConsistentHashRing previous = previousRing;
+            IContactService owner = nodes.get(current.nodeFor(contactId));
+            Contact contact = owner == null ? null : owner.getContact(contactId);
+            if (contact == null && previous != null) {
+                IContactService previousOwner = nodes.get(previous.nodeFor(contactId));
+                if (previousOwner != null && previousOwner != owner) {
+                    contact = previousOwner.getContact(contactId);
+                    if (contact == null && owner != null) {
+                        // The move may have completed between the two reads
+                        contact = owner.getContact(contactId);
+                    }
+                }
+            }
+            // A miss against a ring that has since been replaced may have raced a move
+            if (contact != null || ring == current) {
+                return contact;
+            }
+        }
+    }
+
+    /**
+     * Returns every contact in the cluster, gathered from each node in turn. The
+     * result is not a snapshot: during a rebalance a contact moved after its new
+     * owner was listed but before its old one was may be missing.
+     * @return a list of all contacts
+     */
+    @Override
+    public List<Contact> getAllContacts() {
+        Map<String, Contact> all = new LinkedHashMap<>();
+        for (IContactService node : nodes.values()) {
+            for (Contact contact : node.getAllContacts()) {
+                all.putIfAbsent(contact.getContactId(), contact);
+            }
+        }
+        return new ArrayList<>(all.values());
+    }
+
+    @Override
+    public ContactOutcome tryAddContact(Contact contact) {
+        if (contact == null) {
+            return ContactOutcome.INVALID;
+        }
+        String contactId = contact.getContactId();
+        Lock lock = locks.lockFor(contactId);
+        lock.lock();
+        try {
+            ConsistentHashRing current = ring;
+            ConsistentHashRing previous = previousRing;
+            IContactService owner = nodes.get(current.nodeFor(contactId));
+            IContactService previousOwner = previousOwner(previous, contactId, owner);
+            if (previousOwner != null && previousOwner.getContact(contactId) != null) {
+                return ContactOutcome.DUPLICATE;
+            }
+            return owner.tryAddContact(contact);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public ContactOutcome tryDeleteContact(String contactId) {
+        Lock lock = locks.lockFor(contactId);
+        lock.lock();
+        try {
+            ConsistentHashRing current = ring;
+            ConsistentHashRing previous = previousRing;
+            IContactService owner = nodes.get(current.nodeFor(contactId));
+            ContactOutcome outcome = owner.tryDeleteContact(contactId);
+            IContactService previousOwner = previousOwner(previous, contactId, owner);
+            if (previousOwner != null) {
+                ContactOutcome previousOutcome = previousOwner.tryDeleteContact(contactId);
+                if (outcome == ContactOutcome.NOT_FOUND) {
+                    outcome = previousOutcome;
+                }
+            }
+            return outcome;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public ContactOutcome tryUpdateContact(String contactId, String firstName, String lastName, String phone, String address) {
+        Lock lock = locks.lockFor(contactId);
+        lock.lock();
+        try {
+            ConsistentHashRing current = ring;
+            ConsistentHashRing previous = previousRing;
+            IContactService owner = nodes.get(current.nodeFor(contactId));
+            ContactOutcome outcome = owner.tryUpdateContact(contactId, firstName, lastName, phone, address);
+            IContactService previousOwner = previousOwner(previous, contactId, owner);
+            if (outcome == ContactOutcome.NOT_FOUND && previousOwner != null) {
+                outcome = previousOwner.tryUpdateContact(contactId, firstName, lastName, phone, address);
+            }
+            return outcome;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a node to the cluster and moves the contacts it now owns onto it in the
+     * background. The node takes traffic for its ranges as soon as the change starts.
+     * @param nodeId the new node's ID
+     * @param service the new node's service, normally empty
+     * @return a future of the number of contacts moved
+     */
+    public CompletableFuture<Integer> addNode(String nodeId, IContactService service) {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalArgumentException("Node ID cannot be null or blank");
+        }
+        if (service == null) {
+            throw new IllegalArgumentException("Node service cannot be null");
+        }
+        return submit(() -> {
+            int count = finishMigration();
+            if (nodes.putIfAbsent(nodeId, service) != null) {
+                throw new IllegalArgumentException("Node already in cluster: " + nodeId);
+            }
+            count += migrate(ring.withNode(nodeId));
+            logger.info("Node {} joined the cluster; moved {} contacts", nodeId, count);
+            return count;
+        });
+    }
+
+    /**
+     * Removes a node from the cluster, moving its contacts to the remaining nodes in
+     * the background. The node is dropped only once it has been emptied, and is not
+     * closed. Membership is checked again when the change runs, since changes
+     * queued ahead of it may have altered the ring.
+     * @param nodeId the ID of the node to remove
+     * @return a future of the number of contacts moved
+     * @throws IllegalArgumentException if the node is not in the cluster
+     * @throws IllegalStateException if it is the last node
+     */
+    public CompletableFuture<Integer> removeNode(String nodeId) {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalArgumentException("Node ID cannot be null or blank");
+        }
+        checkRemovable(nodeId);
+        return submit(() -> {
+            int count = finishMigration();
+            checkRemovable(nodeId);
+            count += migrate(ring.withoutNode(nodeId));
+            nodes.remove(nodeId);
+            logger.info("Node {} left the cluster; moved {} contacts", nodeId, count);
+            return count;
+        });
+    }
+
+    /**
+     * Retries the moves left over from a membership change that failed part way.
+     * @return a future of the number of contacts moved, 0 if nothing was pending
+     */
+    public CompletableFuture<Integer> rebalance() {
+        return submit(this::finishMigration);
+    }
+
+    /**
+     * Returns the IDs of the nodes in the current ring.
+     * @return the node IDs in sorted order
+     */
+    public Set<String> getNodeIds() {
+        return ring.getNodes();
+    }
+
+    /**
+     * Returns the service of a node, including one still being drained.
+     * @param nodeId the node ID
+     * @return the node's service, or null if it is not in the cluster
+     */
+    public IContactService getNode(String nodeId) {
+        return nodeId == null ? null : nodes.get(nodeId);
+    }
+
+    /**
+     * Returns the node that owns a contact ID under the current ring.
+     * @param contactId the contact ID
+     * @return the owning node ID
+     */
+    public String nodeFor(String contactId) {
+        return ring.nodeFor(contactId);
+    }
+
+    /**
+     * Returns the ring currently used for routing.
+     * @return the current ring
+     */
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    /**
+     * Returns true while contacts are being moved, or a failed move awaits {@link #rebalance()}.
+     * @return true if the previous ring is still consulted
+     */
+    public boolean isRebalancing() {
+        return previousRing != null;
+    }
+
+    /**
+     * Returns the total number of contacts moved between nodes.
+     * @return the moved count
+     */
+    public long getMovedCount() {
+        return moved.sum();
+    }
+
+    /**
+     * Stops the rebalancing thread after any running membership change. The node
+     * services are not closed.
+     */
+    @Override
+    public void close() {
+        rebalancer.shutdown();
+        try {
+            if (!rebalancer.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Cluster rebalance still running at close");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkRemovable(String nodeId) {
+        Set<String> members = ring.getNodes();
+        if (!members.contains(nodeId)) {
+            throw new IllegalArgumentException("Node not in cluster: " + nodeId);
+        }
+        if (members.size() == 1) {
+            throw new IllegalStateException("Cannot remove the last node: " + nodeId);
+        }
+    }
+
+    private CompletableFuture<Integer> submit(Callable<Integer> change) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        try {
+            rebalancer.execute(() -> {
+                try {
+                    result.complete(change.call());
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    // The membership checks: the caller's request, not the cluster, was at fault
+                    logger.warn("Cluster membership change rejected: {}", e.getMessage());
+                    result.completeExceptionally(e);
+                } catch (Exception e) {
+                    logger.error("Cluster membership change failed", e);
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new IllegalStateException("Cluster is closed", e));
+        }
+        return result;
+    }
+
+    /**
+     * Switches routing to the next ring and moves the contacts whose owner changed.
+     * Runs on the rebalancer thread.
+     */
+    private int migrate(ConsistentHashRing next) {
+        previousRing = ring;
+        ring = next;
+        // Wait out mutations that routed by the old ring before taking their contacts
+        for (int i = 0; i < locks.getStripeCount(); i++) {
+            Lock stripe = locks.lockAt(i);
+            stripe.lock();
+            stripe.unlock();
+        }
+        return finishMigration();
+    }
+
+    /**
+     * Moves every contact whose owner differs between the previous and current ring,
+     * then stops consulting the previous ring. Runs on the rebalancer thread.
+     */
+    private int finishMigration() {
+        ConsistentHashRing previous = previousRing;
+        if (previous == null) {
+            return 0;
+        }
+        ConsistentHashRing current = ring;
+        int count = 0;
+        int failed = 0;
+        for (String nodeId : previous.getNodes()) {
+            Mover mover = new Mover(nodeId, current);
+            mover.source.publishContacts(new RingOwnershipFilter(current, nodeId)).subscribe(mover);
+            mover.await();
+            count += mover.count;
+            failed += mover.failed;
+        }
+        if (failed > 0) {
+            throw new ResourceLimitException(failed + " contacts could not be moved; retry with rebalance()");
+        }
+        previousRing = null;
+        return count;
+    }
+
+    /**
+     * Moves the contacts a node publishes to their owners under a ring, requesting
+     * MOVE_BATCH at a time. A local node delivers on the rebalancer thread itself.
+     */
+    private final class Mover implements Flow.Subscriber<Contact> {
+        private final String nodeId;
+        private final IContactService source;
+        private final ConsistentHashRing target;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+        private int received;
+        private int count;
+        private int failed;
+
+        Mover(String nodeId, ConsistentHashRing target) {
+            this.nodeId = nodeId;
+            this.source = nodes.get(nodeId);
+            this.target = target;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(MOVE_BATCH);
+        }
+
+        @Override
+        public void onNext(Contact contact) {
+            String contactId = contact.getContactId();
+            String owner = target.nodeFor(contactId);
+            try {
+                ContactOutcome outcome = move(contactId, source, nodes.get(owner));
+                if (outcome == ContactOutcome.SUCCESS) {
+                    count++;
+                } else if (outcome != null) {
+                    failed++;
+                    logger.warn("Could not move contact {} from {} to {}: {}", contactId, nodeId, owner, outcome);
+                }
+            } catch (RuntimeException e) {
+                subscription.cancel();
+                done.completeExceptionally(e);
+                return;
+            }
+            if (++received == MOVE_BATCH) {
+                received = 0;
+                subscription.request(MOVE_BATCH);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+
+        /**
+         * Waits for the node's listing to finish, rethrowing a failed move or listing.
+         */
+        void await() {
+            try {
+                done.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Copies one contact to its new owner and removes it from the old one.
+     * @return the outcome of the copy, or null if the contact is already gone
+     */
+    private ContactOutcome move(String contactId, IContactService source, IContactService target) {
+        Lock lock = locks.lockFor(contactId);
+        lock.lock();
+        try {
+            Contact contact = source.getContact(contactId);
+            if (contact == null) {
+                return null;
+            }
+            ContactOutcome outcome = target.tryAddContact(contact);
+            if (outcome == ContactOutcome.DUPLICATE) {
+                // The new owner's copy is the newer one
+                outcome = ContactOutcome.SUCCESS;
+            }
+            if (outcome.isSuccess()) {
+                source.tryDeleteContact(contactId);
+                moved.increment();
+            }
+            return outcome;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the previous owner of an ID if a rebalance is in progress and the owner changed.
+     */
+    private IContactService previousOwner(ConsistentHashRing previous, String contactId, IContactService owner) {
+        if (previous == null) {
+            return null;
+        }
+        IContactService previousOwner = nodes.get(previous.nodeFor(contactId));
+        return previousOwner == owner ? null : previousOwner;
+    }
+
+    private static void throwIfFailed(ContactOutcome outcome, String contactId) {
+        ContactException failure = outcome.toException(contactId);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Consistent Hash Ring
+ * October 2026
+ */
+package com.example.contact.cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable consistent hash ring mapping contact IDs to node IDs.
+ *
+ * Every node is placed on a 64-bit ring at a number of pseudo-random points (its
+ * virtual nodes) and a key belongs to the node owning the first point at or after
+ * the key's hash. Adding a node only takes over the arcs in front of its own points,
+ * so roughly 1/N of the keys move and all of them move to the new node; removing a
+ * node hands its arcs to the neighbouring points. Using many virtual nodes per node
+ * evens out the arc lengths so each node owns close to an equal share.
+ *
+ * Membership changes return a new ring, so a ring can be shared between threads
+ * and swapped atomically.
+ */
+public final class ConsistentHashRing {
+
+    /** Default number of points each node occupies on the ring */
+    public static final int DEFAULT_VIRTUAL_NODES = 128;
+
+    /**
+     * A virtual node: one position on the ring and the node owning it.
+     */
+    private static final class Point {
+        private final long position;
+        private final String node;
+
+        Point(long position, String node) {
+            this.position = position;
+            this.node = node;
+        }
+    }
+
+    private final int virtualNodes;
+    private final Set<String> nodes;
+    private final long[] points;
+    private final String[] owners;
+
+    /**
+     * Constructs a ring with the default number of virtual nodes.
+     * @param nodes the node IDs
+     */
+    public ConsistentHashRing(Collection<String> nodes) {
+        this(nodes, DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * Constructs a ring.
+     * @param nodes the node IDs
+     * @param virtualNodes the number of points each node occupies
+     */
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (nodes == null) {
+            throw new IllegalArgumentException("Nodes cannot be null");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("Virtual node count must be positive: " + virtualNodes);
+        }
+        TreeSet<String> sorted = new TreeSet<>();
+        for (String node : nodes) {
+            if (node == null || node.isBlank()) {
+                throw new IllegalArgumentException("Node ID cannot be null or blank");
+            }
+            sorted.add(node);
+        }
+        this.virtualNodes = virtualNodes;
+        this.nodes = Collections.unmodifiableSet(sorted);
+
+        // Ties between points are broken by node ID so every ring with the same
+        // members routes identically
+        List<Point> placed = new ArrayList<>(sorted.size() * virtualNodes);
+        for (String node : sorted) {
+            for (int i = 0; i < virtualNodes; i++) {
+                placed.add(new Point(hash(node + "#" + i), node));
+            }
+        }
+        placed.sort(Comparator.comparingLong((Point point) -> point.position).thenComparing(point -> point.node));
+        this.points = new long[placed.size()];
+        this.owners = new String[placed.size()];
+        for (int i = 0; i < placed.size(); i++) {
+            points[i] = placed.get(i).position;
+            owners[i] = placed.get(i).node;
+        }
+    }
+
+    /**
+     * Returns a ring with the given node added.
+     * @param node the node ID
+     * @return the new ring, or this ring if the node is already a member
+     */
+    public ConsistentHashRing withNode(String node) {
+        if (nodes.contains(node)) {
+            return this;
+        }
+        List<String> members = new ArrayList<>(nodes);
+        members.add(node);
+        return new ConsistentHashRing(members, virtualNodes);
+    }
+
+    /**
+     * Returns a ring with the given node removed.
+     * @param node the node ID
+     * @return the new ring, or this ring if the node is not a member
+     */
+    public ConsistentHashRing withoutNode(String node) {
+        if (!nodes.contains(node)) {
+            return this;
+        }
+        List<String> members = new ArrayList<>(nodes);
+        members.remove(node);
+        return new ConsistentHashRing(members, virtualNodes);
+    }
+
+    /**
+     * Returns the node owning a key.
+     * @param key the contact ID (null is placed like the empty string)
+     * @return the owning node ID, or null if the ring has no nodes
+     */
+    public String nodeFor(String key) {
+        if (points.length == 0) {
+            return null;
+        }
+        long h = hash(key == null ? "" : key);
+        int index = Arrays.binarySearch(points, h);
+        if (index < 0) {
+            index = -index - 1;
+        } else {
+            // Several points may share a hash; the first one owns it
+            while (index > 0 && points[index - 1] == h) {
+                index--;
+            }
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    /**
+     * Returns the member node IDs in sorted order.
+     * @return an unmodifiable view of the nodes
+     */
+    public Set<String> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the number of points each node occupies.
+     * @return the virtual node count
+     */
+    public int getVirtualNodeCount() {
+        return virtualNodes;
+    }
+
+    /**
+     * Returns true if the ring has no nodes.
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    /**
+     * Hashes a string to a ring position: 64-bit FNV-1a over the characters,
+     * finished with the MurmurHash3 mixer so similar IDs land far apart.
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "ConsistentHashRing" + nodes;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Ring Ownership Filter
+ * October 2026
+ */
+package com.example.contact.cluster;
+
+import java.util.function.Predicate;
+
+import com.example.contact.Contact;
+
+/**
+ * Contact filter selecting the contacts a ring assigns to a node other than the one
+ * holding them: on a node being rebalanced, exactly the contacts that must move away.
+ *
+ * The filter is described entirely by the ring's members, its virtual node count and
+ * the holder, so {@link com.example.contact.protocol.ProtocolContactService} sends it
+ * to the server and only the selected contacts cross the network.
+ */
+public final class RingOwnershipFilter implements Predicate<Contact> {
+
+    private final ConsistentHashRing ring;
+    private final String holder;
+
+    /**
+     * Constructs a filter.
+     * @param ring the ring deciding ownership
+     * @param holder the ID of the node holding the contacts
+     */
+    public RingOwnershipFilter(ConsistentHashRing ring, String holder) {
+        if (ring == null) {
+            throw new IllegalArgumentException("Ring cannot be null");
+        }
+        if (holder == null || holder.isBlank()) {
+            throw new IllegalArgumentException("Holder cannot be null or blank");
+        }
+        this.ring = ring;
+        this.holder = holder;
+    }
+
+    /**
+     * Returns true if the ring assigns the contact to a node other than the holder.
+     * @param contact the contact
+     * @return true if the contact belongs elsewhere
+     */
+    @Override
+    public boolean test(Contact contact) {
+        return !holder.equals(ring.nodeFor(contact.getContactId()));
+    }
+
+    /**
+     * Returns the ring deciding ownership.
+     * @return the ring
+     */
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    /**
+     * Returns the ID of the node holding the contacts.
+     * @return the holder
+     */
+    public String getHolder() {
+        return holder;
+    }
+
+    @Override
+    public String toString() {
+        return "RingOwnershipFilter[" + holder + " in " + ring + "]";
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Executors
+ * October 2026
+ */
+package com.example.contact.concurrent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory for the executors used by the asynchronous contact APIs.
+ * Uses a virtual-thread-per-task executor when the running JDK provides one
+ * (Java 21+), looked up reflectively so the library still targets Java 17,
+ * and otherwise falls back to a cached pool of daemon platform threads.
+ */
+public final class ContactExecutors {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactExecutors.class);
+
+    private static final MethodHandle VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private ContactExecutors() {
+    }
+
+    /**
+     * Returns true if the running JDK supports virtual threads.
+     * @return true if virtual threads are available
+     */
+    public static boolean virtualThreadsAvailable() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Creates a new executor that starts one thread per task, virtual where available.
+     * @param name the thread name prefix used for platform threads
+     * @return a new executor service; the caller owns and must shut it down
+     */
+    public static ExecutorService newTaskExecutor(String name) {
+        if (VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invoke();
+            } catch (Throwable e) {
+                logger.warn("Virtual thread executor unavailable, using platform threads", e);
+            }
+        }
+        return Executors.newCachedThreadPool(daemonThreads(name));
+    }
+
+    /**
+     * Returns a thread factory creating named daemon threads.
+     * @param name the thread name prefix
+     * @return the thread factory
+     */
+    public static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static MethodHandle findVirtualThreadExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Iterator Publisher
+ * October 2026
+ */
+package com.example.contact.concurrent;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Flow.Publisher that emits the elements of a lazily created iterator as subscribers
+ * request them. Each subscription gets its own iterator, pulled one element at a time,
+ * so no more than the requested elements are ever taken from the source.
+ *
+ * Elements are delivered on the thread calling {@code request}; a reentrant request
+ * from inside {@code onNext} only adds demand and the outer drain loop delivers it,
+ * keeping the stack flat.
+ *
+ * @param <T> the element type
+ */
+public class IteratorPublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<? extends Iterator<? extends T>> source;
+    private final Predicate<? super T> filter;
+
+    /**
+     * Constructs a publisher of every element of the source.
+     * @param source creates a fresh iterator for each subscription
+     */
+    public IteratorPublisher(Supplier<? extends Iterator<? extends T>> source) {
+        this(source, element -> true);
+    }
+
+    /**
+     * Constructs a publisher of the source elements matching the filter.
+     * @param source creates a fresh iterator for each subscription
+     * @param filter selects the elements to emit
+     */
+    public IteratorPublisher(Supplier<? extends Iterator<? extends T>> source, Predicate<? super T> filter) {
+        this.source = Objects.requireNonNull(source, "source");
+        this.filter = Objects.requireNonNull(filter, "filter");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        IteratorSubscription subscription = new IteratorSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Subscription draining the iterator against outstanding demand.
+     */
+    private final class IteratorSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private Iterator<? extends T> iterator;
+        private volatile boolean done;
+
+        IteratorSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) {
+                return;
+            }
+            if (n <= 0) {
+                done = true;
+                subscriber.onError(new IllegalArgumentException("Request must be positive: " + n));
+                return;
+            }
+            demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                try {
+                    if (iterator == null && !done) {
+                        iterator = source.get();
+                    }
+                    long emitted = 0;
+                    long requested = demand.get();
+                    while (!done && emitted < requested && iterator.hasNext()) {
+                        T element = iterator.next();
+                        if (filter.test(element)) {
+                            subscriber.onNext(element);
+                            emitted++;
+                        }
+                    }
+                    if (!done && !iterator.hasNext()) {
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                    if (emitted != 0) {
+                        demand.addAndGet(-emitted);
+                    }
+                } catch (RuntimeException e) {
+                    if (!done) {
+                        done = true;
+                        subscriber.onError(e);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Single Flight
+ * October 2026
+ */
+package com.example.contact.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key into a single call.
+ * The first caller for a key runs the loader; callers arriving while that load is
+ * in flight wait for it and receive the same result (or the same exception).
+ * Nothing is cached: once the load finishes, the next caller starts a new one.
+ * After the underlying data changes, {@link #forget(Object)} detaches the current
+ * flight so later callers start a new load instead of joining one that may have
+ * read the old data.
+ *
+ * @param <K> the key type
+ * @param <V> the loaded value type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Returns the value for the key, running the loader unless a load for the key is already in flight.
+     * @param key the key to load
+     * @param loader computes the value; may return null
+     * @return the loaded value
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        executions.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Stops later callers from joining the load in flight for the key, if any.
+     * Callers already waiting on it still receive its result.
+     * @param key the key whose data changed
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Returns the number of loads actually executed.
+     * @return the execution count
+     */
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * Returns the number of calls that joined an in-flight load instead of executing their own.
+     * @return the coalesced call count
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Returns the number of loads currently in flight.
+     * @return the in-flight count
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Striped Lock Manager
+ * October 2026
+ */
+package com.example.contact.concurrent;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of locks selected by key hash, used to serialize read-modify-write
+ * sequences on the same contact ID without a global lock.
+ * Operations on the same ID always map to the same lock; operations on different
+ * IDs only contend when their hashes land on the same stripe, which the default
+ * stripe count (a power of two, at least 64 and four per core) keeps rare.
+ * A manager with a single stripe behaves as one global lock.
+ */
+public class StripedLockManager {
+
+    private static final int MIN_DEFAULT_STRIPES = 64;
+
+    private final Lock[] locks;
+    private final int mask;
+
+    /**
+     * Constructs a manager with the default number of stripes.
+     */
+    public StripedLockManager() {
+        this(Math.max(MIN_DEFAULT_STRIPES, Runtime.getRuntime().availableProcessors() * 4));
+    }
+
+    /**
+     * Constructs a manager with at least the given number of stripes.
+     * The count is rounded up to the next power of two.
+     * @param stripes the minimum number of stripes
+     */
+    public StripedLockManager(int stripes) {
+        if (stripes < 1 || stripes > (1 << 30)) {
+            throw new IllegalArgumentException("Stripe count must be between 1 and 2^30: " + stripes);
+        }
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.locks = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the lock guarding the given key.
+     * @param key the contact ID
+     * @return the stripe lock for the key
+     */
+    public Lock lockFor(String key) {
+        return locks[stripe(key)];
+    }
+
+    /**
+     * Returns the lock for a stripe index. Taking and releasing every stripe in
+     * turn waits out any critical section that started before the sweep.
+     * @param stripe the stripe index, from 0 to {@link #getStripeCount()} - 1
+     * @return the stripe lock
+     */
+    public Lock lockAt(int stripe) {
+        return locks[stripe];
+    }
+
+    /**
+     * Returns the stripe index of the given key.
+     * @param key the contact ID (null maps to stripe 0)
+     * @return the stripe index
+     */
+    public int stripe(String key) {
+        if (key == null) {
+            return 0;
+        }
+        // Spread the hash so IDs differing only in high bits use different stripes
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x45d9f3b;
+        h ^= h >>> 16;
+        return h & mask;
+    }
+
+    /**
+     * Returns the number of stripes.
+     * @return the stripe count
+     */
+    public int getStripeCount() {
+        return locks.length;
+    }
+}
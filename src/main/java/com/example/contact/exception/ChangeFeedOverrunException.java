@@ -0,0 +1,45 @@
+/*
+ * Keith Pottratz
+ * October 2026
+ * Change Feed Overrun Exception
+ * Signals that a change feed reader fell too far behind.
+ */
+package com.example.contact.exception;
+
+/**
+ * Exception thrown when a change feed cursor asks for an event that has already been
+ * overwritten in the ring buffer. The reader has missed events and must rebuild its
+ * state from the repository before reading on from {@link #getResumeSequence()}.
+ */
+public class ChangeFeedOverrunException extends ContactException {
+
+    private final long requestedSequence;
+    private final long resumeSequence;
+
+    /**
+     * Constructs a new ChangeFeedOverrunException.
+     * @param requestedSequence the sequence the reader asked for
+     * @param resumeSequence the oldest sequence still available
+     */
+    public ChangeFeedOverrunException(long requestedSequence, long resumeSequence) {
+        super("Change feed overrun: event " + requestedSequence + " was overwritten, oldest available is " + resumeSequence);
+        this.requestedSequence = requestedSequence;
+        this.resumeSequence = resumeSequence;
+    }
+
+    /**
+     * Returns the sequence the reader asked for.
+     * @return the requested sequence
+     */
+    public long getRequestedSequence() {
+        return requestedSequence;
+    }
+
+    /**
+     * Returns the oldest sequence still available when the overrun was detected.
+     * @return the sequence to resume from after resynchronizing
+     */
+    public long getResumeSequence() {
+        return resumeSequence;
+    }
+}
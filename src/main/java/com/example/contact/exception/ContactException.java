@@ -8,8 +8,18 @@ package com.example.contact.exception;
 /**
  * Base exception class for all contact-related exceptions.
  * Provides a common parent for specific exception types.
+ *
+ * Stack traces can be suppressed for the whole hierarchy by starting the JVM with
+ * {@code -Dcontact.exceptions.stackless=true}, or per instance through the
+ * {@code stackless} factories of ContactValidationException and ResourceLimitException,
+ * the failures the exception-free service operations turn into outcome codes.
+ * Stackless exceptions cost about as much as a plain allocation.
  */
 public class ContactException extends RuntimeException {
+
+    /** True when stack traces are disabled for all contact exceptions */
+    public static final boolean STACKLESS = Boolean.getBoolean("contact.exceptions.stackless");
+
     /**
      * Constructs a new contactException with the specified detail message.
      * @param message the detail message
@@ -26,4 +36,19 @@ public class ContactException extends RuntimeException {
     public ContactException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Constructs a new ContactException that optionally skips capturing a stack trace.
+     * Suppression is disabled for these instances.
+     * @param message the detail message
+     * @param writableStackTrace false to skip filling in the stack trace
+     */
+    protected ContactException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return STACKLESS ? this : super.fillInStackTrace();
+    }
 }
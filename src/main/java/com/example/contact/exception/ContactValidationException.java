@@ -46,6 +46,21 @@ public class ContactValidationException extends ContactException {
         this.fieldName = null;
     }
 
+    private ContactValidationException(String fieldName, String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * Creates a ContactValidationException without a stack trace, for control-flow use.
+     * @param fieldName the name of the field that failed validation
+     * @param message the detail message describing the validation failure
+     * @return the exception
+     */
+    public static ContactValidationException stackless(String fieldName, String message) {
+        return new ContactValidationException(fieldName, message, false);
+    }
+
     /**
      * Returns the name of the field that failed validation, if available.
      * @return the field name, or null if not specified
@@ -0,0 +1,31 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Protocol Exception
+ * October 2026
+ */
+package com.example.contact.exception;
+
+/**
+ * Exception thrown when a binary protocol frame is malformed, a connection fails,
+ * or the remote server reports an unexpected error.
+ */
+public class ProtocolException extends ContactException {
+
+    /**
+     * Constructs a new ProtocolException with the specified detail message.
+     * @param message the detail message
+     */
+    public ProtocolException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new ProtocolException with the specified detail message and cause.
+     * @param message the detail message
+     * @param cause the cause of the exception
+     */
+    public ProtocolException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
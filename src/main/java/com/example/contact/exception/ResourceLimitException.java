@@ -21,6 +21,19 @@ public class ResourceLimitException extends ContactException {
         super(message);
     }
 
+    private ResourceLimitException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
+
+    /**
+     * Creates a ResourceLimitException without a stack trace, for control-flow use.
+     * @param message the detail message describing the resource limit violation
+     * @return the exception
+     */
+    public static ResourceLimitException stackless(String message) {
+        return new ResourceLimitException(message, false);
+    }
+
     /** 
      * Constructs a new ResourceLimitException with the specified detail message and cause.
      * @param message the detail message
@@ -0,0 +1,130 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Events
+ * October 2026
+ */
+package com.example.contact.jfr;
+
+import jdk.jfr.EventType;
+
+import com.example.contact.metrics.MetricOperation;
+import com.example.contact.service.ContactOutcome;
+
+/**
+ * Entry points for emitting the contact Flight Recorder events.
+ * Each {@code begin} method checks whether any running recording has the event
+ * enabled and returns null if not, so with recording off an instrumented call
+ * costs one volatile read and no allocation. The matching {@code commit} method
+ * accepts null and does nothing with it.
+ */
+public final class ContactEvents {
+
+    private static final EventType OPERATION = EventType.getEventType(ContactOperationEvent.class);
+    private static final EventType VALIDATION = EventType.getEventType(ValidationEvent.class);
+    private static final EventType REPOSITORY = EventType.getEventType(RepositoryCallEvent.class);
+
+    private static final String ERROR = "ERROR";
+
+    private ContactEvents() {
+    }
+
+    /**
+     * Starts timing a service operation.
+     * @return the event, or null if the event type is not enabled
+     */
+    public static ContactOperationEvent beginOperation() {
+        if (!OPERATION.isEnabled()) {
+            return null;
+        }
+        ContactOperationEvent event = new ContactOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a service operation and commits it if it passes the recording's threshold.
+     * @param event the event from {@link #beginOperation()}, may be null
+     * @param operation the operation
+     * @param contactId the contact ID, may be null
+     * @param outcome the outcome, or null for an unexpected failure
+     */
+    public static void commitOperation(ContactOperationEvent event, MetricOperation operation,
+                                       String contactId, ContactOutcome outcome) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.contactId = contactId;
+            event.outcome = outcome != null ? outcome.name() : ERROR;
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts timing a validation step.
+     * @return the event, or null if the event type is not enabled
+     */
+    public static ValidationEvent beginValidation() {
+        if (!VALIDATION.isEnabled()) {
+            return null;
+        }
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a validation step and commits it if it passes the recording's threshold.
+     * @param event the event from {@link #beginValidation()}, may be null
+     * @param contactId the contact ID, may be null
+     * @param outcome SUCCESS or INVALID
+     */
+    public static void commitValidation(ValidationEvent event, String contactId, ContactOutcome outcome) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.contactId = contactId;
+            event.outcome = outcome != null ? outcome.name() : ERROR;
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts timing a repository call.
+     * @return the event, or null if the event type is not enabled
+     */
+    public static RepositoryCallEvent beginRepositoryCall() {
+        if (!REPOSITORY.isEnabled()) {
+            return null;
+        }
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a repository call and commits it if it passes the recording's threshold.
+     * @param event the event from {@link #beginRepositoryCall()}, may be null
+     * @param operation the repository operation
+     * @param contactId the contact ID, may be null
+     * @param outcome the outcome, or null for an unexpected failure
+     */
+    public static void commitRepositoryCall(RepositoryCallEvent event, MetricOperation operation,
+                                            String contactId, ContactOutcome outcome) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.contactId = contactId;
+            event.outcome = outcome != null ? outcome.name() : ERROR;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Operation Event
+ * October 2026
+ */
+package com.example.contact.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for one contact service operation.
+ * Recorded only for operations slower than 1 ms unless the recording's settings
+ * lower the threshold, e.g. {@code com.example.contact.Operation#threshold=0 ms}.
+ */
+@Name("com.example.contact.Operation")
+@Label("Contact Operation")
+@Category({"Contact Service", "Service"})
+@Description("A contact service operation with its outcome and duration")
+@StackTrace(false)
+@Threshold("1 ms")
+public class ContactOperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Contact ID")
+    String contactId;
+
+    @Label("Outcome")
+    @Description("ContactOutcome name, or ERROR for an unexpected failure")
+    String outcome;
+}
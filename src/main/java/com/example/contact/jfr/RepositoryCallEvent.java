@@ -0,0 +1,36 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Repository Call Event
+ * October 2026
+ */
+package com.example.contact.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one repository call.
+ * Disabled by default; enable {@code com.example.contact.RepositoryCall} in the recording settings.
+ */
+@Name("com.example.contact.RepositoryCall")
+@Label("Contact Repository Call")
+@Category({"Contact Service", "Repository"})
+@Description("A contact repository call with its outcome and duration")
+@StackTrace(false)
+@Enabled(false)
+public class RepositoryCallEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Contact ID")
+    String contactId;
+
+    @Label("Outcome")
+    String outcome;
+}
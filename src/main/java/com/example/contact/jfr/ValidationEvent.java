@@ -0,0 +1,33 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Validation Event
+ * October 2026
+ */
+package com.example.contact.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the validation step of an add or update.
+ * Disabled by default; enable {@code com.example.contact.Validation} in the recording settings.
+ */
+@Name("com.example.contact.Validation")
+@Label("Contact Validation")
+@Category({"Contact Service", "Validation"})
+@Description("Validation of contact input with its outcome and duration")
+@StackTrace(false)
+@Enabled(false)
+public class ValidationEvent extends jdk.jfr.Event {
+
+    @Label("Contact ID")
+    String contactId;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,202 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Hot Path Log
+ * October 2026
+ */
+package com.example.contact.logging;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.concurrent.ContactExecutors;
+
+/**
+ * Logging for code that runs on every request.
+ * Instead of formatting a line per call, hot paths increment named {@link Counter}s
+ * and ask for a detail line only through {@link #debugSampled()} or
+ * {@link #infoSampled()}, which grant at most a fixed number of lines per second per
+ * class. A background task logs one summary per class and interval with the counter
+ * deltas and the number of detail lines suppressed, so turning on DEBUG costs a few
+ * atomic increments per call rather than a formatted line and appender I/O.
+ *
+ * Tuned with system properties: {@code contact.hotpath.detailPerSecond} (default 20)
+ * and {@code contact.hotpath.summarySeconds} (default 60).
+ */
+public final class HotPathLog {
+
+    private static final int DETAIL_PER_SECOND = Integer.getInteger("contact.hotpath.detailPerSecond", 20);
+    private static final long SUMMARY_SECONDS = Long.getLong("contact.hotpath.summarySeconds", 60);
+
+    private static final Map<Class<?>, HotPathLog> LOGS = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService SUMMARIES =
+            Executors.newSingleThreadScheduledExecutor(ContactExecutors.daemonThreads("contact-hotpath-summary"));
+
+    static {
+        SUMMARIES.scheduleAtFixedRate(HotPathLog::logSummaries, SUMMARY_SECONDS, SUMMARY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Aggregated count of one hot-path event, reported as a delta in each summary.
+     */
+    public static final class Counter {
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private long reported;
+
+        Counter(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Counts one occurrence.
+         */
+        public void increment() {
+            count.increment();
+        }
+
+        /**
+         * Counts several occurrences.
+         * @param amount the number of occurrences
+         */
+        public void add(long amount) {
+            count.add(amount);
+        }
+
+        /**
+         * Returns the total count since startup.
+         * @return the count
+         */
+        public long sum() {
+            return count.sum();
+        }
+    }
+
+    private final Logger logger;
+    private final int detailPerSecond;
+    private final List<Counter> counters = new CopyOnWriteArrayList<>();
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicInteger granted = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+    private long reportedSuppressed;
+
+    private HotPathLog(Logger logger, int detailPerSecond) {
+        this.logger = logger;
+        this.detailPerSecond = detailPerSecond;
+    }
+
+    /**
+     * Returns the hot-path log for a class, sharing the class's SLF4J logger.
+     * @param owner the class that logs
+     * @return the hot-path log
+     */
+    public static HotPathLog forClass(Class<?> owner) {
+        return LOGS.computeIfAbsent(owner, cls -> new HotPathLog(LoggerFactory.getLogger(cls), DETAIL_PER_SECOND));
+    }
+
+    /**
+     * Creates a counter reported in this log's summaries.
+     * @param name the counter name
+     * @return the counter
+     */
+    public Counter counter(String name) {
+        Counter counter = new Counter(name);
+        counters.add(counter);
+        return counter;
+    }
+
+    /**
+     * Returns whether the caller may log one DEBUG detail line now.
+     * @return true if DEBUG is enabled and this second's budget is not spent
+     */
+    public boolean debugSampled() {
+        return logger.isDebugEnabled() && acquire();
+    }
+
+    /**
+     * Returns whether the caller may log one INFO detail line now.
+     * @return true if INFO is enabled and this second's budget is not spent
+     */
+    public boolean infoSampled() {
+        return logger.isInfoEnabled() && acquire();
+    }
+
+    /**
+     * Returns the number of detail lines suppressed by the budget since startup.
+     * @return the suppressed count
+     */
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    /**
+     * Logs the summary of every hot-path log now instead of waiting for the interval.
+     */
+    public static void logSummaries() {
+        for (HotPathLog log : LOGS.values()) {
+            try {
+                log.logSummary();
+            } catch (RuntimeException e) {
+                log.logger.warn("Hot path summary failed", e);
+            }
+        }
+    }
+
+    private boolean acquire() {
+        // Windows of 2^30 ns (about one second) keep the check to a shift and compare
+        long now = System.nanoTime() >>> 30;
+        long current = window.get();
+        if (current != now && window.compareAndSet(current, now)) {
+            granted.set(0);
+        }
+        if (granted.incrementAndGet() <= detailPerSecond) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    private synchronized void logSummary() {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        StringBuilder summary = null;
+        for (Counter counter : counters) {
+            long total = counter.sum();
+            long delta = total - counter.reported;
+            counter.reported = total;
+            if (delta != 0) {
+                summary = append(summary, counter.name, delta);
+            }
+        }
+        long totalSuppressed = suppressed.sum();
+        long suppressedDelta = totalSuppressed - reportedSuppressed;
+        reportedSuppressed = totalSuppressed;
+        if (suppressedDelta != 0) {
+            summary = append(summary, "suppressedLines", suppressedDelta);
+        }
+        if (summary != null) {
+            logger.info("Hot path summary: {}", summary);
+        }
+    }
+
+    private static StringBuilder append(StringBuilder summary, String name, long delta) {
+        if (summary == null) {
+            summary = new StringBuilder(128);
+        } else {
+            summary.append(", ");
+        }
+        return summary.append(name).append('=').append(delta);
+    }
+}
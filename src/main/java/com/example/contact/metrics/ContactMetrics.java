@@ -0,0 +1,177 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Metrics
+ * October 2026
+ */
+package com.example.contact.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.contact.service.ContactOutcome;
+
+/**
+ * Latency histograms and outcome counters for contact operations.
+ * Callers take a start timestamp with {@link #startTimer()} and report the finished
+ * operation with {@link #record}; the latency goes to the operation's
+ * {@link LatencyHistogram} and the outcome to a per-operation counter. Recording
+ * is lock-free and allocation-free.
+ *
+ * The shared {@link #disabled()} instance records nothing and does not read the
+ * clock, so components can always be handed a ContactMetrics.
+ */
+public class ContactMetrics {
+
+    private static final ContactMetrics DISABLED = new ContactMetrics(false);
+
+    private static final MetricOperation[] OPERATIONS = MetricOperation.values();
+    private static final int OUTCOME_SLOTS = ContactOutcome.values().length + 1;
+    private static final int ERROR_SLOT = OUTCOME_SLOTS - 1;
+
+    private final boolean enabled;
+    private final LatencyHistogram[] histograms;
+    private final LongAdder[][] outcomes;
+
+    /**
+     * Constructs an enabled metrics instance.
+     */
+    public ContactMetrics() {
+        this(true);
+    }
+
+    private ContactMetrics(boolean enabled) {
+        this.enabled = enabled;
+        int size = enabled ? OPERATIONS.length : 0;
+        this.histograms = new LatencyHistogram[size];
+        this.outcomes = new LongAdder[size][OUTCOME_SLOTS];
+        for (int op = 0; op < size; op++) {
+            histograms[op] = new LatencyHistogram();
+            for (int slot = 0; slot < OUTCOME_SLOTS; slot++) {
+                outcomes[op][slot] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * Returns the shared instance that records nothing.
+     * @return the disabled metrics
+     */
+    public static ContactMetrics disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns whether this instance records anything.
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the start timestamp for an operation.
+     * @return the current nanoTime, or 0 when disabled
+     */
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a finished operation.
+     * @param operation the operation
+     * @param startNanos the value returned by {@link #startTimer()}
+     * @param outcome the outcome, or null if the operation failed unexpectedly
+     */
+    public void record(MetricOperation operation, long startNanos, ContactOutcome outcome) {
+        if (!enabled) {
+            return;
+        }
+        int op = operation.ordinal();
+        histograms[op].record(System.nanoTime() - startNanos);
+        outcomes[op][outcome == null ? ERROR_SLOT : outcome.ordinal()].increment();
+    }
+
+    /**
+     * Returns a snapshot of an operation's latencies.
+     * @param operation the operation
+     * @return the latency snapshot
+     */
+    public LatencySnapshot getLatency(MetricOperation operation) {
+        checkEnabled();
+        return histograms[operation.ordinal()].snapshot();
+    }
+
+    /**
+     * Returns how often an operation ended with an outcome.
+     * @param operation the operation
+     * @param outcome the outcome, or null for unexpected failures
+     * @return the count
+     */
+    public long getCount(MetricOperation operation, ContactOutcome outcome) {
+        if (!enabled) {
+            return 0;
+        }
+        return outcomes[operation.ordinal()][outcome == null ? ERROR_SLOT : outcome.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of lookups that found a contact.
+     * @return the hit count
+     */
+    public long getHits() {
+        return getCount(MetricOperation.GET_CONTACT, ContactOutcome.SUCCESS);
+    }
+
+    /**
+     * Returns the number of lookups that found nothing.
+     * @return the miss count
+     */
+    public long getMisses() {
+        return getCount(MetricOperation.GET_CONTACT, ContactOutcome.NOT_FOUND);
+    }
+
+    /**
+     * Returns the number of adds rejected as duplicates.
+     * @return the duplicate count
+     */
+    public long getDuplicates() {
+        return getCount(MetricOperation.ADD_CONTACT, ContactOutcome.DUPLICATE);
+    }
+
+    /**
+     * Returns the number of service operations rejected as invalid.
+     * @return the validation failure count
+     */
+    public long getValidationFailures() {
+        return getCount(MetricOperation.ADD_CONTACT, ContactOutcome.INVALID)
+                + getCount(MetricOperation.UPDATE_CONTACT, ContactOutcome.INVALID)
+                + getCount(MetricOperation.DELETE_CONTACT, ContactOutcome.INVALID);
+    }
+
+    /**
+     * Returns the number of service operations rejected by a resource limit.
+     * @return the limit rejection count
+     */
+    public long getLimitRejections() {
+        return getCount(MetricOperation.ADD_CONTACT, ContactOutcome.LIMIT_EXCEEDED)
+                + getCount(MetricOperation.UPDATE_CONTACT, ContactOutcome.LIMIT_EXCEEDED);
+    }
+
+    /**
+     * Clears all histograms and counters.
+     */
+    public void reset() {
+        for (int op = 0; op < histograms.length; op++) {
+            histograms[op].reset();
+            for (LongAdder counter : outcomes[op]) {
+                counter.reset();
+            }
+        }
+    }
+
+    private void checkEnabled() {
+        if (!enabled) {
+            throw new IllegalStateException("Metrics are disabled");
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Metrics JMX
+ * October 2026
+ */
+package com.example.contact.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.service.ContactOutcome;
+
+/**
+ * Publishes a {@link ContactMetrics} instance as an MXBean named
+ * {@code com.example.contact:type=ContactMetrics,name=<name>}.
+ */
+public class ContactMetricsJmx implements ContactMetricsMXBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactMetricsJmx.class);
+
+    private static final MetricOperation[] OPERATIONS = MetricOperation.values();
+
+    private final ContactMetrics metrics;
+    private final LatencySnapshot[] lastInterval = new LatencySnapshot[OPERATIONS.length];
+
+    /**
+     * Constructs the MXBean for an enabled metrics instance.
+     * @param metrics the metrics to publish
+     */
+    public ContactMetricsJmx(ContactMetrics metrics) {
+        if (metrics == null || !metrics.isEnabled()) {
+            throw new IllegalArgumentException("Metrics must be enabled to be published");
+        }
+        this.metrics = metrics;
+    }
+
+    /**
+     * Registers metrics with the platform MBean server.
+     * @param metrics the metrics to publish
+     * @param name the value of the name key of the object name
+     * @return the registered object name
+     * @throws IllegalStateException if registration fails
+     */
+    public static ObjectName register(ContactMetrics metrics, String name) {
+        try {
+            ObjectName objectName = new ObjectName("com.example.contact:type=ContactMetrics,name=" + ObjectName.quote(name));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(new ContactMetricsJmx(metrics), objectName);
+            logger.info("Registered contact metrics MBean {}", objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register contact metrics MBean", e);
+        }
+    }
+
+    /**
+     * Removes a registration made by {@link #register}.
+     * @param objectName the registered object name
+     */
+    public static void unregister(ObjectName objectName) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            logger.warn("Cannot unregister contact metrics MBean {}", objectName, e);
+        }
+    }
+
+    @Override
+    public long getHits() {
+        return metrics.getHits();
+    }
+
+    @Override
+    public long getMisses() {
+        return metrics.getMisses();
+    }
+
+    @Override
+    public long getDuplicates() {
+        return metrics.getDuplicates();
+    }
+
+    @Override
+    public long getValidationFailures() {
+        return metrics.getValidationFailures();
+    }
+
+    @Override
+    public long getLimitRejections() {
+        return metrics.getLimitRejections();
+    }
+
+    @Override
+    public Map<String, Long> getOutcomeCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (MetricOperation operation : OPERATIONS) {
+            for (ContactOutcome outcome : ContactOutcome.values()) {
+                putIfNonZero(counts, operation.name() + "." + outcome.name(), metrics.getCount(operation, outcome));
+            }
+            putIfNonZero(counts, operation.name() + ".ERROR", metrics.getCount(operation, null));
+        }
+        return counts;
+    }
+
+    @Override
+    public List<OperationLatency> getLatencies() {
+        List<OperationLatency> latencies = new ArrayList<>(OPERATIONS.length);
+        for (MetricOperation operation : OPERATIONS) {
+            latencies.add(new OperationLatency(operation, metrics.getLatency(operation)));
+        }
+        return latencies;
+    }
+
+    @Override
+    public synchronized List<OperationLatency> getIntervalLatencies() {
+        List<OperationLatency> latencies = new ArrayList<>(OPERATIONS.length);
+        for (MetricOperation operation : OPERATIONS) {
+            LatencySnapshot current = metrics.getLatency(operation);
+            LatencySnapshot previous = lastInterval[operation.ordinal()];
+            latencies.add(new OperationLatency(operation, previous == null ? current : current.minus(previous)));
+            lastInterval[operation.ordinal()] = current;
+        }
+        return latencies;
+    }
+
+    @Override
+    public synchronized void reset() {
+        metrics.reset();
+        for (int i = 0; i < lastInterval.length; i++) {
+            lastInterval[i] = null;
+        }
+    }
+
+    private static void putIfNonZero(Map<String, Long> counts, String key, long value) {
+        if (value != 0) {
+            counts.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Metrics MXBean
+ * October 2026
+ */
+package com.example.contact.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMX management interface for {@link ContactMetrics}.
+ */
+public interface ContactMetricsMXBean {
+
+    /**
+     * Returns the number of lookups that found a contact.
+     * @return the hit count
+     */
+    long getHits();
+
+    /**
+     * Returns the number of lookups that found nothing.
+     * @return the miss count
+     */
+    long getMisses();
+
+    /**
+     * Returns the number of adds rejected as duplicates.
+     * @return the duplicate count
+     */
+    long getDuplicates();
+
+    /**
+     * Returns the number of service operations rejected as invalid.
+     * @return the validation failure count
+     */
+    long getValidationFailures();
+
+    /**
+     * Returns the number of service operations rejected by a resource limit.
+     * @return the limit rejection count
+     */
+    long getLimitRejections();
+
+    /**
+     * Returns the count of every non-zero operation and outcome pair, keyed "OPERATION.OUTCOME".
+     * @return the outcome counts
+     */
+    Map<String, Long> getOutcomeCounts();
+
+    /**
+     * Returns latency summaries accumulated since the last reset.
+     * @return one summary per operation
+     */
+    List<OperationLatency> getLatencies();
+
+    /**
+     * Returns latency summaries for the calls made since the previous read of this attribute.
+     * @return one summary per operation
+     */
+    List<OperationLatency> getIntervalLatencies();
+
+    /**
+     * Clears all histograms and counters.
+     */
+    void reset();
+}
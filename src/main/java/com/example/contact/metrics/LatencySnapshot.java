@@ -0,0 +1,89 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Latency Snapshot
+ * October 2026
+ */
+package com.example.contact.metrics;
+
+/**
+ * Immutable copy of a {@link LatencyHistogram} at one point in time.
+ * Percentiles report the highest value of the bucket holding the requested rank,
+ * capped at the recorded maximum.
+ */
+public final class LatencySnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    LatencySnapshot(long[] counts, long totalNanos, long maxNanos) {
+        this.counts = counts;
+        long sum = 0;
+        for (long c : counts) {
+            sum += c;
+        }
+        this.count = sum;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Returns the number of recorded values.
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     * @return the mean in nanoseconds, 0 if empty
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     * @return the maximum in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the value at a percentile.
+     * @param percentile the percentile, between 0 and 100
+     * @return the value in nanoseconds, 0 if empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValueIn(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Returns the values recorded after an earlier snapshot of the same histogram.
+     * The maximum is that of this snapshot, as the interval maximum is not tracked.
+     * @param earlier a snapshot taken before this one
+     * @return the difference
+     */
+    public LatencySnapshot minus(LatencySnapshot earlier) {
+        long[] diff = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            diff[i] = Math.max(0, counts[i] - earlier.counts[i]);
+        }
+        return new LatencySnapshot(diff, Math.max(0, totalNanos - earlier.totalNanos), maxNanos);
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Metric Operation
+ * October 2026
+ */
+package com.example.contact.metrics;
+
+/**
+ * Operations timed by {@link ContactMetrics}.
+ */
+public enum MetricOperation {
+
+    ADD_CONTACT,
+    UPDATE_CONTACT,
+    DELETE_CONTACT,
+    GET_CONTACT,
+    LIST_CONTACTS,
+    VALIDATE,
+    REPOSITORY_SAVE,
+    REPOSITORY_FIND,
+    REPOSITORY_EXISTS,
+    REPOSITORY_DELETE,
+    REPOSITORY_FIND_ALL
+}
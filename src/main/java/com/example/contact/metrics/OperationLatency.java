@@ -0,0 +1,88 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Operation Latency
+ * October 2026
+ */
+package com.example.contact.metrics;
+
+/**
+ * Latency summary of one operation as published over JMX.
+ * Values are in microseconds.
+ */
+public final class OperationLatency {
+
+    private final String operation;
+    private final long count;
+    private final double meanMicros;
+    private final double p50Micros;
+    private final double p99Micros;
+    private final double p999Micros;
+    private final double maxMicros;
+
+    OperationLatency(MetricOperation operation, LatencySnapshot snapshot) {
+        this.operation = operation.name();
+        this.count = snapshot.getCount();
+        this.meanMicros = snapshot.getMeanNanos() / 1000.0;
+        this.p50Micros = snapshot.getValueAtPercentile(50) / 1000.0;
+        this.p99Micros = snapshot.getValueAtPercentile(99) / 1000.0;
+        this.p999Micros = snapshot.getValueAtPercentile(99.9) / 1000.0;
+        this.maxMicros = snapshot.getMaxNanos() / 1000.0;
+    }
+
+    /**
+     * Returns the operation name.
+     * @return the operation
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the number of timed calls.
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean latency.
+     * @return the mean in microseconds
+     */
+    public double getMeanMicros() {
+        return meanMicros;
+    }
+
+    /**
+     * Returns the median latency.
+     * @return the 50th percentile in microseconds
+     */
+    public double getP50Micros() {
+        return p50Micros;
+    }
+
+    /**
+     * Returns the 99th percentile latency.
+     * @return the 99th percentile in microseconds
+     */
+    public double getP99Micros() {
+        return p99Micros;
+    }
+
+    /**
+     * Returns the 99.9th percentile latency.
+     * @return the 99.9th percentile in microseconds
+     */
+    public double getP999Micros() {
+        return p999Micros;
+    }
+
+    /**
+     * Returns the largest latency since the histogram was last reset.
+     * @return the maximum in microseconds
+     */
+    public double getMaxMicros() {
+        return maxMicros;
+    }
+}
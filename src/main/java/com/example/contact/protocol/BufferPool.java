@@ -0,0 +1,96 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Buffer Pool
+ * October 2026
+ */
+package com.example.contact.protocol;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of equally sized direct ByteBuffers.
+ * Direct buffers let socket reads and writes skip the copy through a temporary
+ * native buffer, but they are slow to allocate and freed only by the garbage
+ * collector, so connections borrow them from here and return them on close.
+ * At most maxPooled idle buffers are retained; extra returns are dropped.
+ */
+public class BufferPool {
+
+    private final int bufferSize;
+    private final int maxPooled;
+    private final Queue<ByteBuffer> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final LongAdder allocated = new LongAdder();
+
+    /**
+     * Constructs an empty pool.
+     * @param bufferSize the capacity of every buffer
+     * @param maxPooled the maximum number of idle buffers retained
+     */
+    public BufferPool(int bufferSize, int maxPooled) {
+        if (bufferSize < 1 || maxPooled < 0) {
+            throw new IllegalArgumentException("Invalid buffer pool configuration");
+        }
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * Borrows a cleared buffer, allocating one if none is idle.
+     * @return a buffer in write mode
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = idle.poll();
+        if (buffer != null) {
+            idleCount.decrementAndGet();
+            return buffer;
+        }
+        allocated.increment();
+        return ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Returns a buffer to the pool. The caller must not use it afterwards.
+     * @param buffer a buffer obtained from {@link #acquire}
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.capacity() != bufferSize || !buffer.isDirect()) {
+            return;
+        }
+        if (idleCount.incrementAndGet() > maxPooled) {
+            idleCount.decrementAndGet();
+            return;
+        }
+        buffer.clear();
+        idle.offer(buffer);
+    }
+
+    /**
+     * Returns the capacity of the pooled buffers.
+     * @return the buffer size in bytes
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Returns the number of buffers ever allocated by this pool.
+     * @return the allocation count
+     */
+    public long getAllocatedCount() {
+        return allocated.sum();
+    }
+
+    /**
+     * Returns the number of idle buffers waiting to be reused.
+     * @return the idle count
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Page
+ * October 2026
+ */
+package com.example.contact.protocol;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.example.contact.Contact;
+
+/**
+ * One page of a paged listing from {@link ContactProtocolClient}: the contacts and
+ * the cursor that fetches the next page, null once the listing is exhausted.
+ */
+public final class ContactPage {
+
+    private final List<Contact> contacts;
+    private final String cursor;
+
+    ContactPage(List<Contact> contacts, String cursor) {
+        this.contacts = Collections.unmodifiableList(contacts);
+        this.cursor = cursor;
+    }
+
+    /**
+     * Returns the contacts on this page; a page before the last may be empty.
+     * @return an unmodifiable list of contacts
+     */
+    public List<Contact> getContacts() {
+        return contacts;
+    }
+
+    /**
+     * Returns the cursor for {@link ContactProtocolClient#nextPage(String)}.
+     * @return the cursor, or null on the last page
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Returns true if no pages follow this one.
+     * @return true on the last page
+     */
+    public boolean isLast() {
+        return cursor == null;
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Protocol Client
+ * October 2026
+ */
+package com.example.contact.protocol;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.Contact;
+import com.example.contact.cluster.ConsistentHashRing;
+import com.example.contact.exception.ProtocolException;
+import com.example.contact.service.ContactOutcome;
+
+/**
+ * Client for {@link ContactProtocolServer} over a single pipelined connection.
+ *
+ * Every call writes its request immediately and returns a future completed when the
+ * tagged response arrives, so a caller can keep many requests outstanding on one
+ * socket and responses may complete out of order. The client is thread-safe:
+ * request writes are serialized, and one reader thread completes the futures.
+ * Futures complete on that reader thread, so dependent actions should be quick or
+ * moved to another executor. When the connection fails every outstanding future
+ * completes exceptionally with ProtocolException.
+ */
+public class ContactProtocolClient implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactProtocolClient.class);
+
+    private final SocketChannel channel;
+    private final Map<Long, CompletableFuture<ProtocolFrame>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong nextRequestId = new AtomicLong();
+    private final Object writeLock = new Object();
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(ProtocolFormat.BUFFER_BYTES);
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(ProtocolFormat.BUFFER_BYTES);
+    private final Thread reader;
+    private volatile boolean closed;
+
+    /**
+     * Connects to a server.
+     * @param host the server host
+     * @param port the server port
+     * @throws IOException if the connection cannot be made
+     */
+    public ContactProtocolClient(String host, int port) throws IOException {
+        this(new InetSocketAddress(host, port));
+    }
+
+    /**
+     * Connects to a server.
+     * @param address the server address
+     * @throws IOException if the connection cannot be made
+     */
+    public ContactProtocolClient(InetSocketAddress address) throws IOException {
+        this.channel = SocketChannel.open(address);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        this.reader = new Thread(this::readResponses, "contact-protocol-client");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Sends a request that does nothing on the server.
+     * @return a future completed when the server answers
+     */
+    public CompletableFuture<Void> ping() {
+        return send(ProtocolOpcode.PING).thenApply(response -> {
+            requireOutcome(response);
+            return null;
+        });
+    }
+
+    /**
+     * Looks up a contact.
+     * @param contactId the contact ID
+     * @return a future of the contact, or of null if it does not exist
+     */
+    public CompletableFuture<Contact> getContact(String contactId) {
+        return send(ProtocolOpcode.GET, contactId).thenApply(response -> {
+            ContactOutcome outcome = requireOutcome(response);
+            if (outcome == ContactOutcome.NOT_FOUND) {
+                return null;
+            }
+            if (!outcome.isSuccess()) {
+                throw outcome.toException(contactId);
+            }
+            return new Contact(response.field(0), response.field(1), response.field(2),
+                    response.field(3), response.field(4));
+        });
+    }
+
+    /**
+     * Adds a contact.
+     * @param contact the contact to add
+     * @return a future of the outcome
+     */
+    public CompletableFuture<ContactOutcome> addContact(Contact contact) {
+        return send(ProtocolOpcode.ADD, contact.getContactId(), contact.getFirstName(), contact.getLastName(),
+                contact.getPhone(), contact.getAddress()).thenApply(ContactProtocolClient::requireOutcome);
+    }
+
+    /**
+     * Updates the non-null fields of a contact.
+     * @param contactId the contact ID
+     * @param firstName the new first name, or null to keep it
+     * @param lastName the new last name, or null to keep it
+     * @param phone the new phone, or null to keep it
+     * @param address the new address, or null to keep it
+     * @return a future of the outcome
+     */
+    public CompletableFuture<ContactOutcome> updateContact(String contactId, String firstName, String lastName,
+                                                           String phone, String address) {
+        return send(ProtocolOpcode.UPDATE, contactId, firstName, lastName, phone, address)
+                .thenApply(ContactProtocolClient::requireOutcome);
+    }
+
+    /**
+     * Deletes a contact.
+     * @param contactId the contact ID
+     * @return a future of the outcome
+     */
+    public CompletableFuture<ContactOutcome> deleteContact(String contactId) {
+        return send(ProtocolOpcode.DELETE, contactId).thenApply(ContactProtocolClient::requireOutcome);
+    }
+
+    /**
+     * Lists every contact on the server, fetching one page after another and
+     * gathering them into one list.
+     * @return a future of the contacts
+     */
+    public CompletableFuture<List<Contact>> listContacts() {
+        return collect(openListing(), new ArrayList<>());
+    }
+
+    /**
+     * Opens a listing of every contact on the server. Each page is sent only when
+     * asked for, so a large listing never floods the connection; a listing that is
+     * not read to the end should be closed with {@link #closeListing(String)}.
+     * @return a future of the first page
+     */
+    public CompletableFuture<ContactPage> openListing() {
+        return send(ProtocolOpcode.LIST).thenApply(ContactProtocolClient::toPage);
+    }
+
+    /**
+     * Opens a listing of the contacts on the server that the ring assigns to a node
+     * other than the holder. The ring is evaluated on the server, so only the
+     * selected contacts are sent.
+     * @param ring the ring deciding ownership
+     * @param holder the ID of the node the server stands for
+     * @return a future of the first page
+     */
+    public CompletableFuture<ContactPage> openListing(ConsistentHashRing ring, String holder) {
+        List<String> fields = new ArrayList<>(ring.getNodes().size() + 2);
+        fields.add(Integer.toString(ring.getVirtualNodeCount()));
+        fields.add(holder);
+        fields.addAll(ring.getNodes());
+        return send(ProtocolOpcode.SCAN, fields.toArray(new String[0])).thenApply(ContactProtocolClient::toPage);
+    }
+
+    /**
+     * Fetches the next page of a listing.
+     * @param cursor the cursor of the previous page
+     * @return a future of the page
+     */
+    public CompletableFuture<ContactPage> nextPage(String cursor) {
+        return send(ProtocolOpcode.NEXT_PAGE, cursor).thenApply(ContactProtocolClient::toPage);
+    }
+
+    /**
+     * Abandons a listing before its last page, releasing it on the server.
+     * @param cursor the cursor of the last page received
+     * @return a future completed when the server answers
+     */
+    public CompletableFuture<Void> closeListing(String cursor) {
+        return send(ProtocolOpcode.CLOSE_LISTING, cursor).thenApply(response -> {
+            requireOutcome(response);
+            return null;
+        });
+    }
+
+    /**
+     * Returns the number of requests awaiting a response.
+     * @return the pending count
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Closes the connection, failing any outstanding requests.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.debug("Close failed: {}", e.getMessage());
+        }
+        try {
+            reader.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failPending(new ProtocolException("Client closed"));
+    }
+
+    private CompletableFuture<ProtocolFrame> send(ProtocolOpcode opcode, String... fields) {
+        long requestId = nextRequestId.incrementAndGet();
+        CompletableFuture<ProtocolFrame> future = new CompletableFuture<>();
+        if (closed) {
+            future.completeExceptionally(new ProtocolException("Client closed"));
+            return future;
+        }
+        pending.put(requestId, future);
+        try {
+            synchronized (writeLock) {
+                writeBuffer.clear();
+                ProtocolFormat.encode(writeBuffer, new ProtocolFrame(requestId, opcode.ordinal(), fields));
+                writeBuffer.flip();
+                while (writeBuffer.hasRemaining()) {
+                    channel.write(writeBuffer);
+                }
+            }
+        } catch (IOException | ProtocolException e) {
+            pending.remove(requestId);
+            future.completeExceptionally(e instanceof ProtocolException ? e
+                    : new ProtocolException("Request write failed", e));
+        }
+        // The reader may have failed the pending requests before this one was registered
+        if (closed && pending.remove(requestId) != null) {
+            future.completeExceptionally(new ProtocolException("Connection closed"));
+        }
+        return future;
+    }
+
+    private void readResponses() {
+        try {
+            while (channel.read(readBuffer) >= 0) {
+                readBuffer.flip();
+                ProtocolFrame response;
+                while ((response = ProtocolFormat.decode(readBuffer)) != null) {
+                    CompletableFuture<ProtocolFrame> future = pending.remove(response.getRequestId());
+                    if (future != null) {
+                        future.complete(response);
+                    }
+                }
+                readBuffer.compact();
+            }
+            if (!closed) {
+                logger.warn("Protocol server closed the connection");
+            }
+        } catch (IOException | ProtocolException e) {
+            if (!closed) {
+                logger.warn("Protocol connection failed: {}", e.getMessage());
+            }
+        } finally {
+            closed = true;
+            failPending(new ProtocolException("Connection closed"));
+        }
+    }
+
+    private void failPending(ProtocolException failure) {
+        for (Long requestId : pending.keySet()) {
+            CompletableFuture<ProtocolFrame> future = pending.remove(requestId);
+            if (future != null) {
+                future.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * Appends each page to the list and asks for the next until the last arrives.
+     * The next request is sent off the reader thread, which must never block on a write.
+     */
+    private CompletableFuture<List<Contact>> collect(CompletableFuture<ContactPage> page, List<Contact> contacts) {
+        return page.thenComposeAsync(current -> {
+            contacts.addAll(current.getContacts());
+            if (current.isLast()) {
+                return CompletableFuture.completedFuture(contacts);
+            }
+            return collect(nextPage(current.getCursor()), contacts);
+        });
+    }
+
+    /**
+     * Decodes a page: the cursor field followed by five fields per contact.
+     */
+    private static ContactPage toPage(ProtocolFrame response) {
+        ContactOutcome outcome = requireOutcome(response);
+        if (!outcome.isSuccess() || response.getFieldCount() == 0) {
+            throw new ProtocolException("Listing failed: " + outcome);
+        }
+        List<Contact> contacts = new ArrayList<>((response.getFieldCount() - 1) / 5);
+        for (int i = 1; i + 4 < response.getFieldCount(); i += 5) {
+            contacts.add(new Contact(response.field(i), response.field(i + 1), response.field(i + 2),
+                    response.field(i + 3), response.field(i + 4)));
+        }
+        return new ContactPage(contacts, response.field(0));
+    }
+
+    /**
+     * Returns the outcome a response reports, failing on ERROR.
+     */
+    private static ContactOutcome requireOutcome(ProtocolFrame response) {
+        ProtocolStatus status = ProtocolStatus.fromCode(response.getCode());
+        ContactOutcome outcome = status.toOutcome();
+        if (outcome == null) {
+            String message = response.getFieldCount() > 0 ? response.field(0) : "Server error";
+            throw new ProtocolException(message);
+        }
+        return outcome;
+    }
+}
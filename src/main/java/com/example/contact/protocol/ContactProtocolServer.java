@@ -0,0 +1,696 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Protocol Server
+ * October 2026
+ */
+package com.example.contact.protocol;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.Contact;
+import com.example.contact.cluster.ConsistentHashRing;
+import com.example.contact.cluster.RingOwnershipFilter;
+import com.example.contact.concurrent.ContactExecutors;
+import com.example.contact.exception.ProtocolException;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.service.IContactService;
+
+/**
+ * Non-blocking server for the binary contact protocol described in {@link ProtocolFormat}.
+ *
+ * A single selector thread accepts connections, reads frames and writes responses;
+ * service calls run on a separate executor. A client may pipeline any number of
+ * requests on one connection without waiting, and responses are sent as each call
+ * completes, possibly out of order, tagged with the request ID. Responses finished
+ * while the selector is busy are encoded together and leave in one write.
+ * The write buffer holds at least one maximum-size frame, so a response that does
+ * not fit waits only until the buffered ones have been written.
+ *
+ * Every connection borrows a direct read buffer and write buffer from a shared
+ * {@link BufferPool}. When a connection has {@link #MAX_IN_FLIGHT} requests
+ * outstanding the server stops reading from it until half have been answered, so
+ * a client that never reads its responses is throttled by TCP rather than growing
+ * server memory. A malformed frame closes the connection.
+ *
+ * Listings are paged: a connection opens a listing with LIST or SCAN and pulls each
+ * further page with NEXT_PAGE, so every page answers one request and counts against
+ * the in-flight limit, and the contacts are taken from the service's publisher only
+ * as pages are asked for. A connection keeps at most {@link #MAX_OPEN_LISTINGS}
+ * listings open; opening another abandons the oldest.
+ */
+public class ContactProtocolServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactProtocolServer.class);
+
+    /** Default listen port for {@link #main} */
+    public static final int DEFAULT_PORT = 7070;
+    /** Outstanding requests per connection before reading pauses */
+    public static final int MAX_IN_FLIGHT = 1024;
+
+    /** Listings each connection keeps open before abandoning the oldest */
+    public static final int MAX_OPEN_LISTINGS = 16;
+
+    private static final int MAX_POOLED_BUFFERS = 1024;
+    private static final int MAX_MESSAGE_CHARS = 256;
+    private static final int CONTACT_FIELDS = 5;
+    /** Contacts per listing page; 48 contacts of maximum length stay well under MAX_FRAME_BYTES */
+    private static final int PAGE_SIZE = 48;
+    /** Longest a page waits on a slow publisher before it is sent short */
+    private static final long PAGE_WAIT_MILLIS = 1000;
+
+    private final IContactService service;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final BufferPool buffers;
+    private final Selector selector;
+    private final ServerSocketChannel acceptor;
+    private final Queue<Connection> writable = new ConcurrentLinkedQueue<>();
+    private final Thread eventLoop;
+    private volatile boolean running;
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+
+    /**
+     * Binds a server on all interfaces running requests on a task-per-request executor.
+     * @param service the service to expose
+     * @param port the port to listen on, or 0 for an ephemeral port
+     * @throws IOException if the port cannot be bound
+     */
+    public ContactProtocolServer(IContactService service, int port) throws IOException {
+        this(service, new InetSocketAddress(port), null);
+    }
+
+    /**
+     * Binds a server on the given address.
+     * The server does not accept connections until {@link #start} is called.
+     * @param service the service to expose
+     * @param address the address to listen on
+     * @param executor runs service calls; null for a task-per-request executor owned by
+     *                 the server. {@code Runnable::run} answers on the selector thread in
+     *                 request order, which suits a service that never blocks.
+     * @throws IOException if the address cannot be bound
+     */
+    public ContactProtocolServer(IContactService service, InetSocketAddress address, Executor executor)
+            throws IOException {
+        if (service == null) {
+            throw new IllegalArgumentException("Service cannot be null");
+        }
+        this.service = service;
+        this.ownedExecutor = executor == null ? ContactExecutors.newTaskExecutor("contact-protocol") : null;
+        this.executor = executor == null ? ownedExecutor : executor;
+        this.buffers = new BufferPool(ProtocolFormat.BUFFER_BYTES, MAX_POOLED_BUFFERS);
+        this.selector = Selector.open();
+        this.acceptor = ServerSocketChannel.open();
+        acceptor.bind(address, 4096);
+        acceptor.configureBlocking(false);
+        acceptor.register(selector, SelectionKey.OP_ACCEPT);
+        this.eventLoop = new Thread(this::runEventLoop, "contact-protocol-selector");
+        eventLoop.setDaemon(true);
+    }
+
+    /**
+     * Starts accepting connections.
+     */
+    public void start() {
+        running = true;
+        eventLoop.start();
+        logger.info("ContactProtocolServer listening on port {}", getPort());
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     * @return the local port
+     */
+    public int getPort() {
+        return acceptor.socket().getLocalPort();
+    }
+
+    /**
+     * Returns the number of open client connections.
+     * @return the connection count
+     */
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * Returns the number of requests received.
+     * @return the request count
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of socket writes issued; fewer than requests when responses are batched.
+     * @return the write count
+     */
+    public long getWriteCount() {
+        return writes.sum();
+    }
+
+    /**
+     * Returns the pool supplying connection buffers.
+     * @return the buffer pool
+     */
+    public BufferPool getBufferPool() {
+        return buffers;
+    }
+
+    /**
+     * Closes every connection and stops the selector thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            if (eventLoop.isAlive()) {
+                eventLoop.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection) {
+                ((Connection) key.attachment()).close();
+            }
+        }
+        closeQuietly(acceptor);
+        closeQuietly(selector);
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+        logger.info("ContactProtocolServer stopped: requests={}, writes={}", requests.sum(), writes.sum());
+    }
+
+    private void runEventLoop() {
+        try {
+            while (running) {
+                Connection connection;
+                while ((connection = writable.poll()) != null) {
+                    connection.flush();
+                }
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    connection = (Connection) key.attachment();
+                    if (key.isWritable()) {
+                        connection.flush();
+                    }
+                    if (key.isValid() && key.isReadable()) {
+                        connection.read();
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (running) {
+                logger.error("Protocol selector failed", e);
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = acceptor.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Connection connection = new Connection(channel);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connections.incrementAndGet();
+        }
+    }
+
+    /**
+     * Runs one request against the service; never throws.
+     */
+    private ProtocolFrame execute(Connection connection, ProtocolFrame request) {
+        long id = request.getRequestId();
+        ProtocolOpcode opcode = ProtocolOpcode.fromCode(request.getCode());
+        if (opcode == null) {
+            return error(id, "Unknown opcode: " + request.getCode());
+        }
+        if (!opcode.accepts(request.getFieldCount())) {
+            return error(id, opcode + " expects " + opcode.getFieldCount() + " fields");
+        }
+        try {
+            switch (opcode) {
+                case PING:
+                    return new ProtocolFrame(id, ProtocolStatus.OK.ordinal());
+                case GET:
+                    Contact contact = service.getContact(request.field(0));
+                    if (contact == null) {
+                        return new ProtocolFrame(id, ProtocolStatus.NOT_FOUND.ordinal());
+                    }
+                    return new ProtocolFrame(id, ProtocolStatus.OK.ordinal(), contact.getContactId(),
+                            contact.getFirstName(), contact.getLastName(), contact.getPhone(), contact.getAddress());
+                case ADD:
+                    return outcome(id, service.tryAddContact(new Contact(request.field(0), request.field(1),
+                            request.field(2), request.field(3), request.field(4))));
+                case UPDATE:
+                    return outcome(id, service.tryUpdateContact(request.field(0), request.field(1),
+                            request.field(2), request.field(3), request.field(4)));
+                case DELETE:
+                    return outcome(id, service.tryDeleteContact(request.field(0)));
+                case LIST:
+                    return connection.openListing(id, listed -> true);
+                case SCAN:
+                    return connection.openListing(id, scanFilter(request));
+                case NEXT_PAGE:
+                    return connection.nextPage(id, request.field(0));
+                case CLOSE_LISTING:
+                    connection.closeListing(request.field(0));
+                    return new ProtocolFrame(id, ProtocolStatus.OK.ordinal());
+                default:
+                    return error(id, "Unsupported opcode: " + opcode);
+            }
+        } catch (RuntimeException e) {
+            ContactOutcome outcome = ContactOutcome.of(e);
+            if (outcome == null) {
+                logger.error("Protocol request {} failed", opcode, e);
+                return error(id, "Internal error");
+            }
+            return new ProtocolFrame(id, ProtocolStatus.of(outcome).ordinal(), truncate(e.getMessage()));
+        }
+    }
+
+    /**
+     * Builds the ring filter a SCAN request describes.
+     */
+    private static RingOwnershipFilter scanFilter(ProtocolFrame request) {
+        List<String> members = new ArrayList<>(request.getFieldCount() - 2);
+        for (int i = 2; i < request.getFieldCount(); i++) {
+            members.add(request.field(i));
+        }
+        ConsistentHashRing ring = new ConsistentHashRing(members, Integer.parseInt(request.field(0)));
+        return new RingOwnershipFilter(ring, request.field(1));
+    }
+
+    /**
+     * Encodes a listing page: the cursor, or null on the last page, then the contacts.
+     */
+    private static ProtocolFrame page(long id, String cursor, List<Contact> contacts) {
+        String[] fields = new String[1 + contacts.size() * CONTACT_FIELDS];
+        fields[0] = cursor;
+        int f = 1;
+        for (Contact contact : contacts) {
+            fields[f++] = contact.getContactId();
+            fields[f++] = contact.getFirstName();
+            fields[f++] = contact.getLastName();
+            fields[f++] = contact.getPhone();
+            fields[f++] = contact.getAddress();
+        }
+        return new ProtocolFrame(id, ProtocolStatus.OK.ordinal(), fields);
+    }
+
+    private static ProtocolFrame outcome(long id, ContactOutcome outcome) {
+        return new ProtocolFrame(id, ProtocolStatus.of(outcome).ordinal());
+    }
+
+    private static ProtocolFrame error(long id, String message) {
+        return new ProtocolFrame(id, ProtocolStatus.ERROR.ordinal(), truncate(message));
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= MAX_MESSAGE_CHARS ? message : message.substring(0, MAX_MESSAGE_CHARS);
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            logger.debug("Close failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * An open listing: a subscriber to the service's publisher that requests one
+     * page of contacts at a time and hands each page to the request asking for it.
+     */
+    private static final class Listing implements Flow.Subscriber<Contact> {
+        private final List<Contact> page = new ArrayList<>(PAGE_SIZE);
+        private Flow.Subscription subscription;
+        private long outstanding;
+        private boolean complete;
+        private boolean cancelled;
+        private RuntimeException failure;
+
+        @Override
+        public synchronized void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void onNext(Contact contact) {
+            page.add(contact);
+            outstanding--;
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void onError(Throwable throwable) {
+            failure = throwable instanceof RuntimeException ? (RuntimeException) throwable
+                    : new IllegalStateException(throwable);
+            complete = true;
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void onComplete() {
+            complete = true;
+            notifyAll();
+        }
+
+        /**
+         * Requests up to a page of contacts and waits until the page is full, the
+         * publisher finishes or PAGE_WAIT_MILLIS pass. Demand is capped so a page
+         * never grows past PAGE_SIZE even if a short page's contacts arrive late.
+         * @return the page, or null if the listing was abandoned
+         */
+        List<Contact> nextPage() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(PAGE_WAIT_MILLIS);
+            Flow.Subscription current;
+            long demand;
+            synchronized (this) {
+                awaitUntil(deadline, () -> subscription != null);
+                current = subscription;
+                demand = PAGE_SIZE - page.size() - outstanding;
+                if (current != null && !complete && demand > 0) {
+                    outstanding += demand;
+                } else {
+                    demand = 0;
+                }
+            }
+            // Outside the lock: a synchronous publisher delivers on this thread
+            if (demand > 0) {
+                current.request(demand);
+            }
+            synchronized (this) {
+                awaitUntil(deadline, () -> page.size() >= PAGE_SIZE);
+                if (cancelled) {
+                    return null;
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                List<Contact> contacts = new ArrayList<>(page);
+                page.clear();
+                return contacts;
+            }
+        }
+
+        synchronized boolean isComplete() {
+            return complete;
+        }
+
+        void cancel() {
+            Flow.Subscription current;
+            synchronized (this) {
+                complete = true;
+                cancelled = true;
+                current = subscription;
+                notifyAll();
+            }
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        private void awaitUntil(long deadline, BooleanSupplier ready) throws InterruptedException {
+            long remaining;
+            while (!complete && !ready.getAsBoolean() && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+    }
+
+    /**
+     * Per-connection state. Buffers and interest ops are touched only by the
+     * selector thread; workers hand responses over through the response queue.
+     */
+    private final class Connection {
+        private final SocketChannel channel;
+        private final Queue<ProtocolFrame> responses = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final NavigableMap<Long, Listing> listings = new ConcurrentSkipListMap<>();
+        private final AtomicLong nextCursor = new AtomicLong();
+        private SelectionKey key;
+        private ByteBuffer readBuffer;
+        private ByteBuffer writeBuffer;
+        private boolean readPaused;
+        private volatile boolean closed;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+            this.readBuffer = buffers.acquire();
+            this.writeBuffer = buffers.acquire();
+        }
+
+        void read() {
+            try {
+                if (channel.read(readBuffer) < 0) {
+                    close();
+                    return;
+                }
+                dispatchFrames();
+            } catch (IOException | ProtocolException e) {
+                logger.debug("Closing protocol connection: {}", e.getMessage());
+                close();
+            }
+        }
+
+        /**
+         * Submits every complete frame in the read buffer, stopping early if the
+         * connection reaches its in-flight limit.
+         */
+        private void dispatchFrames() {
+            readBuffer.flip();
+            try {
+                ProtocolFrame request;
+                while (!readPaused && (request = ProtocolFormat.decode(readBuffer)) != null) {
+                    requests.increment();
+                    if (inFlight.incrementAndGet() >= MAX_IN_FLIGHT) {
+                        readPaused = true;
+                        key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+                    }
+                    submit(request);
+                }
+            } finally {
+                readBuffer.compact();
+            }
+        }
+
+        private void submit(ProtocolFrame request) {
+            try {
+                executor.execute(() -> serve(request));
+            } catch (RejectedExecutionException e) {
+                respond(error(request.getRequestId(), "Server is shutting down"));
+            }
+        }
+
+        private void serve(ProtocolFrame request) {
+            respond(execute(this, request));
+        }
+
+        /**
+         * Subscribes a new listing to the service's contacts and answers with its first page.
+         */
+        ProtocolFrame openListing(long id, Predicate<? super Contact> filter) {
+            Flow.Publisher<Contact> publisher = service.publishContacts(filter);
+            long cursor = nextCursor.incrementAndGet();
+            Listing listing = new Listing();
+            listings.put(cursor, listing);
+            while (listings.size() > MAX_OPEN_LISTINGS) {
+                Map.Entry<Long, Listing> oldest = listings.pollFirstEntry();
+                if (oldest != null) {
+                    oldest.getValue().cancel();
+                }
+            }
+            publisher.subscribe(listing);
+            return nextPage(id, cursor, listing);
+        }
+
+        /**
+         * Answers with the next page of an open listing.
+         */
+        ProtocolFrame nextPage(long id, String cursor) {
+            long key = Long.parseLong(cursor);
+            Listing listing = listings.get(key);
+            if (listing == null) {
+                return error(id, "Unknown or abandoned listing: " + cursor);
+            }
+            return nextPage(id, key, listing);
+        }
+
+        /**
+         * Abandons a listing; an unknown cursor is ignored.
+         */
+        void closeListing(String cursor) {
+            Listing listing = listings.remove(Long.parseLong(cursor));
+            if (listing != null) {
+                listing.cancel();
+            }
+        }
+
+        private ProtocolFrame nextPage(long id, long cursor, Listing listing) {
+            List<Contact> contacts;
+            try {
+                contacts = listing.nextPage();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                listings.remove(cursor);
+                return error(id, "Server is shutting down");
+            } catch (RuntimeException e) {
+                listings.remove(cursor);
+                throw e;
+            }
+            if (contacts == null) {
+                return error(id, "Unknown or abandoned listing: " + cursor);
+            }
+            if (listing.isComplete()) {
+                listings.remove(cursor);
+                return page(id, null, contacts);
+            }
+            return page(id, Long.toString(cursor), contacts);
+        }
+
+        /**
+         * Queues a response; called from any thread.
+         */
+        void respond(ProtocolFrame response) {
+            if (closed) {
+                return;
+            }
+            responses.add(response);
+            if (scheduled.compareAndSet(false, true)) {
+                writable.add(this);
+                // The selector thread drains the queue before it next blocks
+                if (Thread.currentThread() != eventLoop) {
+                    selector.wakeup();
+                }
+            }
+        }
+
+        /**
+         * Encodes queued responses into the write buffer and writes until the queue
+         * is empty or the socket would block.
+         */
+        void flush() {
+            if (closed) {
+                return;
+            }
+            scheduled.set(false);
+            try {
+                int answered = 0;
+                while (true) {
+                    ProtocolFrame response;
+                    while ((response = responses.peek()) != null && ProtocolFormat.tryEncode(writeBuffer, response)) {
+                        responses.poll();
+                        answered++;
+                    }
+                    if (writeBuffer.position() == 0) {
+                        break;
+                    }
+                    writeBuffer.flip();
+                    channel.write(writeBuffer);
+                    writes.increment();
+                    boolean blocked = writeBuffer.hasRemaining();
+                    writeBuffer.compact();
+                    if (blocked) {
+                        break;
+                    }
+                }
+                boolean pending = writeBuffer.position() > 0;
+                int ops = pending ? key.interestOps() | SelectionKey.OP_WRITE : key.interestOps() & ~SelectionKey.OP_WRITE;
+                if (answered > 0 && inFlight.addAndGet(-answered) <= MAX_IN_FLIGHT / 2 && readPaused) {
+                    readPaused = false;
+                    ops |= SelectionKey.OP_READ;
+                    key.interestOps(ops);
+                    dispatchFrames();
+                    return;
+                }
+                key.interestOps(ops);
+            } catch (IOException | ProtocolException e) {
+                logger.debug("Closing protocol connection: {}", e.getMessage());
+                close();
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Listing listing : listings.values()) {
+                listing.cancel();
+            }
+            listings.clear();
+            key.cancel();
+            closeQuietly(channel);
+            buffers.release(readBuffer);
+            buffers.release(writeBuffer);
+            readBuffer = null;
+            writeBuffer = null;
+            connections.decrementAndGet();
+        }
+    }
+
+    /**
+     * Serves a fresh in-memory contact service until the process is stopped.
+     * @param args an optional port, defaulting to {@link #DEFAULT_PORT}
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        ContactProtocolServer server = new ContactProtocolServer(
+                new ContactServiceImpl(new InMemoryContactRepository()), port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "contact-protocol-shutdown"));
+        server.start();
+    }
+}
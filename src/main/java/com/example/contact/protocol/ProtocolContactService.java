@@ -0,0 +1,222 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Protocol Contact Service
+ * October 2026
+ */
+package com.example.contact.protocol;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.example.contact.Contact;
+import com.example.contact.cluster.RingOwnershipFilter;
+import com.example.contact.concurrent.IteratorPublisher;
+import com.example.contact.exception.ContactException;
+import com.example.contact.exception.ProtocolException;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.IContactService;
+
+/**
+ * IContactService backed by a remote {@link ContactProtocolServer}, so a service on
+ * another process can be used wherever a local one is expected. Each call sends one
+ * request over the shared pipelined connection and blocks until its response
+ * arrives or the timeout passes.
+ *
+ * The throwing methods are built from the exception-free ones and raise the
+ * exception matching the server's outcome; the server's detail message is not
+ * carried over. Connection failures and timeouts raise ProtocolException.
+ *
+ * Listings are fetched a page at a time. A published listing asks for the next page
+ * only when its subscriber has consumed the previous one, and a
+ * {@link RingOwnershipFilter} is evaluated on the server so only the contacts it
+ * selects are sent; other filters are applied here.
+ */
+public class ProtocolContactService implements IContactService, AutoCloseable {
+
+    /** Default time to wait for a response */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 5000;
+
+    private final ContactProtocolClient client;
+    private final long timeoutMillis;
+    private final boolean ownsClient;
+
+    /**
+     * Connects to a protocol server; the connection is closed by {@link #close()}.
+     * @param host the server host
+     * @param port the server port
+     * @throws IOException if the connection cannot be made
+     */
+    public ProtocolContactService(String host, int port) throws IOException {
+        this(new ContactProtocolClient(host, port), DEFAULT_TIMEOUT_MILLIS, true);
+    }
+
+    /**
+     * Constructs a service over an existing client, which {@link #close()} leaves open.
+     * @param client the connected client
+     * @param timeoutMillis how long each call waits for its response
+     */
+    public ProtocolContactService(ContactProtocolClient client, long timeoutMillis) {
+        this(client, timeoutMillis, false);
+    }
+
+    private ProtocolContactService(ContactProtocolClient client, long timeoutMillis, boolean ownsClient) {
+        if (client == null) {
+            throw new IllegalArgumentException("Client cannot be null");
+        }
+        if (timeoutMillis < 1) {
+            throw new IllegalArgumentException("Timeout must be positive: " + timeoutMillis);
+        }
+        this.client = client;
+        this.timeoutMillis = timeoutMillis;
+        this.ownsClient = ownsClient;
+    }
+
+    @Override
+    public void addContact(Contact contact) {
+        throwIfFailed(tryAddContact(contact), contact == null ? null : contact.getContactId());
+    }
+
+    @Override
+    public void deleteContact(String contactId) {
+        throwIfFailed(tryDeleteContact(contactId), contactId);
+    }
+
+    @Override
+    public void updateContact(String contactId, String firstName, String lastName, String phone, String address) {
+        throwIfFailed(tryUpdateContact(contactId, firstName, lastName, phone, address), contactId);
+    }
+
+    @Override
+    public Contact getContact(String contactId) {
+        return await(client.getContact(contactId));
+    }
+
+    @Override
+    public List<Contact> getAllContacts() {
+        List<Contact> contacts = new ArrayList<>();
+        ContactPage page = await(client.openListing());
+        contacts.addAll(page.getContacts());
+        while (!page.isLast()) {
+            page = await(client.nextPage(page.getCursor()));
+            contacts.addAll(page.getContacts());
+        }
+        return contacts;
+    }
+
+    @Override
+    public Flow.Publisher<Contact> publishContacts(Predicate<? super Contact> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Filter cannot be null");
+        }
+        if (filter instanceof RingOwnershipFilter) {
+            RingOwnershipFilter owned = (RingOwnershipFilter) filter;
+            return new IteratorPublisher<>(() -> new PageIterator(() -> client.openListing(owned.getRing(),
+                    owned.getHolder())));
+        }
+        return new IteratorPublisher<>(() -> new PageIterator(client::openListing), filter);
+    }
+
+    @Override
+    public ContactOutcome tryAddContact(Contact contact) {
+        if (contact == null) {
+            return ContactOutcome.INVALID;
+        }
+        return await(client.addContact(contact));
+    }
+
+    @Override
+    public ContactOutcome tryDeleteContact(String contactId) {
+        return await(client.deleteContact(contactId));
+    }
+
+    @Override
+    public ContactOutcome tryUpdateContact(String contactId, String firstName, String lastName, String phone, String address) {
+        return await(client.updateContact(contactId, firstName, lastName, phone, address));
+    }
+
+    /**
+     * Returns the client carrying this service's requests.
+     * @return the client
+     */
+    public ContactProtocolClient getClient() {
+        return client;
+    }
+
+    /**
+     * Closes the connection if this service opened it.
+     */
+    @Override
+    public void close() {
+        if (ownsClient) {
+            client.close();
+        }
+    }
+
+    /**
+     * Iterates a listing, fetching its first page on first use and each further
+     * page once the previous one is exhausted.
+     */
+    private final class PageIterator implements Iterator<Contact> {
+        private final Supplier<CompletableFuture<ContactPage>> opener;
+        private ContactPage page;
+        private Iterator<Contact> contacts = Collections.emptyIterator();
+
+        PageIterator(Supplier<CompletableFuture<ContactPage>> opener) {
+            this.opener = opener;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!contacts.hasNext() && (page == null || !page.isLast())) {
+                page = await(page == null ? opener.get() : client.nextPage(page.getCursor()));
+                contacts = page.getContacts().iterator();
+            }
+            return contacts.hasNext();
+        }
+
+        @Override
+        public Contact next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return contacts.next();
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ProtocolException("Protocol request failed", cause);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new ProtocolException("No response within " + timeoutMillis + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProtocolException("Interrupted while waiting for a response", e);
+        }
+    }
+
+    private static void throwIfFailed(ContactOutcome outcome, String contactId) {
+        ContactException failure = outcome.toException(contactId);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Protocol Format
+ * October 2026
+ */
+package com.example.contact.protocol;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.example.contact.exception.ProtocolException;
+
+/**
+ * Wire layout shared by the protocol server and client. Requests and responses
+ * use the same length-prefixed frame, all integers big-endian:
+ * <pre>
+ *   int    length of the rest of the frame
+ *   long   request ID, echoed in the response
+ *   byte   ProtocolOpcode (request) or ProtocolStatus (response) ordinal
+ *   byte   number of string fields
+ *   str    each field
+ * </pre>
+ * where {@code str} is a signed short byte length, -1 for null, followed by that
+ * many bytes of UTF-8. A lookup request for a ten-character ID is 28 bytes.
+ */
+final class ProtocolFormat {
+
+    static final int LENGTH_BYTES = 4;
+    static final int HEADER_BYTES = 8 + 1 + 1;
+
+    /** Largest frame body accepted; anything larger closes the connection */
+    static final int MAX_FRAME_BYTES = 16 * 1024;
+    /** Buffer size guaranteed to hold any single frame including its length */
+    static final int BUFFER_BYTES = LENGTH_BYTES + MAX_FRAME_BYTES;
+
+    /** Most fields one frame may carry; the count is a single unsigned byte */
+    static final int MAX_FIELDS = 255;
+
+    private ProtocolFormat() {
+    }
+
+    /**
+     * Appends a frame to the buffer.
+     * @throws ProtocolException if the frame exceeds MAX_FRAME_BYTES or does not fit
+     */
+    static void encode(ByteBuffer out, ProtocolFrame frame) {
+        if (!tryEncode(out, frame)) {
+            throw new ProtocolException("Frame exceeds buffer capacity");
+        }
+    }
+
+    /**
+     * Appends a frame to the buffer if it fits, leaving the buffer unchanged otherwise.
+     * A buffer with at least BUFFER_BYTES remaining always has room.
+     * @return false if the buffer is too full
+     * @throws ProtocolException if the frame exceeds MAX_FRAME_BYTES or MAX_FIELDS
+     */
+    static boolean tryEncode(ByteBuffer out, ProtocolFrame frame) {
+        if (frame.getFieldCount() > MAX_FIELDS) {
+            throw new ProtocolException("Too many fields: " + frame.getFieldCount());
+        }
+        int start = out.position();
+        try {
+            out.putInt(0);
+            out.putLong(frame.getRequestId());
+            out.put((byte) frame.getCode());
+            out.put((byte) frame.getFieldCount());
+            for (int i = 0; i < frame.getFieldCount(); i++) {
+                putString(out, frame.field(i));
+            }
+        } catch (ProtocolException e) {
+            out.position(start);
+            throw e;
+        } catch (BufferOverflowException e) {
+            out.position(start);
+            if (out.limit() - start >= BUFFER_BYTES) {
+                throw new ProtocolException("Frame exceeds " + MAX_FRAME_BYTES + " bytes");
+            }
+            return false;
+        }
+        int length = out.position() - start - LENGTH_BYTES;
+        if (length > MAX_FRAME_BYTES) {
+            out.position(start);
+            throw new ProtocolException("Frame of " + length + " bytes exceeds " + MAX_FRAME_BYTES);
+        }
+        out.putInt(start, length);
+        return true;
+    }
+
+    /**
+     * Decodes one frame from a buffer in read mode, or returns null if the buffer
+     * does not yet hold a complete frame. On success the position moves past it.
+     * @throws ProtocolException if the frame is malformed
+     */
+    static ProtocolFrame decode(ByteBuffer in) {
+        if (in.remaining() < LENGTH_BYTES) {
+            return null;
+        }
+        int start = in.position();
+        int length = in.getInt(start);
+        if (length < HEADER_BYTES || length > MAX_FRAME_BYTES) {
+            throw new ProtocolException("Invalid frame length: " + length);
+        }
+        if (in.remaining() < LENGTH_BYTES + length) {
+            return null;
+        }
+        int end = start + LENGTH_BYTES + length;
+        int limit = in.limit();
+        in.limit(end);
+        try {
+            in.position(start + LENGTH_BYTES);
+            long requestId = in.getLong();
+            int code = in.get() & 0xFF;
+            int count = in.get() & 0xFF;
+            if (count > MAX_FIELDS) {
+                throw new ProtocolException("Too many fields: " + count);
+            }
+            String[] fields = new String[count];
+            for (int i = 0; i < count; i++) {
+                fields[i] = getString(in);
+            }
+            if (in.hasRemaining()) {
+                throw new ProtocolException("Trailing bytes in frame");
+            }
+            return new ProtocolFrame(requestId, code, fields);
+        } catch (BufferUnderflowException e) {
+            throw new ProtocolException("Truncated frame field");
+        } finally {
+            in.limit(limit);
+        }
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new ProtocolException("Field of " + bytes.length + " bytes is too long");
+        }
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getShort();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > in.remaining()) {
+            throw new ProtocolException("Invalid field length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Protocol Frame
+ * October 2026
+ */
+package com.example.contact.protocol;
+
+/**
+ * One decoded request or response: the request ID that pairs them, the opcode or
+ * status code, and the string fields (any of which may be null).
+ */
+final class ProtocolFrame {
+
+    private static final String[] NO_FIELDS = new String[0];
+
+    private final long requestId;
+    private final int code;
+    private final String[] fields;
+
+    ProtocolFrame(long requestId, int code, String... fields) {
+        this.requestId = requestId;
+        this.code = code;
+        this.fields = fields == null ? NO_FIELDS : fields;
+    }
+
+    long getRequestId() {
+        return requestId;
+    }
+
+    int getCode() {
+        return code;
+    }
+
+    int getFieldCount() {
+        return fields.length;
+    }
+
+    String field(int index) {
+        return fields[index];
+    }
+}
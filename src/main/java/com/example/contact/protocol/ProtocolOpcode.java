@@ -0,0 +1,83 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Protocol Opcode
+ * October 2026
+ */
+package com.example.contact.protocol;
+
+/**
+ * Operations carried by binary protocol requests, with the number of string fields
+ * each request frame holds. The ordinal is the wire code, so constants may only
+ * be appended.
+ *
+ * Listings are paged: LIST and SCAN open a listing on the connection and answer
+ * with its first page, NEXT_PAGE fetches each further page. A page is an OK frame
+ * whose first field is the cursor for NEXT_PAGE, null on the last page, followed by
+ * five fields per contact.
+ */
+public enum ProtocolOpcode {
+
+    /** Round trip with no service call */
+    PING(0),
+    /** Look up a contact by ID */
+    GET(1),
+    /** Add a contact: ID, first name, last name, phone, address */
+    ADD(5),
+    /** Update a contact: ID then nullable first name, last name, phone, address */
+    UPDATE(5),
+    /** Delete a contact by ID */
+    DELETE(1),
+    /** Open a listing of every contact */
+    LIST(0),
+    /**
+     * Open a listing of the contacts a ring assigns away from a node: virtual node
+     * count, holding node ID, then one field per ring node
+     */
+    SCAN(2, true),
+    /** Fetch the next page of a listing by its cursor */
+    NEXT_PAGE(1),
+    /** Abandon a listing by its cursor */
+    CLOSE_LISTING(1);
+
+    private static final ProtocolOpcode[] VALUES = values();
+
+    private final int fieldCount;
+    private final boolean trailingFields;
+
+    ProtocolOpcode(int fieldCount) {
+        this(fieldCount, false);
+    }
+
+    ProtocolOpcode(int fieldCount, boolean trailingFields) {
+        this.fieldCount = fieldCount;
+        this.trailingFields = trailingFields;
+    }
+
+    /**
+     * Returns the number of string fields in a request for this operation, or the
+     * minimum if further fields may follow.
+     * @return the field count
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Returns true if a request with the given number of fields is well formed.
+     * @param count the request's field count
+     * @return true if the count is accepted
+     */
+    public boolean accepts(int count) {
+        return trailingFields ? count >= fieldCount : count == fieldCount;
+    }
+
+    /**
+     * Returns the opcode for a wire code.
+     * @param code the wire code
+     * @return the opcode, or null if the code is unknown
+     */
+    public static ProtocolOpcode fromCode(int code) {
+        return code >= 0 && code < VALUES.length ? VALUES[code] : null;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Protocol Status
+ * October 2026
+ */
+package com.example.contact.protocol;
+
+import com.example.contact.service.ContactOutcome;
+
+/**
+ * Result codes carried by binary protocol responses. Every status except OK and
+ * ERROR corresponds to a {@link ContactOutcome}; ERROR covers unexpected failures
+ * and malformed requests, with the message as the response's only field. The
+ * ordinal is the wire code, so constants may only be appended.
+ */
+public enum ProtocolStatus {
+
+    OK,
+    NOT_FOUND,
+    DUPLICATE,
+    INVALID,
+    LIMIT_EXCEEDED,
+    ERROR;
+
+    private static final ProtocolStatus[] VALUES = values();
+
+    /**
+     * Returns the status reporting a service outcome.
+     * @param outcome the outcome
+     * @return the matching status
+     */
+    public static ProtocolStatus of(ContactOutcome outcome) {
+        switch (outcome) {
+            case SUCCESS:
+                return OK;
+            case NOT_FOUND:
+                return NOT_FOUND;
+            case DUPLICATE:
+                return DUPLICATE;
+            case INVALID:
+                return INVALID;
+            case LIMIT_EXCEEDED:
+                return LIMIT_EXCEEDED;
+            default:
+                return ERROR;
+        }
+    }
+
+    /**
+     * Returns the service outcome this status reports.
+     * @return the outcome, or null for ERROR
+     */
+    public ContactOutcome toOutcome() {
+        switch (this) {
+            case OK:
+                return ContactOutcome.SUCCESS;
+            case NOT_FOUND:
+                return ContactOutcome.NOT_FOUND;
+            case DUPLICATE:
+                return ContactOutcome.DUPLICATE;
+            case INVALID:
+                return ContactOutcome.INVALID;
+            case LIMIT_EXCEEDED:
+                return ContactOutcome.LIMIT_EXCEEDED;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the status for a wire code.
+     * @param code the wire code
+     * @return the status, or ERROR if the code is unknown
+     */
+    public static ProtocolStatus fromCode(int code) {
+        return code >= 0 && code < VALUES.length ? VALUES[code] : ERROR;
+    }
+}
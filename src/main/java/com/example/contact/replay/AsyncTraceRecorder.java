@@ -0,0 +1,292 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Async Trace Recorder
+ * October 2026
+ */
+package com.example.contact.replay;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Takes trace writes off the recording caller's thread.
+ * Callers copy the call's operation, time and arguments into a preallocated slot of
+ * a bounded lock-free ring and return; a single background thread drains the ring
+ * into a {@link TraceWriter} and flushes it at least once per flush interval. The
+ * ring is the same per-slot sequence design as
+ * {@link com.example.contact.audit.AsyncAuditPipeline}.
+ *
+ * A trace is a sample of traffic, so recording never makes a caller wait: when the
+ * ring is full the call is dropped and counted. Each record keeps the time it was
+ * captured, so writer lag does not shift the timeline; records are written in the
+ * order their slots were claimed, and a record captured a moment before its
+ * predecessor is written at the predecessor's offset. If the trace cannot be written
+ * the failure is logged once and recording stops.
+ */
+public class AsyncTraceRecorder implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncTraceRecorder.class);
+
+    /** Default number of ring slots */
+    public static final int DEFAULT_CAPACITY = 8192;
+    /** Default maximum time between a record being written and flushed */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 50;
+
+    private static final long CLOSE_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * One captured call, reused for every lap of the ring.
+     */
+    private static final class Slot {
+        private TraceOperation operation;
+        private long nanoTime;
+        private String contactId;
+        private String firstName;
+        private String lastName;
+        private String phone;
+        private String address;
+
+        void clear() {
+            operation = null;
+            contactId = null;
+            firstName = null;
+            lastName = null;
+            phone = null;
+            address = null;
+        }
+    }
+
+    private final Slot[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private volatile long flushedPosition;
+
+    private final TraceWriter trace;
+    private final long flushIntervalNanos;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private volatile boolean failed;
+
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Constructs a recorder with the default capacity and flush interval.
+     * @param trace the trace to write; closed by {@link #close()}
+     */
+    public AsyncTraceRecorder(TraceWriter trace) {
+        this(trace, DEFAULT_CAPACITY, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructs a recorder.
+     * @param trace the trace to write; closed by {@link #close()}
+     * @param capacity the minimum number of ring slots, rounded up to a power of two
+     * @param flushIntervalMillis the maximum time a written record waits to be flushed
+     */
+    public AsyncTraceRecorder(TraceWriter trace, int capacity, long flushIntervalMillis) {
+        if (trace == null) {
+            throw new IllegalArgumentException("Trace writer cannot be null");
+        }
+        if (capacity < 2 || capacity > (1 << 30) || flushIntervalMillis < 1) {
+            throw new IllegalArgumentException("Invalid trace recorder configuration");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Slot[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.trace = trace;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.writerThread = new Thread(this::runWriter, "contact-trace-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Captures a call happening now.
+     * @param operation the operation
+     * @param contactId the contact ID argument
+     * @param firstName the first name argument
+     * @param lastName the last name argument
+     * @param phone the phone argument
+     * @param address the address argument
+     * @return true if the call was queued, false if it was dropped
+     */
+    public boolean record(TraceOperation operation, String contactId, String firstName,
+                          String lastName, String phone, String address) {
+        if (failed) {
+            return false;
+        }
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) (position & mask);
+            long available = sequences.get(index) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (available < 0 || !running) {
+                // The writer has not released this slot from the previous lap: the ring is full
+                dropped.increment();
+                return false;
+            }
+        }
+
+        Slot slot = slots[index];
+        slot.operation = operation;
+        slot.nanoTime = System.nanoTime();
+        slot.contactId = contactId;
+        slot.firstName = firstName;
+        slot.lastName = lastName;
+        slot.phone = phone;
+        slot.address = address;
+        sequences.set(index, position + 1);
+
+        // Wake the writer early when the ring is filling up faster than the flush interval drains it
+        if (position - head.get() == (mask >> 1)) {
+            LockSupport.unpark(writerThread);
+        }
+        return true;
+    }
+
+    /**
+     * Blocks until every call captured before this one has been written and flushed.
+     */
+    public void flush() {
+        long target = tail.get();
+        while (flushedPosition < target && writerThread.isAlive()) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(CLOSE_WAIT_NANOS);
+        }
+    }
+
+    /**
+     * Writes all queued calls, stops the writer thread and closes the trace.
+     * Calls captured after this one are dropped.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of captured calls taken off the ring by the writer.
+     * @return the written count
+     */
+    public long getWrittenCount() {
+        return head.get();
+    }
+
+    /**
+     * Returns the number of calls dropped because the ring was full or closed.
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of captured calls not yet written.
+     * @return the pending count
+     */
+    public long getPendingCount() {
+        return Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * Returns whether recording stopped because the trace could not be written.
+     * @return true if recording has failed
+     */
+    public boolean hasFailed() {
+        return failed;
+    }
+
+    private void runWriter() {
+        long position = head.get();
+        boolean unflushed = false;
+        long lastFlush = System.nanoTime();
+        while (true) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) == position + 1) {
+                Slot slot = slots[index];
+                if (!failed) {
+                    try {
+                        trace.appendAt(slot.nanoTime, slot.operation, slot.contactId, slot.firstName,
+                                slot.lastName, slot.phone, slot.address);
+                        unflushed = true;
+                    } catch (IOException | RuntimeException e) {
+                        fail(e);
+                    }
+                }
+                slot.clear();
+                sequences.set(index, position + mask + 1);
+                head.set(++position);
+                if (unflushed && System.nanoTime() - lastFlush >= flushIntervalNanos) {
+                    flushTrace(position);
+                    unflushed = false;
+                    lastFlush = System.nanoTime();
+                }
+                continue;
+            }
+
+            if (unflushed || flushedPosition < position) {
+                flushTrace(position);
+                unflushed = false;
+                lastFlush = System.nanoTime();
+            }
+            // A claimed but unpublished slot keeps the writer alive until its producer finishes
+            if (!running && tail.get() == position) {
+                break;
+            }
+            LockSupport.parkNanos(this, running ? flushIntervalNanos : CLOSE_WAIT_NANOS);
+        }
+        try {
+            trace.close();
+        } catch (IOException e) {
+            fail(e);
+        }
+        logger.info("Trace recording stopped: written={}, dropped={}", head.get(), dropped.sum());
+    }
+
+    private void flushTrace(long position) {
+        if (!failed) {
+            try {
+                trace.flush();
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+            }
+        }
+        flushedPosition = position;
+    }
+
+    private void fail(Exception e) {
+        if (!failed) {
+            failed = true;
+            logger.error("Trace recording failed, recording stopped", e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Recording Contact Service
+ * October 2026
+ */
+package com.example.contact.replay;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.Contact;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.IContactService;
+import com.example.contact.sync.SyncResult;
+
+/**
+ * IContactService decorator that captures every call into an {@link AsyncTraceRecorder}
+ * before passing it to the wrapped service, so production traffic can be replayed
+ * later with {@link TraceReplayer}. Calls are recorded whether or not they succeed.
+ *
+ * Streaming and sync calls (publishAllContacts, publishContacts, changesSince) are
+ * passed through unrecorded: their arguments are a filter and a token that only
+ * mean something to the system they were issued against.
+ *
+ * Recording must never take the service down or slow it: capturing a call only
+ * claims a slot in the recorder's ring, never a lock or the trace file. When the
+ * writer falls behind, calls are dropped from the trace and counted by the recorder;
+ * if the trace cannot be written, recording stops while the service carries on.
+ */
+public class RecordingContactService implements IContactService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordingContactService.class);
+
+    private final IContactService delegate;
+    private final AsyncTraceRecorder recorder;
+
+    /**
+     * Constructs a recording layer in front of the given service.
+     * @param delegate the service that handles the calls
+     * @param recorder the recorder receiving the captured calls; the caller closes it
+     */
+    public RecordingContactService(IContactService delegate, AsyncTraceRecorder recorder) {
+        if (delegate == null || recorder == null) {
+            throw new IllegalArgumentException("Delegate service and trace recorder cannot be null");
+        }
+        this.delegate = delegate;
+        this.recorder = recorder;
+        logger.info("RecordingContactService initialized");
+    }
+
+    @Override
+    public void addContact(Contact contact) {
+        recordContact(TraceOperation.ADD, contact);
+        delegate.addContact(contact);
+    }
+
+    @Override
+    public void deleteContact(String contactId) {
+        record(TraceOperation.DELETE, contactId, null, null, null, null);
+        delegate.deleteContact(contactId);
+    }
+
+    @Override
+    public void updateContact(String contactId, String firstName, String lastName, String phone, String address) {
+        record(TraceOperation.UPDATE, contactId, firstName, lastName, phone, address);
+        delegate.updateContact(contactId, firstName, lastName, phone, address);
+    }
+
+    @Override
+    public Contact getContact(String contactId) {
+        record(TraceOperation.GET, contactId, null, null, null, null);
+        return delegate.getContact(contactId);
+    }
+
+    @Override
+    public Contact findContact(String contactId) {
+        record(TraceOperation.FIND, contactId, null, null, null, null);
+        return delegate.findContact(contactId);
+    }
+
+    @Override
+    public List<Contact> getAllContacts() {
+        record(TraceOperation.LIST, null, null, null, null, null);
+        return delegate.getAllContacts();
+    }
+
+    @Override
+    public Flow.Publisher<Contact> publishAllContacts() {
+        return delegate.publishAllContacts();
+    }
+
+    @Override
+    public Flow.Publisher<Contact> publishContacts(Predicate<? super Contact> filter) {
+        return delegate.publishContacts(filter);
+    }
+
+    @Override
+    public SyncResult changesSince(String token) {
+        return delegate.changesSince(token);
+    }
+
+    @Override
+    public ContactOutcome tryAddContact(Contact contact) {
+        recordContact(TraceOperation.TRY_ADD, contact);
+        return delegate.tryAddContact(contact);
+    }
+
+    @Override
+    public ContactOutcome tryDeleteContact(String contactId) {
+        record(TraceOperation.TRY_DELETE, contactId, null, null, null, null);
+        return delegate.tryDeleteContact(contactId);
+    }
+
+    @Override
+    public ContactOutcome tryUpdateContact(String contactId, String firstName, String lastName, String phone, String address) {
+        record(TraceOperation.TRY_UPDATE, contactId, firstName, lastName, phone, address);
+        return delegate.tryUpdateContact(contactId, firstName, lastName, phone, address);
+    }
+
+    /**
+     * Returns whether recording stopped because the trace could not be written.
+     * @return true if recording has failed
+     */
+    public boolean hasFailed() {
+        return recorder.hasFailed();
+    }
+
+    private void recordContact(TraceOperation operation, Contact contact) {
+        if (contact == null) {
+            record(operation, null, null, null, null, null);
+        } else {
+            record(operation, contact.getContactId(), contact.getFirstName(), contact.getLastName(),
+                    contact.getPhone(), contact.getAddress());
+        }
+    }
+
+    private void record(TraceOperation operation, String contactId, String firstName,
+                        String lastName, String phone, String address) {
+        recorder.record(operation, contactId, firstName, lastName, phone, address);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Replay Report
+ * October 2026
+ */
+package com.example.contact.replay;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.contact.metrics.LatencyHistogram;
+import com.example.contact.metrics.LatencySnapshot;
+import com.example.contact.service.ContactOutcome;
+
+/**
+ * Latency, throughput and outcomes of one trace replay.
+ * When replaying at a fixed speed, latency runs from each call's scheduled time, so a
+ * target that falls behind the trace is charged for the backlog it builds up; at
+ * maximum speed it runs from when the call was issued.
+ */
+public final class ReplayReport {
+
+    private static final ContactOutcome[] OUTCOMES = ContactOutcome.values();
+    private static final int ERROR = OUTCOMES.length;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<TraceOperation, LatencyHistogram> latencies = new EnumMap<>(TraceOperation.class);
+    private final Map<TraceOperation, LongAdder[]> outcomes = new EnumMap<>(TraceOperation.class);
+    private final LatencyHistogram all = new LatencyHistogram();
+    private final double speed;
+    private volatile long elapsedNanos;
+    private volatile long traceNanos;
+
+    ReplayReport(double speed) {
+        this.speed = speed;
+        for (TraceOperation operation : TraceOperation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+            LongAdder[] counters = new LongAdder[OUTCOMES.length + 1];
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] = new LongAdder();
+            }
+            outcomes.put(operation, counters);
+        }
+    }
+
+    void record(TraceOperation operation, ContactOutcome outcome, long latencyNanos) {
+        latencies.get(operation).record(latencyNanos);
+        all.record(latencyNanos);
+        outcomes.get(operation)[outcome == null ? ERROR : outcome.ordinal()].increment();
+    }
+
+    void finish(long elapsedNanos, long traceNanos) {
+        this.elapsedNanos = elapsedNanos;
+        this.traceNanos = traceNanos;
+    }
+
+    /**
+     * Returns the number of calls replayed.
+     * @return the call count
+     */
+    public long getCallCount() {
+        return all.snapshot().getCount();
+    }
+
+    /**
+     * Returns the wall-clock time the replay took.
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the achieved call rate.
+     * @return calls per second
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : getCallCount() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns the latency distribution over all calls.
+     * @return the snapshot
+     */
+    public LatencySnapshot getLatencies() {
+        return all.snapshot();
+    }
+
+    /**
+     * Returns the latency distribution of one operation.
+     * @param operation the operation
+     * @return the snapshot
+     */
+    public LatencySnapshot getLatencies(TraceOperation operation) {
+        return latencies.get(operation).snapshot();
+    }
+
+    /**
+     * Returns how many calls of an operation had an outcome.
+     * @param operation the operation
+     * @param outcome the outcome, or null for calls that threw unexpectedly
+     * @return the call count
+     */
+    public long getOutcomeCount(TraceOperation operation, ContactOutcome outcome) {
+        return outcomes.get(operation)[outcome == null ? ERROR : outcome.ordinal()].sum();
+    }
+
+    /**
+     * Formats the report as text.
+     * @return the report
+     */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Replay at %s: %d calls in %.3f s (trace span %.3f s), %.0f calls/s%n",
+                speed == TraceReplayer.MAX_SPEED ? "max speed" : speed + "x", getCallCount(), elapsedNanos / 1e9,
+                traceNanos / 1e9, getThroughput()));
+        out.append(String.format(Locale.ROOT, "%-10s %10s %10s", "op", "count", "mean_us"));
+        for (double percentile : PERCENTILES) {
+            out.append(String.format(Locale.ROOT, " %10s", "p" + percentile));
+        }
+        out.append(String.format(Locale.ROOT, " %10s %10s %10s%n", "max_us", "failed", "errors"));
+        for (TraceOperation operation : TraceOperation.values()) {
+            LatencySnapshot snapshot = latencies.get(operation).snapshot();
+            if (snapshot.getCount() > 0) {
+                appendRow(out, operation.name().toLowerCase(), snapshot, operation);
+            }
+        }
+        appendRow(out, "all", all.snapshot(), null);
+        return out.toString();
+    }
+
+    private void appendRow(StringBuilder out, String name, LatencySnapshot snapshot, TraceOperation operation) {
+        out.append(String.format(Locale.ROOT, "%-10s %10d %10.1f", name, snapshot.getCount(),
+                snapshot.getMeanNanos() / 1000));
+        for (double percentile : PERCENTILES) {
+            out.append(String.format(Locale.ROOT, " %10.1f", snapshot.getValueAtPercentile(percentile) / 1000.0));
+        }
+        long failed = 0;
+        long errors = 0;
+        for (TraceOperation op : TraceOperation.values()) {
+            if (operation == null || op == operation) {
+                LongAdder[] counters = outcomes.get(op);
+                for (ContactOutcome outcome : OUTCOMES) {
+                    if (!outcome.isSuccess()) {
+                        failed += counters[outcome.ordinal()].sum();
+                    }
+                }
+                errors += counters[ERROR].sum();
+            }
+        }
+        out.append(String.format(Locale.ROOT, " %10.1f %10d %10d%n", snapshot.getMaxNanos() / 1000.0, failed, errors));
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
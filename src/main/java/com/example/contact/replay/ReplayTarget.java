@@ -0,0 +1,130 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Replay Target
+ * October 2026
+ */
+package com.example.contact.replay;
+
+import com.example.contact.Contact;
+import com.example.contact.ContactBuilder;
+import com.example.contact.repository.IContactRepository;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.IContactService;
+
+/**
+ * Something a trace can be replayed against.
+ * Implementations apply one record and report its outcome; exceptions are mapped to
+ * outcomes by the replayer with {@link ContactOutcome#of(Throwable)}.
+ */
+@FunctionalInterface
+public interface ReplayTarget {
+
+    /**
+     * Applies one captured call.
+     * @param record the call
+     * @return the outcome
+     */
+    ContactOutcome apply(TraceRecord record);
+
+    /**
+     * Returns a target issuing each record as the same IContactService call.
+     * @param service the service to drive
+     * @return the target
+     */
+    static ReplayTarget forService(IContactService service) {
+        return record -> {
+            switch (record.getOperation()) {
+                case ADD:
+                    service.addContact(record.toContact());
+                    return ContactOutcome.SUCCESS;
+                case TRY_ADD:
+                    return service.tryAddContact(record.toContact());
+                case DELETE:
+                    service.deleteContact(record.getContactId());
+                    return ContactOutcome.SUCCESS;
+                case TRY_DELETE:
+                    return service.tryDeleteContact(record.getContactId());
+                case UPDATE:
+                    service.updateContact(record.getContactId(), record.getFirstName(), record.getLastName(),
+                            record.getPhone(), record.getAddress());
+                    return ContactOutcome.SUCCESS;
+                case TRY_UPDATE:
+                    return service.tryUpdateContact(record.getContactId(), record.getFirstName(),
+                            record.getLastName(), record.getPhone(), record.getAddress());
+                case GET:
+                    return service.getContact(record.getContactId()) != null
+                            ? ContactOutcome.SUCCESS : ContactOutcome.NOT_FOUND;
+                case FIND:
+                    return service.findContact(record.getContactId()) != null
+                            ? ContactOutcome.SUCCESS : ContactOutcome.NOT_FOUND;
+                case LIST:
+                    service.getAllContacts();
+                    return ContactOutcome.SUCCESS;
+                default:
+                    throw new IllegalStateException("Unhandled trace operation: " + record.getOperation());
+            }
+        };
+    }
+
+    /**
+     * Returns a target translating each record into the repository calls the service
+     * would make, without validation, locking or audit, to compare storage
+     * implementations on their own.
+     * @param repository the repository to drive
+     * @return the target
+     */
+    static ReplayTarget forRepository(IContactRepository repository) {
+        return record -> {
+            switch (record.getOperation()) {
+                case ADD:
+                case TRY_ADD: {
+                    Contact contact = record.toContact();
+                    if (contact == null) {
+                        return ContactOutcome.INVALID;
+                    }
+                    if (repository.existsById(contact.getContactId())) {
+                        return ContactOutcome.DUPLICATE;
+                    }
+                    repository.save(contact);
+                    return ContactOutcome.SUCCESS;
+                }
+                case DELETE:
+                case TRY_DELETE:
+                    return repository.deleteById(record.getContactId())
+                            ? ContactOutcome.SUCCESS : ContactOutcome.NOT_FOUND;
+                case UPDATE:
+                case TRY_UPDATE: {
+                    Contact existing = repository.findByIdOrNull(record.getContactId());
+                    if (existing == null) {
+                        return ContactOutcome.NOT_FOUND;
+                    }
+                    ContactBuilder builder = new ContactBuilder(existing);
+                    if (record.getFirstName() != null) {
+                        builder.withFirstName(record.getFirstName());
+                    }
+                    if (record.getLastName() != null) {
+                        builder.withLastName(record.getLastName());
+                    }
+                    if (record.getPhone() != null) {
+                        builder.withPhone(record.getPhone());
+                    }
+                    if (record.getAddress() != null) {
+                        builder.withAddress(record.getAddress());
+                    }
+                    repository.save(builder.build());
+                    return ContactOutcome.SUCCESS;
+                }
+                case GET:
+                case FIND:
+                    return repository.findByIdOrNull(record.getContactId()) != null
+                            ? ContactOutcome.SUCCESS : ContactOutcome.NOT_FOUND;
+                case LIST:
+                    repository.findAll();
+                    return ContactOutcome.SUCCESS;
+                default:
+                    throw new IllegalStateException("Unhandled trace operation: " + record.getOperation());
+            }
+        };
+    }
+}
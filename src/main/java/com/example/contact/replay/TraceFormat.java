@@ -0,0 +1,85 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Trace Format
+ * October 2026
+ */
+package com.example.contact.replay;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * On-disk layout shared by the trace writer and reader.
+ *
+ * A trace starts with {@link #MAGIC}, the format version, and the wall-clock start
+ * time in epoch milliseconds, followed by records:
+ * <pre>
+ *   varlong  nanoseconds since the previous record (since the start for the first)
+ *   byte     TraceOperation ordinal
+ *   str      the operation's string arguments, {@link TraceOperation#getFieldCount()} of them
+ * </pre>
+ * where varlong is an unsigned LEB128 value and each {@code str} is a presence byte
+ * followed by modified UTF-8 when present. A typical lookup takes about a dozen bytes.
+ */
+final class TraceFormat {
+
+    static final int MAGIC = 0x43545243;    // "CTRC"
+    static final int VERSION = 1;
+
+    /** Longest string stored; longer values are truncated */
+    static final int MAX_STRING_CHARS = 8192;
+
+    private TraceFormat() {
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a varlong, returning -1 at a clean end of stream before its first byte.
+     */
+    static long readVarLongOrEnd(DataInput in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            int b;
+            try {
+                b = in.readUnsignedByte();
+            } catch (EOFException e) {
+                if (shift == 0) {
+                    return -1;
+                }
+                throw e;
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IOException("Malformed varlong in trace");
+            }
+        }
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeByte(0);
+            return;
+        }
+        out.writeByte(1);
+        out.writeUTF(value.length() > MAX_STRING_CHARS ? value.substring(0, MAX_STRING_CHARS) : value);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        return in.readByte() == 0 ? null : in.readUTF();
+    }
+}
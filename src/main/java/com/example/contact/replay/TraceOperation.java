@@ -0,0 +1,52 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Trace Operation
+ * October 2026
+ */
+package com.example.contact.replay;
+
+/**
+ * IContactService calls captured in a workload trace, with the number of string
+ * arguments each one stores.
+ */
+public enum TraceOperation {
+    /** addContact: contact ID, first name, last name, phone, address */
+    ADD(5),
+    /** deleteContact: contact ID */
+    DELETE(1),
+    /** updateContact: contact ID, first name, last name, phone, address */
+    UPDATE(5),
+    /** getContact: contact ID */
+    GET(1),
+    /** findContact: contact ID */
+    FIND(1),
+    /** getAllContacts */
+    LIST(0),
+    /** tryAddContact: as ADD */
+    TRY_ADD(5),
+    /** tryDeleteContact: as DELETE */
+    TRY_DELETE(1),
+    /** tryUpdateContact: as UPDATE */
+    TRY_UPDATE(5);
+
+    private static final TraceOperation[] VALUES = values();
+
+    private final int fieldCount;
+
+    TraceOperation(int fieldCount) {
+        this.fieldCount = fieldCount;
+    }
+
+    /**
+     * Returns the number of string arguments stored for this operation.
+     * @return 0, 1 or 5
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    static TraceOperation of(int ordinal) {
+        return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : null;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Trace Reader
+ * October 2026
+ */
+package com.example.contact.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads trace records written by {@link TraceWriter}, one at a time.
+ * A trace cut short mid-record, for example by a crash while recording, reads up to
+ * the last complete record and then fails.
+ */
+public class TraceReader implements AutoCloseable {
+
+    private final DataInputStream in;
+    private final long startMillis;
+    private long offsetNanos;
+
+    /**
+     * Opens a trace file and reads its header.
+     * @param file the trace file
+     * @throws IOException if the file cannot be read or is not a trace
+     */
+    public TraceReader(Path file) throws IOException {
+        this(Files.newInputStream(file));
+    }
+
+    /**
+     * Reads a trace from a stream.
+     * @param stream the source; closed by {@link #close()}
+     * @throws IOException if the header cannot be read or is not a trace
+     */
+    public TraceReader(InputStream stream) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(stream, 64 * 1024));
+        if (in.readInt() != TraceFormat.MAGIC) {
+            in.close();
+            throw new IOException("Not a contact trace");
+        }
+        int version = in.readInt();
+        if (version != TraceFormat.VERSION) {
+            in.close();
+            throw new IOException("Unsupported trace version: " + version);
+        }
+        this.startMillis = in.readLong();
+    }
+
+    /**
+     * Reads every record of a trace file.
+     * @param file the trace file
+     * @return the records in order
+     * @throws IOException if the file cannot be read
+     */
+    public static List<TraceRecord> readAll(Path file) throws IOException {
+        List<TraceRecord> records = new ArrayList<>();
+        try (TraceReader reader = new TraceReader(file)) {
+            TraceRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the wall-clock time the trace was started.
+     * @return milliseconds since the epoch
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * Reads the next record.
+     * @return the record, or null at the end of the trace
+     * @throws IOException if the trace cannot be read or is malformed
+     */
+    public TraceRecord next() throws IOException {
+        long delta = TraceFormat.readVarLongOrEnd(in);
+        if (delta < 0) {
+            return null;
+        }
+        int ordinal = in.readUnsignedByte();
+        TraceOperation operation = TraceOperation.of(ordinal);
+        if (operation == null) {
+            throw new IOException("Unknown trace operation: " + ordinal);
+        }
+        String[] fields = new String[5];
+        for (int i = 0; i < operation.getFieldCount(); i++) {
+            fields[i] = TraceFormat.readString(in);
+        }
+        offsetNanos += delta;
+        return new TraceRecord(operation, offsetNanos, fields[0], fields[1], fields[2], fields[3], fields[4]);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
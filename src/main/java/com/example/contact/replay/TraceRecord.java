@@ -0,0 +1,133 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Trace Record
+ * October 2026
+ */
+package com.example.contact.replay;
+
+import com.example.contact.Contact;
+
+/**
+ * One captured call: the operation, when it started relative to the start of the
+ * trace, and its arguments. Fields an operation does not use are null, as are the
+ * fields of an ADD whose contact was null.
+ */
+public final class TraceRecord {
+
+    private final TraceOperation operation;
+    private final long offsetNanos;
+    private final String contactId;
+    private final String firstName;
+    private final String lastName;
+    private final String phone;
+    private final String address;
+
+    /**
+     * Constructs a record.
+     * @param operation the operation
+     * @param offsetNanos nanoseconds from the start of the trace to the call
+     * @param contactId the contact ID argument
+     * @param firstName the first name argument
+     * @param lastName the last name argument
+     * @param phone the phone argument
+     * @param address the address argument
+     */
+    public TraceRecord(TraceOperation operation, long offsetNanos, String contactId,
+                       String firstName, String lastName, String phone, String address) {
+        if (operation == null || offsetNanos < 0) {
+            throw new IllegalArgumentException("Trace record needs an operation and a non-negative offset");
+        }
+        this.operation = operation;
+        this.offsetNanos = offsetNanos;
+        this.contactId = contactId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.phone = phone;
+        this.address = address;
+    }
+
+    /**
+     * Rebuilds the contact argument of an ADD or TRY_ADD.
+     * @return the contact, or null if the call passed null
+     * @throws IllegalArgumentException if the recorded fields do not form a valid contact
+     */
+    public Contact toContact() {
+        if (contactId == null && firstName == null && lastName == null && phone == null && address == null) {
+            return null;
+        }
+        return new Contact(contactId, firstName, lastName, phone, address);
+    }
+
+    /**
+     * Returns the captured operation.
+     * @return the operation
+     */
+    public TraceOperation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns when the call started, relative to the start of the trace.
+     * @return nanoseconds since the trace started
+     */
+    public long getOffsetNanos() {
+        return offsetNanos;
+    }
+
+    /**
+     * Returns the contact ID argument.
+     * @return the contact ID, or null if unused
+     */
+    public String getContactId() {
+        return contactId;
+    }
+
+    /**
+     * Returns the first name argument.
+     * @return the first name, or null if unused or unchanged
+     */
+    public String getFirstName() {
+        return firstName;
+    }
+
+    /**
+     * Returns the last name argument.
+     * @return the last name, or null if unused or unchanged
+     */
+    public String getLastName() {
+        return lastName;
+    }
+
+    /**
+     * Returns the phone argument.
+     * @return the phone, or null if unused or unchanged
+     */
+    public String getPhone() {
+        return phone;
+    }
+
+    /**
+     * Returns the address argument.
+     * @return the address, or null if unused or unchanged
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    String field(int index) {
+        switch (index) {
+            case 0: return contactId;
+            case 1: return firstName;
+            case 2: return lastName;
+            case 3: return phone;
+            case 4: return address;
+            default: throw new IndexOutOfBoundsException("Field index: " + index);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TraceRecord{" + operation + " +" + offsetNanos + "ns id=" + contactId + "}";
+    }
+}
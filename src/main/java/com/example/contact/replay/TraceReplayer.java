@@ -0,0 +1,218 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Trace Replayer
+ * October 2026
+ */
+package com.example.contact.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.concurrent.ContactExecutors;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.ContactServiceImpl;
+
+/**
+ * Replays a captured trace against a {@link ReplayTarget} and reports latency and throughput.
+ *
+ * The speed scales the trace's timeline: 1 issues each call at its original offset
+ * from the start, 2 at half of it, and {@link #MAX_SPEED} as fast as the target
+ * accepts them. Calls are spread over worker threads by contact ID, so calls for one
+ * contact are applied in trace order while different contacts proceed in parallel;
+ * calls without an ID are spread round-robin.
+ *
+ * Command line: {@code TraceReplayer <trace> [--speed=N|max] [--threads=N]
+ * [--target=service|repository]} replays into a fresh in-memory service or
+ * repository and prints the report.
+ */
+public class TraceReplayer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TraceReplayer.class);
+
+    /** Speed value meaning "issue calls as fast as possible" */
+    public static final double MAX_SPEED = 0;
+
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final TraceRecord END = new TraceRecord(TraceOperation.LIST, 0, null, null, null, null, null);
+
+    private final ReplayTarget target;
+    private final double speed;
+    private final int threads;
+
+    /**
+     * Constructs a single-threaded replayer.
+     * @param target what to replay against
+     * @param speed the timeline scale, or {@link #MAX_SPEED}
+     */
+    public TraceReplayer(ReplayTarget target, double speed) {
+        this(target, speed, 1);
+    }
+
+    /**
+     * Constructs a replayer.
+     * @param target what to replay against
+     * @param speed the timeline scale, or {@link #MAX_SPEED}
+     * @param threads the number of worker threads
+     */
+    public TraceReplayer(ReplayTarget target, double speed, int threads) {
+        if (target == null) {
+            throw new IllegalArgumentException("Replay target cannot be null");
+        }
+        if (speed < 0 || Double.isNaN(speed) || threads < 1) {
+            throw new IllegalArgumentException("Invalid replay settings: speed=" + speed + ", threads=" + threads);
+        }
+        this.target = target;
+        this.speed = speed;
+        this.threads = threads;
+    }
+
+    /**
+     * Replays a trace file.
+     * @param trace the trace file
+     * @return the report
+     * @throws IOException if the trace cannot be read
+     * @throws InterruptedException if interrupted while replaying
+     */
+    public ReplayReport replay(Path trace) throws IOException, InterruptedException {
+        try (TraceReader reader = new TraceReader(trace)) {
+            return replay(reader);
+        }
+    }
+
+    /**
+     * Replays the records of an open trace.
+     * @param reader the trace
+     * @return the report
+     * @throws IOException if the trace cannot be read
+     * @throws InterruptedException if interrupted while replaying
+     */
+    public ReplayReport replay(TraceReader reader) throws IOException, InterruptedException {
+        ReplayReport report = new ReplayReport(speed);
+        List<BlockingQueue<TraceRecord>> queues = new ArrayList<>(threads);
+        List<Thread> workers = new ArrayList<>(threads);
+        ThreadFactory factory = ContactExecutors.daemonThreads("contact-replay");
+        long start = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            BlockingQueue<TraceRecord> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            queues.add(queue);
+            Thread worker = factory.newThread(() -> runWorker(queue, report, start));
+            workers.add(worker);
+            worker.start();
+        }
+
+        long lastOffset = 0;
+        int roundRobin = 0;
+        try {
+            TraceRecord record;
+            while ((record = reader.next()) != null) {
+                lastOffset = record.getOffsetNanos();
+                int worker = record.getContactId() != null
+                        ? Math.floorMod(record.getContactId().hashCode(), threads)
+                        : roundRobin++ % threads;
+                queues.get(worker).put(record);
+            }
+        } finally {
+            for (BlockingQueue<TraceRecord> queue : queues) {
+                queue.put(END);
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        }
+        report.finish(System.nanoTime() - start, lastOffset);
+        logger.info("Replayed {} calls at {} calls/s", report.getCallCount(), (long) report.getThroughput());
+        return report;
+    }
+
+    private void runWorker(BlockingQueue<TraceRecord> queue, ReplayReport report, long start) {
+        try {
+            while (true) {
+                TraceRecord record = queue.take();
+                if (record == END) {
+                    return;
+                }
+                long scheduled;
+                if (speed == MAX_SPEED) {
+                    scheduled = System.nanoTime();
+                } else {
+                    scheduled = start + (long) (record.getOffsetNanos() / speed);
+                    awaitNanos(scheduled);
+                }
+                ContactOutcome outcome;
+                try {
+                    outcome = target.apply(record);
+                } catch (RuntimeException e) {
+                    outcome = ContactOutcome.of(e);
+                }
+                report.record(record.getOperation(), outcome, System.nanoTime() - scheduled);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitNanos(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        while (remaining > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    /**
+     * Replays a trace file into a fresh in-memory service or repository and prints the report.
+     * @param args the trace file followed by --speed, --threads and --target options
+     * @throws Exception if the replay fails
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: TraceReplayer <trace> [--speed=N|max] [--threads=N] [--target=service|repository]");
+            System.exit(2);
+        }
+        double speed = 1;
+        int threads = 1;
+        String targetName = "service";
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.startsWith("--speed=")) {
+                String value = arg.substring("--speed=".length());
+                speed = "max".equals(value) ? MAX_SPEED : Double.parseDouble(value);
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(arg.substring("--threads=".length()));
+            } else if (arg.startsWith("--target=")) {
+                targetName = arg.substring("--target=".length());
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        InMemoryContactRepository repository = new InMemoryContactRepository();
+        ReplayTarget target;
+        if ("service".equals(targetName)) {
+            target = ReplayTarget.forService(new ContactServiceImpl(repository));
+        } else if ("repository".equals(targetName)) {
+            target = ReplayTarget.forRepository(repository);
+        } else {
+            throw new IllegalArgumentException("Unknown target: " + targetName);
+        }
+        ReplayReport report = new TraceReplayer(target, speed, threads).replay(Paths.get(args[0]));
+        System.out.print(report.format());
+    }
+}
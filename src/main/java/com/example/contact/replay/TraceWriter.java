@@ -0,0 +1,125 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Trace Writer
+ * October 2026
+ */
+package com.example.contact.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Appends trace records to a file in {@link TraceFormat}.
+ * Appends are synchronized, so one writer can be shared by concurrent callers;
+ * records must be appended in non-decreasing offset order, which taking the offset
+ * inside {@link #append(TraceOperation, String, String, String, String, String)} guarantees.
+ * Request paths should not append directly, since an append may block on the file;
+ * {@link AsyncTraceRecorder} does the writing on its own thread.
+ */
+public class TraceWriter implements AutoCloseable {
+
+    private final DataOutputStream out;
+    private final long startNanos;
+    private long lastOffsetNanos;
+    private long recordCount;
+
+    /**
+     * Creates a trace file, replacing any existing file, starting the trace clock now.
+     * @param file the trace file
+     * @throws IOException if the file cannot be created
+     */
+    public TraceWriter(Path file) throws IOException {
+        this(Files.newOutputStream(file));
+    }
+
+    /**
+     * Writes a trace to a stream, starting the trace clock now.
+     * @param stream the destination; closed by {@link #close()}
+     * @throws IOException if the header cannot be written
+     */
+    public TraceWriter(OutputStream stream) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(stream, 64 * 1024));
+        this.startNanos = System.nanoTime();
+        out.writeInt(TraceFormat.MAGIC);
+        out.writeInt(TraceFormat.VERSION);
+        out.writeLong(System.currentTimeMillis());
+    }
+
+    /**
+     * Appends a call happening now.
+     * @param operation the operation
+     * @param contactId the contact ID argument
+     * @param firstName the first name argument
+     * @param lastName the last name argument
+     * @param phone the phone argument
+     * @param address the address argument
+     * @throws IOException if the record cannot be written
+     */
+    public void append(TraceOperation operation, String contactId, String firstName,
+                       String lastName, String phone, String address) throws IOException {
+        appendAt(System.nanoTime(), operation, contactId, firstName, lastName, phone, address);
+    }
+
+    /**
+     * Appends a call captured earlier, at the later of its capture time and the
+     * previous record's offset.
+     * @param nanoTime the {@link System#nanoTime()} at which the call was captured
+     * @param operation the operation
+     * @param contactId the contact ID argument
+     * @param firstName the first name argument
+     * @param lastName the last name argument
+     * @param phone the phone argument
+     * @param address the address argument
+     * @throws IOException if the record cannot be written
+     */
+    public synchronized void appendAt(long nanoTime, TraceOperation operation, String contactId, String firstName,
+                                      String lastName, String phone, String address) throws IOException {
+        append(new TraceRecord(operation, Math.max(lastOffsetNanos, nanoTime - startNanos),
+                contactId, firstName, lastName, phone, address));
+    }
+
+    /**
+     * Appends a record with its own offset.
+     * @param record the record; its offset must not precede the previous record's
+     * @throws IOException if the record cannot be written
+     */
+    public synchronized void append(TraceRecord record) throws IOException {
+        long delta = record.getOffsetNanos() - lastOffsetNanos;
+        if (delta < 0) {
+            throw new IllegalArgumentException("Trace records must be appended in time order");
+        }
+        TraceFormat.writeVarLong(out, delta);
+        out.writeByte(record.getOperation().ordinal());
+        for (int i = 0; i < record.getOperation().getFieldCount(); i++) {
+            TraceFormat.writeString(out, record.field(i));
+        }
+        lastOffsetNanos = record.getOffsetNanos();
+        recordCount++;
+    }
+
+    /**
+     * Returns the number of records appended.
+     * @return the record count
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Writes buffered records to the file.
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
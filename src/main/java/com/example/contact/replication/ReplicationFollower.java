@@ -0,0 +1,475 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Replication Follower
+ * October 2026
+ */
+package com.example.contact.replication;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.Contact;
+import com.example.contact.audit.AuditSink;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.concurrent.ContactExecutors;
+import com.example.contact.repository.IContactRepository;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.server.ContactHttpServer;
+import com.example.contact.service.ContactServiceImpl;
+
+/**
+ * Read replica of a {@link ReplicationPrimary}'s repository.
+ *
+ * A background thread connects to the primary, bootstraps from a snapshot when it
+ * has no usable position, and applies the mutation log to a local
+ * InMemoryContactRepository. A snapshot is loaded into a fresh repository that
+ * replaces the current one only once complete, so readers never see a half-loaded
+ * replica. When the connection drops the follower keeps serving its last state and
+ * reconnects with backoff, resuming from the log tail when the primary still has it.
+ *
+ * Reads go through {@link #getRepository()}, a read-only view whose writes throw
+ * UnsupportedOperationException. Staleness is reported by {@link #getLagMillis()},
+ * the time since the follower was last known to have applied everything the primary
+ * had, and {@link #getLagEvents()}, the number of known events not yet applied
+ * in the current feed epoch. The primary reports its position after every batch
+ * as well as while idle, so both stay meaningful under sustained writes: once the
+ * follower applies the position a report carried, it was in sync as of that report.
+ */
+public class ReplicationFollower implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicationFollower.class);
+
+    private static final AuditSink NO_AUDIT = (type, contactId, detail1, detail2) -> { };
+    private static final long INITIAL_BACKOFF_MILLIS = 50;
+    private static final long MAX_BACKOFF_MILLIS = 2000;
+    private static final long LAG_REPORT_SECONDS = 5;
+
+    private final InetSocketAddress primaryAddress;
+    private final ReplicaRepository view = new ReplicaRepository();
+    private final Thread replicator;
+    private final LongAdder eventsApplied = new LongAdder();
+    private final LongAdder snapshotsLoaded = new LongAdder();
+    private final Object progress = new Object();
+
+    private volatile InMemoryContactRepository current;
+    private volatile boolean running = true;
+    private volatile boolean connected;
+    private volatile Socket socket;
+    private volatile long epoch;
+    private volatile long appliedSequence;
+    private volatile long primarySequence;
+    private volatile long lastInSyncMillis;
+    // Oldest primary position reported but not yet applied, touched only by the replicator thread
+    private long pendingSequence = -1;
+    private long pendingMillis;
+
+    /**
+     * Constructs a follower of the primary at the given address.
+     * Replication starts with {@link #start}.
+     * @param host the primary host
+     * @param port the primary replication port
+     */
+    public ReplicationFollower(String host, int port) {
+        this.primaryAddress = new InetSocketAddress(host, port);
+        this.current = newReplica();
+        this.replicator = ContactExecutors.daemonThreads("contact-follower").newThread(this::replicate);
+    }
+
+    /**
+     * Starts replicating in the background.
+     */
+    public void start() {
+        replicator.start();
+    }
+
+    /**
+     * Returns the read-only view of the replicated contacts.
+     * @return the replica repository
+     */
+    public IContactRepository getRepository() {
+        return view;
+    }
+
+    /**
+     * Returns true while connected to the primary.
+     * @return true if connected
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Returns true once a snapshot or resumed log has given the replica a defined state.
+     * @return true if bootstrapped
+     */
+    public boolean isBootstrapped() {
+        return epoch != 0;
+    }
+
+    /**
+     * Returns the sequence of the last mutation applied.
+     * @return the applied sequence
+     */
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    /**
+     * Returns how many mutations the primary is known to have that are not applied here.
+     * @return the lag in events
+     */
+    public long getLagEvents() {
+        return Math.max(0, primarySequence - appliedSequence);
+    }
+
+    /**
+     * Returns the time since the replica was last confirmed to hold everything the primary had.
+     * @return the lag in milliseconds, or Long.MAX_VALUE before the first confirmation
+     */
+    public long getLagMillis() {
+        long inSync = lastInSyncMillis;
+        return inSync == 0 ? Long.MAX_VALUE : Math.max(0, System.currentTimeMillis() - inSync);
+    }
+
+    /**
+     * Returns the number of snapshots loaded.
+     * @return the snapshot count
+     */
+    public long getSnapshotCount() {
+        return snapshotsLoaded.sum();
+    }
+
+    /**
+     * Returns the number of log events applied, excluding snapshot contents.
+     * @return the applied event count
+     */
+    public long getEventsApplied() {
+        return eventsApplied.sum();
+    }
+
+    /**
+     * Returns the epoch of the primary feed the replica currently follows.
+     * @return the feed epoch, or 0 before the first snapshot
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Waits until the replica has applied the given primary sequence, for reading
+     * one's own writes through a replica. Sequences are only meaningful within one
+     * feed epoch; after the primary restarts they begin again from 1, so a sequence
+     * taken before the restart may be reported as applied too early or never. Use
+     * {@link #awaitSequence(long, long, long, TimeUnit)} when the primary may restart.
+     * @param sequence the primary sequence to wait for
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if the sequence was applied in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitSequence(long sequence, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (progress) {
+            while (appliedSequence < sequence) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(progress, remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Waits until the replica follows the given feed epoch and has applied the given
+     * sequence in it. A sequence from an epoch the primary no longer uses is never
+     * reached, so the call returns false at the timeout.
+     * @param sequenceEpoch the epoch the sequence belongs to, from {@link ReplicationPrimary#getEpoch()}
+     * @param sequence the primary sequence to wait for
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if the sequence was applied in that epoch in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitSequence(long sequenceEpoch, long sequence, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (progress) {
+            while (epoch != sequenceEpoch || appliedSequence < sequence) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(progress, remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops replicating. The replica keeps its last state.
+     */
+    @Override
+    public void close() {
+        running = false;
+        Socket open = socket;
+        if (open != null) {
+            closeQuietly(open);
+        }
+        replicator.interrupt();
+        try {
+            replicator.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void replicate() {
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        while (running) {
+            try (Socket open = new Socket()) {
+                socket = open;
+                open.connect(primaryAddress, ReplicationProtocol.READ_TIMEOUT_MILLIS);
+                open.setTcpNoDelay(true);
+                open.setSoTimeout(ReplicationProtocol.READ_TIMEOUT_MILLIS);
+                connected = true;
+                pendingSequence = -1;
+                backoff = INITIAL_BACKOFF_MILLIS;
+                logger.info("Connected to primary {} (epoch {}, applied {})", primaryAddress, epoch, appliedSequence);
+                follow(open);
+            } catch (IOException e) {
+                if (running) {
+                    logger.warn("Replication from {} interrupted: {}", primaryAddress, e.toString());
+                }
+            } finally {
+                connected = false;
+                socket = null;
+            }
+            if (!running) {
+                break;
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    private void follow(Socket open) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(open.getOutputStream()));
+        out.writeInt(ReplicationProtocol.MAGIC);
+        out.writeInt(ReplicationProtocol.VERSION);
+        out.writeLong(epoch);
+        out.writeLong(appliedSequence);
+        out.flush();
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(open.getInputStream()));
+        while (running) {
+            byte type = in.readByte();
+            switch (type) {
+                case ReplicationProtocol.SNAPSHOT_BEGIN:
+                    loadSnapshot(in);
+                    break;
+                case ReplicationProtocol.UPSERT: {
+                    long sequence = in.readLong();
+                    Contact contact = ReplicationProtocol.readContact(in);
+                    if (sequence > appliedSequence) {
+                        current.save(contact);
+                        applied(sequence);
+                    }
+                    break;
+                }
+                case ReplicationProtocol.DELETE: {
+                    long sequence = in.readLong();
+                    String contactId = in.readUTF();
+                    if (sequence > appliedSequence) {
+                        current.deleteById(contactId);
+                        applied(sequence);
+                    }
+                    break;
+                }
+                case ReplicationProtocol.CLEAR: {
+                    long sequence = in.readLong();
+                    if (sequence > appliedSequence) {
+                        current.clear();
+                        applied(sequence);
+                    }
+                    break;
+                }
+                case ReplicationProtocol.HEARTBEAT: {
+                    long last = in.readLong();
+                    long now = System.currentTimeMillis();
+                    primarySequence = Math.max(primarySequence, last);
+                    if (appliedSequence >= last) {
+                        lastInSyncMillis = now;
+                        pendingSequence = -1;
+                    } else if (pendingSequence < 0) {
+                        pendingSequence = last;
+                        pendingMillis = now;
+                    }
+                    break;
+                }
+                default:
+                    throw new IOException("Unknown replication message: " + type);
+            }
+        }
+    }
+
+    private void loadSnapshot(DataInputStream in) throws IOException {
+        long snapshotEpoch = in.readLong();
+        long position = in.readLong();
+        InMemoryContactRepository staging = newReplica();
+        int count = 0;
+        byte type;
+        while ((type = in.readByte()) == ReplicationProtocol.UPSERT) {
+            in.readLong();
+            staging.save(ReplicationProtocol.readContact(in));
+            count++;
+        }
+        if (type != ReplicationProtocol.SNAPSHOT_END) {
+            throw new IOException("Unterminated snapshot");
+        }
+        current = staging;
+        if (snapshotEpoch != epoch) {
+            pendingSequence = -1;
+        }
+        // Sequences restart with each feed epoch, so a new epoch's position replaces the old one
+        primarySequence = snapshotEpoch == epoch ? Math.max(primarySequence, position) : position;
+        epoch = snapshotEpoch;
+        snapshotsLoaded.increment();
+        synchronized (progress) {
+            appliedSequence = position;
+            progress.notifyAll();
+        }
+        caughtUp(position);
+        logger.info("Loaded snapshot of {} contacts at sequence {}", count, position);
+    }
+
+    private void applied(long sequence) {
+        eventsApplied.increment();
+        primarySequence = Math.max(primarySequence, sequence);
+        synchronized (progress) {
+            appliedSequence = sequence;
+            progress.notifyAll();
+        }
+        caughtUp(sequence);
+    }
+
+    private void caughtUp(long sequence) {
+        if (pendingSequence >= 0 && sequence >= pendingSequence) {
+            // Everything the primary had when it sent the report is now applied
+            lastInSyncMillis = pendingMillis;
+            pendingSequence = -1;
+        }
+    }
+
+    private static InMemoryContactRepository newReplica() {
+        // The primary enforces the contact limit and audits the writes
+        return new InMemoryContactRepository(new ChangeFeed(), NO_AUDIT, Integer.MAX_VALUE);
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            logger.debug("Close failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Read-only view of whichever replica repository is current.
+     */
+    private final class ReplicaRepository implements IContactRepository {
+
+        @Override
+        public void save(Contact contact) {
+            throw new UnsupportedOperationException("Replica is read-only");
+        }
+
+        @Override
+        public Optional<Contact> findById(String contactId) {
+            return current.findById(contactId);
+        }
+
+        @Override
+        public Contact findByIdOrNull(String contactId) {
+            return current.findByIdOrNull(contactId);
+        }
+
+        @Override
+        public boolean existsById(String contactId) {
+            return current.existsById(contactId);
+        }
+
+        @Override
+        public boolean deleteById(String contactId) {
+            throw new UnsupportedOperationException("Replica is read-only");
+        }
+
+        @Override
+        public List<Contact> findAll() {
+            return current.findAll();
+        }
+
+        @Override
+        public Iterator<Contact> iterateAll() {
+            return current.iterateAll();
+        }
+
+        @Override
+        public int count() {
+            return current.count();
+        }
+    }
+
+    /**
+     * Runs a follower node serving read-only HTTP from its replica and logging its lag.
+     * @param args the primary host, its replication port, and the HTTP port to serve on
+     * @throws IOException if the HTTP port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: ReplicationFollower <primary-host> <replication-port> <http-port>");
+            System.exit(2);
+        }
+        ReplicationFollower follower = new ReplicationFollower(args[0], Integer.parseInt(args[1]));
+        ContactHttpServer http = new ContactHttpServer(new ContactServiceImpl(follower.getRepository()),
+                Integer.parseInt(args[2]));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            http.close();
+            follower.close();
+        }, "contact-follower-shutdown"));
+        follower.start();
+        http.start();
+        ContactExecutors.daemonThreads("contact-follower-lag").newThread(() -> {
+            while (true) {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(LAG_REPORT_SECONDS));
+                } catch (InterruptedException e) {
+                    return;
+                }
+                logger.info("Replica: connected={}, applied={}, lagEvents={}, lagMillis={}, contacts={}",
+                        follower.isConnected(), follower.getAppliedSequence(), follower.getLagEvents(),
+                        follower.getLagMillis(), follower.getRepository().count());
+            }
+        }).start();
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Replication Primary
+ * October 2026
+ */
+package com.example.contact.replication;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.Contact;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.changefeed.ChangeFeedCursor;
+import com.example.contact.changefeed.ChangeFeedSource;
+import com.example.contact.changefeed.ContactChangeEvent;
+import com.example.contact.concurrent.ContactExecutors;
+import com.example.contact.exception.ChangeFeedOverrunException;
+import com.example.contact.repository.IContactRepository;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.server.ContactHttpServer;
+import com.example.contact.service.ContactServiceImpl;
+
+/**
+ * Ships a repository's mutations to {@link ReplicationFollower}s over TCP.
+ *
+ * The ordered mutation log is the repository's own {@link ChangeFeed}, so the
+ * primary adds nothing to the write path: each follower session tails the feed
+ * with its own cursor on its own thread. A follower that reconnects with the same
+ * feed epoch and a position still inside the ring resumes from the log tail. A new
+ * follower, one from another epoch, or one that falls so far behind that the ring
+ * overwrites its position is sent a snapshot first: the current feed position,
+ * then every contact, then the events after that position. Replaying events
+ * already reflected in the snapshot is harmless because each event carries the
+ * contact's full state, so the follower converges on the primary.
+ *
+ * While a snapshot streams, the session keeps draining the feed into a private
+ * tail buffer, so writes during a long snapshot do not overrun the session's
+ * cursor and force another one. How long a disconnected follower can be away and
+ * still resume from the log is set by the feed's capacity; size the repository's
+ * ChangeFeed accordingly ({@link #main} uses {@link #DEFAULT_LOG_CAPACITY}).
+ *
+ * Followers see mutations in feed order. As with delta sync, concurrent writes to
+ * one ID that bypass the service's per-ID locks may be published out of order.
+ */
+public class ReplicationPrimary implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicationPrimary.class);
+
+    /** Default replication port for {@link #main} */
+    public static final int DEFAULT_PORT = 7600;
+
+    /** Change feed capacity used by {@link #main}: the writes a follower may miss and still resume */
+    public static final int DEFAULT_LOG_CAPACITY = 1 << 18;
+
+    private static final int BATCH_SIZE = 256;
+    /** Contacts written between drains of the feed into a snapshot's tail buffer */
+    private static final int TAIL_DRAIN_INTERVAL = 64;
+    /** Events buffered during one snapshot before it is abandoned and resent */
+    private static final int MAX_SNAPSHOT_TAIL = 1 << 20;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+    private final IContactRepository repository;
+    private final ChangeFeed feed;
+    private final ServerSocket serverSocket;
+    private final ThreadFactory threads = ContactExecutors.daemonThreads("contact-replication");
+    private final Set<Socket> sessions = ConcurrentHashMap.newKeySet();
+    private Thread acceptor;
+    private final LongAdder snapshots = new LongAdder();
+    private final LongAdder eventsShipped = new LongAdder();
+    private volatile boolean running;
+
+    /**
+     * Binds a replication endpoint for a repository that publishes a change feed.
+     * @param repository the repository to replicate
+     * @param port the port to listen on, or 0 for an ephemeral port
+     * @throws IOException if the port cannot be bound
+     */
+    public ReplicationPrimary(IContactRepository repository, int port) throws IOException {
+        ChangeFeed changeFeed = repository instanceof ChangeFeedSource
+                ? ((ChangeFeedSource) repository).getChangeFeed()
+                : null;
+        if (changeFeed == null) {
+            throw new IllegalArgumentException("Repository must publish a change feed to be replicated");
+        }
+        this.repository = repository;
+        this.feed = changeFeed;
+        this.serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(port));
+    }
+
+    /**
+     * Starts accepting followers.
+     */
+    public void start() {
+        running = true;
+        acceptor = threads.newThread(this::acceptFollowers);
+        acceptor.start();
+        logger.info("ReplicationPrimary listening on port {} (epoch {})", getPort(), feed.getEpoch());
+    }
+
+    /**
+     * Returns the port the primary is bound to.
+     * @return the local port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of connected followers.
+     * @return the follower count
+     */
+    public int getFollowerCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Returns the sequence of the latest mutation, for comparing against a follower's position.
+     * @return the last feed sequence
+     */
+    public long getLastSequence() {
+        return feed.getLastSequence();
+    }
+
+    /**
+     * Returns the epoch of the replicated feed; sequences are only comparable within one epoch.
+     * @return the feed epoch
+     */
+    public long getEpoch() {
+        return feed.getEpoch();
+    }
+
+    /**
+     * Returns the number of snapshots sent to followers.
+     * @return the snapshot count
+     */
+    public long getSnapshotCount() {
+        return snapshots.sum();
+    }
+
+    /**
+     * Returns the number of log events sent to followers, over all sessions.
+     * @return the shipped event count
+     */
+    public long getEventsShipped() {
+        return eventsShipped.sum();
+    }
+
+    /**
+     * Stops accepting followers and disconnects the connected ones.
+     */
+    @Override
+    public void close() {
+        running = false;
+        closeQuietly(serverSocket);
+        if (acceptor != null) {
+            // The listening socket is released only once the accepting thread has left accept()
+            try {
+                acceptor.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (Iterator<Socket> it = sessions.iterator(); it.hasNext();) {
+            closeQuietly(it.next());
+            it.remove();
+        }
+        logger.info("ReplicationPrimary stopped: snapshots={}, events={}", snapshots.sum(), eventsShipped.sum());
+    }
+
+    private void acceptFollowers() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                sessions.add(socket);
+                threads.newThread(() -> serve(socket)).start();
+            } catch (IOException e) {
+                if (running) {
+                    logger.error("Accepting follower failed", e);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        String follower = String.valueOf(socket.getRemoteSocketAddress());
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            if (in.readInt() != ReplicationProtocol.MAGIC || in.readInt() != ReplicationProtocol.VERSION) {
+                logger.warn("Rejected replication client {}: bad handshake", follower);
+                return;
+            }
+            long epoch = in.readLong();
+            long applied = in.readLong();
+
+            ChangeFeedCursor cursor;
+            if (epoch == feed.getEpoch() && applied >= feed.getOldestSequence() - 1 && applied <= feed.getLastSequence()) {
+                logger.info("Follower {} resuming from sequence {}", follower, applied + 1);
+                cursor = feed.subscribeFrom(applied + 1);
+            } else {
+                cursor = sendSnapshot(out, follower);
+            }
+            stream(out, cursor, follower);
+        } catch (SocketException e) {
+            logger.info("Follower {} disconnected: {}", follower, e.getMessage());
+        } catch (IOException e) {
+            logger.warn("Replication to {} failed: {}", follower, e.getMessage());
+        } finally {
+            sessions.remove(socket);
+            closeQuietly(socket);
+        }
+    }
+
+    private void stream(DataOutputStream out, ChangeFeedCursor cursor, String follower) throws IOException {
+        long lastHeartbeat = 0;
+        while (running) {
+            int sent;
+            try {
+                sent = cursor.drainTo(event -> {
+                    try {
+                        ReplicationProtocol.writeEvent(out, event);
+                    } catch (IOException e) {
+                        throw new ReplicationStreamException(e);
+                    }
+                }, BATCH_SIZE);
+            } catch (ReplicationStreamException e) {
+                throw e.getCause();
+            } catch (ChangeFeedOverrunException e) {
+                logger.warn("Follower {} fell behind the change feed; resending snapshot", follower);
+                cursor = sendSnapshot(out, follower);
+                continue;
+            }
+            long now = System.currentTimeMillis();
+            if (sent > 0) {
+                // Tell the follower how far the feed has moved on, so it can report its lag under load
+                eventsShipped.add(sent);
+                writeHeartbeat(out);
+                lastHeartbeat = now;
+                continue;
+            }
+            if (now - lastHeartbeat >= ReplicationProtocol.HEARTBEAT_MILLIS) {
+                writeHeartbeat(out);
+                lastHeartbeat = now;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    private void writeHeartbeat(DataOutputStream out) throws IOException {
+        out.writeByte(ReplicationProtocol.HEARTBEAT);
+        out.writeLong(feed.getLastSequence());
+        out.flush();
+    }
+
+    /**
+     * Sends snapshots until one completes with its tail intact, then ships the tail
+     * and returns a cursor positioned after it.
+     */
+    private ChangeFeedCursor sendSnapshot(DataOutputStream out, String follower) throws IOException {
+        while (true) {
+            ChangeFeedCursor cursor = trySendSnapshot(out, follower);
+            if (cursor != null) {
+                return cursor;
+            }
+            logger.warn("Change feed outran the snapshot for {}; resending", follower);
+        }
+    }
+
+    /**
+     * Sends one snapshot while buffering the feed events published during it.
+     * @return the cursor after the shipped tail, or null if the tail was lost and
+     *         the follower needs another snapshot
+     */
+    private ChangeFeedCursor trySendSnapshot(DataOutputStream out, String follower) throws IOException {
+        // Every event up to this position is already visible to the iteration below
+        long position = feed.getLastSequence();
+        ChangeFeedCursor cursor = feed.subscribeFrom(position + 1);
+        List<ContactChangeEvent> tail = new ArrayList<>();
+        boolean tailLost = false;
+        out.writeByte(ReplicationProtocol.SNAPSHOT_BEGIN);
+        out.writeLong(feed.getEpoch());
+        out.writeLong(position);
+        int count = 0;
+        for (Iterator<Contact> it = repository.iterateAll(); it.hasNext();) {
+            ReplicationProtocol.writeContact(out, 0, it.next());
+            count++;
+            if (!tailLost && count % TAIL_DRAIN_INTERVAL == 0) {
+                tailLost = !bufferTail(cursor, tail);
+            }
+        }
+        out.writeByte(ReplicationProtocol.SNAPSHOT_END);
+        snapshots.increment();
+        if (tailLost || !bufferTail(cursor, tail)) {
+            out.flush();
+            return null;
+        }
+        for (ContactChangeEvent event : tail) {
+            ReplicationProtocol.writeEvent(out, event);
+        }
+        out.flush();
+        eventsShipped.add(tail.size());
+        logger.info("Sent snapshot of {} contacts at sequence {} and {} tail events to {}",
+                count, position, tail.size(), follower);
+        return cursor;
+    }
+
+    /**
+     * Moves the events available on the cursor into the tail buffer.
+     * @return false if the cursor overran or the buffer is full
+     */
+    private static boolean bufferTail(ChangeFeedCursor cursor, List<ContactChangeEvent> tail) {
+        try {
+            cursor.drainTo(tail::add, MAX_SNAPSHOT_TAIL - tail.size());
+        } catch (ChangeFeedOverrunException e) {
+            return false;
+        }
+        return tail.size() < MAX_SNAPSHOT_TAIL;
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            logger.debug("Close failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Carries a write failure out of the cursor's consumer.
+     */
+    private static final class ReplicationStreamException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        ReplicationStreamException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+
+    /**
+     * Runs a primary node: an in-memory service served over HTTP whose repository is
+     * replicated to any follower that connects.
+     * @param args the replication port, the HTTP port and the change feed capacity,
+     *             defaulting to {@link #DEFAULT_PORT}, {@link ContactHttpServer#DEFAULT_PORT}
+     *             and {@link #DEFAULT_LOG_CAPACITY}
+     * @throws IOException if a port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int replicationPort = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int httpPort = args.length > 1 ? Integer.parseInt(args[1]) : ContactHttpServer.DEFAULT_PORT;
+        int logCapacity = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_LOG_CAPACITY;
+        InMemoryContactRepository repository = new InMemoryContactRepository(new ChangeFeed(logCapacity));
+        ReplicationPrimary primary = new ReplicationPrimary(repository, replicationPort);
+        ContactHttpServer http = new ContactHttpServer(new ContactServiceImpl(repository), httpPort);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            http.close();
+            primary.close();
+        }, "contact-replication-shutdown"));
+        primary.start();
+        http.start();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Replication Protocol
+ * October 2026
+ */
+package com.example.contact.replication;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.example.contact.Contact;
+import com.example.contact.changefeed.ContactChangeEvent;
+
+/**
+ * Wire format between a {@link ReplicationPrimary} and its followers, over a plain
+ * TCP stream written with DataOutput.
+ *
+ * A follower opens with a hello: {@link #MAGIC}, {@link #VERSION}, the feed epoch it
+ * last replicated (0 for none) and the last sequence it applied. The primary answers
+ * with either a snapshot or nothing, then streams messages, each a type byte:
+ * <pre>
+ *   SNAPSHOT_BEGIN  long epoch, long sequence the snapshot is current to
+ *   UPSERT          long sequence (0 inside a snapshot), five UTF contact fields
+ *   DELETE          long sequence, UTF contact ID
+ *   CLEAR           long sequence
+ *   SNAPSHOT_END
+ *   HEARTBEAT       long primary's last sequence, sent after every batch and while idle
+ * </pre>
+ */
+final class ReplicationProtocol {
+
+    static final int MAGIC = 0x43524550;    // "CREP"
+    static final int VERSION = 1;
+
+    static final byte SNAPSHOT_BEGIN = 1;
+    static final byte UPSERT = 2;
+    static final byte DELETE = 3;
+    static final byte CLEAR = 4;
+    static final byte SNAPSHOT_END = 5;
+    static final byte HEARTBEAT = 6;
+
+    /** Interval between heartbeats on an idle stream; a busy stream sends one per batch */
+    static final long HEARTBEAT_MILLIS = 100;
+    /** Silence after which a follower considers the primary gone */
+    static final int READ_TIMEOUT_MILLIS = (int) (HEARTBEAT_MILLIS * 20);
+
+    private ReplicationProtocol() {
+    }
+
+    static void writeContact(DataOutput out, long sequence, Contact contact) throws IOException {
+        out.writeByte(UPSERT);
+        out.writeLong(sequence);
+        out.writeUTF(contact.getContactId());
+        out.writeUTF(contact.getFirstName());
+        out.writeUTF(contact.getLastName());
+        out.writeUTF(contact.getPhone());
+        out.writeUTF(contact.getAddress());
+    }
+
+    static Contact readContact(DataInput in) throws IOException {
+        return new Contact(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF());
+    }
+
+    static void writeEvent(DataOutput out, ContactChangeEvent event) throws IOException {
+        switch (event.getType()) {
+            case CREATED:
+            case UPDATED:
+                writeContact(out, event.getSequence(), event.toContact());
+                break;
+            case DELETED:
+                out.writeByte(DELETE);
+                out.writeLong(event.getSequence());
+                out.writeUTF(event.getContactId());
+                break;
+            case CLEARED:
+                out.writeByte(CLEAR);
+                out.writeLong(event.getSequence());
+                break;
+            default:
+                throw new IllegalStateException("Unknown event type: " + event.getType());
+        }
+    }
+}
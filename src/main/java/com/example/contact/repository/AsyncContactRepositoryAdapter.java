@@ -0,0 +1,97 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Asynchronous Contact Repository Adapter
+ * October 2026
+ */
+package com.example.contact.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import com.example.contact.Contact;
+import com.example.contact.concurrent.ContactExecutors;
+
+/**
+ * Adapts a synchronous IContactRepository to {@link IAsyncContactRepository} by running
+ * each call on an executor (virtual threads by default where the JDK supports them).
+ */
+public class AsyncContactRepositoryAdapter implements IAsyncContactRepository, AutoCloseable {
+
+    private final IContactRepository delegate;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+
+    /**
+     * Constructs an adapter running calls on a task-per-thread executor it owns.
+     * @param delegate the synchronous repository to wrap
+     */
+    public AsyncContactRepositoryAdapter(IContactRepository delegate) {
+        this(delegate, ContactExecutors.newTaskExecutor("contact-async-repository"), true);
+    }
+
+    /**
+     * Constructs an adapter running calls on the given executor.
+     * The executor is not shut down by {@link #close()}.
+     * @param delegate the synchronous repository to wrap
+     * @param executor the executor to run calls on
+     */
+    public AsyncContactRepositoryAdapter(IContactRepository delegate, Executor executor) {
+        this(delegate, executor, false);
+    }
+
+    private AsyncContactRepositoryAdapter(IContactRepository delegate, Executor executor, boolean owned) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate repository cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.delegate = delegate;
+        this.executor = executor;
+        this.ownedExecutor = owned ? (ExecutorService) executor : null;
+    }
+
+    @Override
+    public CompletableFuture<Void> save(Contact contact) {
+        return CompletableFuture.runAsync(() -> delegate.save(contact), executor);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Contact>> findById(String contactId) {
+        return CompletableFuture.supplyAsync(() -> delegate.findById(contactId), executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsById(String contactId) {
+        return CompletableFuture.supplyAsync(() -> delegate.existsById(contactId), executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteById(String contactId) {
+        return CompletableFuture.supplyAsync(() -> delegate.deleteById(contactId), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<Contact>> findAll() {
+        return CompletableFuture.supplyAsync(delegate::findAll, executor);
+    }
+
+    @Override
+    public CompletableFuture<Integer> count() {
+        return CompletableFuture.supplyAsync(delegate::count, executor);
+    }
+
+    /**
+     * Shuts down the executor if this adapter created it.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Asynchronous Contact Repository Interface
+ * October 2026
+ */
+package com.example.contact.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.example.contact.Contact;
+
+/**
+ * Non-blocking counterpart of {@link IContactRepository}.
+ * Failures the synchronous repository throws complete the returned future exceptionally.
+ */
+public interface IAsyncContactRepository {
+
+    /**
+     * Saves a contact to the repository.
+     * @param contact the contact to save
+     * @return a future completed when the contact has been saved
+     */
+    CompletableFuture<Void> save(Contact contact);
+
+    /**
+     * Finds a contact by its unique ID.
+     * @param contactId the contact ID to search for
+     * @return a future holding an Optional with the contact if found
+     */
+    CompletableFuture<Optional<Contact>> findById(String contactId);
+
+    /**
+     * Checks if a contact exists with the given ID.
+     * @param contactId the contact ID to check
+     * @return a future holding true if a contact exists with this ID
+     */
+    CompletableFuture<Boolean> existsById(String contactId);
+
+    /**
+     * Deletes a contact by its ID.
+     * @param contactId the ID of the contact to delete
+     * @return a future holding true if the contact was deleted, false if it didn't exist
+     */
+    CompletableFuture<Boolean> deleteById(String contactId);
+
+    /**
+     * Returns all contacts in the repository.
+     * @return a future holding a list of all contacts
+     */
+    CompletableFuture<List<Contact>> findAll();
+
+    /**
+     * Returns the total number of contacts in the repository.
+     * @return a future holding the count of contacts
+     */
+    CompletableFuture<Integer> count();
+}
@@ -7,6 +7,7 @@
 package com.example.contact.repository;
 
 import com.example.contact.Contact;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,15 @@ public interface IContactRepository {
      */
     Optional<Contact> findById(String contactId);
 
+    /**
+     * Finds a contact by its unique ID without allocating an Optional.
+     * @param contactId the contact ID to search for
+     * @return the contact if found, null otherwise
+     */
+    default Contact findByIdOrNull(String contactId) {
+        return findById(contactId).orElse(null);
+    }
+
     /**
      * Checks if a contact exists with the given ID.
      * @param contactId the contact ID to check
@@ -50,6 +60,16 @@ public interface IContactRepository {
      */
     List<Contact> findAll();
 
+    /**
+     * Returns an iterator over all contacts, for callers that consume them one at a time.
+     * Implementations should avoid copying the whole repository; the default does not.
+     * The iterator reflects the repository at some point at or after its creation.
+     * @return an iterator over all contacts
+     */
+    default Iterator<Contact> iterateAll() {
+        return findAll().iterator();
+    }
+
     /**
      * Returns the total number of contacts in the repository.
      * @return the count of contacts
@@ -8,6 +8,8 @@
 package com.example.contact.repository;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -17,23 +19,89 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.example.contact.Contact;
+import com.example.contact.audit.AuditEventType;
+import com.example.contact.audit.AuditSink;
+import com.example.contact.audit.Slf4jAuditSink;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.changefeed.ChangeFeedSource;
+import com.example.contact.changefeed.ContactChangeEvent;
 import com.example.contact.exception.ResourceLimitException;
+import com.example.contact.logging.HotPathLog;
 
 /**
  * Thread-safe in-memory implementation of the IContactRepository interface.
  * Uses ConcurrentHashMap for thread-safe O(1) contact lookups by ID.
  * Includes resource limits to prevent denial of service attacks.
  * Data is not persisted and will be lost when the application stops.
+ * Every mutation is published to a {@link ChangeFeed} once it is visible, so a reader
+ * that sees an event can read its effect back; concurrent writes to the same ID that
+ * bypass the service's per-ID locks may be published in either order.
+ * findByIdOrNull is the allocation-free lookup the service's read path uses.
  */
-public class InMemoryContactRepository implements IContactRepository {
+public class InMemoryContactRepository implements IContactRepository, ChangeFeedSource {
 
     private static final Logger logger = LoggerFactory.getLogger(InMemoryContactRepository.class);
-    private static final Logger auditLogger = LoggerFactory.getLogger("AUDIT");
+    private static final HotPathLog hotPath = HotPathLog.forClass(InMemoryContactRepository.class);
+    private static final HotPathLog.Counter CREATED = hotPath.counter("created");
+    private static final HotPathLog.Counter UPDATED = hotPath.counter("updated");
+    private static final HotPathLog.Counter FIND_HITS = hotPath.counter("findById.hit");
+    private static final HotPathLog.Counter FIND_MISSES = hotPath.counter("findById.miss");
+    private static final HotPathLog.Counter DELETED = hotPath.counter("deleted");
+    private static final HotPathLog.Counter DELETE_MISSES = hotPath.counter("delete.miss");
+    private static final HotPathLog.Counter FIND_ALLS = hotPath.counter("findAll");
 
     /** Maximum number of contacts allowed (DoS prevention) */
     public static final int MAX_CONTACTS = 10000;
 
     private final Map<String, Contact> contacts = new ConcurrentHashMap<>();
+    private final ChangeFeed changeFeed;
+    private final AuditSink auditSink;
+    private final int maxContacts;
+    private final String maxContactsText;
+
+    /**
+     * Constructs a repository with a change feed of the default capacity.
+     */
+    public InMemoryContactRepository() {
+        this(new ChangeFeed());
+    }
+
+    /**
+     * Constructs a repository publishing its mutations to the given feed.
+     * @param changeFeed the feed receiving change events
+     */
+    public InMemoryContactRepository(ChangeFeed changeFeed) {
+        this(changeFeed, Slf4jAuditSink.INSTANCE);
+    }
+
+    /**
+     * Constructs a repository publishing its mutations to the given feed and audit sink.
+     * @param changeFeed the feed receiving change events
+     * @param auditSink the sink receiving audit events
+     */
+    public InMemoryContactRepository(ChangeFeed changeFeed, AuditSink auditSink) {
+        this(changeFeed, auditSink, MAX_CONTACTS);
+    }
+
+    /**
+     * Constructs a repository with a custom contact limit.
+     * Intended for benchmarks and capacity tests that need more than the default limit.
+     * @param changeFeed the feed receiving change events
+     * @param auditSink the sink receiving audit events
+     * @param maxContacts the maximum number of contacts allowed
+     */
+    public InMemoryContactRepository(ChangeFeed changeFeed, AuditSink auditSink, int maxContacts) {
+        if (changeFeed == null || auditSink == null) {
+            throw new IllegalArgumentException("Change feed and audit sink cannot be null");
+        }
+        if (maxContacts < 1) {
+            throw new IllegalArgumentException("Maximum contacts must be positive");
+        }
+        this.changeFeed = changeFeed;
+        this.auditSink = auditSink;
+        this.maxContacts = maxContacts;
+        this.maxContactsText = String.valueOf(maxContacts);
+    }
 
     @Override
     public void save(Contact contact) {
@@ -43,27 +111,37 @@ public class InMemoryContactRepository implements IContactRepository {
         }
 
         // Check resource limit before adding new contact
-        if (!contacts.containsKey(contact.getContactId()) && contacts.size() >= MAX_CONTACTS) {
-            auditLogger.warn("Security: Maximum contact limit ({}) reached - save rejected for ID: {}",
-                    MAX_CONTACTS, contact.getContactId());
-            throw new ResourceLimitException("Maximum contact limit reached: " + MAX_CONTACTS);
+        if (!contacts.containsKey(contact.getContactId()) && contacts.size() >= maxContacts) {
+            auditSink.record(AuditEventType.LIMIT_REACHED, contact.getContactId(), maxContactsText, null);
+            // Expected under load and mapped to LIMIT_EXCEEDED by outcome callers, so skip the stack trace
+            throw ResourceLimitException.stackless("Maximum contact limit reached: " + maxContacts);
         }
 
         Contact previous = contacts.put(contact.getContactId(), contact);
+        changeFeed.publish(previous == null ? ContactChangeEvent.Type.CREATED : ContactChangeEvent.Type.UPDATED,
+                contact.getContactId(), contact);
 
         if (previous == null) {
-            auditLogger.info("Contact created: ID={}, Name={} {}",
+            auditSink.record(AuditEventType.CONTACT_CREATED,
                     contact.getContactId(), contact.getFirstName(), contact.getLastName());
-            logger.debug("New contact saved with ID: {}", contact.getContactId());
+            CREATED.increment();
+            if (hotPath.debugSampled()) {
+                logger.debug("New contact saved with ID: {}", contact.getContactId());
+            }
         } else {
-            auditLogger.info("Contact updated: ID={}, Name={} {}",
+            auditSink.record(AuditEventType.CONTACT_UPDATED,
                     contact.getContactId(), contact.getFirstName(), contact.getLastName());
-            logger.debug("Contact updated with ID: {}", contact.getContactId());
+            UPDATED.increment();
+            if (hotPath.debugSampled()) {
+                logger.debug("Contact updated with ID: {}", contact.getContactId());
+            }
         }
     }
 
     /**
      * Finds a contact by its unique ID.
+     * A hit allocates the returned Optional; allocation-sensitive paths use
+     * {@link #findByIdOrNull(String)}, which does not allocate.
      * @param contactId the contact ID to search for
      * @return an Optional containing the contact if found, empty otherwise
      */
@@ -73,10 +151,26 @@ public class InMemoryContactRepository implements IContactRepository {
             logger.warn("Attempted to find contact with null ID");
             return Optional.empty();
         }
+        return Optional.ofNullable(findByIdOrNull(contactId));
+    }
 
-        Optional<Contact> result = Optional.ofNullable(contacts.get(contactId));
-        logger.debug("Find by ID {}: {}", contactId, result.isPresent() ? "found" : "not found");
-        return result;
+    /**
+     * Finds a contact by its unique ID without allocating an Optional.
+     * @param contactId the contact ID to search for
+     * @return the contact if found, null otherwise
+     */
+    @Override
+    public Contact findByIdOrNull(String contactId) {
+        if (contactId == null) {
+            return null;
+        }
+
+        Contact contact = contacts.get(contactId);
+        (contact != null ? FIND_HITS : FIND_MISSES).increment();
+        if (hotPath.debugSampled()) {
+            logger.debug("Find by ID {}: {}", contactId, contact != null ? "found" : "not found");
+        }
+        return contact;
     }
 
     /**
@@ -108,13 +202,20 @@ public class InMemoryContactRepository implements IContactRepository {
         Contact removed = contacts.remove(contactId);
 
         if (removed != null) {
-            auditLogger.info("Contact deleted: ID={}, Name={} {}",
+            changeFeed.publish(ContactChangeEvent.Type.DELETED, contactId, null);
+            auditSink.record(AuditEventType.CONTACT_DELETED,
                     contactId, removed.getFirstName(), removed.getLastName());
-            logger.debug("Contact deleted with ID: {}", contactId);
+            DELETED.increment();
+            if (hotPath.debugSampled()) {
+                logger.debug("Contact deleted with ID: {}", contactId);
+            }
             return true;
         }
 
-        logger.debug("Delete attempted for non-existent ID: {}", contactId);
+        DELETE_MISSES.increment();
+        if (hotPath.debugSampled()) {
+            logger.debug("Delete attempted for non-existent ID: {}", contactId);
+        }
         return false;
     }
 
@@ -124,10 +225,22 @@ public class InMemoryContactRepository implements IContactRepository {
      */
     @Override
     public List<Contact> findAll() {
-        logger.debug("Finding all contacts, count: {}", contacts.size());
+        FIND_ALLS.increment();
+        if (hotPath.debugSampled()) {
+            logger.debug("Finding all contacts, count: {}", contacts.size());
+        }
         return new ArrayList<>(contacts.values());
     }
 
+    /**
+     * Returns a weakly consistent iterator over the stored contacts without copying them.
+     * @return an iterator over all contacts
+     */
+    @Override
+    public Iterator<Contact> iterateAll() {
+        return Collections.unmodifiableCollection(contacts.values()).iterator();
+    }
+
     /**
      * Returns the total number of contacts in the repository.
      * @return the count of contacts
@@ -142,7 +255,16 @@ public class InMemoryContactRepository implements IContactRepository {
      * @return the maximum contact limit
      */
     public int getMaxContacts() {
-        return MAX_CONTACTS;
+        return maxContacts;
+    }
+
+    /**
+     * Returns the feed this repository publishes its mutations to.
+     * @return the change feed
+     */
+    @Override
+    public ChangeFeed getChangeFeed() {
+        return changeFeed;
     }
 
     /**
@@ -152,7 +274,8 @@ public class InMemoryContactRepository implements IContactRepository {
     public void clear() {
         int count = contacts.size();
         contacts.clear();
-        auditLogger.info("Repository cleared: {} contacts removed", count);
+        changeFeed.publish(ContactChangeEvent.Type.CLEARED, null, null);
+        auditSink.record(AuditEventType.REPOSITORY_CLEARED, null, String.valueOf(count), null);
         logger.debug("Repository cleared");
     }
 }
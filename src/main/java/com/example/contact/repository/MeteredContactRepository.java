@@ -0,0 +1,138 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Metered Contact Repository
+ * October 2026
+ */
+package com.example.contact.repository;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import com.example.contact.Contact;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.changefeed.ChangeFeedSource;
+import com.example.contact.jfr.ContactEvents;
+import com.example.contact.jfr.RepositoryCallEvent;
+import com.example.contact.metrics.ContactMetrics;
+import com.example.contact.metrics.MetricOperation;
+import com.example.contact.service.ContactOutcome;
+
+/**
+ * IContactRepository decorator that times every repository call in a ContactMetrics
+ * and, while a Flight Recorder recording enables it, as a RepositoryCallEvent. Pass
+ * {@link ContactMetrics#disabled()} to get the JFR events alone.
+ * Lookups are recorded as SUCCESS or NOT_FOUND, saves rejected by a resource limit
+ * as LIMIT_EXCEEDED. The wrapped repository's change feed, if any, stays reachable
+ * through this decorator.
+ */
+public class MeteredContactRepository implements IContactRepository, ChangeFeedSource {
+
+    private final IContactRepository delegate;
+    private final ContactMetrics metrics;
+
+    /**
+     * Constructs a metered view of a repository.
+     * @param delegate the repository to time
+     * @param metrics the metrics receiving the timings
+     */
+    public MeteredContactRepository(IContactRepository delegate, ContactMetrics metrics) {
+        if (delegate == null || metrics == null) {
+            throw new IllegalArgumentException("Delegate repository and metrics cannot be null");
+        }
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void save(Contact contact) {
+        long start = metrics.startTimer();
+        RepositoryCallEvent event = ContactEvents.beginRepositoryCall();
+        ContactOutcome outcome = null;
+        try {
+            delegate.save(contact);
+            outcome = ContactOutcome.SUCCESS;
+        } catch (RuntimeException e) {
+            outcome = ContactOutcome.of(e);
+            throw e;
+        } finally {
+            record(MetricOperation.REPOSITORY_SAVE, start, event, contact != null ? contact.getContactId() : null, outcome);
+        }
+    }
+
+    @Override
+    public Optional<Contact> findById(String contactId) {
+        // Pass the delegate's Optional through rather than wrapping the result again
+        long start = metrics.startTimer();
+        RepositoryCallEvent event = ContactEvents.beginRepositoryCall();
+        Optional<Contact> contact = delegate.findById(contactId);
+        record(MetricOperation.REPOSITORY_FIND, start, event, contactId,
+                contact.isPresent() ? ContactOutcome.SUCCESS : ContactOutcome.NOT_FOUND);
+        return contact;
+    }
+
+    @Override
+    public Contact findByIdOrNull(String contactId) {
+        long start = metrics.startTimer();
+        RepositoryCallEvent event = ContactEvents.beginRepositoryCall();
+        Contact contact = delegate.findByIdOrNull(contactId);
+        record(MetricOperation.REPOSITORY_FIND, start, event, contactId,
+                contact != null ? ContactOutcome.SUCCESS : ContactOutcome.NOT_FOUND);
+        return contact;
+    }
+
+    @Override
+    public boolean existsById(String contactId) {
+        long start = metrics.startTimer();
+        RepositoryCallEvent event = ContactEvents.beginRepositoryCall();
+        boolean exists = delegate.existsById(contactId);
+        record(MetricOperation.REPOSITORY_EXISTS, start, event, contactId,
+                exists ? ContactOutcome.SUCCESS : ContactOutcome.NOT_FOUND);
+        return exists;
+    }
+
+    @Override
+    public boolean deleteById(String contactId) {
+        long start = metrics.startTimer();
+        RepositoryCallEvent event = ContactEvents.beginRepositoryCall();
+        boolean deleted = delegate.deleteById(contactId);
+        record(MetricOperation.REPOSITORY_DELETE, start, event, contactId,
+                deleted ? ContactOutcome.SUCCESS : ContactOutcome.NOT_FOUND);
+        return deleted;
+    }
+
+    @Override
+    public List<Contact> findAll() {
+        long start = metrics.startTimer();
+        RepositoryCallEvent event = ContactEvents.beginRepositoryCall();
+        List<Contact> contacts = delegate.findAll();
+        record(MetricOperation.REPOSITORY_FIND_ALL, start, event, null, ContactOutcome.SUCCESS);
+        return contacts;
+    }
+
+    @Override
+    public Iterator<Contact> iterateAll() {
+        return delegate.iterateAll();
+    }
+
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+
+    /**
+     * Returns the wrapped repository's change feed.
+     * @return the change feed, or null if the wrapped repository does not publish one
+     */
+    @Override
+    public ChangeFeed getChangeFeed() {
+        return delegate instanceof ChangeFeedSource ? ((ChangeFeedSource) delegate).getChangeFeed() : null;
+    }
+
+    private void record(MetricOperation operation, long start, RepositoryCallEvent event,
+                        String contactId, ContactOutcome outcome) {
+        metrics.record(operation, start, outcome);
+        ContactEvents.commitRepositoryCall(event, operation, contactId, outcome);
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Sharded Contact Repository
+ * October 2026
+ */
+package com.example.contact.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.Contact;
+import com.example.contact.audit.AsyncAuditPipeline;
+import com.example.contact.audit.AuditSink;
+import com.example.contact.audit.Slf4jAuditRecordWriter;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.changefeed.ChangeFeedSource;
+
+/**
+ * IContactRepository that partitions contacts across independent shard repositories
+ * by a hash of the contact ID, so writes to different IDs touch different maps and
+ * scale with cores instead of contending on one.
+ *
+ * Single-ID operations go to exactly one shard. findAll and count fan out to every
+ * shard in parallel on the fan-out executor, with the calling thread handling the
+ * first shard, and merge the results; like a single repository's findAll they are
+ * not an atomic snapshot across concurrent writes. iterateAll walks the shards in
+ * turn without copying.
+ *
+ * Each shard enforces its own contact limit. The convenience constructors split the
+ * overall limit evenly across in-memory shards, so with an uneven hash spread the
+ * first ResourceLimitException can arrive slightly before the overall limit is
+ * reached.
+ *
+ * By default the shards share one ChangeFeed, so delta sync and replication see a
+ * single ordered stream of changes. That is the one thing shards still contend on:
+ * every write claims its sequence with an atomic increment of the feed's counter.
+ * Next to the map update it is cheap on a few cores, but under write-heavy load on
+ * many cores it caps write scaling. Shards built with {@code sharedFeed} false get a
+ * feed each and share nothing, but {@link #getChangeFeed()} then returns null and
+ * delta sync is unavailable. The {@code sharded} and {@code sharded-isolated}
+ * repositories of the ScalabilityMatrix benchmark measure the difference on a given
+ * machine. The convenience constructors give each shard its own AsyncAuditPipeline
+ * to the AUDIT logger, closed by {@link #close()}, so audit logging is neither
+ * shared nor on the caller's thread.
+ */
+public class ShardedContactRepository implements IContactRepository, ChangeFeedSource, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedContactRepository.class);
+
+    private final IContactRepository[] shards;
+    private final ChangeFeed changeFeed;
+    private final Executor fanOutExecutor;
+    private final List<AsyncAuditPipeline> auditPipelines;
+
+    /**
+     * Constructs one in-memory shard per available processor.
+     */
+    public ShardedContactRepository() {
+        this(defaultShardCount());
+    }
+
+    /**
+     * Constructs the given number of in-memory shards sharing the default contact limit and one change feed.
+     * @param shardCount the number of shards
+     */
+    public ShardedContactRepository(int shardCount) {
+        this(shardCount, true, InMemoryContactRepository.MAX_CONTACTS);
+    }
+
+    /**
+     * Constructs in-memory shards, each auditing through its own AsyncAuditPipeline.
+     * @param shardCount the number of shards
+     * @param sharedFeed true to publish to one change feed, false to give each shard its own and disable delta sync
+     * @param maxContacts the overall contact limit, split evenly across the shards
+     */
+    public ShardedContactRepository(int shardCount, boolean sharedFeed, int maxContacts) {
+        this(shardCount, maxContacts, sharedFeed ? new ChangeFeed() : null, createAuditPipelines(shardCount));
+    }
+
+    /**
+     * Constructs in-memory shards sharing a change feed and one caller-owned audit sink.
+     * @param shardCount the number of shards
+     * @param changeFeed the feed every shard publishes to
+     * @param auditSink the sink every shard records to
+     * @param maxContacts the overall contact limit, split evenly across the shards
+     */
+    public ShardedContactRepository(int shardCount, ChangeFeed changeFeed, AuditSink auditSink, int maxContacts) {
+        this(createShards(shardCount, index -> new InMemoryContactRepository(changeFeed, auditSink,
+                shardLimit(shardCount, maxContacts))));
+    }
+
+    private ShardedContactRepository(int shardCount, int maxContacts, ChangeFeed sharedFeed,
+                                     List<AsyncAuditPipeline> auditPipelines) {
+        this(createShards(shardCount, index -> new InMemoryContactRepository(
+                sharedFeed != null ? sharedFeed : new ChangeFeed(), auditPipelines.get(index),
+                shardLimit(shardCount, maxContacts))), ForkJoinPool.commonPool(), auditPipelines);
+    }
+
+    /**
+     * Constructs a router over existing shards, fanning out on the common fork-join pool.
+     * @param shards the shard repositories; their order fixes the ID-to-shard mapping
+     */
+    public ShardedContactRepository(List<? extends IContactRepository> shards) {
+        this(shards, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a router over existing shards.
+     * @param shards the shard repositories; their order fixes the ID-to-shard mapping
+     * @param fanOutExecutor runs the per-shard parts of findAll and count
+     */
+    public ShardedContactRepository(List<? extends IContactRepository> shards, Executor fanOutExecutor) {
+        this(shards, fanOutExecutor, Collections.emptyList());
+    }
+
+    private ShardedContactRepository(List<? extends IContactRepository> shards, Executor fanOutExecutor,
+                                     List<AsyncAuditPipeline> auditPipelines) {
+        if (shards == null || shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        if (fanOutExecutor == null) {
+            throw new IllegalArgumentException("Fan-out executor cannot be null");
+        }
+        this.shards = shards.toArray(new IContactRepository[0]);
+        for (IContactRepository shard : this.shards) {
+            if (shard == null) {
+                throw new IllegalArgumentException("Shards cannot be null");
+            }
+        }
+        this.changeFeed = commonFeed(this.shards);
+        this.fanOutExecutor = fanOutExecutor;
+        this.auditPipelines = auditPipelines;
+        logger.info("ShardedContactRepository initialized with {} shards", this.shards.length);
+    }
+
+    /**
+     * Returns the shard count used by the no-argument constructor.
+     * @return the number of available processors
+     */
+    public static int defaultShardCount() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public void save(Contact contact) {
+        if (contact == null) {
+            logger.warn("Attempted to save null contact");
+            throw new IllegalArgumentException("Contact cannot be null");
+        }
+        shardFor(contact.getContactId()).save(contact);
+    }
+
+    @Override
+    public Optional<Contact> findById(String contactId) {
+        return shardFor(contactId).findById(contactId);
+    }
+
+    @Override
+    public Contact findByIdOrNull(String contactId) {
+        return shardFor(contactId).findByIdOrNull(contactId);
+    }
+
+    @Override
+    public boolean existsById(String contactId) {
+        return shardFor(contactId).existsById(contactId);
+    }
+
+    @Override
+    public boolean deleteById(String contactId) {
+        return shardFor(contactId).deleteById(contactId);
+    }
+
+    @Override
+    public List<Contact> findAll() {
+        List<List<Contact>> parts = fanOut(IContactRepository::findAll);
+        int total = 0;
+        for (List<Contact> part : parts) {
+            total += part.size();
+        }
+        List<Contact> all = new ArrayList<>(total);
+        for (List<Contact> part : parts) {
+            all.addAll(part);
+        }
+        return all;
+    }
+
+    @Override
+    public Iterator<Contact> iterateAll() {
+        return new Iterator<Contact>() {
+            private int next;
+            private Iterator<Contact> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && next < shards.length) {
+                    current = shards[next++].iterateAll();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public Contact next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    @Override
+    public int count() {
+        int total = 0;
+        for (int count : fanOut(IContactRepository::count)) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the feed shared by every shard.
+     * @return the shared change feed, or null if the shards do not share one
+     */
+    @Override
+    public ChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    /**
+     * Writes out and stops the audit pipelines created by the convenience constructors.
+     * Shards passed in by the caller are left open.
+     */
+    @Override
+    public void close() {
+        for (AsyncAuditPipeline pipeline : auditPipelines) {
+            pipeline.close();
+        }
+    }
+
+    /**
+     * Returns the number of shards.
+     * @return the shard count
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Returns one shard, for example to snapshot or persist it on its own.
+     * @param index the shard index
+     * @return the shard repository
+     */
+    public IContactRepository getShard(int index) {
+        return shards[index];
+    }
+
+    /**
+     * Returns the index of the shard holding the given ID.
+     * A null ID maps to shard 0, which reports it as absent.
+     * @param contactId the contact ID
+     * @return the shard index
+     */
+    public int shardIndex(String contactId) {
+        if (contactId == null) {
+            return 0;
+        }
+        int hash = contactId.hashCode();
+        // Spread the high bits so IDs differing only in their last characters still scatter
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, shards.length);
+    }
+
+    private IContactRepository shardFor(String contactId) {
+        return shards[shardIndex(contactId)];
+    }
+
+    /**
+     * Applies the operation to every shard in parallel, returning the results in shard order.
+     */
+    private <T> List<T> fanOut(Function<IContactRepository, T> operation) {
+        if (shards.length == 1) {
+            return Collections.singletonList(operation.apply(shards[0]));
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(shards.length - 1);
+        for (int i = 1; i < shards.length; i++) {
+            IContactRepository shard = shards[i];
+            futures.add(CompletableFuture.supplyAsync(() -> operation.apply(shard), fanOutExecutor));
+        }
+        List<T> results = new ArrayList<>(shards.length);
+        results.add(operation.apply(shards[0]));
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    private static List<IContactRepository> createShards(int shardCount, IntFunction<IContactRepository> factory) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        List<IContactRepository> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(factory.apply(i));
+        }
+        return shards;
+    }
+
+    private static List<AsyncAuditPipeline> createAuditPipelines(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        List<AsyncAuditPipeline> pipelines = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            pipelines.add(new AsyncAuditPipeline(new Slf4jAuditRecordWriter()));
+        }
+        return pipelines;
+    }
+
+    private static int shardLimit(int shardCount, int maxContacts) {
+        return Math.max(1, (maxContacts + shardCount - 1) / shardCount);
+    }
+
+    private static ChangeFeed commonFeed(IContactRepository[] shards) {
+        ChangeFeed common = null;
+        for (IContactRepository shard : shards) {
+            ChangeFeed feed = shard instanceof ChangeFeedSource ? ((ChangeFeedSource) shard).getChangeFeed() : null;
+            if (feed == null || (common != null && feed != common)) {
+                return null;
+            }
+            common = feed;
+        }
+        return common;
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Write-Behind Contact Repository
+ * October 2026
+ */
+package com.example.contact.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.Contact;
+import com.example.contact.exception.ResourceLimitException;
+
+/**
+ * IContactRepository decorator that acknowledges writes once they are queued and
+ * applies them to a slower backing repository on a background flusher thread.
+ * Wrapping a durable or remote repository with this class and passing it to
+ * ContactServiceImpl turns the service's write latency into a queue insert.
+ *
+ * Pending mutations form an overlay consulted before the backing repository, so
+ * readers always see their own writes. Repeated writes to the same ID while it is
+ * pending are merged into the latest one. The number of distinct pending IDs is
+ * bounded; writers block for up to the offer timeout when the bound is reached and
+ * then fail with ResourceLimitException.
+ *
+ * Mutations are applied at most once. If the backing repository rejects a flushed
+ * mutation (for example its contact limit is reached), the mutation is dropped: the
+ * failure is logged, audited, counted in {@link #getFailedCount()} and passed to the
+ * {@link FlushFailureHandler}, if one is set, which is the only way a caller learns
+ * which write was lost.
+ */
+public class WriteBehindContactRepository implements IContactRepository, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindContactRepository.class);
+    private static final Logger auditLogger = LoggerFactory.getLogger("AUDIT");
+
+    /** Default maximum number of distinct pending IDs */
+    public static final int DEFAULT_CAPACITY = 10000;
+    /** Default maximum number of mutations applied per flush batch */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 10;
+    private static final long DEFAULT_OFFER_TIMEOUT_MILLIS = 5000;
+    private static final long FLUSH_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * Receives the mutations the backing repository rejected.
+     */
+    @FunctionalInterface
+    public interface FlushFailureHandler {
+
+        /**
+         * Called on the flusher thread after a mutation was dropped.
+         * @param contactId the ID of the dropped mutation
+         * @param contact the contact that was not saved, or null for a delete
+         * @param cause the exception thrown by the backing repository
+         */
+        void onFlushFailure(String contactId, Contact contact, RuntimeException cause);
+    }
+
+    /**
+     * A queued mutation: a contact to save, or a delete when contact is null.
+     * The pending sequence is claimed when the pending entry for the ID is created and
+     * carried over to every mutation merged into it, so flush can tell entries that
+     * were already waiting when it was called from entries created later.
+     */
+    private static final class Mutation {
+        private final Contact contact;
+        private final long pendingSequence;
+
+        Mutation(Contact contact, long pendingSequence) {
+            this.contact = contact;
+            this.pendingSequence = pendingSequence;
+        }
+
+        boolean isDelete() {
+            return contact == null;
+        }
+    }
+
+    private final IContactRepository backing;
+    private final Map<String, Mutation> pending = new ConcurrentHashMap<>();
+    private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+    private final Semaphore capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMillis;
+    private final Thread flusher;
+    private final AtomicLong sequencer = new AtomicLong();
+    private volatile FlushFailureHandler failureHandler;
+    private volatile boolean running = true;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder merged = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Constructs a write-behind layer with default capacity, batch size and timeouts.
+     * @param backing the repository mutations are flushed to
+     */
+    public WriteBehindContactRepository(IContactRepository backing) {
+        this(backing, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS, DEFAULT_OFFER_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructs a write-behind layer.
+     * @param backing the repository mutations are flushed to
+     * @param capacity the maximum number of distinct pending IDs
+     * @param batchSize the maximum number of mutations applied per batch
+     * @param flushIntervalMillis how long the flusher waits for work before checking for shutdown
+     * @param offerTimeoutMillis how long a writer waits for capacity before failing
+     */
+    public WriteBehindContactRepository(IContactRepository backing, int capacity, int batchSize,
+                                        long flushIntervalMillis, long offerTimeoutMillis) {
+        if (backing == null) {
+            throw new IllegalArgumentException("Backing repository cannot be null");
+        }
+        if (capacity < 1 || batchSize < 1 || flushIntervalMillis < 1 || offerTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Invalid write-behind configuration");
+        }
+        this.backing = backing;
+        this.capacity = new Semaphore(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.flusher = new Thread(this::runFlusher, "contact-write-behind");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+        logger.info("WriteBehindContactRepository started: capacity={}, batchSize={}", capacity, batchSize);
+    }
+
+    @Override
+    public void save(Contact contact) {
+        if (contact == null) {
+            logger.warn("Attempted to save null contact");
+            throw new IllegalArgumentException("Contact cannot be null");
+        }
+        enqueue(contact.getContactId(), contact);
+    }
+
+    @Override
+    public Optional<Contact> findById(String contactId) {
+        return Optional.ofNullable(findByIdOrNull(contactId));
+    }
+
+    @Override
+    public Contact findByIdOrNull(String contactId) {
+        if (contactId == null) {
+            return null;
+        }
+        Mutation mutation = pending.get(contactId);
+        if (mutation != null) {
+            return mutation.contact;
+        }
+        return backing.findByIdOrNull(contactId);
+    }
+
+    @Override
+    public boolean existsById(String contactId) {
+        return findByIdOrNull(contactId) != null;
+    }
+
+    @Override
+    public boolean deleteById(String contactId) {
+        if (contactId == null) {
+            logger.warn("Attempted to delete contact with null ID");
+            return false;
+        }
+        if (!existsById(contactId)) {
+            return false;
+        }
+        enqueue(contactId, null);
+        return true;
+    }
+
+    @Override
+    public List<Contact> findAll() {
+        Map<String, Contact> view = new LinkedHashMap<>();
+        for (Contact contact : backing.findAll()) {
+            view.put(contact.getContactId(), contact);
+        }
+        for (Map.Entry<String, Mutation> entry : pending.entrySet()) {
+            if (entry.getValue().isDelete()) {
+                view.remove(entry.getKey());
+            } else {
+                view.put(entry.getKey(), entry.getValue().contact);
+            }
+        }
+        return new ArrayList<>(view.values());
+    }
+
+    @Override
+    public int count() {
+        int count = backing.count();
+        for (Map.Entry<String, Mutation> entry : pending.entrySet()) {
+            boolean stored = backing.existsById(entry.getKey());
+            if (entry.getValue().isDelete() && stored) {
+                count--;
+            } else if (!entry.getValue().isDelete() && !stored) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Blocks until every mutation queued before this call has been applied to the backing
+     * repository or dropped as failed; compare {@link #getFailedCount()} before and after,
+     * or set a {@link FlushFailureHandler}, to learn of drops. Writes queued after the call
+     * are not waited for, so this returns under a sustained write load.
+     */
+    public void flush() {
+        long target = sequencer.get();
+        List<String> waiting = new ArrayList<>();
+        for (Map.Entry<String, Mutation> entry : pending.entrySet()) {
+            if (entry.getValue().pendingSequence <= target) {
+                waiting.add(entry.getKey());
+            }
+        }
+        while (true) {
+            // An entry pending since before this call still holds one of the writes to wait for
+            waiting.removeIf(id -> {
+                Mutation mutation = pending.get(id);
+                return mutation == null || mutation.pendingSequence > target;
+            });
+            if (waiting.isEmpty() || !flusher.isAlive()) {
+                return;
+            }
+            LockSupport.parkNanos(FLUSH_WAIT_NANOS);
+        }
+    }
+
+    /**
+     * Sets the handler told about each mutation the backing repository rejects.
+     * @param handler the handler, or null for none
+     */
+    public void setFlushFailureHandler(FlushFailureHandler handler) {
+        this.failureHandler = handler;
+    }
+
+    /**
+     * Flushes all pending mutations and stops the flusher thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("WriteBehindContactRepository stopped: flushed={}, failed={}", flushed.sum(), failed.sum());
+    }
+
+    /**
+     * Returns the number of distinct IDs with a mutation waiting to be flushed.
+     * @return the pending count
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the number of mutations that started a new pending entry.
+     * @return the enqueued count
+     */
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    /**
+     * Returns the number of mutations merged into an already pending entry.
+     * @return the merged count
+     */
+    public long getMergedCount() {
+        return merged.sum();
+    }
+
+    /**
+     * Returns the number of mutations applied to the backing repository.
+     * @return the flushed count
+     */
+    public long getFlushedCount() {
+        return flushed.sum();
+    }
+
+    /**
+     * Returns the number of mutations the backing repository rejected.
+     * @return the failed count
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    private void enqueue(String contactId, Contact contact) {
+        if (!running) {
+            throw new IllegalStateException("Write-behind repository is closed");
+        }
+
+        // Fast path: replace a pending mutation without taking capacity
+        if (pending.computeIfPresent(contactId,
+                (id, previous) -> new Mutation(contact, previous.pendingSequence)) != null) {
+            merged.increment();
+            return;
+        }
+
+        try {
+            if (!capacity.tryAcquire(offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                auditLogger.warn("Security: Write-behind queue full - write rejected for ID: {}", contactId);
+                throw ResourceLimitException.stackless("Write-behind queue full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceLimitException("Interrupted while waiting for write-behind capacity", e);
+        }
+
+        Mutation created = new Mutation(contact, sequencer.incrementAndGet());
+        Mutation stored = pending.merge(contactId, created,
+                (existing, mutation) -> new Mutation(contact, existing.pendingSequence));
+        if (stored == created) {
+            queue.add(contactId);
+            enqueued.increment();
+            LockSupport.unpark(flusher);
+        } else {
+            // Another writer created the entry first; it owns the queue slot
+            capacity.release();
+            merged.increment();
+        }
+    }
+
+    private void runFlusher() {
+        List<String> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            String id;
+            while (batch.size() < batchSize && (id = queue.poll()) != null) {
+                batch.add(id);
+            }
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            for (String contactId : batch) {
+                apply(contactId);
+            }
+            logger.debug("Flushed batch of {} mutations", batch.size());
+            batch.clear();
+        }
+    }
+
+    private void apply(String contactId) {
+        Mutation mutation = pending.get(contactId);
+        while (mutation != null) {
+            try {
+                if (mutation.isDelete()) {
+                    backing.deleteById(contactId);
+                } else {
+                    backing.save(mutation.contact);
+                }
+                flushed.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                auditLogger.warn("Write-behind flush failed for ID {}: {}", contactId, e.getMessage());
+                logger.error("Write-behind flush failed for ID {}", contactId, e);
+                notifyFailure(contactId, mutation.contact, e);
+            }
+
+            // A newer mutation may have been merged while this one was applied
+            if (pending.remove(contactId, mutation)) {
+                capacity.release();
+                return;
+            }
+            mutation = pending.get(contactId);
+        }
+    }
+
+    private void notifyFailure(String contactId, Contact contact, RuntimeException cause) {
+        FlushFailureHandler handler = failureHandler;
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.onFlushFailure(contactId, contact, cause);
+        } catch (RuntimeException e) {
+            logger.error("Write-behind flush failure handler threw for ID {}", contactId, e);
+        }
+    }
+}
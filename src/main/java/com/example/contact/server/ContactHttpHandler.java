@@ -0,0 +1,407 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact HTTP Handler
+ * October 2026
+ */
+package com.example.contact.server;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.Contact;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.IContactService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * HttpHandler exposing an IContactService as a JSON resource API:
+ * <pre>
+ *   GET    /contacts          list every contact (streamed)
+ *   POST   /contacts          create a contact
+ *   GET    /contacts/{id}     fetch one contact
+ *   PUT    /contacts/{id}     update the given fields (PATCH is accepted too)
+ *   DELETE /contacts/{id}     delete a contact
+ *   GET    /changes?since=T   delta sync from token T, or a full resync without one
+ *   GET    /metrics           request metrics
+ * </pre>
+ * Single-entity responses are encoded into a buffer first so they carry a
+ * Content-Length, which lets the connection be reused without chunked framing.
+ * The contact list is streamed with chunked encoding straight from the service's
+ * publisher, so its size never has to fit in a response buffer.
+ *
+ * Service outcomes map to status codes the same way everywhere: not found is 404,
+ * duplicate is 409, invalid input or malformed JSON is 400 and a resource limit is 503.
+ */
+public class ContactHttpHandler implements HttpHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactHttpHandler.class);
+
+    /** Largest accepted request body in bytes */
+    public static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private static final String CONTACTS = "/contacts";
+    private static final String CONTACTS_PREFIX = "/contacts/";
+    private static final String JSON_TYPE = "application/json; charset=utf-8";
+    private static final int LIST_BATCH = 256;
+    private static final int NO_BODY = -1;
+    private static final int CHUNKED = 0;
+
+    private final IContactService service;
+    private final HttpMetrics metrics;
+
+    /**
+     * Constructs a handler with its own metrics.
+     * @param service the service requests are dispatched to
+     */
+    public ContactHttpHandler(IContactService service) {
+        this(service, new HttpMetrics());
+    }
+
+    /**
+     * Constructs a handler recording into the given metrics.
+     * @param service the service requests are dispatched to
+     * @param metrics the request metrics
+     */
+    public ContactHttpHandler(IContactService service, HttpMetrics metrics) {
+        if (service == null || metrics == null) {
+            throw new IllegalArgumentException("Service and metrics cannot be null");
+        }
+        this.service = service;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the metrics this handler records into.
+     * @return the request metrics
+     */
+    public HttpMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) {
+        long start = metrics.requestStarted();
+        HttpRoute route = HttpRoute.OTHER;
+        int status = 500;
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if (CONTACTS.equals(path)) {
+                if ("GET".equals(method)) {
+                    route = HttpRoute.LIST_CONTACTS;
+                    status = listContacts(exchange);
+                } else if ("POST".equals(method)) {
+                    route = HttpRoute.CREATE_CONTACT;
+                    status = createContact(exchange);
+                } else {
+                    status = methodNotAllowed(exchange, "GET, POST");
+                }
+            } else if (path.startsWith(CONTACTS_PREFIX) && path.indexOf('/', CONTACTS_PREFIX.length()) < 0
+                    && path.length() > CONTACTS_PREFIX.length()) {
+                String contactId = path.substring(CONTACTS_PREFIX.length());
+                if ("GET".equals(method)) {
+                    route = HttpRoute.GET_CONTACT;
+                    status = getContact(exchange, contactId);
+                } else if ("PUT".equals(method) || "PATCH".equals(method)) {
+                    route = HttpRoute.UPDATE_CONTACT;
+                    status = updateContact(exchange, contactId);
+                } else if ("DELETE".equals(method)) {
+                    route = HttpRoute.DELETE_CONTACT;
+                    status = deleteContact(exchange, contactId);
+                } else {
+                    status = methodNotAllowed(exchange, "GET, PUT, PATCH, DELETE");
+                }
+            } else if ("/changes".equals(path)) {
+                route = HttpRoute.CHANGES;
+                status = "GET".equals(method) ? changes(exchange) : methodNotAllowed(exchange, "GET");
+            } else if ("/metrics".equals(path)) {
+                route = HttpRoute.METRICS;
+                status = "GET".equals(method) ? metrics(exchange) : methodNotAllowed(exchange, "GET");
+            } else {
+                status = sendError(exchange, 404, "No such resource: " + path);
+            }
+        } catch (IOException e) {
+            // The client went away mid-exchange; nothing more can be sent
+            logger.debug("HTTP exchange failed: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            status = failed(exchange, e);
+        } finally {
+            exchange.close();
+            metrics.requestFinished(route, status, start);
+        }
+    }
+
+    private int listContacts(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(200, CHUNKED);
+        JsonWriter json = new JsonWriter(responseWriter(exchange.getResponseBody()));
+        json.beginArray();
+        StreamingSubscriber subscriber = new StreamingSubscriber(json);
+        service.publishAllContacts().subscribe(subscriber);
+        subscriber.await();
+        json.endArray();
+        json.flush();
+        return 200;
+    }
+
+    private int createContact(HttpExchange exchange) throws IOException {
+        Map<String, String> fields = readObject(exchange);
+        if (fields == null) {
+            return 413;
+        }
+        Contact contact = new Contact(fields.get("contactId"), fields.get("firstName"),
+                fields.get("lastName"), fields.get("phone"), fields.get("address"));
+        ContactOutcome outcome = service.tryAddContact(contact);
+        if (!outcome.isSuccess()) {
+            return sendOutcome(exchange, outcome, contact.getContactId());
+        }
+        exchange.getResponseHeaders().set("Location", CONTACTS_PREFIX + contact.getContactId());
+        return sendContact(exchange, 201, contact);
+    }
+
+    private int getContact(HttpExchange exchange, String contactId) throws IOException {
+        Contact contact = service.getContact(contactId);
+        if (contact == null) {
+            return sendOutcome(exchange, ContactOutcome.NOT_FOUND, contactId);
+        }
+        return sendContact(exchange, 200, contact);
+    }
+
+    private int updateContact(HttpExchange exchange, String contactId) throws IOException {
+        Map<String, String> fields = readObject(exchange);
+        if (fields == null) {
+            return 413;
+        }
+        String bodyId = fields.get("contactId");
+        if (bodyId != null && !bodyId.equals(contactId)) {
+            return sendError(exchange, 400, "Contact ID cannot be changed");
+        }
+        ContactOutcome outcome = service.tryUpdateContact(contactId, fields.get("firstName"),
+                fields.get("lastName"), fields.get("phone"), fields.get("address"));
+        if (!outcome.isSuccess()) {
+            return sendOutcome(exchange, outcome, contactId);
+        }
+        Contact updated = service.getContact(contactId);
+        if (updated == null) {
+            // Deleted concurrently after the update applied
+            return sendOutcome(exchange, ContactOutcome.NOT_FOUND, contactId);
+        }
+        return sendContact(exchange, 200, updated);
+    }
+
+    private int deleteContact(HttpExchange exchange, String contactId) throws IOException {
+        ContactOutcome outcome = service.tryDeleteContact(contactId);
+        if (!outcome.isSuccess()) {
+            return sendOutcome(exchange, outcome, contactId);
+        }
+        exchange.sendResponseHeaders(204, NO_BODY);
+        return 204;
+    }
+
+    private int changes(HttpExchange exchange) throws IOException {
+        String since = queryParameter(exchange.getRequestURI().getRawQuery(), "since");
+        StringWriter buffer = new StringWriter();
+        ContactJson.writeSyncResult(new JsonWriter(buffer), service.changesSince(since));
+        return send(exchange, 200, buffer.toString());
+    }
+
+    private int metrics(HttpExchange exchange) throws IOException {
+        StringWriter buffer = new StringWriter();
+        metrics.writeTo(new JsonWriter(buffer));
+        return send(exchange, 200, buffer.toString());
+    }
+
+    private int methodNotAllowed(HttpExchange exchange, String allowed) throws IOException {
+        exchange.getResponseHeaders().set("Allow", allowed);
+        return sendError(exchange, 405, "Method not allowed: " + exchange.getRequestMethod());
+    }
+
+    /**
+     * Reads and parses the request body, or sends 413 and returns null if it is too large.
+     */
+    private Map<String, String> readObject(HttpExchange exchange) throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readNBytes(MAX_BODY_BYTES + 1);
+        }
+        if (body.length > MAX_BODY_BYTES) {
+            sendError(exchange, 413, "Request body exceeds " + MAX_BODY_BYTES + " bytes");
+            return null;
+        }
+        return ContactJson.parseObject(new String(body, StandardCharsets.UTF_8));
+    }
+
+    private static int sendOutcome(HttpExchange exchange, ContactOutcome outcome, String contactId) throws IOException {
+        String message;
+        switch (outcome) {
+            case NOT_FOUND:
+                message = "Contact not found: " + contactId;
+                break;
+            case DUPLICATE:
+                message = "Contact already exists: " + contactId;
+                break;
+            case LIMIT_EXCEEDED:
+                message = "Resource limit reached";
+                break;
+            default:
+                message = "Invalid contact";
+                break;
+        }
+        return sendError(exchange, statusFor(outcome), message);
+    }
+
+    private int failed(HttpExchange exchange, RuntimeException e) {
+        if (exchange.getResponseCode() != -1) {
+            // Headers already went out; the truncated body is all the client will see
+            logger.error("HTTP request failed after the response started: {}", exchange.getRequestURI(), e);
+            return exchange.getResponseCode();
+        }
+        try {
+            ContactOutcome outcome = ContactOutcome.of(e);
+            if (outcome != null) {
+                // Contact exceptions and parse errors carry a message safe to show the client
+                return sendError(exchange, statusFor(outcome), e.getMessage());
+            }
+            if (e instanceof UnsupportedOperationException) {
+                return sendError(exchange, 501, e.getMessage());
+            }
+            logger.error("HTTP request failed: {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            return sendError(exchange, 500, "Internal error");
+        } catch (IOException io) {
+            logger.debug("Could not send error response: {}", io.getMessage());
+            return 500;
+        }
+    }
+
+    private static int statusFor(ContactOutcome outcome) {
+        switch (outcome) {
+            case NOT_FOUND:
+                return 404;
+            case DUPLICATE:
+                return 409;
+            case LIMIT_EXCEEDED:
+                return 503;
+            case INVALID:
+                return 400;
+            default:
+                return 200;
+        }
+    }
+
+    private static int sendContact(HttpExchange exchange, int status, Contact contact) throws IOException {
+        StringWriter buffer = new StringWriter(160);
+        ContactJson.writeContact(new JsonWriter(buffer), contact);
+        return send(exchange, status, buffer.toString());
+    }
+
+    private static int sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringWriter buffer = new StringWriter();
+        ContactJson.writeError(new JsonWriter(buffer), message);
+        return send(exchange, status, buffer.toString());
+    }
+
+    private static int send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+        return status;
+    }
+
+    private static Writer responseWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 8192);
+    }
+
+    static String queryParameter(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            if (name.equals(URLDecoder.decode(key, StandardCharsets.UTF_8))) {
+                return eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Subscriber writing each published contact to the response as it arrives,
+     * requesting in batches so a slow client throttles the publisher.
+     */
+    private static final class StreamingSubscriber implements Flow.Subscriber<Contact> {
+        private final JsonWriter json;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+        private int received;
+
+        StreamingSubscriber(JsonWriter json) {
+            this.json = json;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(LIST_BATCH);
+        }
+
+        @Override
+        public void onNext(Contact contact) {
+            try {
+                ContactJson.writeContact(json, contact);
+            } catch (IOException e) {
+                subscription.cancel();
+                done.completeExceptionally(e);
+                return;
+            }
+            if (++received == LIST_BATCH) {
+                received = 0;
+                subscription.request(LIST_BATCH);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+
+        void await() throws IOException {
+            try {
+                done.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact HTTP Server
+ * October 2026
+ */
+package com.example.contact.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.concurrent.ContactExecutors;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.service.IContactService;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded HTTP/1.1 server fronting an IContactService with {@link ContactHttpHandler}.
+ * Built on the JDK's com.sun.net.httpserver, so it adds no dependencies.
+ *
+ * Each request runs on its own task from {@link ContactExecutors#newTaskExecutor},
+ * which is a virtual thread per request on Java 21+ and a cached daemon pool
+ * otherwise. Connections are kept alive between requests; an idle connection is
+ * only a registration on the server's selector thread and holds no worker thread,
+ * so tens of thousands of idle clients cost memory for their sockets and nothing
+ * else. The JDK caps idle connections at 200 by default; unless that is set
+ * explicitly this class raises the cap to {@link #DEFAULT_MAX_IDLE_CONNECTIONS}
+ * and disables Nagle's algorithm before the first server is created. Both settings
+ * are read once per JVM, so they have no effect if an HttpServer already exists.
+ */
+public class ContactHttpServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactHttpServer.class);
+
+    /** Default listen port for {@link #main} */
+    public static final int DEFAULT_PORT = 8080;
+    /** Idle keep-alive connections retained when not configured explicitly */
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 65536;
+
+    private static final int BACKLOG = 4096;
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ContactHttpHandler handler;
+
+    /**
+     * Binds a server for the service on all interfaces.
+     * @param service the service to expose
+     * @param port the port to listen on, or 0 for an ephemeral port
+     * @throws IOException if the port cannot be bound
+     */
+    public ContactHttpServer(IContactService service, int port) throws IOException {
+        this(service, new InetSocketAddress(port));
+    }
+
+    /**
+     * Binds a server for the service on the given address.
+     * The server does not accept requests until {@link #start} is called.
+     * @param service the service to expose
+     * @param address the address to listen on
+     * @throws IOException if the address cannot be bound
+     */
+    public ContactHttpServer(IContactService service, InetSocketAddress address) throws IOException {
+        configureConnectionDefaults();
+        this.handler = new ContactHttpHandler(service);
+        this.server = HttpServer.create(address, BACKLOG);
+        this.executor = ContactExecutors.newTaskExecutor("contact-http");
+        server.setExecutor(executor);
+        server.createContext("/", handler);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("ContactHttpServer listening on port {} ({} threads)", getPort(),
+                ContactExecutors.virtualThreadsAvailable() ? "virtual" : "platform");
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     * @return the local port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the request metrics.
+     * @return the HTTP metrics
+     */
+    public HttpMetrics getMetrics() {
+        return handler.getMetrics();
+    }
+
+    /**
+     * Stops the server, giving in-flight exchanges a moment to finish.
+     */
+    @Override
+    public void close() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("ContactHttpServer stopped");
+    }
+
+    private static void configureConnectionDefaults() {
+        if (System.getProperty("sun.net.httpserver.maxIdleConnections") == null) {
+            System.setProperty("sun.net.httpserver.maxIdleConnections", Integer.toString(DEFAULT_MAX_IDLE_CONNECTIONS));
+        }
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    /**
+     * Serves a fresh in-memory contact service until the process is stopped.
+     * @param args an optional port, defaulting to {@link #DEFAULT_PORT}
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        ContactHttpServer server = new ContactHttpServer(new ContactServiceImpl(new InMemoryContactRepository()), port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "contact-http-shutdown"));
+        server.start();
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact JSON
+ * October 2026
+ */
+package com.example.contact.server;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.example.contact.Contact;
+import com.example.contact.sync.SyncResult;
+
+/**
+ * JSON mapping for contacts and sync results used by the HTTP front end.
+ * Encoding streams through a JsonWriter. Decoding accepts only what request bodies
+ * need: a single flat object whose members are strings or null. Anything else is
+ * rejected with IllegalArgumentException, which the handler reports as 400.
+ */
+public final class ContactJson {
+
+    private ContactJson() {
+    }
+
+    /**
+     * Writes a contact as an object.
+     * @param json the destination
+     * @param contact the contact
+     * @throws IOException if the destination fails
+     */
+    public static void writeContact(JsonWriter json, Contact contact) throws IOException {
+        json.beginObject()
+                .name("contactId").value(contact.getContactId())
+                .name("firstName").value(contact.getFirstName())
+                .name("lastName").value(contact.getLastName())
+                .name("phone").value(contact.getPhone())
+                .name("address").value(contact.getAddress())
+                .endObject();
+    }
+
+    /**
+     * Writes a sync result as an object with upserts, deletedIds, nextToken and fullResync.
+     * @param json the destination
+     * @param result the sync result
+     * @throws IOException if the destination fails
+     */
+    public static void writeSyncResult(JsonWriter json, SyncResult result) throws IOException {
+        json.beginObject().name("upserts").beginArray();
+        for (Contact contact : result.getUpserts()) {
+            writeContact(json, contact);
+        }
+        json.endArray().name("deletedIds").beginArray();
+        for (String id : result.getDeletedIds()) {
+            json.value(id);
+        }
+        json.endArray()
+                .name("nextToken").value(result.getNextToken())
+                .name("fullResync").value(result.isFullResync())
+                .endObject();
+    }
+
+    /**
+     * Writes an error body of the form {"error": message}.
+     * @param json the destination
+     * @param message the error message
+     * @throws IOException if the destination fails
+     */
+    public static void writeError(JsonWriter json, String message) throws IOException {
+        json.beginObject().name("error").value(message).endObject();
+    }
+
+    /**
+     * Parses a flat JSON object of string or null members.
+     * Duplicate names keep the last value.
+     * @param text the request body
+     * @return the members in document order; null values are kept
+     * @throws IllegalArgumentException if the text is not such an object
+     */
+    public static Map<String, String> parseObject(String text) {
+        return new Parser(text).parse();
+    }
+
+    /**
+     * Recursive-descent parser over the restricted grammar.
+     */
+    private static final class Parser {
+        private final String text;
+        private int pos;
+
+        Parser(String text) {
+            if (text == null) {
+                throw new IllegalArgumentException("Request body is required");
+            }
+            this.text = text;
+        }
+
+        Map<String, String> parse() {
+            Map<String, String> members = new LinkedHashMap<>();
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+            } else {
+                while (true) {
+                    skipWhitespace();
+                    String name = readString();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    members.put(name, readValue());
+                    skipWhitespace();
+                    char c = next();
+                    if (c == '}') {
+                        break;
+                    }
+                    if (c != ',') {
+                        throw error("Expected ',' or '}'");
+                    }
+                }
+            }
+            skipWhitespace();
+            if (pos != text.length()) {
+                throw error("Unexpected trailing content");
+            }
+            return members;
+        }
+
+        private String readValue() {
+            if (text.startsWith("null", pos)) {
+                pos += 4;
+                return null;
+            }
+            if (peek() != '"') {
+                throw error("Member values must be strings or null");
+            }
+            return readString();
+        }
+
+        private String readString() {
+            expect('"');
+            StringBuilder value = null;
+            int start = pos;
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return value == null ? text.substring(start, pos - 1) : value.toString();
+                }
+                if (c < 0x20) {
+                    throw error("Unescaped control character in string");
+                }
+                if (c != '\\') {
+                    if (value != null) {
+                        value.append(c);
+                    }
+                    continue;
+                }
+                if (value == null) {
+                    value = new StringBuilder(text.length() - start);
+                    value.append(text, start, pos - 1);
+                }
+                char escape = next();
+                switch (escape) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        value.append(escape);
+                        break;
+                    case 'b':
+                        value.append('\b');
+                        break;
+                    case 'f':
+                        value.append('\f');
+                        break;
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 'r':
+                        value.append('\r');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    case 'u':
+                        value.append(readHexChar());
+                        break;
+                    default:
+                        throw error("Invalid escape");
+                }
+            }
+        }
+
+        private char readHexChar() {
+            if (pos + 4 > text.length()) {
+                throw error("Truncated escape");
+            }
+            int code = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(text.charAt(pos++), 16);
+                if (digit < 0) {
+                    throw error("Invalid hex digit");
+                }
+                code = (code << 4) | digit;
+            }
+            return (char) code;
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        private char peek() {
+            return pos < text.length() ? text.charAt(pos) : 0;
+        }
+
+        private char next() {
+            if (pos >= text.length()) {
+                throw error("Unexpected end of input");
+            }
+            return text.charAt(pos++);
+        }
+
+        private void expect(char c) {
+            if (next() != c) {
+                throw error("Expected '" + c + "'");
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Malformed JSON at offset " + pos + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * HTTP Metrics
+ * October 2026
+ */
+package com.example.contact.server;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.contact.metrics.LatencyHistogram;
+import com.example.contact.metrics.LatencySnapshot;
+
+/**
+ * Request metrics for the HTTP front end: a latency histogram per route, response
+ * counts by status class, and the number of requests currently being handled.
+ * Latency runs from the moment the handler is invoked until the response body is
+ * closed, so it includes streaming the body to the client.
+ */
+public class HttpMetrics {
+
+    private final Map<HttpRoute, LatencyHistogram> latencies = new EnumMap<>(HttpRoute.class);
+    private final LongAdder[] statusClasses = new LongAdder[6];
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Constructs an empty metrics registry.
+     */
+    public HttpMetrics() {
+        for (HttpRoute route : HttpRoute.values()) {
+            latencies.put(route, new LatencyHistogram());
+        }
+        for (int i = 0; i < statusClasses.length; i++) {
+            statusClasses[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Marks the start of a request.
+     * @return the start time to pass to {@link #requestFinished}
+     */
+    public long requestStarted() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a finished request.
+     * @param route the route that handled it
+     * @param status the response status code
+     * @param startNanos the value returned by {@link #requestStarted}
+     */
+    public void requestFinished(HttpRoute route, int status, long startNanos) {
+        latencies.get(route).record(System.nanoTime() - startNanos);
+        statusClasses[Math.min(Math.max(status / 100, 0), 5)].increment();
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Returns a snapshot of one route's latencies.
+     * @param route the route
+     * @return the latency snapshot
+     */
+    public LatencySnapshot getLatency(HttpRoute route) {
+        return latencies.get(route).snapshot();
+    }
+
+    /**
+     * Returns the number of responses with a status code in the given class.
+     * @param statusClass the leading digit, 1 to 5
+     * @return the response count
+     */
+    public long getResponseCount(int statusClass) {
+        if (statusClass < 1 || statusClass > 5) {
+            throw new IllegalArgumentException("Status class must be 1 to 5: " + statusClass);
+        }
+        return statusClasses[statusClass].sum();
+    }
+
+    /**
+     * Returns the number of requests currently being handled.
+     * @return the in-flight count
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Writes the metrics as a JSON object; latencies are in microseconds.
+     * Routes that have not been called are omitted.
+     * @param json the destination
+     * @throws IOException if the destination fails
+     */
+    public void writeTo(JsonWriter json) throws IOException {
+        json.beginObject().name("inFlight").value(inFlight.get());
+        json.name("responses").beginObject();
+        for (int i = 1; i < statusClasses.length; i++) {
+            json.name(i + "xx").value(statusClasses[i].sum());
+        }
+        json.endObject();
+        json.name("routes").beginObject();
+        for (Map.Entry<HttpRoute, LatencyHistogram> entry : latencies.entrySet()) {
+            LatencySnapshot snapshot = entry.getValue().snapshot();
+            if (snapshot.getCount() == 0) {
+                continue;
+            }
+            json.name(entry.getKey().name()).beginObject()
+                    .name("count").value(snapshot.getCount())
+                    .name("meanMicros").value(micros(Math.round(snapshot.getMeanNanos())))
+                    .name("p50Micros").value(micros(snapshot.getValueAtPercentile(50)))
+                    .name("p99Micros").value(micros(snapshot.getValueAtPercentile(99)))
+                    .name("p999Micros").value(micros(snapshot.getValueAtPercentile(99.9)))
+                    .name("maxMicros").value(micros(snapshot.getMaxNanos()))
+                    .endObject();
+        }
+        json.endObject().endObject();
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * HTTP Route
+ * October 2026
+ */
+package com.example.contact.server;
+
+/**
+ * Routes timed by {@link HttpMetrics}.
+ */
+public enum HttpRoute {
+
+    LIST_CONTACTS,
+    GET_CONTACT,
+    CREATE_CONTACT,
+    UPDATE_CONTACT,
+    DELETE_CONTACT,
+    CHANGES,
+    METRICS,
+    OTHER
+}
@@ -0,0 +1,223 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * JSON Writer
+ * October 2026
+ */
+package com.example.contact.server;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Streaming JSON encoder writing tokens straight to a Writer.
+ * There is no reflection and no intermediate tree: callers emit objects, arrays,
+ * names and values in document order and the writer inserts separators and escapes
+ * strings. Misuse such as a value without a name inside an object is the caller's
+ * bug and is not detected.
+ */
+public final class JsonWriter implements Flushable, Closeable {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer out;
+    private boolean[] first = new boolean[16];
+    private int depth;
+    private boolean afterName;
+
+    /**
+     * Constructs a writer; wrap unbuffered streams in a BufferedWriter first.
+     * @param out the destination
+     */
+    public JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Starts an object.
+     * @return this writer
+     * @throws IOException if the destination fails
+     */
+    public JsonWriter beginObject() throws IOException {
+        separator();
+        out.write('{');
+        push();
+        return this;
+    }
+
+    /**
+     * Ends the current object.
+     * @return this writer
+     * @throws IOException if the destination fails
+     */
+    public JsonWriter endObject() throws IOException {
+        depth--;
+        out.write('}');
+        return this;
+    }
+
+    /**
+     * Starts an array.
+     * @return this writer
+     * @throws IOException if the destination fails
+     */
+    public JsonWriter beginArray() throws IOException {
+        separator();
+        out.write('[');
+        push();
+        return this;
+    }
+
+    /**
+     * Ends the current array.
+     * @return this writer
+     * @throws IOException if the destination fails
+     */
+    public JsonWriter endArray() throws IOException {
+        depth--;
+        out.write(']');
+        return this;
+    }
+
+    /**
+     * Writes a member name; the next call must write its value.
+     * @param name the member name
+     * @return this writer
+     * @throws IOException if the destination fails
+     */
+    public JsonWriter name(String name) throws IOException {
+        separator();
+        writeString(name);
+        out.write(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes a string value, or null.
+     * @param value the value
+     * @return this writer
+     * @throws IOException if the destination fails
+     */
+    public JsonWriter value(String value) throws IOException {
+        separator();
+        if (value == null) {
+            out.write("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a number value.
+     * @param value the value
+     * @return this writer
+     * @throws IOException if the destination fails
+     */
+    public JsonWriter value(long value) throws IOException {
+        separator();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a number value; NaN and infinities are written as null.
+     * @param value the value
+     * @return this writer
+     * @throws IOException if the destination fails
+     */
+    public JsonWriter value(double value) throws IOException {
+        separator();
+        out.write(Double.isFinite(value) ? Double.toString(value) : "null");
+        return this;
+    }
+
+    /**
+     * Writes a boolean value.
+     * @param value the value
+     * @return this writer
+     * @throws IOException if the destination fails
+     */
+    public JsonWriter value(boolean value) throws IOException {
+        separator();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void separator() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (!first[depth]) {
+                out.write(',');
+            }
+            first[depth] = false;
+        }
+    }
+
+    private void push() {
+        depth++;
+        if (depth == first.length) {
+            boolean[] grown = new boolean[depth * 2];
+            System.arraycopy(first, 0, grown, 0, depth);
+            first = grown;
+        }
+        first[depth] = true;
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && c != 0x2028 && c != 0x2029) {
+                continue;
+            }
+            out.write(value, start, i - start);
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                default:
+                    // Other control characters, and the line separators JavaScript rejects in strings
+                    out.write("\\u");
+                    out.write(HEX[(c >> 12) & 0xF]);
+                    out.write(HEX[(c >> 8) & 0xF]);
+                    out.write(HEX[(c >> 4) & 0xF]);
+                    out.write(HEX[c & 0xF]);
+                    break;
+            }
+            start = i + 1;
+        }
+        out.write(value, start, length - start);
+        out.write('"');
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Asynchronous Contact Service Adapter
+ * October 2026
+ */
+package com.example.contact.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import com.example.contact.Contact;
+import com.example.contact.concurrent.ContactExecutors;
+
+/**
+ * Adapts a synchronous IContactService to {@link IAsyncContactService} by running each
+ * call on an executor. With the default executor each call gets its own virtual thread
+ * where the JDK supports it, so fanning out many lookups per request is cheap.
+ */
+public class AsyncContactServiceAdapter implements IAsyncContactService, AutoCloseable {
+
+    private final IContactService delegate;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+
+    /**
+     * Constructs an adapter running calls on a task-per-thread executor it owns.
+     * @param delegate the synchronous service to wrap
+     */
+    public AsyncContactServiceAdapter(IContactService delegate) {
+        this(delegate, ContactExecutors.newTaskExecutor("contact-async-service"), true);
+    }
+
+    /**
+     * Constructs an adapter running calls on the given executor.
+     * The executor is not shut down by {@link #close()}.
+     * @param delegate the synchronous service to wrap
+     * @param executor the executor to run calls on
+     */
+    public AsyncContactServiceAdapter(IContactService delegate, Executor executor) {
+        this(delegate, executor, false);
+    }
+
+    private AsyncContactServiceAdapter(IContactService delegate, Executor executor, boolean owned) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate service cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.delegate = delegate;
+        this.executor = executor;
+        this.ownedExecutor = owned ? (ExecutorService) executor : null;
+    }
+
+    @Override
+    public CompletableFuture<Void> addContact(Contact contact) {
+        return CompletableFuture.runAsync(() -> delegate.addContact(contact), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteContact(String contactId) {
+        return CompletableFuture.runAsync(() -> delegate.deleteContact(contactId), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> updateContact(String contactId, String firstName, String lastName, String phone, String address) {
+        return CompletableFuture.runAsync(() ->
+                delegate.updateContact(contactId, firstName, lastName, phone, address), executor);
+    }
+
+    @Override
+    public CompletableFuture<Contact> getContact(String contactId) {
+        return CompletableFuture.supplyAsync(() -> delegate.getContact(contactId), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<Contact>> getAllContacts() {
+        return CompletableFuture.supplyAsync(delegate::getAllContacts, executor);
+    }
+
+    /**
+     * Shuts down the executor if this adapter created it.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
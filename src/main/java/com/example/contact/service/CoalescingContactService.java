@@ -0,0 +1,169 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Coalescing Contact Service
+ * October 2026
+ */
+package com.example.contact.service;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.Contact;
+import com.example.contact.concurrent.SingleFlight;
+import com.example.contact.sync.SyncResult;
+
+/**
+ * IContactService decorator that coalesces concurrent lookups of the same contact.
+ * While a lookup for an ID is in flight against a slow repository, further lookups
+ * for that ID wait for it and share its result instead of issuing their own call.
+ * All other operations are passed straight through to the wrapped service.
+ *
+ * A lookup that joins an in-flight call observes the state from when that call
+ * started. Every write detaches the in-flight lookup of its ID before returning, so
+ * a lookup that starts after a write has returned never joins a call that started
+ * before it, and a caller always sees its own writes.
+ */
+public class CoalescingContactService implements IContactService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingContactService.class);
+
+    private final IContactService delegate;
+    private final SingleFlight<String, Contact> lookups = new SingleFlight<>();
+
+    /**
+     * Constructs a coalescing layer in front of the given service.
+     * @param delegate the service that performs the lookups
+     */
+    public CoalescingContactService(IContactService delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate service cannot be null");
+        }
+        this.delegate = delegate;
+        logger.info("CoalescingContactService initialized");
+    }
+
+    @Override
+    public void addContact(Contact contact) {
+        try {
+            delegate.addContact(contact);
+        } finally {
+            forget(contact);
+        }
+    }
+
+    @Override
+    public void deleteContact(String contactId) {
+        try {
+            delegate.deleteContact(contactId);
+        } finally {
+            forget(contactId);
+        }
+    }
+
+    @Override
+    public void updateContact(String contactId, String firstName, String lastName, String phone, String address) {
+        try {
+            delegate.updateContact(contactId, firstName, lastName, phone, address);
+        } finally {
+            forget(contactId);
+        }
+    }
+
+    /**
+     * Retrieves a contact by its ID, sharing the repository call with concurrent lookups of the same ID.
+     * @param contactId the ID of the contact to retrieve
+     * @return the contact, or null if not found
+     */
+    @Override
+    public Contact getContact(String contactId) {
+        if (contactId == null || contactId.isBlank()) {
+            return delegate.getContact(contactId);
+        }
+        return lookups.execute(contactId, () -> delegate.findContact(contactId));
+    }
+
+    @Override
+    public Contact findContact(String contactId) {
+        return getContact(contactId);
+    }
+
+    @Override
+    public List<Contact> getAllContacts() {
+        return delegate.getAllContacts();
+    }
+
+    @Override
+    public Flow.Publisher<Contact> publishAllContacts() {
+        return delegate.publishAllContacts();
+    }
+
+    @Override
+    public Flow.Publisher<Contact> publishContacts(Predicate<? super Contact> filter) {
+        return delegate.publishContacts(filter);
+    }
+
+    @Override
+    public SyncResult changesSince(String token) {
+        return delegate.changesSince(token);
+    }
+
+    @Override
+    public ContactOutcome tryAddContact(Contact contact) {
+        try {
+            return delegate.tryAddContact(contact);
+        } finally {
+            forget(contact);
+        }
+    }
+
+    @Override
+    public ContactOutcome tryDeleteContact(String contactId) {
+        try {
+            return delegate.tryDeleteContact(contactId);
+        } finally {
+            forget(contactId);
+        }
+    }
+
+    @Override
+    public ContactOutcome tryUpdateContact(String contactId, String firstName, String lastName, String phone, String address) {
+        try {
+            return delegate.tryUpdateContact(contactId, firstName, lastName, phone, address);
+        } finally {
+            forget(contactId);
+        }
+    }
+
+    /**
+     * Returns the number of lookups that reached the wrapped service.
+     * @return the executed lookup count
+     */
+    public long getExecutedLookupCount() {
+        return lookups.getExecutionCount();
+    }
+
+    /**
+     * Returns the number of lookups served by joining an in-flight call.
+     * @return the coalesced lookup count
+     */
+    public long getCoalescedLookupCount() {
+        return lookups.getCoalescedCount();
+    }
+
+    private void forget(Contact contact) {
+        if (contact != null) {
+            forget(contact.getContactId());
+        }
+    }
+
+    private void forget(String contactId) {
+        if (contactId != null) {
+            lookups.forget(contactId);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Outcome
+ * October 2026
+ */
+package com.example.contact.service;
+
+import com.example.contact.exception.ContactException;
+import com.example.contact.exception.ContactNotFoundException;
+import com.example.contact.exception.ContactValidationException;
+import com.example.contact.exception.DuplicateContactException;
+import com.example.contact.exception.ResourceLimitException;
+
+/**
+ * Result codes returned by the exception-free operations of {@link IContactService}.
+ * Each failing code corresponds to the exception the throwing variant would raise.
+ */
+public enum ContactOutcome {
+
+    /** The operation completed */
+    SUCCESS,
+
+    /** No contact exists with the given ID (ContactNotFoundException) */
+    NOT_FOUND,
+
+    /** A contact with the given ID already exists (DuplicateContactException) */
+    DUPLICATE,
+
+    /** The input failed validation (ContactValidationException) */
+    INVALID,
+
+    /** A resource limit rejected the operation (ResourceLimitException) */
+    LIMIT_EXCEEDED;
+
+    /**
+     * Returns true if this outcome represents a completed operation.
+     * @return true for SUCCESS
+     */
+    public boolean isSuccess() {
+        return this == SUCCESS;
+    }
+
+    /**
+     * Returns the exception the throwing variant raises for this outcome, for
+     * adapters that build the throwing methods from the exception-free ones.
+     * @param contactId the ID the operation targeted
+     * @return the matching exception, or null for SUCCESS
+     */
+    public ContactException toException(String contactId) {
+        switch (this) {
+            case NOT_FOUND:
+                return new ContactNotFoundException(contactId);
+            case DUPLICATE:
+                return new DuplicateContactException(contactId);
+            case INVALID:
+                return new ContactValidationException("Invalid contact data for ID: " + contactId);
+            case LIMIT_EXCEEDED:
+                return new ResourceLimitException("Resource limit reached for ID: " + contactId);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the outcome a throwing operation's exception corresponds to.
+     * @param e the exception raised by the operation
+     * @return the matching outcome, or null for an unexpected failure
+     */
+    public static ContactOutcome of(Throwable e) {
+        if (e instanceof ContactNotFoundException) {
+            return NOT_FOUND;
+        }
+        if (e instanceof DuplicateContactException) {
+            return DUPLICATE;
+        }
+        if (e instanceof ContactValidationException || e instanceof IllegalArgumentException) {
+            return INVALID;
+        }
+        if (e instanceof ResourceLimitException) {
+            return LIMIT_EXCEEDED;
+        }
+        return null;
+    }
+}
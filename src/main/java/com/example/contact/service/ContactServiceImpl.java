@@ -9,15 +9,35 @@
 package com.example.contact.service;
 
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.example.contact.Contact;
+import com.example.contact.ContactBuilder;
+import com.example.contact.audit.AuditEventType;
+import com.example.contact.audit.AuditSink;
+import com.example.contact.audit.Slf4jAuditSink;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.changefeed.ChangeFeedSource;
+import com.example.contact.concurrent.IteratorPublisher;
+import com.example.contact.concurrent.StripedLockManager;
 import com.example.contact.exception.ContactNotFoundException;
 import com.example.contact.exception.ContactValidationException;
 import com.example.contact.exception.DuplicateContactException;
+import com.example.contact.exception.ResourceLimitException;
+import com.example.contact.jfr.ContactEvents;
+import com.example.contact.jfr.ContactOperationEvent;
+import com.example.contact.jfr.ValidationEvent;
+import com.example.contact.logging.HotPathLog;
+import com.example.contact.metrics.ContactMetrics;
+import com.example.contact.metrics.MetricOperation;
 import com.example.contact.repository.IContactRepository;
+import com.example.contact.sync.ContactSyncIndex;
+import com.example.contact.sync.SyncResult;
 import com.example.contact.validation.ContactValidator;
 
 /**
@@ -25,14 +45,38 @@ import com.example.contact.validation.ContactValidator;
  * Provides business logic for contact management operations.
  * Includes logging, input validation, and security features.
  * Uses dependency injection for the repository layer.
+ * Read-modify-write sequences (add, update, delete) hold a per-ID stripe lock so
+ * concurrent operations on the same contact cannot interleave, while operations on
+ * different contacts proceed in parallel.
+ * Delta sync is supported when the repository publishes a change feed. The sync
+ * index that follows the feed is built on the first sync request, so a service
+ * nobody syncs against costs no background draining and no retained change history;
+ * that first request is a full resync either way.
+ * Audit events go to an AuditSink: the AUDIT logger by default, or an
+ * AsyncAuditPipeline to keep audit I/O off the calling thread.
+ * Operation latencies and outcomes are recorded in an optional ContactMetrics and,
+ * while a Flight Recorder recording enables them, as contact JFR events.
  */
 public class ContactServiceImpl implements IContactService {
 
     private static final Logger logger = LoggerFactory.getLogger(ContactServiceImpl.class);
-    private static final Logger auditLogger = LoggerFactory.getLogger("AUDIT");
+    private static final HotPathLog hotPath = HotPathLog.forClass(ContactServiceImpl.class);
+    private static final HotPathLog.Counter ADDED = hotPath.counter("added");
+    private static final HotPathLog.Counter DELETED = hotPath.counter("deleted");
+    private static final HotPathLog.Counter UPDATED = hotPath.counter("updated");
+    private static final HotPathLog.Counter UNCHANGED = hotPath.counter("updatesWithoutChanges");
+    private static final HotPathLog.Counter LOOKUPS = hotPath.counter("lookups");
+    private static final HotPathLog.Counter LISTINGS = hotPath.counter("listings");
+    private static final HotPathLog.Counter SYNCS = hotPath.counter("syncs");
 
     private final IContactRepository repository;
     private final ContactValidator validator;
+    private final StripedLockManager locks;
+    private final ChangeFeedSource changeFeedSource;
+    private final Object syncIndexLock = new Object();
+    private volatile ContactSyncIndex syncIndex;
+    private final AuditSink auditSink;
+    private final ContactMetrics metrics;
 
     /**
      * Constructs a ContactServiceImpl with the specified repository.
@@ -49,41 +93,138 @@ public class ContactServiceImpl implements IContactService {
      * @param validator the validator to use for input validation
      */
     public ContactServiceImpl(IContactRepository repository, ContactValidator validator) {
+        this(repository, validator, new StripedLockManager());
+    }
+
+    /**
+     * Constructs a ContactServiceImpl with the specified repository, validator and lock manager.
+     * @param repository the repository to use for data access
+     * @param validator the validator to use for input validation
+     * @param locks the lock manager guarding per-ID read-modify-write sequences
+     */
+    public ContactServiceImpl(IContactRepository repository, ContactValidator validator, StripedLockManager locks) {
+        this(repository, validator, locks, Slf4jAuditSink.INSTANCE);
+    }
+
+    /**
+     * Constructs a ContactServiceImpl with the specified repository, validator, lock manager and audit sink.
+     * @param repository the repository to use for data access
+     * @param validator the validator to use for input validation
+     * @param locks the lock manager guarding per-ID read-modify-write sequences
+     * @param auditSink the sink receiving audit events
+     */
+    public ContactServiceImpl(IContactRepository repository, ContactValidator validator, StripedLockManager locks,
+                              AuditSink auditSink) {
+        this(repository, validator, locks, auditSink, ContactMetrics.disabled());
+    }
+
+    /**
+     * Constructs a ContactServiceImpl with all collaborators.
+     * @param repository the repository to use for data access
+     * @param validator the validator to use for input validation
+     * @param locks the lock manager guarding per-ID read-modify-write sequences
+     * @param auditSink the sink receiving audit events
+     * @param metrics the metrics recording operation latencies and outcomes
+     */
+    public ContactServiceImpl(IContactRepository repository, ContactValidator validator, StripedLockManager locks,
+                              AuditSink auditSink, ContactMetrics metrics) {
         if (repository == null) {
             throw new IllegalArgumentException("Repository cannot be null");
         }
         this.repository = repository;
         this.validator = validator != null ? validator : new ContactValidator();
+        this.locks = locks != null ? locks : new StripedLockManager();
+        this.auditSink = auditSink != null ? auditSink : Slf4jAuditSink.INSTANCE;
+        this.metrics = metrics != null ? metrics : ContactMetrics.disabled();
+        this.changeFeedSource = repository instanceof ChangeFeedSource ? (ChangeFeedSource) repository : null;
         logger.info("ContactServiceImpl initialized");
     }
 
     @Override
     public void addContact(Contact contact) {
-        logger.debug("Attempting to add contact");
+        add(contact, true);
+    }
+
+    /**
+     * Adds a contact, reporting expected failures as an outcome code.
+     * @param contact the contact to add
+     * @return SUCCESS, DUPLICATE, INVALID or LIMIT_EXCEEDED
+     */
+    @Override
+    public ContactOutcome tryAddContact(Contact contact) {
+        return add(contact, false);
+    }
 
+    private ContactOutcome add(Contact contact, boolean throwOnFailure) {
+        long start = metrics.startTimer();
+        ContactOperationEvent event = ContactEvents.beginOperation();
+        ContactOutcome outcome = null;
+        try {
+            outcome = doAdd(contact, throwOnFailure);
+            return outcome;
+        } catch (RuntimeException e) {
+            outcome = ContactOutcome.of(e);
+            throw e;
+        } finally {
+            metrics.record(MetricOperation.ADD_CONTACT, start, outcome);
+            ContactEvents.commitOperation(event, MetricOperation.ADD_CONTACT, contact != null ? contact.getContactId() : null, outcome);
+        }
+    }
+
+    private ContactOutcome doAdd(Contact contact, boolean throwOnFailure) {
         // Null validation
         if (contact == null) {
-            auditLogger.warn("Security: Attempted to add null contact");
-            throw new ContactValidationException("Contact cannot be null");
+            auditSink.record(AuditEventType.NULL_CONTACT, null, null, null);
+            if (throwOnFailure) {
+                throw new ContactValidationException("Contact cannot be null");
+            }
+            return ContactOutcome.INVALID;
         }
 
         // Input sanitization/validation
-        try {
-            validator.validate(contact);
-        } catch (ContactValidationException e) {
-            auditLogger.warn("Security: Contact validation failed for ID {}: {}",
-                    contact.getContactId(), e.getMessage());
-            throw e;
+        long validationStart = metrics.startTimer();
+        ValidationEvent validationEvent = ContactEvents.beginValidation();
+        // Outcome callers get the failure without paying for a stack trace
+        ContactValidationException invalid = validator.check(contact, !throwOnFailure);
+        if (invalid != null) {
+            metrics.record(MetricOperation.VALIDATE, validationStart, ContactOutcome.INVALID);
+            ContactEvents.commitValidation(validationEvent, contact.getContactId(), ContactOutcome.INVALID);
+            auditSink.record(AuditEventType.VALIDATION_FAILED, contact.getContactId(), invalid.getMessage(), null);
+            if (throwOnFailure) {
+                throw invalid;
+            }
+            return ContactOutcome.INVALID;
         }
+        metrics.record(MetricOperation.VALIDATE, validationStart, ContactOutcome.SUCCESS);
+        ContactEvents.commitValidation(validationEvent, contact.getContactId(), ContactOutcome.SUCCESS);
 
-        // Check for duplicates
-        if (repository.existsById(contact.getContactId())) {
-            auditLogger.warn("Duplicate contact ID attempted: {}", contact.getContactId());
-            throw new DuplicateContactException(contact.getContactId());
-        }
+        Lock lock = locks.lockFor(contact.getContactId());
+        lock.lock();
+        try {
+            // Check for duplicates
+            if (repository.existsById(contact.getContactId())) {
+                auditSink.record(AuditEventType.DUPLICATE_ID, contact.getContactId(), null, null);
+                if (throwOnFailure) {
+                    throw new DuplicateContactException(contact.getContactId());
+                }
+                return ContactOutcome.DUPLICATE;
+            }
 
-        repository.save(contact);
-        logger.info("Contact added successfully: ID={}", contact.getContactId());
+            repository.save(contact);
+            indexWrite();
+        } catch (ResourceLimitException e) {
+            if (throwOnFailure) {
+                throw e;
+            }
+            return ContactOutcome.LIMIT_EXCEEDED;
+        } finally {
+            lock.unlock();
+        }
+        ADDED.increment();
+        if (hotPath.infoSampled()) {
+            logger.info("Contact added successfully: ID={}", contact.getContactId());
+        }
+        return ContactOutcome.SUCCESS;
     }
 
     /**
@@ -97,21 +238,66 @@ public class ContactServiceImpl implements IContactService {
      */
     @Override
     public void deleteContact(String contactId) {
-        logger.debug("Attempting to delete contact: {}", contactId);
+        delete(contactId, true);
+    }
 
+    /**
+     * Deletes a contact, reporting expected failures as an outcome code.
+     * @param contactId the ID of the contact to delete
+     * @return SUCCESS, NOT_FOUND or INVALID
+     */
+    @Override
+    public ContactOutcome tryDeleteContact(String contactId) {
+        return delete(contactId, false);
+    }
+
+    private ContactOutcome delete(String contactId, boolean throwOnFailure) {
+        long start = metrics.startTimer();
+        ContactOperationEvent event = ContactEvents.beginOperation();
+        ContactOutcome outcome = null;
+        try {
+            outcome = doDelete(contactId, throwOnFailure);
+            return outcome;
+        } catch (RuntimeException e) {
+            outcome = ContactOutcome.of(e);
+            throw e;
+        } finally {
+            metrics.record(MetricOperation.DELETE_CONTACT, start, outcome);
+            ContactEvents.commitOperation(event, MetricOperation.DELETE_CONTACT, contactId, outcome);
+        }
+    }
+
+    private ContactOutcome doDelete(String contactId, boolean throwOnFailure) {
         // Null validation
         if (contactId == null || contactId.isBlank()) {
-            auditLogger.warn("Security: Attempted to delete contact with null/blank ID");
-            throw new ContactValidationException("Contact ID cannot be null or blank");
+            auditSink.record(AuditEventType.BLANK_DELETE_ID, null, null, null);
+            if (throwOnFailure) {
+                throw new ContactValidationException("Contact ID cannot be null or blank");
+            }
+            return ContactOutcome.INVALID;
         }
 
-        if (!repository.existsById(contactId)) {
-            auditLogger.warn("Delete attempted for non-existent contact: {}", contactId);
-            throw new ContactNotFoundException(contactId);
-        }
+        Lock lock = locks.lockFor(contactId);
+        lock.lock();
+        try {
+            if (!repository.existsById(contactId)) {
+                auditSink.record(AuditEventType.DELETE_NOT_FOUND, contactId, null, null);
+                if (throwOnFailure) {
+                    throw new ContactNotFoundException(contactId);
+                }
+                return ContactOutcome.NOT_FOUND;
+            }
 
-        repository.deleteById(contactId);
-        logger.info("Contact deleted: ID={}", contactId);
+            repository.deleteById(contactId);
+            indexWrite();
+        } finally {
+            lock.unlock();
+        }
+        DELETED.increment();
+        if (hotPath.infoSampled()) {
+            logger.info("Contact deleted: ID={}", contactId);
+        }
+        return ContactOutcome.SUCCESS;
     }
 
     /**
@@ -129,51 +315,186 @@ public class ContactServiceImpl implements IContactService {
      */
     @Override
     public void updateContact(String contactId, String firstName, String lastName, String phone, String address) {
-        logger.debug("Attempting to update contact: {}", contactId);
+        update(contactId, firstName, lastName, phone, address, true);
+    }
+
+    /**
+     * Updates a contact, reporting expected failures as an outcome code.
+     * Field validation failures are still raised by the validator and mapped to INVALID.
+     * @param contactId the ID of the contact to update
+     * @param firstName the new first name (optional)
+     * @param lastName the new last name (optional)
+     * @param phone the new phone number (optional)
+     * @param address the new address (optional)
+     * @return SUCCESS, NOT_FOUND, INVALID or LIMIT_EXCEEDED
+     */
+    @Override
+    public ContactOutcome tryUpdateContact(String contactId, String firstName, String lastName, String phone, String address) {
+        return update(contactId, firstName, lastName, phone, address, false);
+    }
 
+    private ContactOutcome update(String contactId, String firstName, String lastName, String phone, String address,
+                                  boolean throwOnFailure) {
+        long start = metrics.startTimer();
+        ContactOperationEvent event = ContactEvents.beginOperation();
+        ContactOutcome outcome = null;
+        try {
+            outcome = doUpdate(contactId, firstName, lastName, phone, address, throwOnFailure);
+            return outcome;
+        } catch (RuntimeException e) {
+            outcome = ContactOutcome.of(e);
+            throw e;
+        } finally {
+            metrics.record(MetricOperation.UPDATE_CONTACT, start, outcome);
+            ContactEvents.commitOperation(event, MetricOperation.UPDATE_CONTACT, contactId, outcome);
+        }
+    }
+
+    private ContactOutcome doUpdate(String contactId, String firstName, String lastName, String phone, String address,
+                                    boolean throwOnFailure) {
         // Null validation for contact ID
         if (contactId == null || contactId.isBlank()) {
-            auditLogger.warn("Security: Attempted to update contact with null/blank ID");
-            throw new ContactValidationException("Contact ID cannot be null or blank");
+            auditSink.record(AuditEventType.BLANK_UPDATE_ID, null, null, null);
+            if (throwOnFailure) {
+                throw new ContactValidationException("Contact ID cannot be null or blank");
+            }
+            return ContactOutcome.INVALID;
         }
 
-        Contact contact = repository.findById(contactId)
-                .orElseThrow(() -> {
-                    auditLogger.warn("Update attempted for non-existent contact: {}", contactId);
-                    return new ContactNotFoundException(contactId);
-                });
+        // Hold the stripe lock from read to save so a concurrent delete cannot
+        // land in between and be undone by the save
+        Lock lock = locks.lockFor(contactId);
+        lock.lock();
+        try {
+            Contact contact = repository.findById(contactId).orElse(null);
+            if (contact == null) {
+                auditSink.record(AuditEventType.UPDATE_NOT_FOUND, contactId, null, null);
+                if (throwOnFailure) {
+                    throw new ContactNotFoundException(contactId);
+                }
+                return ContactOutcome.NOT_FOUND;
+            }
+
+            // Validate every provided field before changing anything, then save a
+            // modified copy so readers never see a half-applied update
+            boolean updated = false;
+            ContactBuilder changes = new ContactBuilder(contact);
 
-        // Validate and update fields only if provided and not blank
-        boolean updated = false;
+            long validationStart = metrics.startTimer();
+            ValidationEvent validationEvent = ContactEvents.beginValidation();
+            boolean stackless = !throwOnFailure;
+            ContactValidationException fieldFailure = checkProvided(null, "firstName", firstName, stackless);
+            fieldFailure = checkProvided(fieldFailure, "lastName", lastName, stackless);
+            fieldFailure = checkProvided(fieldFailure, "phone", phone, stackless);
+            fieldFailure = checkProvided(fieldFailure, "address", address, stackless);
+            RuntimeException invalid = fieldFailure;
+            if (invalid == null) {
+                if (firstName != null && !firstName.isBlank()) {
+                    changes.withFirstName(firstName);
+                    updated = true;
+                }
+                if (lastName != null && !lastName.isBlank()) {
+                    changes.withLastName(lastName);
+                    updated = true;
+                }
+                if (phone != null && !phone.isBlank()) {
+                    changes.withPhone(phone);
+                    updated = true;
+                }
+                if (address != null && !address.isBlank()) {
+                    changes.withAddress(address);
+                    updated = true;
+                }
+                if (updated) {
+                    invalid = changes.check(stackless);
+                    if (invalid == null) {
+                        try {
+                            contact = changes.build();
+                        } catch (IllegalArgumentException e) {
+                            invalid = e;
+                        }
+                    }
+                }
+            }
+            if (invalid != null) {
+                metrics.record(MetricOperation.VALIDATE, validationStart, ContactOutcome.INVALID);
+                ContactEvents.commitValidation(validationEvent, contactId, ContactOutcome.INVALID);
+                if (throwOnFailure) {
+                    throw invalid;
+                }
+                return ContactOutcome.INVALID;
+            }
+            metrics.record(MetricOperation.VALIDATE, validationStart, ContactOutcome.SUCCESS);
+            ContactEvents.commitValidation(validationEvent, contactId, ContactOutcome.SUCCESS);
 
-        if (firstName != null && !firstName.isBlank()) {
-            validator.validateName(firstName, "firstName");
-            contact.setFirstName(firstName);
-            updated = true;
-        }
-        if (lastName != null && !lastName.isBlank()) {
-            validator.validateName(lastName, "lastName");
-            contact.setLastName(lastName);
-            updated = true;
+            if (updated) {
+                // Save the updated contact
+                try {
+                    repository.save(contact);
+                    indexWrite();
+                } catch (ResourceLimitException e) {
+                    if (throwOnFailure) {
+                        throw e;
+                    }
+                    return ContactOutcome.LIMIT_EXCEEDED;
+                }
+                UPDATED.increment();
+                if (hotPath.infoSampled()) {
+                    logger.info("Contact updated: ID={}", contactId);
+                }
+            } else {
+                UNCHANGED.increment();
+                if (hotPath.debugSampled()) {
+                    logger.debug("No fields to update for contact: {}", contactId);
+                }
+            }
+        } finally {
+            lock.unlock();
         }
-        if (phone != null && !phone.isBlank()) {
-            validator.validatePhone(phone);
-            contact.setPhone(phone);
-            updated = true;
+        return ContactOutcome.SUCCESS;
+    }
+
+    /**
+     * Checks an update field if it was provided and no earlier field failed.
+     * @return the earlier failure, this field's failure, or null
+     */
+    private ContactValidationException checkProvided(ContactValidationException earlier, String fieldName,
+                                                     String value, boolean stackless) {
+        if (earlier != null || value == null || value.isBlank()) {
+            return earlier;
         }
-        if (address != null && !address.isBlank()) {
-            validator.validateAddress(address);
-            contact.setAddress(address);
-            updated = true;
+        return validator.checkField(fieldName, value, stackless);
+    }
+
+    /**
+     * Lets the sync index, once built, drain the feed if this write left it far behind.
+     */
+    private void indexWrite() {
+        ContactSyncIndex index = syncIndex;
+        if (index != null) {
+            index.catchUpIfLagging();
         }
+    }
 
-        if (updated) {
-            // Save the updated contact
-            repository.save(contact);
-            logger.info("Contact updated: ID={}", contactId);
-        } else {
-            logger.debug("No fields to update for contact: {}", contactId);
+    /**
+     * Returns the sync index, building it on first use.
+     * @return the index, or null if the repository does not publish a change feed
+     */
+    private ContactSyncIndex syncIndex() {
+        ContactSyncIndex index = syncIndex;
+        if (index == null && changeFeedSource != null) {
+            synchronized (syncIndexLock) {
+                index = syncIndex;
+                if (index == null) {
+                    ChangeFeed changeFeed = changeFeedSource.getChangeFeed();
+                    if (changeFeed != null) {
+                        index = new ContactSyncIndex(repository, changeFeed);
+                        syncIndex = index;
+                    }
+                }
+            }
         }
+        return index;
     }
 
     /**
@@ -183,14 +504,41 @@ public class ContactServiceImpl implements IContactService {
      */
     @Override
     public Contact getContact(String contactId) {
-        logger.debug("Retrieving contact: {}", contactId);
-
+        LOOKUPS.increment();
+        long start = metrics.startTimer();
+        ContactOperationEvent event = ContactEvents.beginOperation();
         if (contactId == null || contactId.isBlank()) {
             logger.warn("Attempted to get contact with null/blank ID");
+            recordLookup(start, event, contactId, ContactOutcome.INVALID);
+            return null;
+        }
+
+        Contact contact = repository.findByIdOrNull(contactId);
+        recordLookup(start, event, contactId, contact != null ? ContactOutcome.SUCCESS : ContactOutcome.NOT_FOUND);
+        return contact;
+    }
+
+    /**
+     * Retrieves a contact by its ID without allocating an Optional.
+     * @param contactId the ID of the contact to retrieve
+     * @return the contact object, or null if not found
+     */
+    @Override
+    public Contact findContact(String contactId) {
+        long start = metrics.startTimer();
+        ContactOperationEvent event = ContactEvents.beginOperation();
+        if (contactId == null || contactId.isBlank()) {
+            recordLookup(start, event, contactId, ContactOutcome.INVALID);
             return null;
         }
+        Contact contact = repository.findByIdOrNull(contactId);
+        recordLookup(start, event, contactId, contact != null ? ContactOutcome.SUCCESS : ContactOutcome.NOT_FOUND);
+        return contact;
+    }
 
-        return repository.findById(contactId).orElse(null);
+    private void recordLookup(long start, ContactOperationEvent event, String contactId, ContactOutcome outcome) {
+        metrics.record(MetricOperation.GET_CONTACT, start, outcome);
+        ContactEvents.commitOperation(event, MetricOperation.GET_CONTACT, contactId, outcome);
     }
 
     /**
@@ -199,9 +547,50 @@ public class ContactServiceImpl implements IContactService {
      */
     @Override
     public List<Contact> getAllContacts() {
-        logger.debug("Retrieving all contacts");
+        LISTINGS.increment();
+        long start = metrics.startTimer();
+        ContactOperationEvent event = ContactEvents.beginOperation();
         List<Contact> contacts = repository.findAll();
-        logger.debug("Retrieved {} contacts", contacts.size());
+        metrics.record(MetricOperation.LIST_CONTACTS, start, ContactOutcome.SUCCESS);
+        ContactEvents.commitOperation(event, MetricOperation.LIST_CONTACTS, null, ContactOutcome.SUCCESS);
+        if (hotPath.debugSampled()) {
+            logger.debug("Retrieved {} contacts", contacts.size());
+        }
         return contacts;
     }
+
+    /**
+     * Streams the contacts matching a filter straight from the repository iterator,
+     * pulling one contact per unit of subscriber demand.
+     * @param filter selects the contacts to emit
+     * @return a publisher of the matching contacts
+     */
+    @Override
+    public Flow.Publisher<Contact> publishContacts(Predicate<? super Contact> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Filter cannot be null");
+        }
+        LISTINGS.increment();
+        return new IteratorPublisher<>(repository::iterateAll, filter);
+    }
+
+    /**
+     * Returns the contacts changed since a sync token, with deletes as tombstones.
+     * @param token a token from an earlier result, or null for an initial sync
+     * @return the changes and the next token
+     * @throws UnsupportedOperationException if the repository does not publish a change feed
+     */
+    @Override
+    public SyncResult changesSince(String token) {
+        ContactSyncIndex index = syncIndex();
+        if (index == null) {
+            throw new UnsupportedOperationException("Repository does not publish a change feed");
+        }
+        SyncResult result = index.changesSince(token);
+        SYNCS.increment();
+        if (hotPath.debugSampled()) {
+            logger.debug("Sync: {}", result);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Asynchronous Contact Service Interface
+ * October 2026
+ */
+package com.example.contact.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.example.contact.Contact;
+
+/**
+ * Non-blocking counterpart of {@link IContactService}.
+ * Every operation returns immediately with a CompletableFuture; failures that the
+ * synchronous API throws (ContactNotFoundException, DuplicateContactException,
+ * ContactValidationException, ResourceLimitException) complete the future exceptionally.
+ */
+public interface IAsyncContactService {
+
+    /**
+     * Adds a new contact to the system.
+     * @param contact the contact to add
+     * @return a future completed when the contact has been added
+     */
+    CompletableFuture<Void> addContact(Contact contact);
+
+    /**
+     * Deletes a contact by its ID.
+     * @param contactId the ID of the contact to delete
+     * @return a future completed when the contact has been deleted
+     */
+    CompletableFuture<Void> deleteContact(String contactId);
+
+    /**
+     * Updates an existing contact's fields.
+     * Only non-null and non-blank fields will be updated.
+     * @param contactId the ID of the contact to update
+     * @param firstName the new first name (or null to keep unchanged)
+     * @param lastName the new last name (or null to keep unchanged)
+     * @param phone the new phone number (or null to keep unchanged)
+     * @param address the new address (or null to keep unchanged)
+     * @return a future completed when the contact has been updated
+     */
+    CompletableFuture<Void> updateContact(String contactId, String firstName, String lastName, String phone, String address);
+
+    /**
+     * Retrieves a contact by its ID.
+     * @param contactId the ID of the contact to retrieve
+     * @return a future holding the contact, or null if not found
+     */
+    CompletableFuture<Contact> getContact(String contactId);
+
+    /**
+     * Returns all contacts in the system.
+     * @return a future holding a list of all contacts
+     */
+    CompletableFuture<List<Contact>> getAllContacts();
+}
@@ -8,11 +8,16 @@
 package com.example.contact.service;
 
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Predicate;
 
 import com.example.contact.Contact;
+import com.example.contact.concurrent.IteratorPublisher;
 import com.example.contact.exception.ContactNotFoundException;
 import com.example.contact.exception.ContactValidationException;
 import com.example.contact.exception.DuplicateContactException;
+import com.example.contact.exception.ResourceLimitException;
+import com.example.contact.sync.SyncResult;
 
 /**
  * Service interface for Contact business operations.
@@ -61,4 +66,107 @@ public interface IContactService {
      * @return a list of all contacts
      */
     List<Contact> getAllContacts();
+
+    /**
+     * Streams all contacts to a subscriber, honoring its demand.
+     * The default materializes {@link #getAllContacts()}; implementations backed by a
+     * repository should override it to emit contacts without buffering the full list.
+     * @return a publisher of all contacts
+     */
+    default Flow.Publisher<Contact> publishAllContacts() {
+        return publishContacts(contact -> true);
+    }
+
+    /**
+     * Streams the contacts matching a filter to a subscriber, honoring its demand.
+     * @param filter selects the contacts to emit
+     * @return a publisher of the matching contacts
+     */
+    default Flow.Publisher<Contact> publishContacts(Predicate<? super Contact> filter) {
+        return new IteratorPublisher<>(() -> getAllContacts().iterator(), filter);
+    }
+
+    /**
+     * Returns the contacts created, updated or deleted since a sync token.
+     * Clients keep the returned token and pass it to their next call, receiving only
+     * what changed in between. Deleted contacts are reported as tombstoned IDs. An
+     * expired or unrecognized token yields a full resync.
+     * @param token a token from an earlier result, or null for an initial sync
+     * @return the changes and the next token
+     * @throws UnsupportedOperationException if the implementation cannot track changes
+     */
+    default SyncResult changesSince(String token) {
+        throw new UnsupportedOperationException("Delta sync is not supported");
+    }
+
+    // ===== Exception-free operations =====
+    // Misses, duplicates and invalid input are reported as outcome codes instead of
+    // exceptions. The defaults adapt the throwing methods; implementations should
+    // override them with paths that never construct an exception for these cases.
+
+    /**
+     * Adds a new contact without throwing for expected failures.
+     * @param contact the contact to add
+     * @return SUCCESS, DUPLICATE, INVALID or LIMIT_EXCEEDED
+     */
+    default ContactOutcome tryAddContact(Contact contact) {
+        try {
+            addContact(contact);
+            return ContactOutcome.SUCCESS;
+        } catch (DuplicateContactException e) {
+            return ContactOutcome.DUPLICATE;
+        } catch (ContactValidationException e) {
+            return ContactOutcome.INVALID;
+        } catch (ResourceLimitException e) {
+            return ContactOutcome.LIMIT_EXCEEDED;
+        }
+    }
+
+    /**
+     * Deletes a contact without throwing for expected failures.
+     * @param contactId the ID of the contact to delete
+     * @return SUCCESS, NOT_FOUND or INVALID
+     */
+    default ContactOutcome tryDeleteContact(String contactId) {
+        try {
+            deleteContact(contactId);
+            return ContactOutcome.SUCCESS;
+        } catch (ContactNotFoundException e) {
+            return ContactOutcome.NOT_FOUND;
+        } catch (ContactValidationException e) {
+            return ContactOutcome.INVALID;
+        }
+    }
+
+    /**
+     * Updates an existing contact without throwing for expected failures.
+     * Only non-null and non-blank fields will be updated.
+     * @param contactId the ID of the contact to update
+     * @param firstName the new first name (or null to keep unchanged)
+     * @param lastName the new last name (or null to keep unchanged)
+     * @param phone the new phone number (or null to keep unchanged)
+     * @param address the new address (or null to keep unchanged)
+     * @return SUCCESS, NOT_FOUND, INVALID or LIMIT_EXCEEDED
+     */
+    default ContactOutcome tryUpdateContact(String contactId, String firstName, String lastName, String phone, String address) {
+        try {
+            updateContact(contactId, firstName, lastName, phone, address);
+            return ContactOutcome.SUCCESS;
+        } catch (ContactNotFoundException e) {
+            return ContactOutcome.NOT_FOUND;
+        } catch (ContactValidationException e) {
+            return ContactOutcome.INVALID;
+        } catch (ResourceLimitException e) {
+            return ContactOutcome.LIMIT_EXCEEDED;
+        }
+    }
+
+    /**
+     * Retrieves a contact by its ID without wrapping the lookup in an Optional.
+     * @param contactId the ID of the contact to retrieve
+     * @return the contact, or null if not found or the ID is null/blank
+     */
+    default Contact findContact(String contactId) {
+        return getContact(contactId);
+    }
 }
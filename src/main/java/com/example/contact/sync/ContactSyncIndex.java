@@ -0,0 +1,346 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Sync Index
+ * October 2026
+ */
+package com.example.contact.sync;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.Contact;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.changefeed.ChangeFeedCursor;
+import com.example.contact.changefeed.ContactChangeEvent;
+import com.example.contact.concurrent.ContactExecutors;
+import com.example.contact.exception.ChangeFeedOverrunException;
+import com.example.contact.logging.HotPathLog;
+import com.example.contact.repository.IContactRepository;
+
+/**
+ * Answers delta sync requests from a repository's change feed.
+ * The index follows the feed and remembers, for each contact changed within the
+ * retention window, the sequence of its latest change. A request returns the IDs
+ * changed after the client's token, resolved against the repository's current
+ * state: present contacts are upserts, missing ones are tombstones. Payloads grow
+ * with the number of changed IDs, not with the size of the contact list.
+ *
+ * The index consumes the feed continuously, not only when a client syncs: a shared
+ * background thread drains every index's cursor every {@link #DEFAULT_FOLLOW_INTERVAL_MILLIS}
+ * ms, and writers going through the service drain it themselves, without waiting,
+ * when it is more than half the ring behind. Bursts of writes between sync requests
+ * therefore do not overrun the cursor. The background task holds the index weakly
+ * and stops once the index is no longer referenced.
+ *
+ * Changes older than the retention window are compacted away, tombstones included.
+ * A token older than the compaction point, from another feed instance, or made
+ * unreadable cannot be answered from the index and gets a full resync instead; so
+ * does any token preceding a repository clear or a feed overrun.
+ */
+public class ContactSyncIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactSyncIndex.class);
+    private static final HotPathLog hotPath = HotPathLog.forClass(ContactSyncIndex.class);
+    private static final HotPathLog.Counter DELTAS = hotPath.counter("deltaSyncs");
+    private static final HotPathLog.Counter FULL_RESYNCS = hotPath.counter("fullResyncs");
+
+    /** Default time a change, including a tombstone, stays available to delta requests */
+    public static final long DEFAULT_RETENTION_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+    /** Default interval at which the background thread drains the feed into the index */
+    public static final long DEFAULT_FOLLOW_INTERVAL_MILLIS = 10;
+
+    private static final String TOKEN_VERSION = "v1";
+
+    private static final ScheduledExecutorService FOLLOWER =
+            Executors.newSingleThreadScheduledExecutor(ContactExecutors.daemonThreads("contact-sync-follower"));
+
+    /**
+     * Periodic task draining one index, cancelled once the index is garbage collected.
+     */
+    private static final class Follower implements Runnable {
+        private final WeakReference<ContactSyncIndex> index;
+        private volatile ScheduledFuture<?> task;
+
+        Follower(ContactSyncIndex index) {
+            this.index = new WeakReference<>(index);
+        }
+
+        @Override
+        public void run() {
+            ContactSyncIndex target = index.get();
+            if (target == null) {
+                task.cancel(false);
+                return;
+            }
+            target.lock.lock();
+            try {
+                target.catchUp();
+            } catch (RuntimeException e) {
+                logger.error("Sync index follower failed", e);
+            } finally {
+                target.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * The latest change recorded for a contact ID.
+     */
+    private static final class Change {
+        private final String contactId;
+        private final long timestampMillis;
+
+        Change(String contactId, long timestampMillis) {
+            this.contactId = contactId;
+            this.timestampMillis = timestampMillis;
+        }
+    }
+
+    private final IContactRepository repository;
+    private final ChangeFeed feed;
+    private final ChangeFeedCursor cursor;
+    private final long retentionMillis;
+    private final long lagThreshold;
+    private final Lock lock = new ReentrantLock();
+    private volatile long indexedSequence;
+
+    // Guarded by lock
+    private final NavigableMap<Long, Change> changesBySequence = new TreeMap<>();
+    private final Map<String, Long> latestSequence = new HashMap<>();
+    private long floor;
+
+    /**
+     * Constructs an index with the default retention window.
+     * @param repository the repository whose current state resolves changed IDs
+     * @param feed the feed the repository publishes to
+     */
+    public ContactSyncIndex(IContactRepository repository, ChangeFeed feed) {
+        this(repository, feed, DEFAULT_RETENTION_MILLIS);
+    }
+
+    /**
+     * Constructs an index.
+     * @param repository the repository whose current state resolves changed IDs
+     * @param feed the feed the repository publishes to
+     * @param retentionMillis how long changes stay available to delta requests
+     */
+    public ContactSyncIndex(IContactRepository repository, ChangeFeed feed, long retentionMillis) {
+        this(repository, feed, retentionMillis, DEFAULT_FOLLOW_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructs an index with a custom background drain interval.
+     * @param repository the repository whose current state resolves changed IDs
+     * @param feed the feed the repository publishes to
+     * @param retentionMillis how long changes stay available to delta requests
+     * @param followIntervalMillis how often the background thread drains the feed,
+     *                             or 0 to drain only on requests and writer catch-up
+     */
+    public ContactSyncIndex(IContactRepository repository, ChangeFeed feed, long retentionMillis,
+                            long followIntervalMillis) {
+        if (repository == null || feed == null) {
+            throw new IllegalArgumentException("Repository and change feed cannot be null");
+        }
+        if (retentionMillis < 0) {
+            throw new IllegalArgumentException("Retention cannot be negative: " + retentionMillis);
+        }
+        if (followIntervalMillis < 0) {
+            throw new IllegalArgumentException("Follow interval cannot be negative: " + followIntervalMillis);
+        }
+        this.repository = repository;
+        this.feed = feed;
+        this.cursor = feed.subscribe();
+        this.retentionMillis = retentionMillis;
+        this.floor = cursor.getPosition() - 1;
+        this.indexedSequence = floor;
+        this.lagThreshold = feed.getCapacity() / 2;
+        if (followIntervalMillis > 0) {
+            Follower follower = new Follower(this);
+            follower.task = FOLLOWER.scheduleWithFixedDelay(follower, followIntervalMillis, followIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the changes since a token.
+     * @param token a token from an earlier result, or null for an initial sync
+     * @return the changes and the next token
+     */
+    public SyncResult changesSince(String token) {
+        lock.lock();
+        try {
+            return computeChanges(token);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drains the feed into the index if it has fallen more than half the ring behind
+     * and no other thread is draining it. Called by writers after publishing; never blocks.
+     */
+    public void catchUpIfLagging() {
+        if (feed.getLastSequence() - indexedSequence > lagThreshold && lock.tryLock()) {
+            try {
+                catchUp();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private SyncResult computeChanges(String token) {
+        catchUp();
+        compact(System.currentTimeMillis());
+        long watermark = cursor.getPosition() - 1;
+
+        long since = decode(token);
+        if (since < floor || since > watermark) {
+            return fullResync(watermark);
+        }
+
+        List<Contact> upserts = new ArrayList<>();
+        List<String> deletedIds = new ArrayList<>();
+        for (Change change : changesBySequence.tailMap(since, false).values()) {
+            Contact contact = repository.findByIdOrNull(change.contactId);
+            if (contact != null) {
+                upserts.add(contact);
+            } else {
+                deletedIds.add(change.contactId);
+            }
+        }
+        DELTAS.increment();
+        if (hotPath.debugSampled()) {
+            logger.debug("Delta sync from {} to {}: {} upserts, {} tombstones",
+                    since, watermark, upserts.size(), deletedIds.size());
+        }
+        return new SyncResult(upserts, deletedIds, encode(watermark), false);
+    }
+
+    /**
+     * Returns the number of contact IDs currently held by the index.
+     * @return the tracked change count
+     */
+    public int getTrackedChangeCount() {
+        lock.lock();
+        try {
+            return changesBySequence.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the oldest sequence a token may carry and still get a delta.
+     * @return the compaction point
+     */
+    public long getFloor() {
+        lock.lock();
+        try {
+            return floor;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private SyncResult fullResync(long watermark) {
+        // Every change up to the watermark is visible before findAll runs, and later
+        // ones are re-sent by the next delta, so nothing falls between the two
+        List<Contact> contacts = repository.findAll();
+        FULL_RESYNCS.increment();
+        if (hotPath.debugSampled()) {
+            logger.debug("Full resync at {}: {} contacts", watermark, contacts.size());
+        }
+        return new SyncResult(contacts, new ArrayList<>(), encode(watermark), true);
+    }
+
+    private void catchUp() {
+        try {
+            ContactChangeEvent event;
+            while ((event = cursor.poll()) != null) {
+                apply(event);
+            }
+            indexedSequence = cursor.getPosition() - 1;
+        } catch (ChangeFeedOverrunException e) {
+            // Changes were missed, so no token from before the gap can be answered
+            logger.warn("Sync index fell behind the change feed; forcing resync for tokens before {}",
+                    e.getResumeSequence());
+            cursor.seek(e.getResumeSequence());
+            raiseFloor(e.getResumeSequence() - 1);
+            catchUp();
+        }
+    }
+
+    private void apply(ContactChangeEvent event) {
+        if (event.getType() == ContactChangeEvent.Type.CLEARED) {
+            raiseFloor(event.getSequence());
+            return;
+        }
+        Long previous = latestSequence.put(event.getContactId(), event.getSequence());
+        if (previous != null) {
+            changesBySequence.remove(previous);
+        }
+        changesBySequence.put(event.getSequence(), new Change(event.getContactId(), event.getTimestampMillis()));
+    }
+
+    private void compact(long nowMillis) {
+        Map.Entry<Long, Change> oldest;
+        while ((oldest = changesBySequence.firstEntry()) != null
+                && nowMillis - oldest.getValue().timestampMillis >= retentionMillis) {
+            raiseFloor(oldest.getKey());
+        }
+    }
+
+    private void raiseFloor(long sequence) {
+        NavigableMap<Long, Change> compacted = changesBySequence.headMap(sequence, true);
+        for (Map.Entry<Long, Change> entry : compacted.entrySet()) {
+            latestSequence.remove(entry.getValue().contactId, entry.getKey());
+        }
+        compacted.clear();
+        floor = Math.max(floor, sequence);
+    }
+
+    private String encode(long sequence) {
+        String raw = TOKEN_VERSION + ":" + Long.toHexString(feed.getEpoch()) + ":" + Long.toHexString(sequence);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decodes a token to its sequence, or -1 when it cannot be used with this feed.
+     */
+    private long decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return -1;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !TOKEN_VERSION.equals(parts[0])
+                    || Long.parseUnsignedLong(parts[1], 16) != feed.getEpoch()) {
+                return -1;
+            }
+            return Long.parseLong(parts[2], 16);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unreadable sync token; forcing full resync");
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Sync Result
+ * October 2026
+ */
+package com.example.contact.sync;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.example.contact.Contact;
+
+/**
+ * Result of a delta sync request.
+ * A client applies the upserts, removes the tombstoned IDs, and stores the next
+ * token for its following request. When {@link #isFullResync()} is true the upserts
+ * are the complete contact list and the client must first discard its local copy.
+ */
+public final class SyncResult {
+
+    private final List<Contact> upserts;
+    private final List<String> deletedIds;
+    private final String nextToken;
+    private final boolean fullResync;
+
+    /**
+     * Constructs a sync result.
+     * @param upserts contacts created or updated since the token
+     * @param deletedIds IDs of contacts deleted since the token
+     * @param nextToken the token to pass to the next sync request
+     * @param fullResync whether the upserts replace the client's data entirely
+     */
+    public SyncResult(List<Contact> upserts, List<String> deletedIds, String nextToken, boolean fullResync) {
+        this.upserts = Collections.unmodifiableList(upserts);
+        this.deletedIds = Collections.unmodifiableList(deletedIds);
+        this.nextToken = nextToken;
+        this.fullResync = fullResync;
+    }
+
+    /**
+     * Returns the contacts created or updated since the token.
+     * @return the upserted contacts
+     */
+    public List<Contact> getUpserts() {
+        return upserts;
+    }
+
+    /**
+     * Returns the IDs of contacts deleted since the token.
+     * @return the tombstoned IDs
+     */
+    public List<String> getDeletedIds() {
+        return deletedIds;
+    }
+
+    /**
+     * Returns the token to pass to the next sync request.
+     * @return the next sync token
+     */
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    /**
+     * Returns whether the client must replace its data with the upserts.
+     * @return true for a full resync
+     */
+    public boolean isFullResync() {
+        return fullResync;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncResult{upserts=" + upserts.size() + ", deleted=" + deletedIds.size()
+                + ", fullResync=" + fullResync + "}";
+    }
+}
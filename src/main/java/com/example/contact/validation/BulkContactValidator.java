@@ -0,0 +1,268 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Bulk Contact Validator
+ * October 2026
+ * Validates large batches of contact rows without throwing per failure.
+ */
+package com.example.contact.validation;
+
+import java.util.List;
+
+import com.example.contact.Contact;
+
+/**
+ * Validates many contact rows at once and reports failures as a per-row bitmask.
+ * Applies the same rules as {@link ContactValidator} (blank checks, unsafe content,
+ * control characters, name charset, digit-only phone) plus the length limits enforced
+ * by the {@link Contact} constructor, so raw CSV rows can be screened before any
+ * Contact is built.
+ *
+ * Character classification uses SWAR (SIMD within a register): four UTF-16 chars are
+ * packed into one long and every character class is computed for all four lanes with
+ * a handful of branch-free arithmetic operations. The regex patterns of ContactValidator
+ * are only consulted for the rare values whose packed scan shows a character that could
+ * start an unsafe token, or that contain line terminators or non-ASCII text.
+ *
+ * Unlike ContactValidator, which stops at the first failure, every failing rule of every
+ * field is reported. A row mask of zero means the row would pass ContactValidator and
+ * the Contact constructor.
+ */
+public class BulkContactValidator {
+
+    /** Field index of the contact ID */
+    public static final int FIELD_CONTACT_ID = 0;
+    /** Field index of the first name */
+    public static final int FIELD_FIRST_NAME = 1;
+    /** Field index of the last name */
+    public static final int FIELD_LAST_NAME = 2;
+    /** Field index of the phone number */
+    public static final int FIELD_PHONE = 3;
+    /** Field index of the address */
+    public static final int FIELD_ADDRESS = 4;
+
+    /** Value is null or blank */
+    public static final int FAILURE_BLANK = 0;
+    /** Value violates the Contact length limit */
+    public static final int FAILURE_LENGTH = 1;
+    /** Value contains control characters */
+    public static final int FAILURE_CONTROL = 2;
+    /** Value contains characters outside the field's charset (names and phone only) */
+    public static final int FAILURE_CHARSET = 3;
+    /** Value matches an XSS or SQL injection pattern */
+    public static final int FAILURE_UNSAFE = 4;
+
+    private static final int BITS_PER_FIELD = 5;
+    private static final int FIELD_BITS = (1 << BITS_PER_FIELD) - 1;
+
+    private static final int MAX_ID_LENGTH = 10;
+    private static final int MAX_NAME_LENGTH = 10;
+    private static final int PHONE_LENGTH = 10;
+    private static final int MAX_ADDRESS_LENGTH = 30;
+
+    // SWAR constants for four 16-bit lanes
+    private static final long ONES = 0x0001_0001_0001_0001L;
+    private static final long HIGH = 0x8000_8000_8000_8000L;
+
+    // Scan summary flags
+    private static final int HAS_CONTROL = 1;
+    private static final int HAS_NON_DIGIT = 1 << 1;
+    private static final int HAS_NON_NAME = 1 << 2;
+    private static final int HAS_UNSAFE_TRIGGER = 1 << 3;
+    private static final int NEEDS_EXACT_CHECK = 1 << 4;
+
+    /**
+     * Returns the bit reported for a failure kind on a field.
+     * @param field one of the FIELD_* constants
+     * @param failure one of the FAILURE_* constants
+     * @return the single-bit mask for that field and failure
+     */
+    public static int failureBit(int field, int failure) {
+        return 1 << (field * BITS_PER_FIELD + failure);
+    }
+
+    /**
+     * Returns the mask covering every failure bit of a field.
+     * @param field one of the FIELD_* constants
+     * @return the mask of all bits belonging to the field
+     */
+    public static int fieldMask(int field) {
+        return FIELD_BITS << (field * BITS_PER_FIELD);
+    }
+
+    /**
+     * Validates a batch of contacts.
+     * @param contacts the contacts to validate
+     * @return one failure mask per contact, in the same order
+     */
+    public int[] validate(List<Contact> contacts) {
+        int[] masks = new int[contacts.size()];
+        for (int row = 0; row < masks.length; row++) {
+            Contact contact = contacts.get(row);
+            masks[row] = contact == null
+                    ? validateRow(null, null, null, null, null)
+                    : validateRow(contact.getContactId(), contact.getFirstName(), contact.getLastName(),
+                            contact.getPhone(), contact.getAddress());
+        }
+        return masks;
+    }
+
+    /**
+     * Validates a batch of rows held in column arrays, as produced by a CSV reader.
+     * The number of rows validated is {@code masks.length}.
+     * @param contactIds the contact ID column
+     * @param firstNames the first name column
+     * @param lastNames the last name column
+     * @param phones the phone column
+     * @param addresses the address column
+     * @param masks receives one failure mask per row
+     */
+    public void validate(String[] contactIds, String[] firstNames, String[] lastNames,
+                         String[] phones, String[] addresses, int[] masks) {
+        for (int row = 0; row < masks.length; row++) {
+            masks[row] = validateRow(contactIds[row], firstNames[row], lastNames[row], phones[row], addresses[row]);
+        }
+    }
+
+    /**
+     * Validates a single row.
+     * @param contactId the contact ID
+     * @param firstName the first name
+     * @param lastName the last name
+     * @param phone the phone number
+     * @param address the address
+     * @return the failure mask for the row, zero if the row is valid
+     */
+    public int validateRow(String contactId, String firstName, String lastName, String phone, String address) {
+        return validateText(contactId, FIELD_CONTACT_ID, MAX_ID_LENGTH, false)
+                | validateText(firstName, FIELD_FIRST_NAME, MAX_NAME_LENGTH, true)
+                | validateText(lastName, FIELD_LAST_NAME, MAX_NAME_LENGTH, true)
+                | validatePhone(phone)
+                | validateText(address, FIELD_ADDRESS, MAX_ADDRESS_LENGTH, false);
+    }
+
+    private static int validateText(String value, int field, int maxLength, boolean nameCharset) {
+        if (value == null || value.isBlank()) {
+            return failureBit(field, FAILURE_BLANK);
+        }
+
+        int mask = 0;
+        if (value.length() > maxLength) {
+            mask |= failureBit(field, FAILURE_LENGTH);
+        }
+
+        int scan = scan(value);
+        boolean exact = (scan & NEEDS_EXACT_CHECK) != 0;
+
+        if ((scan & HAS_UNSAFE_TRIGGER) != 0 || exact) {
+            if (ContactValidator.containsUnsafeContent(value)) {
+                mask |= failureBit(field, FAILURE_UNSAFE);
+            }
+        }
+        if (exact ? ContactValidator.containsControlCharacters(value) : (scan & HAS_CONTROL) != 0) {
+            mask |= failureBit(field, FAILURE_CONTROL);
+        }
+        if (nameCharset && (scan & HAS_NON_NAME) != 0) {
+            mask |= failureBit(field, FAILURE_CHARSET);
+        }
+        return mask;
+    }
+
+    private static int validatePhone(String phone) {
+        if (phone == null || phone.isBlank()) {
+            return failureBit(FIELD_PHONE, FAILURE_BLANK);
+        }
+
+        int mask = 0;
+        if (phone.length() != PHONE_LENGTH) {
+            mask |= failureBit(FIELD_PHONE, FAILURE_LENGTH);
+        }
+        if ((scan(phone) & HAS_NON_DIGIT) != 0) {
+            mask |= failureBit(FIELD_PHONE, FAILURE_CHARSET);
+        }
+        return mask;
+    }
+
+    /**
+     * Classifies every character of the value four lanes at a time and returns the
+     * summary flags. Lane masks are accumulated with OR so the loop body has no
+     * data-dependent branches.
+     */
+    private static int scan(String value) {
+        int length = value.length();
+        long control = 0;
+        long nonDigit = 0;
+        long nonName = 0;
+        long trigger = 0;
+        long exact = 0;
+        long carry = 0;
+
+        for (int i = 0; i < length; i += 4) {
+            int lanes = Math.min(4, length - i);
+            long block = 0;
+            for (int j = 0; j < lanes; j++) {
+                block |= (long) value.charAt(i + j) << (j << 4);
+            }
+            long valid = lanes == 4 ? HIGH : HIGH >>> ((4 - lanes) << 4);
+
+            // Lanes with bit 15 set are outside every ASCII class; clear it so the
+            // range arithmetic cannot borrow across lanes.
+            long wide = block & HIGH;
+            long x = block & ~HIGH;
+            long ascii = ~wide & ~ge(x, 0x80) & HIGH;
+
+            long whitespace = (eq(x, ' ') | range(x, '\t', '\r')) & ascii;
+            long digit = range(x, '0', '9') & ascii;
+            long letter = (range(x, 'a', 'z') | range(x, 'A', 'Z')) & ascii;
+            long name = letter | whitespace | eq(x, '-') | eq(x, '\'');
+
+            control |= (range(x, 0x00, 0x08) | range(x, 0x0B, 0x0C) | range(x, 0x0E, 0x1F) | eq(x, 0x7F))
+                    & ascii & valid;
+            nonDigit |= ~digit & valid;
+            nonName |= ~name & valid;
+
+            // Every XSS/SQL pattern needs one of these characters, or an 'n'/'p'
+            // immediately followed by whitespace ("union select", "drop table").
+            long special = eq(x, '<') | eq(x, ':') | eq(x, '=') | eq(x, ';')
+                    | eq(x, '-') | eq(x, '\'') | eq(x, '"');
+            long np = (eq(x, 'n') | eq(x, 'N') | eq(x, 'p') | eq(x, 'P')) & ascii & valid;
+            trigger |= (special & ascii & valid) | (((np << 16) | carry) & whitespace & valid);
+            carry = np >>> 48;
+
+            // Regex '.' stops at line terminators and non-ASCII text may hold one,
+            // so such values are handed to the exact patterns.
+            exact |= ((eq(x, '\n') | eq(x, '\r')) & ascii | ~ascii) & valid;
+        }
+
+        int flags = 0;
+        if (control != 0) {
+            flags |= HAS_CONTROL;
+        }
+        if (nonDigit != 0) {
+            flags |= HAS_NON_DIGIT;
+        }
+        if (nonName != 0) {
+            flags |= HAS_NON_NAME;
+        }
+        if (trigger != 0) {
+            flags |= HAS_UNSAFE_TRIGGER;
+        }
+        if (exact != 0) {
+            flags |= NEEDS_EXACT_CHECK;
+        }
+        return flags;
+    }
+
+    /** Sets bit 15 of each lane whose value is at least n (lanes must be below 0x8000). */
+    private static long ge(long x, int n) {
+        return ((x | HIGH) - ONES * n) & HIGH;
+    }
+
+    private static long range(long x, int lo, int hi) {
+        return ge(x, lo) & ~ge(x, hi + 1);
+    }
+
+    private static long eq(long x, int c) {
+        return range(x, c, c);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Character Class
+ * October 2026
+ */
+package com.example.contact.validation;
+
+/**
+ * Immutable set of UTF-16 chars backed by a 64K-bit lookup table.
+ * Parsed from the body of a regex-style character class, for example
+ * {@code a-zA-Z\s\-'} or {@code \x00-\x08\x0B\x0C\x0E-\x1F\x7F}.
+ *
+ * Supported syntax: single chars, ranges {@code x-y}, and the escapes
+ * {@code \s} (space, tab, newline, vertical tab, form feed, carriage return),
+ * {@code \d} (ASCII digits), {@code \t \n \r \f}, {@code \xHH}, <code>&#92;uHHHH</code>
+ * and backslash followed by any other char for that char literally.
+ */
+final class CharClass {
+
+    private final long[] bits = new long[1024];
+
+    private CharClass() {
+    }
+
+    /**
+     * Parses a character class specification.
+     * @param spec the class body
+     * @return the compiled class
+     * @throws IllegalArgumentException if the specification is malformed
+     */
+    static CharClass parse(String spec) {
+        CharClass charClass = new CharClass();
+        int i = 0;
+        while (i < spec.length()) {
+            char c = spec.charAt(i);
+            int start;
+            if (c == '\\') {
+                if (i + 1 >= spec.length()) {
+                    throw new IllegalArgumentException("Dangling escape in character class: " + spec);
+                }
+                char e = spec.charAt(i + 1);
+                if (e == 's') {
+                    charClass.add(' ', ' ');
+                    charClass.add('\t', '\r');
+                    i += 2;
+                    continue;
+                }
+                if (e == 'd') {
+                    charClass.add('0', '9');
+                    i += 2;
+                    continue;
+                }
+                int[] escape = parseEscape(spec, i);
+                start = escape[0];
+                i = escape[1];
+            } else {
+                start = c;
+                i++;
+            }
+
+            int end = start;
+            if (i + 1 < spec.length() && spec.charAt(i) == '-') {
+                if (spec.charAt(i + 1) == '\\') {
+                    int[] escape = parseEscape(spec, i + 1);
+                    end = escape[0];
+                    i = escape[1];
+                } else {
+                    end = spec.charAt(i + 1);
+                    i += 2;
+                }
+                if (end < start) {
+                    throw new IllegalArgumentException("Reversed range in character class: " + spec);
+                }
+            }
+            charClass.add(start, end);
+        }
+        return charClass;
+    }
+
+    /**
+     * Returns true if the char is a member of this class.
+     * @param c the char to test
+     * @return true if the class contains the char
+     */
+    boolean contains(char c) {
+        return (bits[c >>> 6] & (1L << c)) != 0;
+    }
+
+    /**
+     * Returns true if every char of the value is a member of this class.
+     * @param value the value to test
+     * @return true if all chars are members
+     */
+    boolean containsAll(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!contains(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if any char of the value is a member of this class.
+     * @param value the value to test
+     * @return true if at least one char is a member
+     */
+    boolean containsAny(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (contains(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(int start, int end) {
+        for (int c = start; c <= end; c++) {
+            bits[c >>> 6] |= 1L << c;
+        }
+    }
+
+    /** Returns {char value, index after escape} for the escape starting at index i. */
+    private static int[] parseEscape(String spec, int i) {
+        if (i + 1 >= spec.length()) {
+            throw new IllegalArgumentException("Dangling escape in character class: " + spec);
+        }
+        char e = spec.charAt(i + 1);
+        switch (e) {
+            case 't':
+                return new int[] {'\t', i + 2};
+            case 'n':
+                return new int[] {'\n', i + 2};
+            case 'r':
+                return new int[] {'\r', i + 2};
+            case 'f':
+                return new int[] {'\f', i + 2};
+            case 'x':
+                return new int[] {parseHex(spec, i + 2, 2), i + 4};
+            case 'u':
+                return new int[] {parseHex(spec, i + 2, 4), i + 6};
+            default:
+                return new int[] {e, i + 2};
+        }
+    }
+
+    private static int parseHex(String spec, int from, int digits) {
+        if (from + digits > spec.length()) {
+            throw new IllegalArgumentException("Truncated hex escape in character class: " + spec);
+        }
+        try {
+            return Integer.parseInt(spec.substring(from, from + digits), 16);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid hex escape in character class: " + spec, e);
+        }
+    }
+}
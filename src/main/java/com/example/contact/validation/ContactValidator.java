@@ -8,6 +8,7 @@ package com.example.contact.validation;
 
 import com.example.contact.Contact;
 import com.example.contact.exception.ContactValidationException;
+import com.example.contact.logging.HotPathLog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,11 +17,16 @@ import java.util.regex.Pattern;
 /**
  * Validates contact data for security and data integrity.
  * Checks for malicious content, XSS patterns, and invalid characters.
+ * The validate methods throw the first failure; {@link #check(Contact, boolean)} and
+ * {@link #checkField(String, String, boolean)} return it instead, optionally without
+ * a stack trace, for callers that report failures as outcome codes.
  */
 public class ContactValidator {
 
     private static final Logger logger = LoggerFactory.getLogger(ContactValidator.class);
     private static final Logger auditLogger = LoggerFactory.getLogger("AUDIT");
+    private static final HotPathLog hotPath = HotPathLog.forClass(ContactValidator.class);
+    private static final HotPathLog.Counter PASSED = hotPath.counter("validationPassed");
 
     // Patterns for detecting potentially malicious content
     private static final Pattern XSS_PATTERN = Pattern.compile(
@@ -46,17 +52,7 @@ public class ContactValidator {
      * @throws ContactValidationException if validation fails
      */
     public void validate(Contact contact) {
-        if (contact == null) {
-            throw new ContactValidationException("Contact cannot be null");
-        }
-
-        validateContactId(contact.getContactId());
-        validateName(contact.getFirstName(), "firstName");
-        validateName(contact.getLastName(), "lastName");
-        validatePhone(contact.getPhone());
-        validateAddress(contact.getAddress());
-
-        logger.debug("Contact validation passed for ID: {}", contact.getContactId());
+        throwIfInvalid(check(contact, false));
     }
 
     /**
@@ -65,12 +61,7 @@ public class ContactValidator {
      * @throws ContactValidationException if validation fails
      */
     public void validateContactId(String contactId) {
-        if (contactId == null || contactId.isBlank()) {
-            throw new ContactValidationException("contactId", "Contact ID cannot be null or blank");
-        }
-
-        checkForMaliciousContent(contactId, "contactId");
-        checkForControlCharacters(contactId, "contactId");
+        throwIfInvalid(checkField("contactId", contactId, false));
     }
 
     /**
@@ -80,18 +71,7 @@ public class ContactValidator {
      * @throws ContactValidationException if validation fails
      */
     public void validateName(String name, String fieldName) {
-        if (name == null || name.isBlank()) {
-            throw new ContactValidationException(fieldName, fieldName + " cannot be null or blank");
-        }
-
-        checkForMaliciousContent(name, fieldName);
-        checkForControlCharacters(name, fieldName);
-
-        // Check for valid name characters
-        if (!VALID_NAME_PATTERN.matcher(name).matches()) {
-            auditLogger.warn("Security: Invalid characters in {} - value contained non-alphabetic characters", fieldName);
-            throw new ContactValidationException(fieldName, fieldName + " contains invalid characters (only letters, spaces, hyphens, and apostrophes allowed)");
-        }
+        throwIfInvalid(checkField(fieldName, name, false));
     }
 
     /**
@@ -100,15 +80,7 @@ public class ContactValidator {
      * @throws ContactValidationException if validation fails
      */
     public void validatePhone(String phone) {
-        if (phone == null || phone.isBlank()) {
-            throw new ContactValidationException("phone", "Phone cannot be null or blank");
-        }
-
-        // Phone should only contain digits (already validated by Contact class)
-        if (!phone.matches("\\d+")) {
-            auditLogger.warn("Security: Invalid phone number format attempted");
-            throw new ContactValidationException("phone", "Phone must contain only digits");
-        }
+        throwIfInvalid(checkField("phone", phone, false));
     }
 
     /**
@@ -117,42 +89,150 @@ public class ContactValidator {
      * @throws ContactValidationException if validation fails
      */
     public void validateAddress(String address) {
-        if (address == null || address.isBlank()) {
-            throw new ContactValidationException("address", "Address cannot be null or blank");
+        throwIfInvalid(checkField("address", address, false));
+    }
+
+    /**
+     * Checks a contact without throwing, for callers that turn a failure into an outcome code.
+     * @param contact the contact to check
+     * @param stackless true to create the failure without a stack trace
+     * @return null if the contact is valid, otherwise the first failure found
+     */
+    public ContactValidationException check(Contact contact, boolean stackless) {
+        if (contact == null) {
+            return failure(null, "Contact cannot be null", stackless);
+        }
+
+        ContactValidationException failure = checkField("contactId", contact.getContactId(), stackless);
+        if (failure == null) {
+            failure = checkField("firstName", contact.getFirstName(), stackless);
+        }
+        if (failure == null) {
+            failure = checkField("lastName", contact.getLastName(), stackless);
+        }
+        if (failure == null) {
+            failure = checkField("phone", contact.getPhone(), stackless);
+        }
+        if (failure == null) {
+            failure = checkField("address", contact.getAddress(), stackless);
+        }
+        if (failure != null) {
+            return failure;
         }
 
-        checkForMaliciousContent(address, "address");
-        checkForControlCharacters(address, "address");
+        PASSED.increment();
+        if (hotPath.debugSampled()) {
+            logger.debug("Contact validation passed for ID: {}", contact.getContactId());
+        }
+        return null;
     }
 
     /**
-     * Checks a string for potentially malicious content (XSS, SQL injection).
+     * Checks one field without throwing. The contactId, phone and address fields have
+     * their own rules; any other field name is checked as a name.
+     * @param fieldName the field to check, also used in error messages
      * @param value the value to check
-     * @param fieldName the field name for error messages
-     * @throws ContactValidationException if malicious content is detected
+     * @param stackless true to create the failure without a stack trace
+     * @return null if the value is valid, otherwise the failure
      */
-    private void checkForMaliciousContent(String value, String fieldName) {
-        if (XSS_PATTERN.matcher(value).matches()) {
-            auditLogger.warn("Security: XSS pattern detected in {} - input rejected", fieldName);
-            throw new ContactValidationException(fieldName, fieldName + " contains potentially unsafe content");
+    public ContactValidationException checkField(String fieldName, String value, boolean stackless) {
+        if ("contactId".equals(fieldName)) {
+            if (value == null || value.isBlank()) {
+                return failure(fieldName, "Contact ID cannot be null or blank", stackless);
+            }
+            return checkContent(value, fieldName, stackless);
+        }
+        if ("phone".equals(fieldName)) {
+            if (value == null || value.isBlank()) {
+                return failure(fieldName, "Phone cannot be null or blank", stackless);
+            }
+            // Phone should only contain digits (already validated by Contact class)
+            if (!value.matches("\\d+")) {
+                auditLogger.warn("Security: Invalid phone number format attempted");
+                return failure(fieldName, "Phone must contain only digits", stackless);
+            }
+            return null;
+        }
+        if ("address".equals(fieldName)) {
+            if (value == null || value.isBlank()) {
+                return failure(fieldName, "Address cannot be null or blank", stackless);
+            }
+            return checkContent(value, fieldName, stackless);
         }
 
-        if (SQL_INJECTION_PATTERN.matcher(value).matches()) {
-            auditLogger.warn("Security: SQL injection pattern detected in {} - input rejected", fieldName);
-            throw new ContactValidationException(fieldName, fieldName + " contains potentially unsafe content");
+        if (value == null || value.isBlank()) {
+            return failure(fieldName, fieldName + " cannot be null or blank", stackless);
+        }
+        ContactValidationException failure = checkContent(value, fieldName, stackless);
+        // Check for valid name characters
+        if (failure == null && !VALID_NAME_PATTERN.matcher(value).matches()) {
+            auditLogger.warn("Security: Invalid characters in {} - value contained non-alphabetic characters", fieldName);
+            failure = failure(fieldName, fieldName + " contains invalid characters (only letters, spaces, hyphens, and apostrophes allowed)", stackless);
+        }
+        return failure;
+    }
+
+    /**
+     * Creates a validation failure.
+     * @param fieldName the field that failed, or null for the whole contact
+     * @param message the detail message
+     * @param stackless true to skip capturing a stack trace
+     * @return the failure
+     */
+    static ContactValidationException failure(String fieldName, String message, boolean stackless) {
+        if (stackless) {
+            return ContactValidationException.stackless(fieldName, message);
+        }
+        return fieldName == null ? new ContactValidationException(message) : new ContactValidationException(fieldName, message);
+    }
+
+    private static void throwIfInvalid(ContactValidationException failure) {
+        if (failure != null) {
+            throw failure;
         }
     }
 
     /**
-     * Checks a string for control characters.
+     * Returns true if the value matches one of the XSS or SQL injection patterns.
+     * Shared with {@link BulkContactValidator} so both paths apply identical rules.
+     * @param value the value to check
+     * @return true if the value contains potentially unsafe content
+     */
+    static boolean containsUnsafeContent(String value) {
+        return XSS_PATTERN.matcher(value).matches() || SQL_INJECTION_PATTERN.matcher(value).matches();
+    }
+
+    /**
+     * Returns true if the value matches the control character pattern.
+     * @param value the value to check
+     * @return true if the value contains disallowed control characters
+     */
+    static boolean containsControlCharacters(String value) {
+        return CONTROL_CHAR_PATTERN.matcher(value).matches();
+    }
+
+    /**
+     * Checks a string for potentially malicious content (XSS, SQL injection) and control characters.
      * @param value the value to check
      * @param fieldName the field name for error messages
-     * @throws ContactValidationException if control characters are found
+     * @param stackless true to create the failure without a stack trace
+     * @return null if the value is clean, otherwise the failure
      */
-    private void checkForControlCharacters(String value, String fieldName) {
+    private static ContactValidationException checkContent(String value, String fieldName, boolean stackless) {
+        if (XSS_PATTERN.matcher(value).matches()) {
+            auditLogger.warn("Security: XSS pattern detected in {} - input rejected", fieldName);
+            return failure(fieldName, fieldName + " contains potentially unsafe content", stackless);
+        }
+
+        if (SQL_INJECTION_PATTERN.matcher(value).matches()) {
+            auditLogger.warn("Security: SQL injection pattern detected in {} - input rejected", fieldName);
+            return failure(fieldName, fieldName + " contains potentially unsafe content", stackless);
+        }
+
         if (CONTROL_CHAR_PATTERN.matcher(value).matches()) {
             auditLogger.warn("Security: Control characters detected in {} - input rejected", fieldName);
-            throw new ContactValidationException(fieldName, fieldName + " contains invalid control characters");
+            return failure(fieldName, fieldName + " contains invalid control characters", stackless);
         }
+        return null;
     }
 }
@@ -0,0 +1,204 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Deny Token Matcher
+ * October 2026
+ */
+package com.example.contact.validation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Finds any of a fixed set of deny tokens in a value with a single pass.
+ * The tokens are compiled into an Aho-Corasick automaton whose failure links are
+ * folded into a dense transition table, so each input char costs one table lookup.
+ *
+ * Matching is ASCII case-insensitive and treats any run of whitespace as a single
+ * space, so the token {@code union select} also matches {@code UNION\t SELECT}.
+ * In a token, {@code \d} stands for any ASCII digit (expanded into one token per
+ * digit when compiled) and a trailing {@code $} anchors the token to the end of the
+ * value, which the automaton sees as one extra symbol after the last char.
+ */
+final class DenyTokenMatcher {
+
+    // Symbol 0 is every char that does not occur in any token
+    private static final int OTHER = 0;
+    private static final int SPACE = 1;
+    // Fed once after the last char, so a token ending in $ matches only at the end
+    private static final int END = 2;
+
+    private final byte[] symbols = new byte[128];
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final boolean[] accepting;
+
+    private DenyTokenMatcher(List<String> tokens) {
+        int next = END + 1;
+        for (String token : tokens) {
+            String body = body(token);
+            if (body.isBlank()) {
+                throw new IllegalArgumentException("Anchored deny token has no text: " + token);
+            }
+            for (int i = 0; i < body.length(); i++) {
+                char c = fold(body.charAt(i));
+                if (c >= 128) {
+                    throw new IllegalArgumentException("Deny tokens must be ASCII: " + token);
+                }
+                if (c != ' ' && symbols[c] == OTHER) {
+                    symbols[c] = (byte) next++;
+                }
+            }
+        }
+        symbols[' '] = SPACE;
+        alphabetSize = next;
+
+        // Build the trie
+        List<int[]> trie = new ArrayList<>();
+        List<Boolean> output = new ArrayList<>();
+        trie.add(newRow());
+        output.add(false);
+        for (String token : tokens) {
+            int state = 0;
+            String normalized = normalize(body(token));
+            int length = normalized.length() + (token.endsWith("$") ? 1 : 0);
+            for (int i = 0; i < length; i++) {
+                int symbol = i < normalized.length() ? symbols[normalized.charAt(i)] : END;
+                if (trie.get(state)[symbol] < 0) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(newRow());
+                    output.add(false);
+                }
+                state = trie.get(state)[symbol];
+            }
+            output.set(state, true);
+        }
+
+        // Breadth-first pass resolving failure links into the transition table
+        int states = trie.size();
+        int[] fail = new int[states];
+        transitions = new int[states * alphabetSize];
+        accepting = new boolean[states];
+        for (int s = 0; s < states; s++) {
+            accepting[s] = output.get(s);
+        }
+
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            int child = trie.get(0)[symbol];
+            if (child < 0) {
+                transitions[symbol] = 0;
+            } else {
+                transitions[symbol] = child;
+                fail[child] = 0;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            accepting[state] |= accepting[fail[state]];
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                int child = trie.get(state)[symbol];
+                if (child < 0) {
+                    transitions[state * alphabetSize + symbol] = transitions[fail[state] * alphabetSize + symbol];
+                } else {
+                    transitions[state * alphabetSize + symbol] = child;
+                    fail[child] = transitions[fail[state] * alphabetSize + symbol];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles a matcher for the given tokens.
+     * @param tokens the deny tokens; blank tokens are ignored
+     * @return the compiled matcher
+     */
+    static DenyTokenMatcher compile(List<String> tokens) {
+        List<String> cleaned = new ArrayList<>();
+        for (String token : tokens) {
+            if (token != null && !token.isBlank()) {
+                expandDigits(token, cleaned);
+            }
+        }
+        return new DenyTokenMatcher(cleaned);
+    }
+
+    /**
+     * Returns true if the value contains any deny token.
+     * @param value the value to scan
+     * @return true if a token was found
+     */
+    boolean matches(String value) {
+        int state = 0;
+        boolean previousSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = fold(value.charAt(i));
+            int symbol;
+            if (c == ' ') {
+                if (previousSpace) {
+                    continue;
+                }
+                previousSpace = true;
+                symbol = SPACE;
+            } else {
+                previousSpace = false;
+                symbol = c < 128 ? symbols[c] : OTHER;
+            }
+            state = transitions[state * alphabetSize + symbol];
+            if (accepting[state]) {
+                return true;
+            }
+        }
+        return accepting[transitions[state * alphabetSize + END]];
+    }
+
+    private int[] newRow() {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    /** Replaces each {@code \d} with every ASCII digit in turn. */
+    private static void expandDigits(String token, List<String> expanded) {
+        int escape = token.indexOf("\\d");
+        if (escape < 0) {
+            expanded.add(token);
+            return;
+        }
+        for (char digit = '0'; digit <= '9'; digit++) {
+            expandDigits(token.substring(0, escape) + digit + token.substring(escape + 2), expanded);
+        }
+    }
+
+    /** Returns the token without its end anchor, or the token itself if it has none. */
+    private static String body(String token) {
+        return token.endsWith("$") ? token.substring(0, token.length() - 1) : token;
+    }
+
+    private static String normalize(String token) {
+        StringBuilder normalized = new StringBuilder(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = fold(token.charAt(i));
+            if (c != ' ' || normalized.length() == 0 || normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    /** Lower-cases ASCII letters and maps every regex {@code \s} char to a space. */
+    private static char fold(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        if (c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r') {
+            return ' ';
+        }
+        return c;
+    }
+}
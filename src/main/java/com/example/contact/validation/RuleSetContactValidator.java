@@ -0,0 +1,122 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Rule Set Contact Validator
+ * October 2026
+ */
+package com.example.contact.validation;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.contact.Contact;
+import com.example.contact.exception.ContactValidationException;
+import com.example.contact.logging.HotPathLog;
+
+/**
+ * ContactValidator driven by a compiled {@link ValidationRuleSet} instead of the
+ * built-in patterns. The active rule set can be replaced atomically at runtime;
+ * each validation call reads the current rule set once, so a contact is always
+ * checked against a single, complete rule set.
+ */
+public class RuleSetContactValidator extends ContactValidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(RuleSetContactValidator.class);
+    private static final HotPathLog hotPath = HotPathLog.forClass(RuleSetContactValidator.class);
+    private static final HotPathLog.Counter PASSED = hotPath.counter("validationPassed");
+    private static final Logger auditLogger = LoggerFactory.getLogger("AUDIT");
+
+    private final AtomicReference<ValidationRuleSet> ruleSet;
+
+    /**
+     * Constructs a validator using the given rule set.
+     * @param ruleSet the initial rule set
+     */
+    public RuleSetContactValidator(ValidationRuleSet ruleSet) {
+        if (ruleSet == null) {
+            throw new IllegalArgumentException("Rule set cannot be null");
+        }
+        this.ruleSet = new AtomicReference<>(ruleSet);
+    }
+
+    /**
+     * Atomically replaces the active rule set.
+     * @param newRuleSet the rule set to activate
+     * @return the previously active rule set
+     */
+    public ValidationRuleSet swap(ValidationRuleSet newRuleSet) {
+        if (newRuleSet == null) {
+            throw new IllegalArgumentException("Rule set cannot be null");
+        }
+        ValidationRuleSet previous = ruleSet.getAndSet(newRuleSet);
+        auditLogger.info("Validation rule set changed: {} -> {}", previous.getName(), newRuleSet.getName());
+        return previous;
+    }
+
+    /**
+     * Returns the active rule set.
+     * @return the current rule set
+     */
+    public ValidationRuleSet getRuleSet() {
+        return ruleSet.get();
+    }
+
+    @Override
+    public ContactValidationException check(Contact contact, boolean stackless) {
+        if (contact == null) {
+            return failure(null, "Contact cannot be null", stackless);
+        }
+
+        ValidationRuleSet rules = ruleSet.get();
+        ContactValidationException failure = check(rules, "contactId", contact.getContactId(), stackless);
+        if (failure == null) {
+            failure = check(rules, "firstName", contact.getFirstName(), stackless);
+        }
+        if (failure == null) {
+            failure = check(rules, "lastName", contact.getLastName(), stackless);
+        }
+        if (failure == null) {
+            failure = check(rules, "phone", contact.getPhone(), stackless);
+        }
+        if (failure == null) {
+            failure = check(rules, "address", contact.getAddress(), stackless);
+        }
+        if (failure != null) {
+            return failure;
+        }
+
+        PASSED.increment();
+        if (hotPath.debugSampled()) {
+            logger.debug("Contact validation passed for ID: {}", contact.getContactId());
+        }
+        return null;
+    }
+
+    @Override
+    public ContactValidationException checkField(String fieldName, String value, boolean stackless) {
+        return check(ruleSet.get(), fieldName, value, stackless);
+    }
+
+    private static ContactValidationException check(ValidationRuleSet rules, String fieldName, String value,
+                                                    boolean stackless) {
+        switch (rules.check(fieldName, value)) {
+            case ValidationRuleSet.OK:
+                return null;
+            case ValidationRuleSet.BLANK:
+                return failure(fieldName, fieldName + " cannot be null or blank", stackless);
+            case ValidationRuleSet.LENGTH:
+                return failure(fieldName, fieldName + " has an invalid length", stackless);
+            case ValidationRuleSet.DENIED_TOKEN:
+                auditLogger.warn("Security: Denied token detected in {} - input rejected", fieldName);
+                return failure(fieldName, fieldName + " contains potentially unsafe content", stackless);
+            case ValidationRuleSet.FORBIDDEN_CHAR:
+                auditLogger.warn("Security: Forbidden characters detected in {} - input rejected", fieldName);
+                return failure(fieldName, fieldName + " contains invalid control characters", stackless);
+            default:
+                auditLogger.warn("Security: Invalid characters in {} - input rejected", fieldName);
+                return failure(fieldName, fieldName + " contains invalid characters", stackless);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Rule Set Registry
+ * October 2026
+ */
+package com.example.contact.validation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one hot-swappable {@link RuleSetContactValidator} per tenant.
+ * Tenants without their own rules get a validator using the default rule set.
+ * Reloading compiles the new rules first and only then swaps them in, so a
+ * malformed file never replaces a working rule set.
+ */
+public class RuleSetRegistry {
+
+    private final Map<String, RuleSetContactValidator> validators = new ConcurrentHashMap<>();
+    private final ValidationRuleSet defaultRuleSet;
+
+    /**
+     * Constructs a registry using the shipped default rule set.
+     */
+    public RuleSetRegistry() {
+        this(ValidationRuleSet.defaults());
+    }
+
+    /**
+     * Constructs a registry with the given default rule set.
+     * @param defaultRuleSet the rule set for tenants without their own rules
+     */
+    public RuleSetRegistry(ValidationRuleSet defaultRuleSet) {
+        if (defaultRuleSet == null) {
+            throw new IllegalArgumentException("Default rule set cannot be null");
+        }
+        this.defaultRuleSet = defaultRuleSet;
+    }
+
+    /**
+     * Returns the validator for a tenant, creating one with the default rules if needed.
+     * The returned validator stays valid across later rule swaps for the tenant.
+     * @param tenant the tenant name
+     * @return the tenant's validator
+     */
+    public RuleSetContactValidator validatorFor(String tenant) {
+        return validators.computeIfAbsent(tenant, t -> new RuleSetContactValidator(defaultRuleSet));
+    }
+
+    /**
+     * Atomically installs a rule set for a tenant.
+     * @param tenant the tenant name
+     * @param ruleSet the compiled rule set
+     */
+    public void install(String tenant, ValidationRuleSet ruleSet) {
+        validatorFor(tenant).swap(ruleSet);
+    }
+
+    /**
+     * Compiles the rule set in a file and installs it for a tenant.
+     * @param tenant the tenant name
+     * @param file the rule set file
+     * @throws IOException if the file cannot be read
+     */
+    public void reload(String tenant, Path file) throws IOException {
+        install(tenant, ValidationRuleSet.load(file));
+    }
+}
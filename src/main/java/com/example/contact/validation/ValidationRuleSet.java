@@ -0,0 +1,230 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Validation Rule Set
+ * October 2026
+ * Declarative, precompiled validation rules loaded per deployment.
+ */
+package com.example.contact.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Immutable, compiled set of validation rules for the contact fields.
+ * Rule sets are written as properties files and compiled once on load into
+ * lookup tables (character classes) and an automaton (deny tokens), so checking
+ * a value never interprets the rule text or runs a regex.
+ *
+ * Keys, where {@code <field>} is one of contactId, firstName, lastName, phone, address:
+ * <pre>
+ * name=default
+ * &lt;field&gt;.minLength=1
+ * &lt;field&gt;.maxLength=10
+ * &lt;field&gt;.allowed=a-zA-Z\s\-'        # every char must be in this class (optional)
+ * &lt;field&gt;.forbidden=\x00-\x08\x7F     # no char may be in this class (optional)
+ * &lt;field&gt;.denyTokens=true              # scan for the shared deny tokens (default true)
+ * denyTokens=&lt;script|javascript:|union select
+ * </pre>
+ * Deny tokens are separated by {@code |} and matched ASCII case-insensitively with
+ * whitespace runs collapsed to one space. Within a token {@code \d} matches any
+ * ASCII digit, and a trailing {@code $} matches only at the end of the value.
+ */
+public final class ValidationRuleSet {
+
+    /** Validation passed */
+    public static final int OK = 0;
+    /** Value is null or blank */
+    public static final int BLANK = 1;
+    /** Value is shorter than minLength or longer than maxLength */
+    public static final int LENGTH = 2;
+    /** Value contains a deny token */
+    public static final int DENIED_TOKEN = 3;
+    /** Value contains a forbidden char */
+    public static final int FORBIDDEN_CHAR = 4;
+    /** Value contains a char outside the allowed class */
+    public static final int DISALLOWED_CHAR = 5;
+
+    /** Classpath location of the rule set mirroring the built-in ContactValidator rules */
+    public static final String DEFAULT_RESOURCE = "/validation/default-rules.properties";
+
+    static final String[] FIELDS = {"contactId", "firstName", "lastName", "phone", "address"};
+
+    private final String name;
+    private final FieldRules[] fields = new FieldRules[FIELDS.length];
+    private final DenyTokenMatcher denyTokens;
+
+    private ValidationRuleSet(Properties properties) {
+        this.name = properties.getProperty("name", "unnamed");
+        List<String> tokens = new ArrayList<>();
+        for (String token : properties.getProperty("denyTokens", "").split("\\|")) {
+            tokens.add(token.trim());
+        }
+        this.denyTokens = DenyTokenMatcher.compile(tokens);
+        for (int i = 0; i < FIELDS.length; i++) {
+            fields[i] = new FieldRules(FIELDS[i], properties);
+        }
+    }
+
+    /**
+     * Compiles a rule set from properties.
+     * @param properties the rule definitions
+     * @return the compiled rule set
+     * @throws IllegalArgumentException if a rule is malformed
+     */
+    public static ValidationRuleSet compile(Properties properties) {
+        return new ValidationRuleSet(properties);
+    }
+
+    /**
+     * Loads and compiles a rule set from a stream of properties text (UTF-8).
+     * @param in the stream to read
+     * @return the compiled rule set
+     * @throws IOException if the stream cannot be read
+     */
+    public static ValidationRuleSet load(InputStream in) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return compile(properties);
+    }
+
+    /**
+     * Loads and compiles a rule set from a file.
+     * @param file the properties file
+     * @return the compiled rule set
+     * @throws IOException if the file cannot be read
+     */
+    public static ValidationRuleSet load(Path file) throws IOException {
+        return load(Files.newInputStream(file));
+    }
+
+    /**
+     * Loads and compiles a rule set from the classpath.
+     * @param resource the resource path
+     * @return the compiled rule set
+     * @throws IOException if the resource is missing or cannot be read
+     */
+    public static ValidationRuleSet loadResource(String resource) throws IOException {
+        InputStream in = ValidationRuleSet.class.getResourceAsStream(resource);
+        if (in == null) {
+            throw new IOException("Rule set resource not found: " + resource);
+        }
+        return load(in);
+    }
+
+    /**
+     * Returns the rule set shipped with the library, equivalent to the built-in ContactValidator rules.
+     * It is stricter in one case: ContactValidator's patterns stop at a line break, so
+     * unsafe content or a control char after one slips past them but not past these rules.
+     * @return the default rule set
+     */
+    public static ValidationRuleSet defaults() {
+        try {
+            return loadResource(DEFAULT_RESOURCE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Default rule set could not be loaded", e);
+        }
+    }
+
+    /**
+     * Returns the name of this rule set.
+     * @return the rule set name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks a value against the rules of a field.
+     * Names other than the five contact fields fall back to the firstName rules.
+     * @param fieldName the field name
+     * @param value the value to check
+     * @return {@link #OK} or the first failing rule code
+     */
+    public int check(String fieldName, String value) {
+        return rulesFor(fieldName).check(value, denyTokens);
+    }
+
+    /**
+     * Returns the configured maximum length of a field.
+     * @param fieldName the field name
+     * @return the maximum length
+     */
+    public int getMaxLength(String fieldName) {
+        return rulesFor(fieldName).maxLength;
+    }
+
+    private FieldRules rulesFor(String fieldName) {
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (FIELDS[i].equals(fieldName)) {
+                return fields[i];
+            }
+        }
+        return fields[1];
+    }
+
+    /**
+     * Compiled rules for one field.
+     */
+    private static final class FieldRules {
+        private final int minLength;
+        private final int maxLength;
+        private final CharClass allowed;
+        private final CharClass forbidden;
+        private final boolean checkDenyTokens;
+
+        FieldRules(String field, Properties properties) {
+            this.minLength = intProperty(properties, field + ".minLength", 1);
+            this.maxLength = intProperty(properties, field + ".maxLength", Integer.MAX_VALUE);
+            String allowedSpec = properties.getProperty(field + ".allowed");
+            String forbiddenSpec = properties.getProperty(field + ".forbidden");
+            this.allowed = allowedSpec == null || allowedSpec.isEmpty() ? null : CharClass.parse(allowedSpec);
+            this.forbidden = forbiddenSpec == null || forbiddenSpec.isEmpty() ? null : CharClass.parse(forbiddenSpec);
+            this.checkDenyTokens = Boolean.parseBoolean(properties.getProperty(field + ".denyTokens", "true"));
+            if (minLength < 0 || maxLength < minLength) {
+                throw new IllegalArgumentException("Invalid length bounds for " + field);
+            }
+        }
+
+        int check(String value, DenyTokenMatcher denyTokens) {
+            if (value == null || value.isBlank()) {
+                return BLANK;
+            }
+            if (value.length() < minLength || value.length() > maxLength) {
+                return LENGTH;
+            }
+            if (checkDenyTokens && denyTokens.matches(value)) {
+                return DENIED_TOKEN;
+            }
+            if (forbidden != null && forbidden.containsAny(value)) {
+                return FORBIDDEN_CHAR;
+            }
+            if (allowed != null && !allowed.containsAll(value)) {
+                return DISALLOWED_CHAR;
+            }
+            return OK;
+        }
+
+        private static int intProperty(Properties properties, String key, int defaultValue) {
+            String value = properties.getProperty(key);
+            if (value == null || value.isBlank()) {
+                return defaultValue;
+            }
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid integer for " + key + ": " + value, e);
+            }
+        }
+    }
+}
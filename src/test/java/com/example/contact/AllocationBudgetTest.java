@@ -0,0 +1,124 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Allocation Budget Test
+ * October 2026
+ * Tests the read path stays within its per-operation allocation budget
+ *
+ */
+package com.example.contact;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.audit.Slf4jAuditSink;
+import com.example.contact.concurrent.StripedLockManager;
+import com.example.contact.metrics.ContactMetrics;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.repository.MeteredContactRepository;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.service.IContactService;
+import com.example.contact.validation.ContactValidator;
+
+/**
+ * Allocation-budget tests for the read path.
+ * Each test warms the path up, runs it many times, and reads the bytes the test
+ * thread allocated from the thread allocation counter. The slack covers the
+ * counter reads themselves and the occasional sampled DEBUG line; anything
+ * allocated on every call overshoots it many times over.
+ */
+public class AllocationBudgetTest {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+    /** Bytes allowed per read in steady state */
+    private static final long READ_BUDGET_BYTES = 0;
+    /** Fixed allowance for measurement overhead and sampled log lines */
+    private static final long SLACK_BYTES = 64 * 1024;
+
+    private com.sun.management.ThreadMXBean threads;
+    private InMemoryContactRepository repository;
+    private IContactService service;
+
+    /**
+     * Checks the JVM supports thread allocation counters and loads a few contacts.
+     */
+    @BeforeEach
+    public void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Thread allocation counters are not available on this JVM");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Thread allocation counters are not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        repository = new InMemoryContactRepository();
+        service = new ContactServiceImpl(repository);
+        for (int i = 0; i < 100; i++) {
+            repository.save(new Contact(String.valueOf(i), "John", "Doe", "1234567890", "123 Main St"));
+        }
+    }
+
+    /**
+     * Test the repository's null-returning lookups and a findById miss do not allocate.
+     */
+    @Test
+    public void testRepositoryReadsAreAllocationFree() {
+        assertWithinBudget("findByIdOrNull hit", () -> assertNotNull(repository.findByIdOrNull("42")));
+        assertWithinBudget("findByIdOrNull miss", () -> assertNull(repository.findByIdOrNull("missing")));
+        assertWithinBudget("findById miss", () -> assertTrue(repository.findById("missing").isEmpty()));
+        assertWithinBudget("existsById", () -> assertTrue(repository.existsById("42")));
+
+        MeteredContactRepository metered = new MeteredContactRepository(repository, new ContactMetrics());
+        assertWithinBudget("metered findByIdOrNull", () -> assertNotNull(metered.findByIdOrNull("42")));
+    }
+
+    /**
+     * Test service lookups, which go through findByIdOrNull, do not allocate, with
+     * metrics off and on.
+     */
+    @Test
+    public void testServiceReadsAreAllocationFree() {
+        assertWithinBudget("getContact hit", () -> assertNotNull(service.getContact("42")));
+        assertWithinBudget("getContact miss", () -> assertNull(service.getContact("missing")));
+        assertWithinBudget("findContact", () -> assertNotNull(service.findContact("42")));
+
+        IContactService metered = new ContactServiceImpl(repository, new ContactValidator(),
+                new StripedLockManager(), Slf4jAuditSink.INSTANCE, new ContactMetrics());
+        assertWithinBudget("metered getContact", () -> assertNotNull(metered.getContact("42")));
+    }
+
+    /**
+     * Test the budget check itself notices a path that allocates on every call.
+     */
+    @Test
+    public void testBudgetDetectsAllocation() {
+        Object[] sink = new Object[1];
+        long bytes = measure(() -> sink[0] = new Object());
+        assertTrue(bytes > SLACK_BYTES, "Expected allocating operation to exceed the slack, measured " + bytes);
+    }
+
+    private void assertWithinBudget(String operation, Runnable read) {
+        long bytes = measure(read);
+        long budget = READ_BUDGET_BYTES * ITERATIONS + SLACK_BYTES;
+        assertTrue(bytes <= budget, operation + " allocated " + bytes + " bytes over " + ITERATIONS
+                + " calls (" + (double) bytes / ITERATIONS + " per call), budget " + budget);
+    }
+
+    private long measure(Runnable read) {
+        for (int i = 0; i < WARMUP; i++) {
+            read.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            read.run();
+        }
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Async Audit Pipeline Test
+ * October 2026
+ * Tests batched audit writing, overflow policies and service wiring
+ *
+ */
+package com.example.contact;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.contact.audit.AsyncAuditPipeline;
+import com.example.contact.audit.AuditEventType;
+import com.example.contact.audit.AuditRecord;
+import com.example.contact.audit.AuditRecordWriter;
+import com.example.contact.audit.TextAuditRecordWriter;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.concurrent.StripedLockManager;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.validation.ContactValidator;
+
+/**
+ * Unit tests for AsyncAuditPipeline and its text writer.
+ */
+public class AsyncAuditPipelineTest {
+
+    /**
+     * Writer collecting rendered messages, optionally blocking until released.
+     */
+    private static class CollectingWriter implements AuditRecordWriter {
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch gate;
+        private int flushes;
+
+        CollectingWriter(boolean gated) {
+            this.gate = new CountDownLatch(gated ? 1 : 0);
+        }
+
+        @Override
+        public void write(AuditRecord record) {
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (messages) {
+                messages.add(record.getType().formatMessage(record.getContactId(), record.getDetail1(), record.getDetail2()));
+            }
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        List<String> messages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+    }
+
+    /**
+     * Test service and repository audit events reach the writer as the AUDIT logger text.
+     * @param dir temporary directory for the audit file
+     * @throws IOException if the audit file cannot be read
+     */
+    @Test
+    public void testServiceEventsWrittenToFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("audit.log");
+        try (AsyncAuditPipeline pipeline = new AsyncAuditPipeline(new TextAuditRecordWriter(file))) {
+            InMemoryContactRepository repository = new InMemoryContactRepository(new ChangeFeed(), pipeline);
+            ContactServiceImpl service = new ContactServiceImpl(repository, new ContactValidator(),
+                    new StripedLockManager(), pipeline);
+
+            service.addContact(new Contact("12345", "John", "Doe", "1234567890", "123 Main St"));
+            service.tryAddContact(new Contact("12345", "John", "Doe", "1234567890", "123 Main St"));
+            service.deleteContact("12345");
+            pipeline.flush();
+
+            List<String> lines = Files.readAllLines(file);
+            assertEquals(3, lines.size());
+            assertTrue(lines.get(0).endsWith("INFO  AUDIT - Contact created: ID=12345, Name=John Doe"));
+            assertTrue(lines.get(1).endsWith("WARN  AUDIT - Duplicate contact ID attempted: 12345"));
+            assertTrue(lines.get(2).endsWith("INFO  AUDIT - Contact deleted: ID=12345, Name=John Doe"));
+        }
+    }
+
+    /**
+     * Test events from many threads are all written in a consistent order per thread.
+     * @throws InterruptedException if thread is interrupted
+     */
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        CollectingWriter writer = new CollectingWriter(false);
+        AsyncAuditPipeline pipeline = new AsyncAuditPipeline(writer, 64, 16, 5, AsyncAuditPipeline.OverflowPolicy.BLOCK);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            String thread = String.valueOf(t);
+            executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    pipeline.record(AuditEventType.DUPLICATE_ID, thread, null, null);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        pipeline.close();
+
+        assertEquals(4000, writer.messages().size());
+        assertEquals(4000, pipeline.getWrittenCount());
+        assertEquals(0, pipeline.getDroppedCount());
+        assertTrue(writer.flushes > 0);
+    }
+
+    /**
+     * Test the DROP policy discards events once the ring is full.
+     */
+    @Test
+    public void testDropPolicy() {
+        CollectingWriter writer = new CollectingWriter(true);
+        AsyncAuditPipeline pipeline = new AsyncAuditPipeline(writer, 4, 16, 5, AsyncAuditPipeline.OverflowPolicy.DROP);
+        for (int i = 0; i < 20; i++) {
+            pipeline.record(AuditEventType.DELETE_NOT_FOUND, String.valueOf(i), null, null);
+        }
+        assertTrue(pipeline.getDroppedCount() >= 20 - 5);
+
+        writer.gate.countDown();
+        pipeline.close();
+        assertEquals(20, writer.messages().size() + pipeline.getDroppedCount());
+        assertEquals("Delete attempted for non-existent contact: 0", writer.messages().get(0));
+    }
+
+    /**
+     * Test the text writer reproduces the logback audit layout.
+     * @throws IOException never for a StringWriter
+     */
+    @Test
+    public void testTextLayout() throws IOException {
+        StringWriter out = new StringWriter();
+        AsyncAuditPipeline pipeline = new AsyncAuditPipeline(new TextAuditRecordWriter(out));
+        pipeline.record(AuditEventType.LIMIT_REACHED, "99", "10000", null);
+        pipeline.close();
+
+        String line = out.toString().trim();
+        assertTrue(line.matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d{3} \\[main\\] WARN  AUDIT - "
+                + "Security: Maximum contact limit \\(10000\\) reached - save rejected for ID: 99"), line);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Asynchronous Contact Service Test
+ * October 2026
+ * Tests the CompletableFuture-based service and repository adapters
+ *
+ */
+package com.example.contact;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.exception.ContactNotFoundException;
+import com.example.contact.repository.AsyncContactRepositoryAdapter;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.AsyncContactServiceAdapter;
+import com.example.contact.service.ContactServiceImpl;
+
+/**
+ * Unit tests for AsyncContactServiceAdapter and AsyncContactRepositoryAdapter.
+ */
+public class AsyncContactServiceTest {
+
+    /**
+     * Test fanning out several lookups concurrently.
+     * @throws Exception if a future fails
+     */
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        InMemoryContactRepository repository = new InMemoryContactRepository();
+        try (AsyncContactServiceAdapter service = new AsyncContactServiceAdapter(new ContactServiceImpl(repository))) {
+            CompletableFuture.allOf(
+                    service.addContact(new Contact("1", "John", "Doe", "1234567890", "1 Main St")),
+                    service.addContact(new Contact("2", "Jane", "Doe", "1234567890", "2 Main St"))
+            ).get(10, TimeUnit.SECONDS);
+
+            CompletableFuture<Contact> first = service.getContact("1");
+            CompletableFuture<Contact> second = service.getContact("2");
+            CompletableFuture<Contact> missing = service.getContact("3");
+            CompletableFuture.allOf(first, second, missing).get(10, TimeUnit.SECONDS);
+
+            assertEquals("John", first.get().getFirstName());
+            assertEquals("Jane", second.get().getFirstName());
+            assertNull(missing.get());
+            assertEquals(2, service.getAllContacts().get(10, TimeUnit.SECONDS).size());
+        }
+    }
+
+    /**
+     * Test failures complete the future exceptionally with the original exception.
+     */
+    @Test
+    public void testFailureCompletesExceptionally() {
+        try (AsyncContactServiceAdapter service =
+                     new AsyncContactServiceAdapter(new ContactServiceImpl(new InMemoryContactRepository()))) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () ->
+                    service.deleteContact("99999").get(10, TimeUnit.SECONDS));
+            assertInstanceOf(ContactNotFoundException.class, exception.getCause());
+        }
+    }
+
+    /**
+     * Test the repository adapter.
+     * @throws Exception if a future fails
+     */
+    @Test
+    public void testRepositoryAdapter() throws Exception {
+        try (AsyncContactRepositoryAdapter repository = new AsyncContactRepositoryAdapter(new InMemoryContactRepository())) {
+            repository.save(new Contact("1", "John", "Doe", "1234567890", "1 Main St")).get(10, TimeUnit.SECONDS);
+
+            assertTrue(repository.existsById("1").get(10, TimeUnit.SECONDS));
+            assertEquals("John", repository.findById("1").get(10, TimeUnit.SECONDS).get().getFirstName());
+            assertEquals(1, repository.count().get(10, TimeUnit.SECONDS));
+            assertTrue(repository.deleteById("1").get(10, TimeUnit.SECONDS));
+            assertEquals(0, repository.findAll().get(10, TimeUnit.SECONDS).size());
+        }
+    }
+}
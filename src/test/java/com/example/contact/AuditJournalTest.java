@@ -0,0 +1,181 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Audit Journal Test
+ * October 2026
+ * Tests the segmented binary audit journal, its index and command-line reader
+ *
+ */
+package com.example.contact;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.contact.audit.AsyncAuditPipeline;
+import com.example.contact.audit.AuditEventType;
+import com.example.contact.audit.AuditJournalEntry;
+import com.example.contact.audit.AuditJournalReader;
+import com.example.contact.audit.AuditJournalWriter;
+import com.example.contact.audit.TeeAuditRecordWriter;
+import com.example.contact.audit.TextAuditRecordWriter;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.concurrent.StripedLockManager;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.validation.ContactValidator;
+
+/**
+ * Unit tests for AuditJournalWriter and AuditJournalReader.
+ */
+public class AuditJournalTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final long BASE = 1_790_000_000_000L - 1_790_000_000_000L % HOUR;
+
+    /**
+     * Test a contact and time range query opens only the segments in range and reads
+     * only the blocks that may match.
+     * @param dir temporary journal directory
+     * @throws IOException if the journal cannot be written or read
+     */
+    @Test
+    public void testIndexedQuery(@TempDir Path dir) throws IOException {
+        try (AuditJournalWriter writer = new AuditJournalWriter(dir, HOUR, 1024 * 1024, 16)) {
+            // Ten hours of events, 200 per hour across 50 contacts
+            for (int hour = 0; hour < 10; hour++) {
+                for (int i = 0; i < 200; i++) {
+                    writer.append(BASE + hour * HOUR + i * 1000L, AuditEventType.CONTACT_UPDATED, "main",
+                            "C" + (i % 50), "John", "Doe");
+                }
+            }
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(20, files.count());
+        }
+
+        AuditJournalReader reader = new AuditJournalReader(dir);
+        List<AuditJournalEntry> entries = reader.query("C7", BASE + 2 * HOUR, BASE + 4 * HOUR);
+
+        assertEquals(8, entries.size());
+        for (AuditJournalEntry entry : entries) {
+            assertEquals("C7", entry.getContactId());
+            assertEquals("Contact updated: ID=C7, Name=John Doe", entry.getMessage());
+        }
+        assertTrue(entries.get(0).getTimestampMillis() >= BASE + 2 * HOUR);
+        assertEquals(8, reader.getSegmentsSkipped());
+        assertTrue(reader.getBlocksSkipped() > reader.getBlocksRead() * 2,
+                "read " + reader.getBlocksRead() + ", skipped " + reader.getBlocksSkipped());
+    }
+
+    /**
+     * Test the block Bloom filters reject almost every contact that is not in the block.
+     * @param dir temporary journal directory
+     * @throws IOException if the journal cannot be written or read
+     */
+    @Test
+    public void testBloomFalsePositiveRate(@TempDir Path dir) throws IOException {
+        try (AuditJournalWriter writer = new AuditJournalWriter(dir)) {
+            // 100 full blocks of 256 distinct contacts
+            for (int i = 0; i < 100 * AuditJournalWriter.DEFAULT_BLOCK_RECORDS; i++) {
+                writer.append(BASE + i, AuditEventType.CONTACT_CREATED, "main", "C" + i, "John", "Doe");
+            }
+        }
+
+        AuditJournalReader reader = new AuditJournalReader(dir);
+        for (int i = 0; i < 200; i++) {
+            assertTrue(reader.query("absent-" + i, BASE, BASE + HOUR).isEmpty());
+        }
+        long probes = reader.getBlocksRead() + reader.getBlocksSkipped();
+        assertEquals(200 * 100, probes);
+        assertTrue(reader.getBlocksRead() < probes / 50, "false positives: " + reader.getBlocksRead());
+    }
+
+    /**
+     * Test a record older than the active segment starts a new segment, so pruning by
+     * file name still finds it.
+     * @param dir temporary journal directory
+     * @throws IOException if the journal cannot be written or read
+     */
+    @Test
+    public void testClockStepBackStaysInRange(@TempDir Path dir) throws IOException {
+        try (AuditJournalWriter writer = new AuditJournalWriter(dir, HOUR, 1024 * 1024, 16)) {
+            writer.append(BASE + 2 * HOUR, AuditEventType.CONTACT_CREATED, "main", "C1", "John", "Doe");
+            writer.append(BASE + HOUR / 2, AuditEventType.CONTACT_DELETED, "main", "C1", null, null);
+        }
+
+        AuditJournalReader reader = new AuditJournalReader(dir);
+        List<AuditJournalEntry> entries = reader.query("C1", BASE, BASE + HOUR);
+        assertEquals(1, entries.size());
+        assertEquals(AuditEventType.CONTACT_DELETED, entries.get(0).getType());
+        assertEquals(1, reader.getSegmentsSkipped());
+    }
+
+    /**
+     * Test events from the service reach the journal and the text log through one pipeline,
+     * and the active unsealed segment is readable.
+     * @param dir temporary directory
+     * @throws IOException if the journal cannot be read
+     */
+    @Test
+    public void testPipelineToJournal(@TempDir Path dir) throws IOException {
+        Path journal = dir.resolve("journal");
+        AuditJournalWriter journalWriter = new AuditJournalWriter(journal);
+        try (AsyncAuditPipeline pipeline = new AsyncAuditPipeline(
+                new TeeAuditRecordWriter(new TextAuditRecordWriter(dir.resolve("audit.log")), journalWriter))) {
+            InMemoryContactRepository repository = new InMemoryContactRepository(new ChangeFeed(), pipeline);
+            ContactServiceImpl service = new ContactServiceImpl(repository, new ContactValidator(),
+                    new StripedLockManager(), pipeline);
+            service.addContact(new Contact("12345", "John", "Doe", "1234567890", "123 Main St"));
+            service.addContact(new Contact("67890", "Jane", "Doe", "1234567890", "123 Main St"));
+            service.deleteContact("12345");
+            pipeline.flush();
+
+            List<AuditJournalEntry> active = new AuditJournalReader(journal).query("12345", 0, Long.MAX_VALUE);
+            assertEquals(2, active.size());
+            assertEquals(AuditEventType.CONTACT_CREATED, active.get(0).getType());
+            assertEquals(AuditEventType.CONTACT_DELETED, active.get(1).getType());
+        }
+
+        assertEquals(3, Files.readAllLines(dir.resolve("audit.log")).size());
+        assertEquals(1, new AuditJournalReader(journal).query("67890", 0, Long.MAX_VALUE).size());
+    }
+
+    /**
+     * Test the command-line reader prints matching events in the text log layout.
+     * @param dir temporary journal directory
+     * @throws IOException if the journal cannot be written
+     */
+    @Test
+    public void testCommandLine(@TempDir Path dir) throws IOException {
+        long now = System.currentTimeMillis();
+        try (AuditJournalWriter writer = new AuditJournalWriter(dir)) {
+            writer.append(now - TimeUnit.DAYS.toMillis(10), AuditEventType.CONTACT_CREATED, "main", "X", "Old", "Event");
+            writer.append(now - TimeUnit.DAYS.toMillis(2), AuditEventType.DELETE_NOT_FOUND, "main", "X", null, null);
+            writer.append(now - TimeUnit.DAYS.toMillis(1), AuditEventType.DUPLICATE_ID, "main", "Y", null, null);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int status = AuditJournalReader.run(new String[] {dir.toString(), "--contact", "X", "--last", "7d"},
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+
+        assertEquals(0, status);
+        String[] lines = out.toString(StandardCharsets.UTF_8).trim().split("\\R");
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].endsWith("[main] WARN  AUDIT - Delete attempted for non-existent contact: X"), lines[0]);
+        assertEquals(2, AuditJournalReader.run(new String[] {dir.toString(), "--bogus", "1"},
+                new PrintStream(out), new PrintStream(err)));
+    }
+}
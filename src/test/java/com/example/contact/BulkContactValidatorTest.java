@@ -0,0 +1,159 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Bulk Contact Validator Test
+ * October 2026
+ * Tests that bulk validation agrees with ContactValidator
+ *
+ */
+package com.example.contact;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.exception.ContactValidationException;
+import com.example.contact.validation.BulkContactValidator;
+import com.example.contact.validation.ContactValidator;
+
+/**
+ * Unit tests for BulkContactValidator.
+ * Cross-checks every failure bit against the rules of ContactValidator.
+ */
+public class BulkContactValidatorTest {
+
+    static final String[] SAMPLES = {
+            "John", "O'Brien", "Mary-Jane", "Van Dyke", "a b", "\tTab", "Line\nBreak",
+            "John123", "José", "Zoë", "日本", "Ctrl\u0001", "Del\u007F", "x\n\u0001",
+            "<script>", "a<iframe", "javascript:", "onload=1", "x; --", "drop table",
+            "DROP\tTABLE", "union select", "UNION  SELECT", "' or '", "\" or 1", "done --",
+            "Pen Drop", "Spin", "a-b", "=", ":", "123 Main St", "12 Elm St, Apt 4",
+            "1234567890", "123456789a", "12345 6789", "٠١٢٣٤٥٦٧٨٩", " x\u0001",
+            "abcdefghijklmnopqrstuvwxyz", "   ", ""
+    };
+
+    private BulkContactValidator bulkValidator;
+    private ContactValidator validator;
+
+    /**
+     * Set up the validators before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        bulkValidator = new BulkContactValidator();
+        validator = new ContactValidator();
+    }
+
+    /**
+     * Test a valid row reports no failures.
+     */
+    @Test
+    public void testValidRow() {
+        assertEquals(0, bulkValidator.validateRow("12345", "John", "Doe", "1234567890", "123 Main St"));
+    }
+
+    /**
+     * Test name fields agree with ContactValidator.validateName.
+     */
+    @Test
+    public void testNamesMatchValidator() {
+        for (String sample : SAMPLES) {
+            boolean rejected = throwsValidation(() -> validator.validateName(sample, "firstName"));
+            int mask = bulkValidator.validateRow("1", sample, "Doe", "1234567890", "1 St")
+                    & ~lengthBit(BulkContactValidator.FIELD_FIRST_NAME);
+            assertEquals(rejected, mask != 0, "first name: " + sample);
+        }
+    }
+
+    /**
+     * Test phone field agrees with ContactValidator.validatePhone.
+     */
+    @Test
+    public void testPhoneMatchesValidator() {
+        for (String sample : SAMPLES) {
+            boolean rejected = throwsValidation(() -> validator.validatePhone(sample));
+            int mask = bulkValidator.validateRow("1", "John", "Doe", sample, "1 St")
+                    & ~lengthBit(BulkContactValidator.FIELD_PHONE);
+            assertEquals(rejected, mask != 0, "phone: " + sample);
+        }
+    }
+
+    /**
+     * Test ID and address fields agree with ContactValidator.
+     */
+    @Test
+    public void testIdAndAddressMatchValidator() {
+        for (String sample : SAMPLES) {
+            boolean idRejected = throwsValidation(() -> validator.validateContactId(sample));
+            int idMask = bulkValidator.validateRow(sample, "John", "Doe", "1234567890", "1 St")
+                    & ~lengthBit(BulkContactValidator.FIELD_CONTACT_ID);
+            assertEquals(idRejected, idMask != 0, "contactId: " + sample);
+
+            boolean addressRejected = throwsValidation(() -> validator.validateAddress(sample));
+            int addressMask = bulkValidator.validateRow("1", "John", "Doe", "1234567890", sample)
+                    & ~lengthBit(BulkContactValidator.FIELD_ADDRESS);
+            assertEquals(addressRejected, addressMask != 0, "address: " + sample);
+        }
+    }
+
+    /**
+     * Test all failures of a row are reported, not just the first.
+     */
+    @Test
+    public void testReportsEveryFailure() {
+        int mask = bulkValidator.validateRow(null, "John1", "<script>", "12ab", "Main\u0001");
+
+        int expected = BulkContactValidator.failureBit(BulkContactValidator.FIELD_CONTACT_ID, BulkContactValidator.FAILURE_BLANK)
+                | BulkContactValidator.failureBit(BulkContactValidator.FIELD_FIRST_NAME, BulkContactValidator.FAILURE_CHARSET)
+                | BulkContactValidator.failureBit(BulkContactValidator.FIELD_LAST_NAME, BulkContactValidator.FAILURE_UNSAFE)
+                | BulkContactValidator.failureBit(BulkContactValidator.FIELD_LAST_NAME, BulkContactValidator.FAILURE_CHARSET)
+                | BulkContactValidator.failureBit(BulkContactValidator.FIELD_PHONE, BulkContactValidator.FAILURE_LENGTH)
+                | BulkContactValidator.failureBit(BulkContactValidator.FIELD_PHONE, BulkContactValidator.FAILURE_CHARSET)
+                | BulkContactValidator.failureBit(BulkContactValidator.FIELD_ADDRESS, BulkContactValidator.FAILURE_CONTROL);
+        assertEquals(expected, mask);
+    }
+
+    /**
+     * Test column and list entry points produce the same masks.
+     */
+    @Test
+    public void testColumnarBatch() {
+        String[] ids = {"1", "2", "ThisIdIsTooLong"};
+        String[] firstNames = {"John", "Jane", "Jim"};
+        String[] lastNames = {"Doe", "Smith", "Beam"};
+        String[] phones = {"1234567890", "0987654321", "5555555555"};
+        String[] addresses = {"1 St", "2 St", "3 St"};
+        int[] masks = new int[3];
+
+        bulkValidator.validate(ids, firstNames, lastNames, phones, addresses, masks);
+
+        assertEquals(0, masks[0]);
+        assertEquals(0, masks[1]);
+        assertNotEquals(0, masks[2] & BulkContactValidator.fieldMask(BulkContactValidator.FIELD_CONTACT_ID));
+
+        List<Contact> contacts = Arrays.asList(
+                new Contact("1", "John", "Doe", "1234567890", "1 St"),
+                new Contact("2", "John", "Doe", "1234567890", "onclick=x"));
+        assertArrayEquals(new int[] {0, BulkContactValidator.failureBit(
+                BulkContactValidator.FIELD_ADDRESS, BulkContactValidator.FAILURE_UNSAFE)},
+                bulkValidator.validate(contacts));
+    }
+
+    private static int lengthBit(int field) {
+        return BulkContactValidator.failureBit(field, BulkContactValidator.FAILURE_LENGTH);
+    }
+
+    private static boolean throwsValidation(Runnable check) {
+        try {
+            check.run();
+            return false;
+        } catch (ContactValidationException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Change Feed Test
+ * October 2026
+ * Tests change events published by the repository
+ *
+ */
+package com.example.contact;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.changefeed.ChangeFeedCursor;
+import com.example.contact.changefeed.ContactChangeEvent;
+import com.example.contact.exception.ChangeFeedOverrunException;
+import com.example.contact.repository.InMemoryContactRepository;
+
+/**
+ * Unit tests for ChangeFeed and the events published by InMemoryContactRepository.
+ */
+public class ChangeFeedTest {
+
+    /**
+     * Test create, update and delete events with increasing sequence numbers.
+     */
+    @Test
+    public void testRepositoryPublishesEvents() {
+        InMemoryContactRepository repository = new InMemoryContactRepository();
+        ChangeFeedCursor cursor = repository.getChangeFeed().subscribe();
+        Contact contact = new Contact("12345", "John", "Doe", "1234567890", "123 Main St");
+
+        repository.save(contact);
+        contact.setFirstName("Jane");
+        repository.save(contact);
+        repository.deleteById("12345");
+        repository.deleteById("12345");
+
+        ContactChangeEvent created = cursor.poll();
+        ContactChangeEvent updated = cursor.poll();
+        ContactChangeEvent deleted = cursor.poll();
+        assertNull(cursor.poll());
+
+        assertEquals(ContactChangeEvent.Type.CREATED, created.getType());
+        assertEquals("John", created.toContact().getFirstName());
+        assertEquals(ContactChangeEvent.Type.UPDATED, updated.getType());
+        assertEquals("Jane", updated.toContact().getFirstName());
+        assertEquals(ContactChangeEvent.Type.DELETED, deleted.getType());
+        assertNull(deleted.toContact());
+        assertTrue(created.getSequence() < updated.getSequence());
+        assertTrue(updated.getSequence() < deleted.getSequence());
+    }
+
+    /**
+     * Test independent cursors read at their own pace.
+     */
+    @Test
+    public void testIndependentCursors() {
+        ChangeFeed feed = new ChangeFeed(16);
+        ChangeFeedCursor fast = feed.subscribe();
+        ChangeFeedCursor slow = feed.subscribe();
+
+        for (int i = 0; i < 10; i++) {
+            feed.publish(ContactChangeEvent.Type.DELETED, String.valueOf(i), null);
+        }
+
+        List<ContactChangeEvent> received = new ArrayList<>();
+        assertEquals(10, fast.drainTo(received::add, 100));
+        assertEquals(3, slow.drainTo(event -> { }, 3));
+        assertEquals(7, slow.getLag());
+        assertEquals(0, fast.getLag());
+    }
+
+    /**
+     * Test a reader that falls behind the ring is told it missed events.
+     */
+    @Test
+    public void testOverrun() {
+        ChangeFeed feed = new ChangeFeed(4);
+        ChangeFeedCursor cursor = feed.subscribe();
+
+        for (int i = 0; i < 6; i++) {
+            feed.publish(ContactChangeEvent.Type.DELETED, String.valueOf(i), null);
+        }
+
+        ChangeFeedOverrunException exception = assertThrows(ChangeFeedOverrunException.class, cursor::poll);
+        assertEquals(1, exception.getRequestedSequence());
+        cursor.seek(exception.getResumeSequence());
+        assertEquals(3, cursor.poll().getSequence());
+    }
+
+    /**
+     * Test concurrent producers never lose or duplicate sequence numbers.
+     * @throws InterruptedException if thread is interrupted
+     */
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        ChangeFeed feed = new ChangeFeed(8192);
+        ChangeFeedCursor cursor = feed.subscribe();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    feed.publish(ContactChangeEvent.Type.DELETED, "x", null);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        Set<Long> sequences = new HashSet<>();
+        cursor.drainTo(event -> sequences.add(event.getSequence()), Integer.MAX_VALUE);
+        assertEquals(4000, sequences.size());
+        assertEquals(4000, feed.getLastSequence());
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Cluster Contact Service Test
+ * October 2026
+ * Tests consistent hash placement, routing and online rebalancing
+ *
+ */
+package com.example.contact;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.cluster.ClusterContactService;
+import com.example.contact.cluster.ConsistentHashRing;
+import com.example.contact.cluster.RingOwnershipFilter;
+import com.example.contact.exception.ContactNotFoundException;
+import com.example.contact.exception.DuplicateContactException;
+import com.example.contact.exception.ResourceLimitException;
+import com.example.contact.protocol.ContactProtocolServer;
+import com.example.contact.protocol.ProtocolContactService;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.service.IContactService;
+
+/**
+ * Unit tests for ClusterContactService and ConsistentHashRing.
+ */
+public class ClusterContactServiceTest {
+
+    private ClusterContactService cluster;
+
+    /**
+     * Stops the cluster's rebalancing thread.
+     */
+    @AfterEach
+    public void tearDown() {
+        if (cluster != null) {
+            cluster.close();
+        }
+    }
+
+    /**
+     * Test nodes own similar shares and a join only moves keys onto the new node.
+     */
+    @Test
+    public void testRingBalanceAndMinimalMovement() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("n1", "n2", "n3", "n4"));
+        ConsistentHashRing grown = ring.withNode("n5");
+        int keys = 20000;
+        Map<String, Integer> shares = new HashMap<>();
+        int movedKeys = 0;
+        for (int i = 0; i < keys; i++) {
+            String key = "C" + i;
+            String owner = ring.nodeFor(key);
+            shares.merge(owner, 1, Integer::sum);
+            String newOwner = grown.nodeFor(key);
+            if (!newOwner.equals(owner)) {
+                assertEquals("n5", newOwner);
+                movedKeys++;
+            }
+            assertEquals(owner, grown.withoutNode("n5").nodeFor(key));
+        }
+        for (int share : shares.values()) {
+            assertTrue(share > keys * 0.15 && share < keys * 0.35, "Unbalanced share: " + share);
+        }
+        assertTrue(movedKeys > keys * 0.1 && movedKeys < keys * 0.3, "Moved keys: " + movedKeys);
+    }
+
+    /**
+     * Test each contact lives only on its owning node and every operation is routed there.
+     */
+    @Test
+    public void testRoutesToOwningNode() {
+        Map<String, IContactService> nodes = localNodes("n1", "n2", "n3");
+        cluster = new ClusterContactService(nodes);
+        for (int i = 0; i < 300; i++) {
+            cluster.addContact(contact("C" + i, i + " Main St"));
+        }
+
+        for (int i = 0; i < 300; i++) {
+            String id = "C" + i;
+            for (Map.Entry<String, IContactService> node : nodes.entrySet()) {
+                assertEquals(node.getKey().equals(cluster.nodeFor(id)), node.getValue().getContact(id) != null);
+            }
+        }
+        for (IContactService node : nodes.values()) {
+            assertTrue(node.getAllContacts().size() > 50);
+        }
+        assertEquals(300, cluster.getAllContacts().size());
+
+        assertThrows(DuplicateContactException.class, () -> cluster.addContact(contact("C1", "1 Main St")));
+        cluster.updateContact("C1", "Jane", null, null, null);
+        assertEquals("Jane", cluster.getContact("C1").getFirstName());
+        cluster.deleteContact("C1");
+        assertNull(cluster.getContact("C1"));
+        assertThrows(ContactNotFoundException.class, () -> cluster.deleteContact("C1"));
+        assertEquals(ContactOutcome.INVALID, cluster.tryUpdateContact("C2", null, null, "12", null));
+    }
+
+    /**
+     * Test a node joins while a writer and a reader keep running, with no lookup
+     * missing and no update lost.
+     * @throws Exception if a worker fails
+     */
+    @Test
+    public void testJoinRebalancesUnderLoad() throws Exception {
+        Map<String, IContactService> nodes = localNodes("n1", "n2");
+        cluster = new ClusterContactService(nodes);
+        int contacts = 2000;
+        for (int i = 0; i < contacts; i++) {
+            cluster.addContact(contact("C" + i, "0 Main St"));
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger misses = new AtomicInteger();
+        Map<String, String> lastWritten = new ConcurrentHashMap<>();
+        Thread writer = new Thread(() -> {
+            for (int i = 1; running.get(); i++) {
+                String id = "C" + (i * 7 % contacts);
+                String address = i + " Main St";
+                cluster.updateContact(id, null, null, null, address);
+                lastWritten.put(id, address);
+            }
+        });
+        Thread reader = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                if (cluster.getContact("C" + (i % contacts)) == null) {
+                    misses.incrementAndGet();
+                }
+            }
+        });
+        writer.start();
+        reader.start();
+
+        IContactService joining = localNode();
+        int moved = cluster.addNode("n3", joining).get(30, TimeUnit.SECONDS);
+        running.set(false);
+        writer.join();
+        reader.join();
+
+        assertEquals(0, misses.get());
+        assertFalse(cluster.isRebalancing());
+        assertTrue(moved > contacts / 10, "Moved: " + moved);
+        assertEquals(moved, joining.getAllContacts().size());
+        assertEquals(contacts, nodes.values().stream().mapToInt(node -> node.getAllContacts().size()).sum() + moved);
+        for (Map.Entry<String, String> entry : lastWritten.entrySet()) {
+            assertEquals(entry.getValue(), cluster.getContact(entry.getKey()).getAddress());
+        }
+        for (int i = 0; i < contacts; i++) {
+            assertNotNull(cluster.getNode(cluster.nodeFor("C" + i)).getContact("C" + i));
+        }
+    }
+
+    /**
+     * Test a leaving node is drained onto the others before it is dropped.
+     * @throws Exception if the rebalance fails
+     */
+    @Test
+    public void testLeaveDrainsNode() throws Exception {
+        Map<String, IContactService> nodes = localNodes("n1", "n2", "n3");
+        cluster = new ClusterContactService(nodes);
+        for (int i = 0; i < 600; i++) {
+            cluster.addContact(contact("C" + i, i + " Main St"));
+        }
+        int held = nodes.get("n2").getAllContacts().size();
+
+        assertEquals(held, cluster.removeNode("n2").get(30, TimeUnit.SECONDS));
+        assertTrue(nodes.get("n2").getAllContacts().isEmpty());
+        assertNull(cluster.getNode("n2"));
+        assertEquals(2, cluster.getNodeIds().size());
+        for (int i = 0; i < 600; i++) {
+            assertEquals(i + " Main St", cluster.getContact("C" + i).getAddress());
+        }
+
+        cluster.removeNode("n1").get(30, TimeUnit.SECONDS);
+        assertThrows(IllegalStateException.class, () -> cluster.removeNode("n3"));
+        assertThrows(IllegalArgumentException.class, () -> cluster.removeNode("n1"));
+        assertThrows(IllegalArgumentException.class, () -> cluster.removeNode(null));
+    }
+
+    /**
+     * Test contacts a full node rejects stay reachable on their previous owner until
+     * a later rebalance can place them.
+     * @throws Exception if the retried rebalance fails
+     */
+    @Test
+    public void testFailedMoveIsRetried() throws Exception {
+        cluster = new ClusterContactService(localNodes("n1"));
+        for (int i = 0; i < 200; i++) {
+            cluster.addContact(contact("C" + i, i + " Main St"));
+        }
+        IContactService small = new ContactServiceImpl(new InMemoryContactRepository(
+                new ChangeFeed(), (type, contactId, detail1, detail2) -> { }, 5));
+
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> cluster.addNode("n2", small).join());
+        assertInstanceOf(ResourceLimitException.class, failure.getCause());
+        assertTrue(cluster.isRebalancing());
+        for (int i = 0; i < 200; i++) {
+            assertNotNull(cluster.getContact("C" + i));
+        }
+        assertEquals(200, cluster.getAllContacts().size());
+
+        assertEquals(5, small.getAllContacts().size());
+
+        // Empty the full node and keep only three stranded contacts so they fit
+        int stranded = 0;
+        for (int i = 0; i < 200; i++) {
+            String id = "C" + i;
+            if ("n2".equals(cluster.nodeFor(id)) && (small.getContact(id) != null || ++stranded > 3)) {
+                cluster.deleteContact(id);
+            }
+        }
+        assertEquals(3, cluster.rebalance().get(30, TimeUnit.SECONDS));
+        assertFalse(cluster.isRebalancing());
+        assertEquals(3, small.getAllContacts().size());
+        assertEquals(small.getAllContacts().size(), cluster.getAllContacts().stream()
+                .filter(contact -> "n2".equals(cluster.nodeFor(contact.getContactId()))).count());
+    }
+
+    /**
+     * Test a remote node behind the binary protocol joins and leaves like a local one.
+     * @throws Exception if the server cannot bind or a rebalance fails
+     */
+    @Test
+    public void testRemoteNode() throws Exception {
+        IContactService remoteBacking = localNode();
+        try (ContactProtocolServer server = new ContactProtocolServer(remoteBacking, 0)) {
+            server.start();
+            try (ProtocolContactService remote = new ProtocolContactService("localhost", server.getPort())) {
+                cluster = new ClusterContactService(localNodes("n1"));
+                for (int i = 0; i < 300; i++) {
+                    cluster.addContact(contact("C" + i, i + " Main St"));
+                }
+
+                int moved = cluster.addNode("remote", remote).get(30, TimeUnit.SECONDS);
+                assertTrue(moved > 0);
+                assertEquals(moved, remoteBacking.getAllContacts().size());
+                assertEquals(300, cluster.getAllContacts().size());
+                String remoteId = remoteBacking.getAllContacts().get(0).getContactId();
+                cluster.updateContact(remoteId, "Remote", null, null, null);
+                assertEquals("Remote", remoteBacking.getContact(remoteId).getFirstName());
+
+                assertEquals(moved, cluster.removeNode("remote").get(30, TimeUnit.SECONDS));
+                assertTrue(remoteBacking.getAllContacts().isEmpty());
+                assertEquals("Remote", cluster.getContact(remoteId).getFirstName());
+            }
+        }
+    }
+
+    /**
+     * Test a remote node being rebalanced lists only its leaving contacts, filtered
+     * on the server, and is never asked for a full listing.
+     * @throws Exception if the server cannot bind or a rebalance fails
+     */
+    @Test
+    public void testRemoteMigrationScansOnServer() throws Exception {
+        List<Predicate<? super Contact>> filters = new CopyOnWriteArrayList<>();
+        IContactService remoteBacking = new ContactServiceImpl(new InMemoryContactRepository()) {
+            @Override
+            public List<Contact> getAllContacts() {
+                throw new UnsupportedOperationException("Full listing requested");
+            }
+
+            @Override
+            public Flow.Publisher<Contact> publishContacts(Predicate<? super Contact> filter) {
+                filters.add(filter);
+                return super.publishContacts(filter);
+            }
+        };
+        try (ContactProtocolServer server = new ContactProtocolServer(remoteBacking, 0)) {
+            server.start();
+            try (ProtocolContactService remote = new ProtocolContactService("localhost", server.getPort())) {
+                cluster = new ClusterContactService(Map.of("remote", remote));
+                for (int i = 0; i < 1000; i++) {
+                    cluster.addContact(contact("C" + i, i + " Main St"));
+                }
+
+                IContactService joining = localNode();
+                int moved = cluster.addNode("n2", joining).get(30, TimeUnit.SECONDS);
+                assertEquals(1, filters.size());
+                assertInstanceOf(RingOwnershipFilter.class, filters.get(0));
+                assertEquals(moved, joining.getAllContacts().size());
+                for (int i = 0; i < 1000; i++) {
+                    assertEquals(i + " Main St", cluster.getContact("C" + i).getAddress());
+                    assertEquals(cluster.nodeFor("C" + i).equals("n2"), joining.getContact("C" + i) != null);
+                }
+            }
+        }
+    }
+
+    private static Map<String, IContactService> localNodes(String... ids) {
+        Map<String, IContactService> nodes = new LinkedHashMap<>();
+        for (String id : ids) {
+            nodes.put(id, localNode());
+        }
+        return nodes;
+    }
+
+    private static IContactService localNode() {
+        return new ContactServiceImpl(new InMemoryContactRepository());
+    }
+
+    private static Contact contact(String id, String address) {
+        return new Contact(id, "First", "Last", "1234567890", address);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Coalescing Contact Service Test
+ * October 2026
+ * Tests single-flight coalescing of concurrent lookups
+ *
+ */
+package com.example.contact;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.concurrent.SingleFlight;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.CoalescingContactService;
+import com.example.contact.service.ContactServiceImpl;
+
+/**
+ * Unit tests for CoalescingContactService and SingleFlight.
+ */
+public class CoalescingContactServiceTest {
+
+    /**
+     * Repository whose lookups block until released, standing in for a slow backing store.
+     */
+    private static class SlowRepository extends InMemoryContactRepository {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        @Override
+        public Contact findByIdOrNull(String contactId) {
+            lookups.incrementAndGet();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.findByIdOrNull(contactId);
+        }
+    }
+
+    /**
+     * Test concurrent lookups of one ID share a single repository call.
+     * @throws Exception if a lookup fails
+     */
+    @Test
+    public void testConcurrentLookupsAreCoalesced() throws Exception {
+        SlowRepository repository = new SlowRepository();
+        Contact contact = new Contact("12345", "John", "Doe", "1234567890", "123 Main St");
+        repository.save(contact);
+        CoalescingContactService service = new CoalescingContactService(new ContactServiceImpl(repository));
+
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Contact>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> service.getContact("12345")));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (service.getCoalescedLookupCount() < callers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            repository.release.countDown();
+
+            for (Future<Contact> result : results) {
+                assertSame(contact, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, repository.lookups.get());
+        assertEquals(1, service.getExecutedLookupCount());
+        assertEquals(callers - 1, service.getCoalescedLookupCount());
+    }
+
+    /**
+     * Test a lookup started after a write returns does not join a flight that read the old state.
+     * @throws Exception if a lookup fails
+     */
+    @Test
+    public void testLookupAfterWriteSeesWrite() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger lookups = new AtomicInteger();
+        InMemoryContactRepository repository = new InMemoryContactRepository() {
+            @Override
+            public Contact findByIdOrNull(String contactId) {
+                Contact found = super.findByIdOrNull(contactId);
+                if (lookups.incrementAndGet() == 1) {
+                    // The first lookup has read its answer and is slow to return it
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return found;
+            }
+        };
+        repository.save(new Contact("12345", "John", "Doe", "1234567890", "123 Main St"));
+        CoalescingContactService service = new CoalescingContactService(new ContactServiceImpl(repository));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Contact> inFlight = executor.submit(() -> service.getContact("12345"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (lookups.get() < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            service.updateContact("12345", "Jane", null, null, null);
+            assertEquals("Jane", service.getContact("12345").getFirstName());
+            assertEquals(0, service.getCoalescedLookupCount());
+
+            release.countDown();
+            assertEquals("John", inFlight.get(10, TimeUnit.SECONDS).getFirstName());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test sequential lookups are not cached and blank IDs bypass coalescing.
+     */
+    @Test
+    public void testSequentialLookupsExecuteEachTime() {
+        InMemoryContactRepository repository = new InMemoryContactRepository();
+        CoalescingContactService service = new CoalescingContactService(new ContactServiceImpl(repository));
+        service.addContact(new Contact("12345", "John", "Doe", "1234567890", "123 Main St"));
+
+        service.getContact("12345");
+        service.deleteContact("12345");
+        assertNull(service.getContact("12345"));
+        assertNull(service.getContact(" "));
+        assertEquals(2, service.getExecutedLookupCount());
+        assertEquals(0, service.getCoalescedLookupCount());
+    }
+
+    /**
+     * Test a failing load propagates its exception and clears the in-flight entry.
+     */
+    @Test
+    public void testFailurePropagates() {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        assertThrows(IllegalStateException.class, () -> flight.execute("k", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(0, flight.getInFlightCount());
+        assertEquals("v", flight.execute("k", () -> "v"));
+        assertEquals(2, flight.getExecutionCount());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Events Test
+ * October 2026
+ * Tests the contact Flight Recorder events
+ *
+ */
+package com.example.contact;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.contact.jfr.ContactEvents;
+import com.example.contact.metrics.ContactMetrics;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.repository.MeteredContactRepository;
+import com.example.contact.service.ContactServiceImpl;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit tests for the contact JFR events.
+ */
+public class ContactEventsTest {
+
+    /**
+     * Test service, validation and repository events carry their fields when enabled.
+     * @param dir temporary directory for the recording
+     * @throws IOException if the recording cannot be written or read
+     */
+    @Test
+    public void testEventsRecorded(@TempDir Path dir) throws IOException {
+        ContactServiceImpl service = new ContactServiceImpl(
+                new MeteredContactRepository(new InMemoryContactRepository(), ContactMetrics.disabled()));
+        Path file = dir.resolve("contact.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.example.contact.Operation").withThreshold(Duration.ZERO);
+            recording.enable("com.example.contact.Validation").withThreshold(Duration.ZERO);
+            recording.enable("com.example.contact.RepositoryCall").withThreshold(Duration.ZERO);
+            recording.start();
+
+            service.addContact(new Contact("12345", "John", "Doe", "1234567890", "123 Main St"));
+            service.tryUpdateContact("12345", "<script>", null, null, null);
+            service.getContact("99999");
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<String> operations = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.example.contact.Operation"))
+                .map(e -> e.getString("operation") + ":" + e.getString("contactId") + ":" + e.getString("outcome"))
+                .collect(Collectors.toList());
+        assertEquals(List.of("ADD_CONTACT:12345:SUCCESS", "UPDATE_CONTACT:12345:INVALID", "GET_CONTACT:99999:NOT_FOUND"),
+                operations);
+
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("com.example.contact.Validation")
+                && "INVALID".equals(e.getString("outcome"))));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("com.example.contact.RepositoryCall")
+                && "REPOSITORY_SAVE".equals(e.getString("operation"))));
+    }
+
+    /**
+     * Test nothing is allocated for disabled event types.
+     */
+    @Test
+    public void testDisabledWithoutRecording() {
+        assertNull(ContactEvents.beginValidation());
+        assertNull(ContactEvents.beginRepositoryCall());
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact HTTP Server Test
+ * October 2026
+ * Tests the HTTP/JSON front end, keep-alive and the JSON encoder
+ *
+ */
+package com.example.contact;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.server.ContactHttpServer;
+import com.example.contact.server.ContactJson;
+import com.example.contact.server.HttpRoute;
+import com.example.contact.server.JsonWriter;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.service.IContactService;
+
+/**
+ * Unit tests for ContactHttpServer, ContactHttpHandler and the JSON helpers.
+ */
+public class ContactHttpServerTest {
+
+    private IContactService service;
+    private ContactHttpServer server;
+    private HttpClient client;
+
+    /**
+     * Starts a server on an ephemeral port in front of a fresh service.
+     * @throws IOException if the server cannot bind
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        service = new ContactServiceImpl(new InMemoryContactRepository());
+        server = new ContactHttpServer(service, 0);
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    /**
+     * Stops the server.
+     */
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    /**
+     * Test create, fetch, update and delete round trip through HTTP.
+     * @throws Exception if a request fails
+     */
+    @Test
+    public void testCrudRoundTrip() throws Exception {
+        HttpResponse<String> created = send("POST", "/contacts",
+                "{\"contactId\":\"12345\",\"firstName\":\"John\",\"lastName\":\"Doe\","
+                        + "\"phone\":\"1234567890\",\"address\":\"123 Main St\"}");
+        assertEquals(201, created.statusCode());
+        assertEquals("/contacts/12345", created.headers().firstValue("Location").orElse(null));
+        assertEquals("John", service.getContact("12345").getFirstName());
+
+        HttpResponse<String> fetched = send("GET", "/contacts/12345", null);
+        assertEquals(200, fetched.statusCode());
+        Map<String, String> body = ContactJson.parseObject(fetched.body());
+        assertEquals("Doe", body.get("lastName"));
+        assertEquals("123 Main St", body.get("address"));
+
+        HttpResponse<String> updated = send("PUT", "/contacts/12345", "{\"firstName\":\"Jane\",\"phone\":null}");
+        assertEquals(200, updated.statusCode());
+        assertEquals("Jane", ContactJson.parseObject(updated.body()).get("firstName"));
+        assertEquals("1234567890", service.getContact("12345").getPhone());
+
+        assertEquals(204, send("DELETE", "/contacts/12345", null).statusCode());
+        assertNull(service.getContact("12345"));
+        assertEquals(404, send("GET", "/contacts/12345", null).statusCode());
+    }
+
+    /**
+     * Test service failures and bad requests map to the documented status codes.
+     * @throws Exception if a request fails
+     */
+    @Test
+    public void testErrorStatusCodes() throws Exception {
+        service.addContact(new Contact("1", "John", "Doe", "1234567890", "1 Main St"));
+        String duplicate = "{\"contactId\":\"1\",\"firstName\":\"A\",\"lastName\":\"B\","
+                + "\"phone\":\"1234567890\",\"address\":\"1 St\"}";
+
+        assertEquals(409, send("POST", "/contacts", duplicate).statusCode());
+        assertEquals(400, send("POST", "/contacts", "{\"contactId\":\"2\"}").statusCode());
+        assertEquals(400, send("POST", "/contacts", "{not json").statusCode());
+        assertEquals(400, send("PUT", "/contacts/1", "{\"phone\":\"12\"}").statusCode());
+        assertEquals(404, send("DELETE", "/contacts/missing", null).statusCode());
+        assertEquals(404, send("GET", "/nowhere", null).statusCode());
+        assertEquals(405, send("DELETE", "/contacts", null).statusCode());
+        assertEquals(413, send("POST", "/contacts", "{\"a\":\"" + "x".repeat(20000) + "\"}").statusCode());
+    }
+
+    /**
+     * Test the contact list streams every contact and the metrics endpoint reports routes.
+     * @throws Exception if a request fails
+     */
+    @Test
+    public void testListAndMetrics() throws Exception {
+        for (int i = 0; i < 600; i++) {
+            service.addContact(new Contact("C" + i, "First", "Last", "1234567890", "Street \"" + i + "\""));
+        }
+        HttpResponse<String> list = send("GET", "/contacts", null);
+        assertEquals(200, list.statusCode());
+        assertEquals(600, list.body().split("\"contactId\"", -1).length - 1);
+        assertTrue(list.body().startsWith("[{") && list.body().endsWith("}]"));
+
+        HttpResponse<String> changes = send("GET", "/changes", null);
+        assertEquals(200, changes.statusCode());
+        assertTrue(changes.body().contains("\"nextToken\""));
+
+        HttpResponse<String> metrics = send("GET", "/metrics", null);
+        assertEquals(200, metrics.statusCode());
+        assertTrue(metrics.body().contains("\"LIST_CONTACTS\""));
+        assertEquals(1, server.getMetrics().getLatency(HttpRoute.LIST_CONTACTS).getCount());
+        assertTrue(server.getMetrics().getResponseCount(2) >= 2);
+    }
+
+    /**
+     * Test several requests are served over one persistent connection.
+     * @throws Exception if the socket fails
+     */
+    @Test
+    public void testKeepAlive() throws Exception {
+        service.addContact(new Contact("1", "John", "Doe", "1234567890", "1 Main St"));
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            for (int i = 0; i < 3; i++) {
+                out.write("GET /contacts/1 HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                assertEquals("HTTP/1.1 200 OK", in.readLine());
+                int length = -1;
+                String line;
+                while (!(line = in.readLine()).isEmpty()) {
+                    if (line.toLowerCase().startsWith("content-length:")) {
+                        length = Integer.parseInt(line.substring("content-length:".length()).trim());
+                    }
+                }
+                char[] body = new char[length];
+                int read = 0;
+                while (read < length) {
+                    read += in.read(body, read, length - read);
+                }
+                assertEquals("John", ContactJson.parseObject(new String(body)).get("firstName"));
+            }
+        }
+    }
+
+    /**
+     * Test the JSON writer escapes strings and separates members correctly.
+     * @throws IOException never for a StringWriter
+     */
+    @Test
+    public void testJsonWriterEscaping() throws IOException {
+        StringWriter out = new StringWriter();
+        new JsonWriter(out).beginObject()
+                .name("s").value("a\"b\\c\nd\001")
+                .name("n").value(42)
+                .name("list").beginArray().value(true).value((String) null).beginObject().endObject().endArray()
+                .endObject();
+        assertEquals("{\"s\":\"a\\\"b\\\\c\\nd\\u0001\",\"n\":42,\"list\":[true,null,{}]}", out.toString());
+
+        Map<String, String> parsed = ContactJson.parseObject("{\"s\":\"a\\\"b\\\\c\\nd\\u0001\",\"t\":null}");
+        assertEquals("a\"b\\c\nd\001", parsed.get("s"));
+        assertTrue(parsed.containsKey("t"));
+        assertThrows(IllegalArgumentException.class, () -> ContactJson.parseObject("{\"n\":42}"));
+        assertThrows(IllegalArgumentException.class, () -> ContactJson.parseObject("{\"a\":\"b\"} x"));
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .method(method, publisher)
+                .header("Content-Type", "application/json")
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
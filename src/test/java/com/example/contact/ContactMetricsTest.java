@@ -0,0 +1,149 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Metrics Test
+ * October 2026
+ * Tests latency histograms, outcome counters and the JMX view
+ *
+ */
+package com.example.contact;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.audit.Slf4jAuditSink;
+import com.example.contact.concurrent.StripedLockManager;
+import com.example.contact.exception.DuplicateContactException;
+import com.example.contact.metrics.ContactMetrics;
+import com.example.contact.metrics.ContactMetricsJmx;
+import com.example.contact.metrics.LatencyHistogram;
+import com.example.contact.metrics.LatencySnapshot;
+import com.example.contact.metrics.MetricOperation;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.repository.MeteredContactRepository;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.validation.ContactValidator;
+
+/**
+ * Unit tests for ContactMetrics, LatencyHistogram and ContactMetricsJmx.
+ */
+public class ContactMetricsTest {
+
+    private ContactMetrics metrics;
+    private ContactServiceImpl service;
+
+    /**
+     * Set up a metered service and repository before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        metrics = new ContactMetrics();
+        MeteredContactRepository repository = new MeteredContactRepository(new InMemoryContactRepository(), metrics);
+        service = new ContactServiceImpl(repository, new ContactValidator(), new StripedLockManager(),
+                Slf4jAuditSink.INSTANCE, metrics);
+    }
+
+    /**
+     * Test percentiles are reported within the histogram's precision.
+     */
+    @Test
+    public void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10000; micros++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(10000, snapshot.getCount());
+        assertWithin(5_000_000, snapshot.getValueAtPercentile(50));
+        assertWithin(9_900_000, snapshot.getValueAtPercentile(99));
+        assertWithin(9_990_000, snapshot.getValueAtPercentile(99.9));
+        assertEquals(10_000_000, snapshot.getMaxNanos());
+        assertEquals(10_000_000, snapshot.getValueAtPercentile(100));
+        assertEquals(5_000_500, snapshot.getMeanNanos(), 1);
+    }
+
+    /**
+     * Test service and repository outcomes are counted.
+     */
+    @Test
+    public void testOutcomeCounters() {
+        service.addContact(new Contact("12345", "John", "Doe", "1234567890", "123 Main St"));
+        assertThrows(DuplicateContactException.class, () ->
+                service.addContact(new Contact("12345", "John", "Doe", "1234567890", "123 Main St")));
+        service.tryUpdateContact("12345", "<script>", null, null, null);
+        service.getContact("12345");
+        service.findContact("missing");
+        service.tryUpdateContact("missing", "Jane", null, null, null);
+
+        assertEquals(1, metrics.getHits());
+        assertEquals(1, metrics.getMisses());
+        assertEquals(1, metrics.getDuplicates());
+        assertEquals(1, metrics.getValidationFailures());
+        assertEquals(1, metrics.getCount(MetricOperation.UPDATE_CONTACT, ContactOutcome.NOT_FOUND));
+        assertEquals(1, metrics.getCount(MetricOperation.VALIDATE, ContactOutcome.INVALID));
+        assertEquals(1, metrics.getCount(MetricOperation.REPOSITORY_SAVE, ContactOutcome.SUCCESS));
+        assertEquals(2, metrics.getLatency(MetricOperation.ADD_CONTACT).getCount());
+        assertEquals(2, metrics.getLatency(MetricOperation.GET_CONTACT).getCount());
+    }
+
+    /**
+     * Test the disabled instance records nothing.
+     */
+    @Test
+    public void testDisabledMetrics() {
+        ContactMetrics disabled = ContactMetrics.disabled();
+        assertFalse(disabled.isEnabled());
+        assertEquals(0, disabled.startTimer());
+        disabled.record(MetricOperation.ADD_CONTACT, 0, ContactOutcome.SUCCESS);
+        assertEquals(0, disabled.getHits());
+    }
+
+    /**
+     * Test the MXBean publishes counters, percentiles, an interval view and reset.
+     * @throws Exception if a JMX call fails
+     */
+    @Test
+    public void testJmxView() throws Exception {
+        ObjectName name = ContactMetricsJmx.register(metrics, "test");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            service.addContact(new Contact("12345", "John", "Doe", "1234567890", "123 Main St"));
+            service.getContact("12345");
+
+            assertEquals(1L, server.getAttribute(name, "Hits"));
+            CompositeData[] latencies = (CompositeData[]) server.getAttribute(name, "Latencies");
+            CompositeData add = latencies[MetricOperation.ADD_CONTACT.ordinal()];
+            assertEquals("ADD_CONTACT", add.get("operation"));
+            assertEquals(1L, add.get("count"));
+            assertTrue((Double) add.get("p999Micros") > 0);
+
+            CompositeData[] first = (CompositeData[]) server.getAttribute(name, "IntervalLatencies");
+            assertEquals(1L, first[MetricOperation.GET_CONTACT.ordinal()].get("count"));
+            service.getContact("12345");
+            CompositeData[] second = (CompositeData[]) server.getAttribute(name, "IntervalLatencies");
+            assertEquals(1L, second[MetricOperation.GET_CONTACT.ordinal()].get("count"));
+
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "Hits"));
+        } finally {
+            ContactMetricsJmx.unregister(name);
+        }
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.02, "expected ~" + expected + " but was " + actual);
+    }
+}
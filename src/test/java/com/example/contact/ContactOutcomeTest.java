@@ -0,0 +1,130 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Outcome Test
+ * October 2026
+ * Tests the exception-free service operations and their stackless failures
+ *
+ */
+package com.example.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.audit.Slf4jAuditSink;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.exception.ContactValidationException;
+import com.example.contact.exception.ResourceLimitException;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.service.IContactService;
+import com.example.contact.validation.ContactValidator;
+
+/**
+ * Unit tests for the outcome-based operations of IContactService.
+ */
+public class ContactOutcomeTest {
+
+    private IContactService service;
+
+    /**
+     * Set up the service with an InMemoryContactRepository before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        service = new ContactServiceImpl(new InMemoryContactRepository());
+    }
+
+    /**
+     * Test add outcomes for success, duplicate and invalid input.
+     */
+    @Test
+    public void testTryAddContact() {
+        Contact contact = new Contact("12345", "John", "Doe", "1234567890", "123 Main St");
+
+        assertEquals(ContactOutcome.SUCCESS, service.tryAddContact(contact));
+        assertEquals(ContactOutcome.DUPLICATE, service.tryAddContact(contact));
+        assertEquals(ContactOutcome.INVALID, service.tryAddContact(null));
+        assertEquals(ContactOutcome.INVALID,
+                service.tryAddContact(new Contact("67890", "John1", "Doe", "1234567890", "123 Main St")));
+    }
+
+    /**
+     * Test update outcomes for success, miss and invalid input.
+     */
+    @Test
+    public void testTryUpdateContact() {
+        service.addContact(new Contact("12345", "John", "Doe", "1234567890", "123 Main St"));
+
+        assertEquals(ContactOutcome.SUCCESS, service.tryUpdateContact("12345", "Jane", null, null, null));
+        assertEquals("Jane", service.findContact("12345").getFirstName());
+        assertEquals(ContactOutcome.NOT_FOUND, service.tryUpdateContact("99999", "Jane", null, null, null));
+        assertEquals(ContactOutcome.INVALID, service.tryUpdateContact("12345", "<script>", null, null, null));
+        assertEquals(ContactOutcome.INVALID, service.tryUpdateContact(" ", "Jane", null, null, null));
+    }
+
+    /**
+     * Test delete outcomes and lookups without Optional.
+     */
+    @Test
+    public void testTryDeleteContact() {
+        Contact contact = new Contact("12345", "John", "Doe", "1234567890", "123 Main St");
+        service.addContact(contact);
+
+        assertSame(contact, service.findContact("12345"));
+        assertEquals(ContactOutcome.SUCCESS, service.tryDeleteContact("12345"));
+        assertEquals(ContactOutcome.NOT_FOUND, service.tryDeleteContact("12345"));
+        assertEquals(ContactOutcome.INVALID, service.tryDeleteContact(null));
+        assertNull(service.findContact("12345"));
+        assertTrue(ContactOutcome.SUCCESS.isSuccess());
+    }
+
+    /**
+     * Test validation failures on the exception-free path carry their message but no
+     * stack trace, while the throwing path keeps one.
+     */
+    @Test
+    public void testStacklessValidationFailures() {
+        ContactValidator validator = new ContactValidator();
+        Contact invalid = new Contact("12345", "John123", "Doe", "1234567890", "1 Main St");
+
+        ContactValidationException stackless = validator.check(invalid, true);
+        assertEquals(0, stackless.getStackTrace().length);
+        assertEquals("firstName", stackless.getFieldName());
+        assertNull(validator.check(new Contact("12345", "John", "Doe", "1234567890", "1 Main St"), true));
+        assertNull(validator.checkField("phone", "1234567890", true));
+        assertEquals("Phone must contain only digits", validator.checkField("phone", "12345abcde", true).getMessage());
+
+        assertEquals(ContactOutcome.INVALID, service.tryAddContact(invalid));
+        service.addContact(new Contact("12345", "John", "Doe", "1234567890", "1 Main St"));
+        assertEquals(ContactOutcome.INVALID, service.tryUpdateContact("12345", "John123", null, null, null));
+        assertEquals(ContactOutcome.INVALID, service.tryUpdateContact("12345", null, null, "12345", null));
+        ContactValidationException thrown = assertThrows(ContactValidationException.class,
+                () -> service.addContact(new Contact("67890", "John123", "Doe", "1234567890", "1 Main St")));
+        assertEquals(stackless.getMessage(), thrown.getMessage());
+        assertTrue(thrown.getStackTrace().length > 0);
+    }
+
+    /**
+     * Test the contact limit is reported without building a stack trace.
+     */
+    @Test
+    public void testStacklessResourceLimit() {
+        IContactService limited = new ContactServiceImpl(
+                new InMemoryContactRepository(new ChangeFeed(), Slf4jAuditSink.INSTANCE, 1));
+        assertEquals(ContactOutcome.SUCCESS,
+                limited.tryAddContact(new Contact("1", "John", "Doe", "1234567890", "1 Main St")));
+        Contact second = new Contact("2", "Jane", "Doe", "1234567890", "2 Main St");
+        assertEquals(ContactOutcome.LIMIT_EXCEEDED, limited.tryAddContact(second));
+
+        ResourceLimitException limit = assertThrows(ResourceLimitException.class, () -> limited.addContact(second));
+        assertEquals(0, limit.getStackTrace().length);
+        assertEquals("Maximum contact limit reached: 1", limit.getMessage());
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Protocol Server Test
+ * October 2026
+ * Tests the binary protocol server, pipelining and out-of-order responses
+ *
+ */
+package com.example.contact;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.cluster.ConsistentHashRing;
+import com.example.contact.exception.ProtocolException;
+import com.example.contact.protocol.ContactPage;
+import com.example.contact.protocol.ContactProtocolClient;
+import com.example.contact.protocol.ContactProtocolServer;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.service.IContactService;
+
+/**
+ * Unit tests for ContactProtocolServer and ContactProtocolClient.
+ */
+public class ContactProtocolServerTest {
+
+    /**
+     * Repository whose lookups of one ID block until released.
+     */
+    private static class SlowLookupRepository extends InMemoryContactRepository {
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public Contact findByIdOrNull(String contactId) {
+            if ("slow".equals(contactId)) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.findByIdOrNull(contactId);
+        }
+    }
+
+    private SlowLookupRepository repository;
+    private IContactService service;
+    private ContactProtocolServer server;
+    private ContactProtocolClient client;
+
+    /**
+     * Starts a server on an ephemeral port and connects a client.
+     * @throws Exception if the server cannot bind
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        repository = new SlowLookupRepository();
+        service = new ContactServiceImpl(repository);
+        server = new ContactProtocolServer(service, 0);
+        server.start();
+        client = new ContactProtocolClient("localhost", server.getPort());
+    }
+
+    /**
+     * Closes the client and server.
+     */
+    @AfterEach
+    public void tearDown() {
+        repository.release.countDown();
+        client.close();
+        server.close();
+    }
+
+    /**
+     * Test add, get, update and delete through the binary protocol.
+     */
+    @Test
+    public void testCrudRoundTrip() {
+        Contact contact = new Contact("12345", "John", "Doe", "1234567890", "123 Main St");
+        client.ping().join();
+        assertEquals(ContactOutcome.SUCCESS, client.addContact(contact).join());
+        assertEquals(ContactOutcome.DUPLICATE, client.addContact(contact).join());
+
+        Contact fetched = client.getContact("12345").join();
+        assertEquals("John", fetched.getFirstName());
+        assertEquals("123 Main St", fetched.getAddress());
+
+        assertEquals(ContactOutcome.SUCCESS, client.updateContact("12345", "Jane", null, null, null).join());
+        assertEquals("Jane", service.getContact("12345").getFirstName());
+        assertEquals(ContactOutcome.INVALID, client.updateContact("12345", null, null, "12", null).join());
+
+        assertEquals(ContactOutcome.SUCCESS, client.deleteContact("12345").join());
+        assertEquals(ContactOutcome.NOT_FOUND, client.deleteContact("12345").join());
+        assertNull(client.getContact("12345").join());
+    }
+
+    /**
+     * Test many pipelined requests on one connection all complete with the right contacts.
+     */
+    @Test
+    public void testPipelinedRequests() {
+        for (int i = 0; i < 100; i++) {
+            service.addContact(new Contact("C" + i, "First", "Last", "1234567890", i + " Main St"));
+        }
+        List<CompletableFuture<Contact>> futures = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            futures.add(client.getContact("C" + (i % 100)));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals((i % 100) + " Main St", futures.get(i).join().getAddress());
+        }
+        assertEquals(0, client.getPendingCount());
+        assertEquals(5000, server.getRequestCount());
+    }
+
+    /**
+     * Test a listing larger than one frame arrives complete and other requests still pair up.
+     */
+    @Test
+    public void testListSpansFrames() {
+        assertTrue(client.listContacts().join().isEmpty());
+        for (int i = 0; i < 500; i++) {
+            service.addContact(new Contact("C" + i, "First", "Last", "1234567890", i + " Main St"));
+        }
+        CompletableFuture<List<Contact>> listing = client.listContacts();
+        CompletableFuture<Contact> lookup = client.getContact("C7");
+
+        List<Contact> contacts = listing.join();
+        assertEquals(500, contacts.size());
+        assertEquals(500, contacts.stream().map(Contact::getContactId).distinct().count());
+        assertEquals("7 Main St", lookup.join().getAddress());
+        assertEquals(0, client.getPendingCount());
+    }
+
+    /**
+     * Test a listing is sent one page per request and an abandoned or evicted cursor
+     * is rejected.
+     */
+    @Test
+    public void testListingPagesOnDemand() {
+        for (int i = 0; i < 500; i++) {
+            service.addContact(new Contact("C" + i, "First", "Last", "1234567890", i + " Main St"));
+        }
+        long requestsBefore = server.getRequestCount();
+        ContactPage page = client.openListing().join();
+        Set<String> seen = new HashSet<>();
+        int pages = 1;
+        assertEquals(48, page.getContacts().size());
+        page.getContacts().forEach(contact -> seen.add(contact.getContactId()));
+        while (!page.isLast()) {
+            page = client.nextPage(page.getCursor()).join();
+            page.getContacts().forEach(contact -> seen.add(contact.getContactId()));
+            pages++;
+        }
+        assertEquals(500, seen.size());
+        assertEquals(11, pages);
+        assertEquals(requestsBefore + pages, server.getRequestCount());
+
+        String closed = client.openListing().join().getCursor();
+        client.closeListing(closed).join();
+        CompletionException abandoned = assertThrows(CompletionException.class,
+                () -> client.nextPage(closed).join());
+        assertInstanceOf(ProtocolException.class, abandoned.getCause());
+
+        List<String> cursors = new ArrayList<>();
+        for (int i = 0; i <= ContactProtocolServer.MAX_OPEN_LISTINGS; i++) {
+            cursors.add(client.openListing().join().getCursor());
+        }
+        assertThrows(CompletionException.class, () -> client.nextPage(cursors.get(0)).join());
+        assertEquals(48, client.nextPage(cursors.get(cursors.size() - 1)).join().getContacts().size());
+    }
+
+    /**
+     * Test a ring scan returns exactly the contacts the ring assigns away from the holder.
+     */
+    @Test
+    public void testScanFiltersOnServer() {
+        for (int i = 0; i < 500; i++) {
+            service.addContact(new Contact("C" + i, "First", "Last", "1234567890", i + " Main St"));
+        }
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c"));
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            if (!"a".equals(ring.nodeFor("C" + i))) {
+                expected.add("C" + i);
+            }
+        }
+
+        Set<String> scanned = new HashSet<>();
+        ContactPage page = client.openListing(ring, "a").join();
+        page.getContacts().forEach(contact -> scanned.add(contact.getContactId()));
+        while (!page.isLast()) {
+            page = client.nextPage(page.getCursor()).join();
+            page.getContacts().forEach(contact -> scanned.add(contact.getContactId()));
+        }
+        assertEquals(expected, scanned);
+    }
+
+    /**
+     * Test a fast request overtakes a slow one issued before it on the same connection.
+     * @throws Exception if a request fails
+     */
+    @Test
+    public void testOutOfOrderResponses() throws Exception {
+        service.addContact(new Contact("slow", "Slow", "Doe", "1234567890", "1 Main St"));
+        service.addContact(new Contact("fast", "Fast", "Doe", "1234567890", "2 Main St"));
+
+        CompletableFuture<Contact> slow = client.getContact("slow");
+        Contact fast = client.getContact("fast").get(10, TimeUnit.SECONDS);
+        assertEquals("Fast", fast.getFirstName());
+        assertFalse(slow.isDone());
+
+        repository.release.countDown();
+        assertEquals("Slow", slow.get(10, TimeUnit.SECONDS).getFirstName());
+    }
+
+    /**
+     * Test a malformed frame closes the connection and its buffers return to the pool.
+     * @throws Exception if the socket fails
+     */
+    @Test
+    public void testMalformedFrameClosesConnection() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(new byte[] {0x7F, 0, 0, 0, 1, 2, 3, 4});
+            out.flush();
+            socket.setSoTimeout(10000);
+            InputStream in = socket.getInputStream();
+            assertEquals(-1, in.read());
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (server.getConnectionCount() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, server.getConnectionCount());
+        assertTrue(server.getBufferPool().getIdleCount() >= 2);
+        client.ping().join();
+    }
+}
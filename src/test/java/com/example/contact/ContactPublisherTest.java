@@ -0,0 +1,123 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Publisher Test
+ * October 2026
+ * Tests Flow.Publisher streaming of contacts with backpressure
+ *
+ */
+package com.example.contact;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.service.IContactService;
+
+/**
+ * Unit tests for the publisher APIs of IContactService.
+ */
+public class ContactPublisherTest {
+
+    /**
+     * Subscriber recording everything it receives and requesting only on demand.
+     */
+    private static class RecordingSubscriber implements Flow.Subscriber<Contact> {
+        private final List<Contact> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Contact item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private IContactService service;
+
+    /**
+     * Set up the service with 25 contacts before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        service = new ContactServiceImpl(new InMemoryContactRepository());
+        for (int i = 0; i < 25; i++) {
+            service.addContact(new Contact(String.valueOf(i), i % 2 == 0 ? "Even" : "Odd", "Doe", "1234567890", "1 St"));
+        }
+    }
+
+    /**
+     * Test contacts are only emitted as they are requested.
+     */
+    @Test
+    public void testHonorsDemand() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        service.publishAllContacts().subscribe(subscriber);
+        assertEquals(0, subscriber.received.size());
+
+        subscriber.subscription.request(10);
+        assertEquals(10, subscriber.received.size());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(100);
+        assertEquals(25, subscriber.received.size());
+        assertTrue(subscriber.completed);
+    }
+
+    /**
+     * Test filtered queries and cancellation.
+     */
+    @Test
+    public void testFilterAndCancel() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        service.publishContacts(contact -> contact.getFirstName().equals("Even")).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(13, subscriber.received.size());
+        assertTrue(subscriber.completed);
+
+        RecordingSubscriber cancelled = new RecordingSubscriber();
+        service.publishAllContacts().subscribe(cancelled);
+        cancelled.subscription.request(3);
+        cancelled.subscription.cancel();
+        cancelled.subscription.request(3);
+        assertEquals(3, cancelled.received.size());
+        assertFalse(cancelled.completed);
+    }
+
+    /**
+     * Test a non-positive request signals an error.
+     */
+    @Test
+    public void testInvalidRequest() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        service.publishAllContacts().subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    }
+}
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -179,13 +180,32 @@ public class ContactServiceMockTest {
 
         service.updateContact("12345", "Jane", null, "0987654321", null);
 
-        assertEquals("Jane", contact.getFirstName());
-        assertEquals("0987654321", contact.getPhone());
-        assertEquals("Doe", contact.getLastName()); // Unchanged
-        assertEquals("123 Main St", contact.getAddress()); // Unchanged
-
+        ArgumentCaptor<Contact> saved = ArgumentCaptor.forClass(Contact.class);
         verify(mockRepository).findById("12345");
-        verify(mockRepository).save(contact);
+        verify(mockRepository).save(saved.capture());
+        assertEquals("Jane", saved.getValue().getFirstName());
+        assertEquals("0987654321", saved.getValue().getPhone());
+        assertEquals("Doe", saved.getValue().getLastName()); // Unchanged
+        assertEquals("123 Main St", saved.getValue().getAddress()); // Unchanged
+        // The stored instance is replaced, never modified in place
+        assertEquals("John", contact.getFirstName());
+    }
+
+    /**
+     * Test an update with one invalid field changes nothing, including fields validated before it.
+     */
+    @Test
+    public void testUpdateContact_InvalidFieldAppliesNothing() {
+        Contact contact = new Contact("12345", "John", "Doe", "1234567890", "123 Main St");
+
+        when(mockRepository.findById("12345")).thenReturn(Optional.of(contact));
+
+        assertThrows(ContactValidationException.class, () ->
+                service.updateContact("12345", "Zed", "<script>", null, null));
+
+        assertEquals("John", contact.getFirstName());
+        assertEquals("Doe", contact.getLastName());
+        verify(mockRepository, never()).save(any());
     }
 
     /**
@@ -225,13 +245,13 @@ public class ContactServiceMockTest {
     public void testGetContact_Success() {
         Contact contact = new Contact("12345", "John", "Doe", "1234567890", "123 Main St");
 
-        when(mockRepository.findById("12345")).thenReturn(Optional.of(contact));
+        when(mockRepository.findByIdOrNull("12345")).thenReturn(contact);
 
         Contact result = service.getContact("12345");
 
         assertNotNull(result);
         assertEquals("12345", result.getContactId());
-        verify(mockRepository).findById("12345");
+        verify(mockRepository).findByIdOrNull("12345");
     }
 
     /**
@@ -240,12 +260,12 @@ public class ContactServiceMockTest {
      */
     @Test
     public void testGetContact_NotFound() {
-        when(mockRepository.findById("99999")).thenReturn(Optional.empty());
+        when(mockRepository.findByIdOrNull("99999")).thenReturn(null);
 
         Contact result = service.getContact("99999");
 
         assertNull(result);
-        verify(mockRepository).findById("99999");
+        verify(mockRepository).findByIdOrNull("99999");
     }
 
     /**
@@ -257,7 +277,7 @@ public class ContactServiceMockTest {
         Contact result = service.getContact(null);
 
         assertNull(result);
-        verify(mockRepository, never()).findById(any());
+        verify(mockRepository, never()).findByIdOrNull(any());
     }
 
     /**
@@ -0,0 +1,222 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Contact Sync Test
+ * October 2026
+ * Tests delta sync tokens, tombstones and compaction
+ *
+ */
+package com.example.contact;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.repository.WriteBehindContactRepository;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.service.IContactService;
+import com.example.contact.sync.ContactSyncIndex;
+import com.example.contact.sync.SyncResult;
+
+/**
+ * Unit tests for IContactService.changesSince and ContactSyncIndex.
+ */
+public class ContactSyncTest {
+
+    private InMemoryContactRepository repository;
+    private IContactService service;
+
+    /**
+     * Set up the service with a fresh repository before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        repository = new InMemoryContactRepository();
+        service = new ContactServiceImpl(repository);
+    }
+
+    /**
+     * Test an initial sync is a full resync and later syncs carry only the changes.
+     */
+    @Test
+    public void testDeltaAfterInitialSync() {
+        service.addContact(new Contact("1", "John", "Doe", "1234567890", "1 Main St"));
+        service.addContact(new Contact("2", "Jane", "Doe", "1234567890", "2 Main St"));
+
+        SyncResult initial = service.changesSince(null);
+        assertTrue(initial.isFullResync());
+        assertEquals(2, initial.getUpserts().size());
+
+        service.updateContact("1", "Johnny", null, null, null);
+        service.addContact(new Contact("3", "Jim", "Doe", "1234567890", "3 Main St"));
+        service.deleteContact("2");
+
+        SyncResult delta = service.changesSince(initial.getNextToken());
+        assertFalse(delta.isFullResync());
+        assertEquals(2, delta.getUpserts().size());
+        assertEquals("Johnny", delta.getUpserts().get(0).getFirstName());
+        assertEquals("3", delta.getUpserts().get(1).getContactId());
+        assertEquals(1, delta.getDeletedIds().size());
+        assertEquals("2", delta.getDeletedIds().get(0));
+
+        SyncResult empty = service.changesSince(delta.getNextToken());
+        assertFalse(empty.isFullResync());
+        assertTrue(empty.getUpserts().isEmpty());
+        assertTrue(empty.getDeletedIds().isEmpty());
+    }
+
+    /**
+     * Test repeated changes to one contact are sent once.
+     */
+    @Test
+    public void testRepeatedChangesAreCollapsed() {
+        String token = service.changesSince(null).getNextToken();
+        service.addContact(new Contact("1", "John", "Doe", "1234567890", "1 Main St"));
+        for (int i = 0; i < 5; i++) {
+            service.updateContact("1", null, null, null, i + " Main St");
+        }
+
+        SyncResult delta = service.changesSince(token);
+        assertEquals(1, delta.getUpserts().size());
+        assertEquals("4 Main St", delta.getUpserts().get(0).getAddress());
+    }
+
+    /**
+     * Test unreadable, foreign and pre-clear tokens force a full resync.
+     */
+    @Test
+    public void testUnusableTokensForceFullResync() {
+        service.addContact(new Contact("1", "John", "Doe", "1234567890", "1 Main St"));
+        String token = service.changesSince(null).getNextToken();
+
+        assertTrue(service.changesSince("not a token").isFullResync());
+        String foreign = new ContactServiceImpl(new InMemoryContactRepository()).changesSince(null).getNextToken();
+        assertTrue(service.changesSince(foreign).isFullResync());
+
+        repository.clear();
+        SyncResult afterClear = service.changesSince(token);
+        assertTrue(afterClear.isFullResync());
+        assertTrue(afterClear.getUpserts().isEmpty());
+    }
+
+    /**
+     * Test tombstones past the retention window are compacted.
+     */
+    @Test
+    public void testTombstonesAreCompacted() {
+        ContactSyncIndex index = new ContactSyncIndex(repository, repository.getChangeFeed(), 0);
+        String token = index.changesSince(null).getNextToken();
+        service.addContact(new Contact("1", "John", "Doe", "1234567890", "1 Main St"));
+        service.deleteContact("1");
+
+        SyncResult result = index.changesSince(token);
+        assertTrue(result.isFullResync());
+        assertEquals(0, index.getTrackedChangeCount());
+        assertEquals(2, index.getFloor());
+    }
+
+    /**
+     * Test a reader that falls behind the feed forces a resync for older tokens only.
+     */
+    @Test
+    public void testFeedOverrunForcesResync() {
+        repository = new InMemoryContactRepository(new ChangeFeed(4));
+        // No background follower and no service writes, so nothing drains the feed between requests
+        ContactSyncIndex index = new ContactSyncIndex(repository, repository.getChangeFeed(),
+                ContactSyncIndex.DEFAULT_RETENTION_MILLIS, 0);
+        String token = index.changesSince(null).getNextToken();
+        for (int i = 0; i < 10; i++) {
+            repository.save(new Contact(String.valueOf(i), "John", "Doe", "1234567890", "1 Main St"));
+        }
+
+        SyncResult result = index.changesSince(token);
+        assertTrue(result.isFullResync());
+        assertEquals(10, result.getUpserts().size());
+        assertFalse(index.changesSince(result.getNextToken()).isFullResync());
+    }
+
+    /**
+     * Test more service writes than the feed holds between two syncs still give a delta.
+     */
+    @Test
+    public void testWriteBurstBetweenSyncsStaysDelta() {
+        for (int i = 0; i < 100; i++) {
+            service.addContact(new Contact("C" + i, "John", "Doe", "1234567890", "1 Main St"));
+        }
+        String token = service.changesSince(null).getNextToken();
+        int writes = ChangeFeed.DEFAULT_CAPACITY + 1000;
+        for (int i = 0; i < writes; i++) {
+            service.updateContact("C1", null, null, null, i + " Main St");
+        }
+        service.updateContact("C2", "Jane", null, null, null);
+
+        SyncResult result = service.changesSince(token);
+        assertFalse(result.isFullResync());
+        assertEquals(2, result.getUpserts().size());
+    }
+
+    /**
+     * Test the background follower keeps up with writes that bypass the service.
+     * @throws Exception if sleeping is interrupted
+     */
+    @Test
+    public void testBackgroundFollowerDrainsFeed() throws Exception {
+        String token = service.changesSince(null).getNextToken();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < ChangeFeed.DEFAULT_CAPACITY - 1000; i++) {
+                repository.save(new Contact("C" + (i % 100), "John", "Doe", "1234567890", round + " Main St"));
+            }
+            Thread.sleep(100);
+        }
+
+        SyncResult result = service.changesSince(token);
+        assertFalse(result.isFullResync());
+        assertEquals(100, result.getUpserts().size());
+    }
+
+    /**
+     * Test the sync index is built on the first sync request rather than with the service.
+     */
+    @Test
+    public void testIndexBuiltOnFirstSync() {
+        AtomicInteger feedRequests = new AtomicInteger();
+        InMemoryContactRepository counting = new InMemoryContactRepository() {
+            @Override
+            public ChangeFeed getChangeFeed() {
+                feedRequests.incrementAndGet();
+                return super.getChangeFeed();
+            }
+        };
+        IContactService lazy = new ContactServiceImpl(counting);
+        lazy.addContact(new Contact("1", "John", "Doe", "1234567890", "1 Main St"));
+        lazy.updateContact("1", "Johnny", null, null, null);
+        assertEquals(0, feedRequests.get());
+
+        SyncResult initial = lazy.changesSince(null);
+        assertTrue(initial.isFullResync());
+        assertEquals("Johnny", initial.getUpserts().get(0).getFirstName());
+        lazy.deleteContact("1");
+        SyncResult delta = lazy.changesSince(initial.getNextToken());
+        assertFalse(delta.isFullResync());
+        assertEquals(1, delta.getDeletedIds().size());
+        assertEquals(1, feedRequests.get());
+    }
+
+    /**
+     * Test repositories without a change feed report that sync is unsupported.
+     */
+    @Test
+    public void testUnsupportedRepository() {
+        try (WriteBehindContactRepository writeBehind = new WriteBehindContactRepository(repository)) {
+            IContactService unsupported = new ContactServiceImpl(writeBehind);
+            assertThrows(UnsupportedOperationException.class, () -> unsupported.changesSince(null));
+        }
+    }
+}
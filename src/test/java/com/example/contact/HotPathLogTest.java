@@ -0,0 +1,64 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Hot Path Log Test
+ * October 2026
+ * Tests budgeted detail logging and aggregated counters
+ *
+ */
+package com.example.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.logging.HotPathLog;
+import com.example.contact.repository.InMemoryContactRepository;
+
+/**
+ * Unit tests for HotPathLog.
+ */
+public class HotPathLogTest {
+
+    /**
+     * Test detail lines are granted up to the per-second budget and the rest are counted.
+     */
+    @Test
+    public void testDetailBudget() {
+        HotPathLog log = HotPathLog.forClass(HotPathLogTest.class);
+        assertSame(log, HotPathLog.forClass(HotPathLogTest.class));
+
+        long before = log.getSuppressedCount();
+        int granted = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (log.infoSampled()) {
+                granted++;
+            }
+        }
+
+        // The budget window may roll over once during the loop
+        assertTrue(granted >= 20 && granted <= 40, "granted " + granted);
+        assertEquals(1000 - granted, log.getSuppressedCount() - before);
+    }
+
+    /**
+     * Test hot-path counters aggregate per-call events and summaries can be forced.
+     */
+    @Test
+    public void testCountersAggregate() {
+        HotPathLog.Counter counter = HotPathLog.forClass(HotPathLogTest.class).counter("test.events");
+        for (int i = 0; i < 500; i++) {
+            counter.increment();
+        }
+        counter.add(500);
+        assertEquals(1000, counter.sum());
+
+        InMemoryContactRepository repository = new InMemoryContactRepository();
+        for (int i = 0; i < 100; i++) {
+            repository.findById("missing");
+        }
+        HotPathLog.logSummaries();
+        assertEquals(1000, counter.sum());
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Replication Test
+ * October 2026
+ * Tests snapshot bootstrap, log shipping, resume after reconnect and read-only replicas
+ *
+ */
+package com.example.contact;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.replication.ReplicationFollower;
+import com.example.contact.replication.ReplicationPrimary;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.service.ContactServiceImpl;
+
+/**
+ * Unit tests for ReplicationPrimary and ReplicationFollower over loopback.
+ */
+public class ReplicationTest {
+
+    private InMemoryContactRepository repository;
+    private ContactServiceImpl service;
+    private ReplicationPrimary primary;
+
+    /**
+     * Starts a primary with a few contacts already stored.
+     * @throws Exception if the primary cannot bind
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        repository = new InMemoryContactRepository();
+        service = new ContactServiceImpl(repository);
+        for (int i = 0; i < 50; i++) {
+            service.addContact(contact(i));
+        }
+        primary = new ReplicationPrimary(repository, 0);
+        primary.start();
+    }
+
+    /**
+     * Stops the primary.
+     */
+    @AfterEach
+    public void tearDown() {
+        primary.close();
+    }
+
+    /**
+     * Repository whose snapshot iteration is slow, standing in for a large data set.
+     */
+    private static class SlowSnapshotRepository extends InMemoryContactRepository {
+        SlowSnapshotRepository(ChangeFeed feed) {
+            super(feed);
+        }
+
+        @Override
+        public Iterator<Contact> iterateAll() {
+            Iterator<Contact> contacts = super.iterateAll();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return contacts.hasNext();
+                }
+
+                @Override
+                public Contact next() {
+                    LockSupport.parkNanos(100_000);
+                    return contacts.next();
+                }
+            };
+        }
+    }
+
+    private static Contact contact(int i) {
+        return new Contact("C" + i, "John", "Doe", "1234567890", i + " Main St");
+    }
+
+    /**
+     * Test a new follower bootstraps from a snapshot and then applies the log.
+     * @throws Exception if waiting is interrupted
+     */
+    @Test
+    public void testSnapshotThenLogTail() throws Exception {
+        try (ReplicationFollower follower = new ReplicationFollower("localhost", primary.getPort())) {
+            follower.start();
+            assertTrue(follower.awaitSequence(primary.getLastSequence(), 10, TimeUnit.SECONDS));
+            assertEquals(50, follower.getRepository().count());
+            assertEquals(1, follower.getSnapshotCount());
+
+            service.updateContact("C1", "Jane", null, null, null);
+            service.deleteContact("C2");
+            service.addContact(contact(100));
+            assertTrue(follower.awaitSequence(primary.getLastSequence(), 10, TimeUnit.SECONDS));
+
+            assertEquals("Jane", follower.getRepository().findByIdOrNull("C1").getFirstName());
+            assertNull(follower.getRepository().findByIdOrNull("C2"));
+            assertTrue(follower.getRepository().existsById("C100"));
+            assertEquals(3, follower.getEventsApplied());
+            assertEquals(0, follower.getLagEvents());
+        }
+    }
+
+    /**
+     * Test a follower that loses its primary resumes from the log tail without a new snapshot.
+     * @throws Exception if the primary cannot rebind or waiting is interrupted
+     */
+    @Test
+    public void testReconnectResumesFromLog() throws Exception {
+        try (ReplicationFollower follower = new ReplicationFollower("localhost", primary.getPort())) {
+            follower.start();
+            assertTrue(follower.awaitSequence(primary.getLastSequence(), 10, TimeUnit.SECONDS));
+
+            int port = primary.getPort();
+            primary.close();
+            service.addContact(contact(200));
+            assertFalse(follower.getRepository().existsById("C200"));
+
+            primary = new ReplicationPrimary(repository, port);
+            primary.start();
+            assertTrue(follower.awaitSequence(primary.getLastSequence(), 10, TimeUnit.SECONDS));
+            assertTrue(follower.getRepository().existsById("C200"));
+            assertEquals(1, follower.getSnapshotCount());
+            assertEquals(0, primary.getSnapshotCount());
+        }
+    }
+
+    /**
+     * Test a follower switching to a restarted primary with a new epoch reports lag
+     * against the new epoch's sequences only.
+     * @throws Exception if the primary cannot rebind or waiting is interrupted
+     */
+    @Test
+    public void testNewEpochResetsLag() throws Exception {
+        try (ReplicationFollower follower = new ReplicationFollower("localhost", primary.getPort())) {
+            follower.start();
+            for (int i = 0; i < 500; i++) {
+                service.updateContact("C" + (i % 50), null, null, null, i + " Oak St");
+            }
+            long oldEpoch = primary.getEpoch();
+            long oldSequence = primary.getLastSequence();
+            assertTrue(follower.awaitSequence(oldEpoch, oldSequence, 10, TimeUnit.SECONDS));
+
+            int port = primary.getPort();
+            primary.close();
+            InMemoryContactRepository restarted = new InMemoryContactRepository();
+            new ContactServiceImpl(restarted).addContact(contact(1));
+            primary = new ReplicationPrimary(restarted, port);
+            primary.start();
+
+            assertTrue(follower.awaitSequence(primary.getEpoch(), primary.getLastSequence(), 10, TimeUnit.SECONDS));
+            assertEquals(primary.getEpoch(), follower.getEpoch());
+            assertEquals(0, follower.getLagEvents());
+            assertEquals(1, follower.getRepository().count());
+            assertFalse(follower.awaitSequence(oldEpoch, oldSequence, 50, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Test a follower joining during concurrent writes converges on the primary's state.
+     * @throws Exception if the writer fails or waiting is interrupted
+     */
+    @Test
+    public void testConvergesUnderWrites() throws Exception {
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 2000; i++) {
+                service.updateContact("C" + (i % 50), null, null, null, (i % 1000) + " Oak St");
+            }
+        });
+        try (ReplicationFollower follower = new ReplicationFollower("localhost", primary.getPort())) {
+            writer.start();
+            follower.start();
+            writer.join();
+            assertTrue(follower.awaitSequence(primary.getLastSequence(), 10, TimeUnit.SECONDS));
+            for (int i = 0; i < 50; i++) {
+                assertEquals(repository.findByIdOrNull("C" + i).getAddress(),
+                        follower.getRepository().findByIdOrNull("C" + i).getAddress());
+            }
+        }
+    }
+
+    /**
+     * Test a follower keeps reporting its lag accurately while writes never let the stream go idle.
+     * @throws Exception if waiting is interrupted
+     */
+    @Test
+    public void testLagUnderContinuousWrites() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            // Bursts larger than a replication batch, so batches leave events behind
+            for (int i = 0; running.get(); i++) {
+                repository.save(contact(i % 50));
+                if (i % 1000 == 999) {
+                    LockSupport.parkNanos(1_000_000);
+                }
+            }
+        });
+        try (ReplicationFollower follower = new ReplicationFollower("localhost", primary.getPort())) {
+            follower.start();
+            assertTrue(follower.awaitSequence(primary.getLastSequence(), 10, TimeUnit.SECONDS));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (follower.getLagMillis() == Long.MAX_VALUE && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            writer.start();
+            long maxLagMillis = 0;
+            boolean sawLagEvents = false;
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1500);
+            while (System.nanoTime() < end) {
+                Thread.sleep(2);
+                maxLagMillis = Math.max(maxLagMillis, follower.getLagMillis());
+                sawLagEvents |= follower.getLagEvents() > 0;
+            }
+            running.set(false);
+            writer.join();
+
+            assertTrue(maxLagMillis < 1000, "Lag grew under load: " + maxLagMillis + " ms");
+            assertTrue(sawLagEvents, "Lag in events never reported under load");
+            assertTrue(follower.awaitSequence(primary.getLastSequence(), 10, TimeUnit.SECONDS));
+            Thread.sleep(300);
+            assertEquals(0, follower.getLagEvents());
+            assertTrue(follower.getLagMillis() < 1000);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Test a follower bootstraps with a single snapshot while writes keep arriving
+     * faster than the feed can hold for the length of the snapshot.
+     * @throws Exception if the primary cannot bind or waiting is interrupted
+     */
+    @Test
+    public void testBootstrapUnderSustainedWrites() throws Exception {
+        SlowSnapshotRepository slow = new SlowSnapshotRepository(new ChangeFeed(1024));
+        ContactServiceImpl slowService = new ContactServiceImpl(slow);
+        int contacts = 3000;
+        for (int i = 0; i < contacts; i++) {
+            slowService.addContact(contact(i));
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                slowService.updateContact("C" + (i % contacts), null, null, null, (i % 1000) + " Oak St");
+                LockSupport.parkNanos(20_000);
+            }
+        });
+        try (ReplicationPrimary busy = new ReplicationPrimary(slow, 0);
+             ReplicationFollower follower = new ReplicationFollower("localhost", busy.getPort())) {
+            busy.start();
+            long start = busy.getLastSequence();
+            writer.start();
+            follower.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (!follower.isBootstrapped() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            running.set(false);
+            writer.join();
+
+            assertTrue(follower.awaitSequence(busy.getLastSequence(), 10, TimeUnit.SECONDS));
+            assertEquals(1, busy.getSnapshotCount());
+            assertTrue(busy.getLastSequence() - start > 1024, "Too few writes during the snapshot");
+            for (int i = 0; i < contacts; i++) {
+                assertEquals(slow.findByIdOrNull("C" + i).getAddress(),
+                        follower.getRepository().findByIdOrNull("C" + i).getAddress());
+            }
+        }
+    }
+
+    /**
+     * Test replicas reject writes, report unknown lag before bootstrapping and cannot be replicated further.
+     */
+    @Test
+    public void testReplicaIsReadOnly() {
+        try (ReplicationFollower follower = new ReplicationFollower("localhost", primary.getPort())) {
+            assertFalse(follower.isBootstrapped());
+            assertEquals(Long.MAX_VALUE, follower.getLagMillis());
+            ContactServiceImpl replicaService = new ContactServiceImpl(follower.getRepository());
+            assertThrows(UnsupportedOperationException.class, () -> follower.getRepository().save(contact(1)));
+            assertThrows(UnsupportedOperationException.class, () -> replicaService.changesSince(null));
+            assertThrows(IllegalArgumentException.class, () -> new ReplicationPrimary(follower.getRepository(), 0));
+        }
+    }
+}
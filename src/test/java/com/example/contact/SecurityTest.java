@@ -18,12 +18,17 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.example.contact.audit.Slf4jAuditSink;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.concurrent.StripedLockManager;
 import com.example.contact.exception.ContactValidationException;
+import com.example.contact.exception.ResourceLimitException;
 import com.example.contact.repository.InMemoryContactRepository;
 import com.example.contact.service.ContactServiceImpl;
 import com.example.contact.service.IContactService;
@@ -148,6 +153,62 @@ public class SecurityTest {
         assertTrue(exceptions.isEmpty(), "Concurrent operations should not throw exceptions");
     }
 
+    /**
+     * Test a delete racing an update never leaves the contact resurrected.
+     * @throws InterruptedException if thread is interrupted
+     */
+    @Test
+    public void testConcurrentUpdateAndDeleteDoNotResurrect() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 200; i++) {
+                String id = String.format("%05d", i);
+                service.addContact(new Contact(id, "First", "Last", "1234567890", "123 Main St"));
+
+                CountDownLatch start = new CountDownLatch(1);
+                CountDownLatch done = new CountDownLatch(2);
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        service.tryUpdateContact(id, "Updated", null, null, null);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        service.deleteContact(id);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+                start.countDown();
+                done.await();
+
+                assertNull(service.getContact(id), "Deleted contact was resurrected: " + id);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test stripe selection is stable and the count is a power of two.
+     */
+    @Test
+    public void testStripedLockManager() {
+        StripedLockManager locks = new StripedLockManager(100);
+        assertEquals(128, locks.getStripeCount());
+        assertSame(locks.lockFor("12345"), locks.lockFor(new String("12345")));
+        assertEquals(1, new StripedLockManager(1).getStripeCount());
+        assertThrows(IllegalArgumentException.class, () -> new StripedLockManager(0));
+    }
+
     // ===== Resource Limit Tests =====
 
     /** 
@@ -159,6 +220,21 @@ public class SecurityTest {
         assertEquals(10000, InMemoryContactRepository.MAX_CONTACTS);
     }
 
+    /**
+     * Test a custom contact limit is enforced for new IDs but not for updates.
+     */
+    @Test
+    public void testCustomMaxContactsLimit() {
+        InMemoryContactRepository small = new InMemoryContactRepository(new ChangeFeed(), Slf4jAuditSink.INSTANCE, 1);
+        assertEquals(1, small.getMaxContacts());
+        small.save(new Contact("1", "John", "Doe", "1234567890", "123 Main St"));
+        small.save(new Contact("1", "Jane", "Doe", "1234567890", "123 Main St"));
+        assertThrows(ResourceLimitException.class, () ->
+                small.save(new Contact("2", "John", "Doe", "1234567890", "123 Main St")));
+        assertThrows(IllegalArgumentException.class, () ->
+                new InMemoryContactRepository(new ChangeFeed(), Slf4jAuditSink.INSTANCE, 0));
+    }
+
     /**
      * Test clearing the repository.
      * @throws Exception if an error occurs during the test
@@ -0,0 +1,187 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Sharded Contact Repository Test
+ * October 2026
+ * Tests hash routing, fan-out merging, per-shard limits, change feeds and delta sync over shards
+ *
+ */
+package com.example.contact;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.audit.AuditSink;
+import com.example.contact.changefeed.ChangeFeed;
+import com.example.contact.changefeed.ChangeFeedSource;
+import com.example.contact.exception.ResourceLimitException;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.repository.ShardedContactRepository;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.sync.SyncResult;
+
+/**
+ * Unit tests for ShardedContactRepository.
+ */
+public class ShardedContactRepositoryTest {
+
+    private static final AuditSink NO_AUDIT = (type, contactId, detail1, detail2) -> { };
+
+    private static Contact contact(int i) {
+        return new Contact("C" + i, "John", "Doe", "1234567890", i + " Main St");
+    }
+
+    /**
+     * Test each contact lands in exactly one shard and the merged views see them all.
+     */
+    @Test
+    public void testRoutingAndFanOut() {
+        ShardedContactRepository repository = new ShardedContactRepository(4, new ChangeFeed(), NO_AUDIT, 10000);
+        for (int i = 0; i < 1000; i++) {
+            repository.save(contact(i));
+        }
+
+        int stored = 0;
+        for (int s = 0; s < repository.getShardCount(); s++) {
+            int shardCount = repository.getShard(s).count();
+            assertTrue(shardCount > 0, "every shard should receive some contacts");
+            stored += shardCount;
+        }
+        assertEquals(1000, stored);
+        assertEquals(1000, repository.count());
+        assertEquals(1000, repository.findAll().size());
+
+        Set<String> iterated = new HashSet<>();
+        for (Iterator<Contact> it = repository.iterateAll(); it.hasNext();) {
+            iterated.add(it.next().getContactId());
+        }
+        assertEquals(1000, iterated.size());
+
+        int shard = repository.shardIndex("C7");
+        assertNotNull(repository.getShard(shard).findByIdOrNull("C7"));
+        assertTrue(repository.deleteById("C7"));
+        assertFalse(repository.existsById("C7"));
+        assertNull(repository.findByIdOrNull(null));
+        assertEquals(999, repository.count());
+    }
+
+    /**
+     * Test each shard enforces its share of the contact limit.
+     */
+    @Test
+    public void testPerShardLimit() {
+        ShardedContactRepository repository = new ShardedContactRepository(2, new ChangeFeed(), NO_AUDIT, 10);
+        int saved = 0;
+        assertThrows(ResourceLimitException.class, () -> {
+            for (int i = 0; i < 100; i++) {
+                repository.save(contact(i));
+            }
+        });
+        for (int s = 0; s < repository.getShardCount(); s++) {
+            saved = Math.max(saved, repository.getShard(s).count());
+        }
+        assertEquals(5, saved);
+        assertTrue(repository.count() <= 10);
+    }
+
+    /**
+     * Test the service supports delta sync over shards sharing one change feed.
+     */
+    @Test
+    public void testServiceDeltaSync() {
+        try (ShardedContactRepository repository = new ShardedContactRepository(3)) {
+            ContactServiceImpl service = new ContactServiceImpl(repository);
+            service.addContact(contact(1));
+            SyncResult full = service.changesSince(null);
+            assertEquals(1, full.getUpserts().size());
+
+            service.addContact(contact(2));
+            service.deleteContact("C1");
+            SyncResult delta = service.changesSince(full.getNextToken());
+            assertEquals(1, delta.getUpserts().size());
+            assertEquals(List.of("C1"), delta.getDeletedIds());
+        }
+    }
+
+    /**
+     * Test shards built without a shared feed publish to feeds of their own.
+     */
+    @Test
+    public void testUnsharedFeeds() {
+        try (ShardedContactRepository repository = new ShardedContactRepository(3, false, 300)) {
+            assertNull(repository.getChangeFeed());
+            Set<ChangeFeed> feeds = new HashSet<>();
+            for (int s = 0; s < repository.getShardCount(); s++) {
+                feeds.add(((ChangeFeedSource) repository.getShard(s)).getChangeFeed());
+            }
+            assertEquals(3, feeds.size());
+
+            for (int i = 0; i < 30; i++) {
+                repository.save(contact(i));
+            }
+            long published = 0;
+            for (ChangeFeed feed : feeds) {
+                published += feed.getLastSequence();
+            }
+            assertEquals(30, published);
+            assertEquals(30, repository.count());
+        }
+        try (ShardedContactRepository repository = new ShardedContactRepository(3, true, 300)) {
+            assertNotNull(repository.getChangeFeed());
+        }
+    }
+
+    /**
+     * Test shards with their own feeds are accepted but disable the shared feed.
+     */
+    @Test
+    public void testIndependentShards() {
+        ShardedContactRepository repository = new ShardedContactRepository(
+                List.of(new InMemoryContactRepository(), new InMemoryContactRepository()));
+        assertNull(repository.getChangeFeed());
+        repository.save(contact(1));
+        assertEquals(1, repository.count());
+        assertThrows(IllegalArgumentException.class, () -> new ShardedContactRepository(List.of()));
+    }
+
+    /**
+     * Test concurrent writers on disjoint IDs all land.
+     * @throws Exception if a writer fails
+     */
+    @Test
+    public void testConcurrentWrites() throws Exception {
+        ShardedContactRepository repository = new ShardedContactRepository(4, new ChangeFeed(), NO_AUDIT, 20000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int base = t * 2000;
+                writers.add(executor.submit(() -> {
+                    for (int i = base; i < base + 2000; i++) {
+                        repository.save(contact(i));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(8000, repository.count());
+    }
+}
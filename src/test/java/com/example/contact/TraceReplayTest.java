@@ -0,0 +1,226 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Trace Replay Test
+ * October 2026
+ * Tests workload capture, the trace format and replay against services and repositories
+ *
+ */
+package com.example.contact;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.replay.AsyncTraceRecorder;
+import com.example.contact.replay.RecordingContactService;
+import com.example.contact.replay.ReplayReport;
+import com.example.contact.replay.ReplayTarget;
+import com.example.contact.replay.TraceOperation;
+import com.example.contact.replay.TraceReader;
+import com.example.contact.replay.TraceRecord;
+import com.example.contact.replay.TraceReplayer;
+import com.example.contact.replay.TraceWriter;
+import com.example.contact.service.ContactOutcome;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.service.IContactService;
+
+/**
+ * Unit tests for RecordingContactService, AsyncTraceRecorder, the trace format and TraceReplayer.
+ */
+public class TraceReplayTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Test every recorded call is written with its arguments in call order.
+     * @throws IOException if the trace cannot be written or read
+     */
+    @Test
+    public void testRecordingCapturesCalls() throws IOException {
+        Path file = directory.resolve("trace.bin");
+        try (AsyncTraceRecorder recorder = new AsyncTraceRecorder(new TraceWriter(file))) {
+            IContactService service = new RecordingContactService(
+                    new ContactServiceImpl(new InMemoryContactRepository()), recorder);
+            service.addContact(new Contact("1", "John", "Doe", "1234567890", "1 Main St"));
+            service.getContact("1");
+            service.tryUpdateContact("1", "Jane", null, null, null);
+            service.tryAddContact(new Contact("1", "John", "Doe", "1234567890", "1 Main St"));
+            assertThrows(RuntimeException.class, () -> service.deleteContact("missing"));
+            service.getAllContacts();
+            recorder.flush();
+            assertEquals(6, recorder.getWrittenCount());
+            assertEquals(0, recorder.getDroppedCount());
+            assertEquals(6, TraceReader.readAll(file).size());
+        }
+
+        List<TraceRecord> records = TraceReader.readAll(file);
+        assertEquals(Arrays.asList(TraceOperation.ADD, TraceOperation.GET, TraceOperation.TRY_UPDATE,
+                TraceOperation.TRY_ADD, TraceOperation.DELETE, TraceOperation.LIST),
+                records.stream().map(TraceRecord::getOperation).collect(Collectors.toList()));
+        assertEquals("1 Main St", records.get(0).getAddress());
+        assertEquals("Jane", records.get(2).getFirstName());
+        assertNull(records.get(2).getLastName());
+        assertEquals("missing", records.get(4).getContactId());
+        for (int i = 1; i < records.size(); i++) {
+            assertTrue(records.get(i).getOffsetNanos() >= records.get(i - 1).getOffsetNanos());
+        }
+    }
+
+    /**
+     * Test a stalled trace file drops and counts calls instead of blocking the callers.
+     * @throws Exception if the trace cannot be written or read
+     */
+    @Test
+    public void testRecordingDropsWhenWriterStalls() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        OutputStream stalled = new FilterOutputStream(bytes) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+                out.write(b, off, len);
+            }
+        };
+        int calls = 1000;
+        AsyncTraceRecorder recorder = new AsyncTraceRecorder(new TraceWriter(stalled), 4, 1);
+        IContactService service = new RecordingContactService(
+                new ContactServiceImpl(new InMemoryContactRepository()), recorder);
+        for (int i = 0; i < calls; i++) {
+            service.findContact(String.valueOf(i));
+        }
+        assertTrue(recorder.getDroppedCount() > 0, "No calls dropped");
+        assertFalse(recorder.hasFailed());
+
+        release.countDown();
+        recorder.close();
+        assertEquals(calls, recorder.getWrittenCount() + recorder.getDroppedCount());
+        try (TraceReader reader = new TraceReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            long read = 0;
+            while (reader.next() != null) {
+                read++;
+            }
+            assertEquals(recorder.getWrittenCount(), read);
+        }
+    }
+
+    /**
+     * Test records round-trip through the binary format and bad input is rejected.
+     * @throws IOException if the trace cannot be written or read
+     */
+    @Test
+    public void testFormatRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (TraceWriter trace = new TraceWriter(bytes)) {
+            trace.append(new TraceRecord(TraceOperation.GET, 5, "42", null, null, null, null));
+            trace.append(new TraceRecord(TraceOperation.UPDATE, 1L << 40, "42", null, "Smith", null, "é St"));
+            assertThrows(IllegalArgumentException.class, () ->
+                    trace.append(new TraceRecord(TraceOperation.GET, 1, "42", null, null, null, null)));
+        }
+
+        try (TraceReader reader = new TraceReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            TraceRecord get = reader.next();
+            assertEquals(5, get.getOffsetNanos());
+            TraceRecord update = reader.next();
+            assertEquals(1L << 40, update.getOffsetNanos());
+            assertEquals("Smith", update.getLastName());
+            assertEquals("é St", update.getAddress());
+            assertNull(update.getFirstName());
+            assertNull(reader.next());
+        }
+        assertThrows(IOException.class, () -> new TraceReader(new ByteArrayInputStream(new byte[16])));
+    }
+
+    /**
+     * Test replaying a captured workload reproduces the final state on a service and a bare repository.
+     * @throws Exception if recording or replay fails
+     */
+    @Test
+    public void testReplayReproducesState() throws Exception {
+        Path file = directory.resolve("trace.bin");
+        InMemoryContactRepository original = new InMemoryContactRepository();
+        try (AsyncTraceRecorder recorder = new AsyncTraceRecorder(new TraceWriter(file))) {
+            IContactService service = new RecordingContactService(new ContactServiceImpl(original), recorder);
+            for (int i = 0; i < 50; i++) {
+                service.tryAddContact(new Contact(String.valueOf(i), "John", "Doe", "1234567890", i + " St"));
+            }
+            for (int i = 0; i < 50; i += 3) {
+                service.tryUpdateContact(String.valueOf(i), "Jane", null, null, null);
+                service.getContact(String.valueOf(i + 1));
+            }
+            for (int i = 0; i < 50; i += 5) {
+                service.tryDeleteContact(String.valueOf(i));
+            }
+        }
+
+        InMemoryContactRepository replayedService = new InMemoryContactRepository();
+        ReplayReport report = new TraceReplayer(ReplayTarget.forService(new ContactServiceImpl(replayedService)),
+                TraceReplayer.MAX_SPEED, 4).replay(file);
+        assertEquals(TraceReader.readAll(file).size(), report.getCallCount());
+        assertEquals(50, report.getOutcomeCount(TraceOperation.TRY_ADD, ContactOutcome.SUCCESS));
+        assertTrue(report.getThroughput() > 0);
+        assertTrue(report.format().contains("try_update"));
+        assertSameContacts(original, replayedService);
+
+        InMemoryContactRepository replayedRepository = new InMemoryContactRepository();
+        new TraceReplayer(ReplayTarget.forRepository(replayedRepository), TraceReplayer.MAX_SPEED).replay(file);
+        assertSameContacts(original, replayedRepository);
+    }
+
+    /**
+     * Test replay honours the trace timeline scaled by the speed.
+     * @throws Exception if replay fails
+     */
+    @Test
+    public void testReplaySpeed() throws Exception {
+        Path file = directory.resolve("timed.bin");
+        long span = TimeUnit.MILLISECONDS.toNanos(200);
+        try (TraceWriter trace = new TraceWriter(file)) {
+            trace.append(new TraceRecord(TraceOperation.GET, 0, "1", null, null, null, null));
+            trace.append(new TraceRecord(TraceOperation.GET, span, "1", null, null, null, null));
+        }
+        ReplayTarget target = ReplayTarget.forRepository(new InMemoryContactRepository());
+
+        ReplayReport original = new TraceReplayer(target, 1).replay(file);
+        assertTrue(original.getElapsedNanos() >= span, "1x replay took " + original.getElapsedNanos());
+        ReplayReport doubled = new TraceReplayer(target, 2).replay(file);
+        assertTrue(doubled.getElapsedNanos() >= span / 2, "2x replay took " + doubled.getElapsedNanos());
+        assertEquals(2, doubled.getOutcomeCount(TraceOperation.GET, ContactOutcome.NOT_FOUND));
+        ReplayReport fastest = new TraceReplayer(target, TraceReplayer.MAX_SPEED).replay(file);
+        assertTrue(fastest.getElapsedNanos() < span, "max speed replay took " + fastest.getElapsedNanos());
+    }
+
+    private static void assertSameContacts(InMemoryContactRepository expected, InMemoryContactRepository actual) {
+        assertEquals(expected.count(), actual.count());
+        for (Contact contact : expected.findAll()) {
+            Contact other = actual.findByIdOrNull(contact.getContactId());
+            assertFalse(other == null, "Missing contact " + contact.getContactId());
+            assertEquals(contact.getFirstName(), other.getFirstName());
+            assertEquals(contact.getAddress(), other.getAddress());
+        }
+    }
+}
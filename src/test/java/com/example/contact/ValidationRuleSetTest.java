@@ -0,0 +1,169 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Validation Rule Set Test
+ * October 2026
+ * Tests declarative rule sets and hot swapping
+ *
+ */
+package com.example.contact;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.exception.ContactValidationException;
+import com.example.contact.validation.ContactValidator;
+import com.example.contact.validation.RuleSetContactValidator;
+import com.example.contact.validation.RuleSetRegistry;
+import com.example.contact.validation.ValidationRuleSet;
+
+/**
+ * Unit tests for ValidationRuleSet, RuleSetContactValidator and RuleSetRegistry.
+ */
+public class ValidationRuleSetTest {
+
+    /**
+     * Test the default rule set accepts valid contacts and rejects the classic attacks.
+     */
+    @Test
+    public void testDefaultRules() {
+        RuleSetContactValidator validator = new RuleSetContactValidator(ValidationRuleSet.defaults());
+
+        assertDoesNotThrow(() -> validator.validate(new Contact("12345", "O'Brien", "Mary-Jane", "1234567890", "123 Main St")));
+        assertThrows(ContactValidationException.class, () -> validator.validateName("John123", "firstName"));
+        assertThrows(ContactValidationException.class, () -> validator.validateName("<SCRIPT>", "lastName"));
+        assertThrows(ContactValidationException.class, () -> validator.validateName("Ann" + (char) 0x0B + "Lee", "lastName"));
+        assertThrows(ContactValidationException.class, () -> validator.validateAddress("1 Main St \" or 1"));
+        assertThrows(ContactValidationException.class, () -> validator.validateAddress("1; DROP \t TABLE x"));
+        assertThrows(ContactValidationException.class, () -> validator.validateAddress("Main\u0001St"));
+        assertThrows(ContactValidationException.class, () -> validator.validatePhone("12345abcde"));
+        assertThrows(ContactValidationException.class, () -> validator.validateContactId("   "));
+    }
+
+    /**
+     * Test rule codes reported by a compiled rule set.
+     * @throws IOException if the rules cannot be parsed
+     */
+    @Test
+    public void testCheckCodes() throws IOException {
+        ValidationRuleSet rules = load("name=strict\n"
+                + "firstName.minLength=2\nfirstName.maxLength=5\nfirstName.allowed=a-z\n"
+                + "address.forbidden=#\n"
+                + "denyTokens=bad word|evil\n");
+
+        assertEquals(ValidationRuleSet.OK, rules.check("firstName", "abc"));
+        assertEquals(ValidationRuleSet.BLANK, rules.check("firstName", " "));
+        assertEquals(ValidationRuleSet.LENGTH, rules.check("firstName", "a"));
+        assertEquals(ValidationRuleSet.DISALLOWED_CHAR, rules.check("firstName", "Abc"));
+        assertEquals(ValidationRuleSet.DENIED_TOKEN, rules.check("firstName", "EVIL"));
+        assertEquals(ValidationRuleSet.DENIED_TOKEN, rules.check("address", "a BAD\n\tword"));
+        assertEquals(ValidationRuleSet.FORBIDDEN_CHAR, rules.check("address", "Apt #4"));
+        assertEquals(ValidationRuleSet.OK, rules.check("address", "badword"));
+    }
+
+    /**
+     * Test hot swapping a rule set for a tenant.
+     * @throws IOException if the rules cannot be parsed
+     */
+    @Test
+    public void testRegistrySwap() throws IOException {
+        RuleSetRegistry registry = new RuleSetRegistry();
+        RuleSetContactValidator tenantA = registry.validatorFor("tenantA");
+        RuleSetContactValidator tenantB = registry.validatorFor("tenantB");
+        assertNotSame(tenantA, tenantB);
+        assertSame(tenantA, registry.validatorFor("tenantA"));
+
+        assertThrows(ContactValidationException.class, () -> tenantA.validateName("Zoë", "firstName"));
+
+        registry.install("tenantA", load("name=unicode\nfirstName.allowed=\\u0000-\\uFFFF\n"));
+        assertEquals("unicode", tenantA.getRuleSet().getName());
+        assertDoesNotThrow(() -> tenantA.validateName("Zoë", "firstName"));
+        assertThrows(ContactValidationException.class, () -> tenantB.validateName("Zoë", "firstName"));
+    }
+
+    /**
+     * Test the default rules agree with ContactValidator on the bulk validator samples.
+     * Length limits are left out, since ContactValidator leaves them to Contact; where
+     * a line break stops the validator's patterns the rules may only be stricter.
+     * @throws IOException if the default rules cannot be read
+     */
+    @Test
+    public void testDefaultsMatchValidator() throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(
+                ValidationRuleSet.class.getResourceAsStream(ValidationRuleSet.DEFAULT_RESOURCE), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        properties.keySet().removeIf(key -> key.toString().endsWith("Length"));
+        ValidationRuleSet rules = ValidationRuleSet.compile(properties);
+        ContactValidator validator = new ContactValidator();
+
+        for (String sample : BulkContactValidatorTest.SAMPLES) {
+            // Regex '.' stops at any line terminator
+            boolean multiLine = sample.chars().anyMatch(c -> c == '\n' || c == '\r' || c == 0x85
+                    || c == 0x2028 || c == 0x2029);
+            assertAgrees(rules, "contactId", sample, () -> validator.validateContactId(sample), multiLine);
+            assertAgrees(rules, "firstName", sample, () -> validator.validateName(sample, "firstName"), multiLine);
+            assertAgrees(rules, "phone", sample, () -> validator.validatePhone(sample), multiLine);
+            assertAgrees(rules, "address", sample, () -> validator.validateAddress(sample), multiLine);
+        }
+    }
+
+    /**
+     * Test digit and end-of-value deny tokens.
+     * @throws IOException if the rules cannot be parsed
+     */
+    @Test
+    public void testTokenPatterns() throws IOException {
+        ValidationRuleSet rules = load("denyTokens=--$|-- $|x\\\\d\\\\d\n");
+
+        assertEquals(ValidationRuleSet.DENIED_TOKEN, rules.check("address", "1 Main St --"));
+        assertEquals(ValidationRuleSet.DENIED_TOKEN, rules.check("address", "1 Main St -- \t"));
+        assertEquals(ValidationRuleSet.OK, rules.check("address", "1 -- Main St"));
+        assertEquals(ValidationRuleSet.DENIED_TOKEN, rules.check("address", "Apt X42"));
+        assertEquals(ValidationRuleSet.OK, rules.check("address", "Apt X4"));
+        assertThrows(IllegalArgumentException.class, () -> load("denyTokens=a|$\n"));
+    }
+
+    /**
+     * Test malformed rules are rejected at compile time.
+     */
+    @Test
+    public void testMalformedRules() {
+        assertThrows(IllegalArgumentException.class, () -> load("firstName.allowed=z-a\n"));
+        assertThrows(IllegalArgumentException.class, () -> load("phone.maxLength=ten\n"));
+    }
+
+    private static void assertAgrees(ValidationRuleSet rules, String field, String sample,
+                                     Runnable validation, boolean multiLine) {
+        boolean validatorRejects;
+        try {
+            validation.run();
+            validatorRejects = false;
+        } catch (ContactValidationException e) {
+            validatorRejects = true;
+        }
+        boolean rulesReject = rules.check(field, sample) != ValidationRuleSet.OK;
+        if (multiLine) {
+            assertTrue(rulesReject || !validatorRejects, field + " looser than ContactValidator: " + sample);
+        } else {
+            assertEquals(validatorRejects, rulesReject, field + ": " + sample);
+        }
+    }
+
+    private static ValidationRuleSet load(String text) throws IOException {
+        return ValidationRuleSet.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
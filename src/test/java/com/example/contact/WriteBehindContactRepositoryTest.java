@@ -0,0 +1,214 @@
+/*
+ * Keith Pottratz
+ * CS320
+ * Write-Behind Contact Repository Test
+ * October 2026
+ * Tests queued writes, merging, read-your-writes, backpressure, flush and flush failures
+ *
+ */
+package com.example.contact;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.example.contact.exception.ResourceLimitException;
+import com.example.contact.repository.InMemoryContactRepository;
+import com.example.contact.repository.WriteBehindContactRepository;
+import com.example.contact.service.ContactServiceImpl;
+import com.example.contact.service.IContactService;
+
+/**
+ * Unit tests for WriteBehindContactRepository.
+ */
+public class WriteBehindContactRepositoryTest {
+
+    /**
+     * Backing repository whose writes block until released.
+     */
+    private static class GatedRepository extends InMemoryContactRepository {
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final AtomicInteger saves = new AtomicInteger();
+
+        @Override
+        public void save(Contact contact) {
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            saves.incrementAndGet();
+            super.save(contact);
+        }
+    }
+
+    /**
+     * Test the service sees its own writes before they reach the backing repository.
+     */
+    @Test
+    public void testReadYourWrites() {
+        InMemoryContactRepository backing = new InMemoryContactRepository();
+        try (WriteBehindContactRepository writeBehind = new WriteBehindContactRepository(backing)) {
+            IContactService service = new ContactServiceImpl(writeBehind);
+            Contact contact = new Contact("12345", "John", "Doe", "1234567890", "123 Main St");
+
+            service.addContact(contact);
+            assertSame(contact, service.getContact("12345"));
+            service.updateContact("12345", "Jane", null, null, null);
+            assertEquals("Jane", service.getContact("12345").getFirstName());
+
+            writeBehind.flush();
+            assertEquals("Jane", backing.findByIdOrNull("12345").getFirstName());
+
+            service.deleteContact("12345");
+            assertNull(service.getContact("12345"));
+            writeBehind.flush();
+            assertFalse(backing.existsById("12345"));
+            assertEquals(0, writeBehind.getPendingCount());
+        }
+    }
+
+    /**
+     * Test repeated writes to a pending ID are merged into one backing write.
+     */
+    @Test
+    public void testRepeatedWritesAreMerged() {
+        GatedRepository backing = new GatedRepository();
+        try (WriteBehindContactRepository writeBehind = new WriteBehindContactRepository(backing)) {
+            // The first write occupies the flusher; the rest merge while it waits
+            writeBehind.save(new Contact("1", "A", "Doe", "1234567890", "1 St"));
+            waitForFlusher(writeBehind);
+            for (int i = 0; i < 10; i++) {
+                writeBehind.save(new Contact("2", "Name", "Doe", "1234567890", i + " St"));
+            }
+            assertEquals(2, writeBehind.count());
+            assertEquals("9 St", writeBehind.findByIdOrNull("2").getAddress());
+
+            backing.gate.countDown();
+            writeBehind.flush();
+
+            assertEquals(2, backing.saves.get());
+            assertEquals(9, writeBehind.getMergedCount());
+            assertEquals("9 St", backing.findByIdOrNull("2").getAddress());
+        }
+    }
+
+    /**
+     * Test writers are rejected once the pending bound is reached.
+     */
+    @Test
+    public void testBackpressure() {
+        GatedRepository backing = new GatedRepository();
+        try (WriteBehindContactRepository writeBehind = new WriteBehindContactRepository(backing, 2, 1, 1, 50)) {
+            writeBehind.save(new Contact("1", "A", "Doe", "1234567890", "1 St"));
+            writeBehind.save(new Contact("2", "B", "Doe", "1234567890", "2 St"));
+
+            assertThrows(ResourceLimitException.class, () ->
+                    writeBehind.save(new Contact("3", "C", "Doe", "1234567890", "3 St")));
+            // Merging into a pending ID needs no extra capacity
+            writeBehind.save(new Contact("2", "B", "Doe", "1234567890", "4 St"));
+
+            backing.gate.countDown();
+            writeBehind.flush();
+            assertTrue(backing.existsById("2"));
+            assertFalse(backing.existsById("3"));
+        }
+    }
+
+    /**
+     * Test flush returns once earlier writes are applied while other writers keep the queue busy.
+     * @throws InterruptedException if interrupted while stopping the writer
+     */
+    @Test
+    public void testFlushUnderSustainedWrites() throws InterruptedException {
+        InMemoryContactRepository backing = new InMemoryContactRepository() {
+            @Override
+            public void save(Contact contact) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                super.save(contact);
+            }
+        };
+        AtomicBoolean stop = new AtomicBoolean();
+        try (WriteBehindContactRepository writeBehind = new WriteBehindContactRepository(backing)) {
+            Thread writer = new Thread(() -> {
+                for (int i = 0; !stop.get(); i++) {
+                    try {
+                        writeBehind.save(new Contact("W" + (i % 9000), "John", "Doe", "1234567890", "1 St"));
+                    } catch (ResourceLimitException e) {
+                        // Full: keep the queue busy until told to stop
+                    }
+                }
+            });
+            writer.start();
+            try {
+                while (writeBehind.getPendingCount() < 100) {
+                    Thread.onSpinWait();
+                }
+                writeBehind.save(new Contact("12345", "John", "Doe", "1234567890", "123 Main St"));
+                assertTimeoutPreemptively(Duration.ofSeconds(5), writeBehind::flush);
+                assertTrue(backing.existsById("12345"));
+                assertTrue(writeBehind.getPendingCount() > 0, "writer should still be ahead of the flusher");
+            } finally {
+                stop.set(true);
+                writer.join();
+            }
+        }
+    }
+
+    /**
+     * Test a rejected mutation is counted and passed to the failure handler.
+     */
+    @Test
+    public void testFlushFailureHandler() {
+        InMemoryContactRepository backing = new InMemoryContactRepository() {
+            @Override
+            public void save(Contact contact) {
+                if (contact.getContactId().equals("bad")) {
+                    throw new ResourceLimitException("Backing store full");
+                }
+                super.save(contact);
+            }
+        };
+        List<String> failures = new CopyOnWriteArrayList<>();
+        try (WriteBehindContactRepository writeBehind = new WriteBehindContactRepository(backing)) {
+            writeBehind.setFlushFailureHandler((contactId, contact, cause) ->
+                    failures.add(contactId + ":" + contact.getAddress() + ":" + cause.getMessage()));
+            writeBehind.save(new Contact("bad", "John", "Doe", "1234567890", "1 St"));
+            writeBehind.save(new Contact("good", "John", "Doe", "1234567890", "2 St"));
+            writeBehind.flush();
+
+            assertEquals(List.of("bad:1 St:Backing store full"), failures);
+            assertEquals(1, writeBehind.getFailedCount());
+            assertEquals(1, writeBehind.getFlushedCount());
+            assertTrue(backing.existsById("good"));
+            assertNull(writeBehind.findByIdOrNull("bad"));
+        }
+    }
+
+    private static void waitForFlusher(WriteBehindContactRepository writeBehind) {
+        // Give the flusher time to take the first entry and block on the gate
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (writeBehind.getEnqueuedCount() < 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}